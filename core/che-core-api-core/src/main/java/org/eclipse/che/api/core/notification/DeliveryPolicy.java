@@ -0,0 +1,31 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.notification;
+
+/**
+ * Defines how {@link EventService} delivers events to subscriber.
+ *
+ * @see EventService#subscribe(EventSubscriber, DeliveryPolicy)
+ */
+public enum DeliveryPolicy {
+    /** Subscriber is called in the thread that publishes event. */
+    SYNC,
+    /**
+     * Subscriber is called asynchronously, one event at a time, in the same order as events were published. Events which can't be
+     * delivered yet are kept in bounded queue of subscriber.
+     */
+    ASYNC_ORDERED,
+    /**
+     * Subscriber is called asynchronously and may be called concurrently from few threads, order of events is not guaranteed. Number of
+     * events which are not delivered yet is bounded.
+     */
+    ASYNC_UNORDERED
+}
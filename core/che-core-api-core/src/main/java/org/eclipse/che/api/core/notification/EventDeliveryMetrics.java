@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.notification;
+
+/**
+ * Snapshot of delivery statistic of events of one type.
+ *
+ * @see EventService#getMetrics()
+ */
+public class EventDeliveryMetrics {
+    private final Class<?> eventType;
+    private final long     published;
+    private final long     delivered;
+    private final long     dropped;
+    private final long     queueDepth;
+    private final long     totalLatencyNanos;
+    private final long     maxLatencyNanos;
+
+    EventDeliveryMetrics(Class<?> eventType,
+                         long published,
+                         long delivered,
+                         long dropped,
+                         long queueDepth,
+                         long totalLatencyNanos,
+                         long maxLatencyNanos) {
+        this.eventType = eventType;
+        this.published = published;
+        this.delivered = delivered;
+        this.dropped = dropped;
+        this.queueDepth = queueDepth;
+        this.totalLatencyNanos = totalLatencyNanos;
+        this.maxLatencyNanos = maxLatencyNanos;
+    }
+
+    public Class<?> getEventType() {
+        return eventType;
+    }
+
+    /** Number of published events of this type. */
+    public long getPublished() {
+        return published;
+    }
+
+    /** Number of calls of subscribers completed for events of this type. */
+    public long getDelivered() {
+        return delivered;
+    }
+
+    /** Number of deliveries to asynchronous subscribers skipped because queue of subscriber was full. */
+    public long getDropped() {
+        return dropped;
+    }
+
+    /** Number of deliveries to asynchronous subscribers waiting in queues at the moment. */
+    public long getQueueDepth() {
+        return queueDepth;
+    }
+
+    /** Average time between publishing of event and completion of subscriber call, in milliseconds. */
+    public double getAverageLatencyMillis() {
+        return delivered == 0 ? 0 : totalLatencyNanos / 1e6 / delivered;
+    }
+
+    /** Max time between publishing of event and completion of subscriber call, in milliseconds. */
+    public double getMaxLatencyMillis() {
+        return maxLatencyNanos / 1e6;
+    }
+
+    @Override
+    public String toString() {
+        return "EventDeliveryMetrics{" +
+               "eventType=" + eventType.getName() +
+               ", published=" + published +
+               ", delivered=" + delivered +
+               ", dropped=" + dropped +
+               ", queueDepth=" + queueDepth +
+               ", averageLatencyMillis=" + getAverageLatencyMillis() +
+               ", maxLatencyMillis=" + getMaxLatencyMillis() +
+               '}';
+    }
+}
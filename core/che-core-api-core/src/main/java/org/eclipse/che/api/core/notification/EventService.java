@@ -13,20 +13,32 @@ package org.eclipse.che.api.core.notification;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.PreDestroy;
 import javax.inject.Singleton;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Dispatchers events to listeners. Usage example:
@@ -40,6 +52,10 @@ import java.util.concurrent.CopyOnWriteArraySet;
  *     });
  *     bus.publish(new MyEvent());
  * </pre>
+ * By default subscribers are called in the thread that publishes event. Subscriber that may be slow should be subscribed with
+ * {@link DeliveryPolicy#ASYNC_ORDERED} or {@link DeliveryPolicy#ASYNC_UNORDERED} policy. Such subscribers are called by shared pool of
+ * threads. Each asynchronous subscriber has bounded queue of events, events that don't fit in queue are dropped. Statistic of delivery
+ * is available with {@link #getMetrics()}.
  *
  * @author andrew00x
  */
@@ -51,12 +67,34 @@ public class EventService {
     private static final int CACHE_MASK = CACHE_NUM - 1;
     private static final int SEG_SIZE   = 32;
 
-    private final LoadingCache<Class<?>, Set<Class<?>>>[]       typeCache;
-    private final ConcurrentMap<Class<?>, Set<EventSubscriber>> subscribersByEventType;
+    /** Default max number of not delivered events for one asynchronous subscriber. */
+    public static final int DEFAULT_QUEUE_CAPACITY = 10000;
+    /** Max number of events delivered by one task of ordered subscriber, after that task gives way to other subscribers. */
+    private static final int ORDERED_DELIVERY_BATCH = 64;
+
+    private final LoadingCache<Class<?>, Set<Class<?>>>[]    typeCache;
+    private final ConcurrentMap<Class<?>, Set<Subscription>> subscribersByEventType;
+    private final ConcurrentMap<Class<?>, DeliveryCounters>  countersByEventType;
+    private final int                                        queueCapacity;
+
+    private volatile ExecutorService executor;
 
-    @SuppressWarnings("unchecked")
     public EventService() {
+        this(DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * @param queueCapacity
+     *         max number of not delivered events for one asynchronous subscriber
+     */
+    @SuppressWarnings("unchecked")
+    public EventService(int queueCapacity) {
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("Queue capacity must be positive.");
+        }
+        this.queueCapacity = queueCapacity;
         subscribersByEventType = new ConcurrentHashMap<>();
+        countersByEventType = new ConcurrentHashMap<>();
         typeCache = new LoadingCache[CACHE_NUM];
         for (int i = 0; i < CACHE_NUM; i++) {
             typeCache[i] = CacheBuilder.newBuilder().concurrencyLevel(SEG_SIZE).build(
@@ -96,21 +134,38 @@ public class EventService {
             throw new IllegalArgumentException("Null event.");
         }
         final Class<?> eventClass = event.getClass();
+        final DeliveryCounters counters = getCounters(eventClass);
+        counters.published.incrementAndGet();
+        final long publishTime = System.nanoTime();
         for (Class<?> clazz : typeCache[eventClass.hashCode() & CACHE_MASK].getUnchecked(eventClass)) {
-            final Set<EventSubscriber> eventSubscribers = subscribersByEventType.get(clazz);
-            if (eventSubscribers != null && !eventSubscribers.isEmpty()) {
-                for (EventSubscriber eventSubscriber : eventSubscribers) {
-                    try {
-                        LOG.debug("Publish event {} for {}", event, eventSubscriber);
-                        eventSubscriber.onEvent(event);
-                    } catch (RuntimeException e) {
-                        LOG.error(e.getMessage(), e);
-                    }
+            final Set<Subscription> subscriptions = subscribersByEventType.get(clazz);
+            if (subscriptions != null && !subscriptions.isEmpty()) {
+                for (Subscription subscription : subscriptions) {
+                    LOG.debug("Publish event {} for {}", event, subscription.subscriber);
+                    subscription.publish(new Delivery(event, counters, publishTime));
                 }
             }
         }
     }
 
+    /** Returns statistic of delivery for each type of published events. */
+    public List<EventDeliveryMetrics> getMetrics() {
+        final List<EventDeliveryMetrics> metrics = new ArrayList<>(countersByEventType.size());
+        for (DeliveryCounters counters : countersByEventType.values()) {
+            metrics.add(counters.snapshot());
+        }
+        return metrics;
+    }
+
+    /** Stops threads that deliver events to asynchronous subscribers. Events which are not delivered yet are discarded. */
+    @PreDestroy
+    public void stop() {
+        final ExecutorService executor = this.executor;
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
     /**
      * Subscribe event listener. The event to subscribe to is inferred by checking the generic type arguments of the
      * given subscriber.
@@ -119,8 +174,21 @@ public class EventService {
      *         event subscriber
      */
     public void subscribe(EventSubscriber<?> subscriber) {
+        subscribe(subscriber, DeliveryPolicy.SYNC);
+    }
+
+    /**
+     * Subscribe event listener with specified delivery policy. The event to subscribe to is inferred by checking the generic type
+     * arguments of the given subscriber.
+     *
+     * @param subscriber
+     *         event subscriber
+     * @param deliveryPolicy
+     *         defines how events are delivered to subscriber
+     */
+    public void subscribe(EventSubscriber<?> subscriber, DeliveryPolicy deliveryPolicy) {
         final Class<?> eventType = getEventType(subscriber);
-        doSubscribe(subscriber, eventType);
+        doSubscribe(subscriber, eventType, deliveryPolicy);
     }
 
     /**
@@ -131,19 +199,41 @@ public class EventService {
      * @param eventType The event to subscribe to.
      */
     public <T> void subscribe(EventSubscriber<? extends T> subscriber, Class<T> eventType) {
-        doSubscribe(subscriber, eventType);
+        doSubscribe(subscriber, eventType, DeliveryPolicy.SYNC);
+    }
+
+    /**
+     * Subscribe to an event with specified delivery policy.
+     *
+     * @param subscriber The subscriber to call when an event is published.
+     * @param eventType The event to subscribe to.
+     * @param deliveryPolicy Defines how events are delivered to subscriber.
+     */
+    public <T> void subscribe(EventSubscriber<? extends T> subscriber, Class<T> eventType, DeliveryPolicy deliveryPolicy) {
+        doSubscribe(subscriber, eventType, deliveryPolicy);
     }
 
-    private void doSubscribe(EventSubscriber<?> subscriber, Class<?> eventType) {
-        Set<EventSubscriber> entries = subscribersByEventType.get(eventType);
+    private void doSubscribe(EventSubscriber<?> subscriber, Class<?> eventType, DeliveryPolicy deliveryPolicy) {
+        Set<Subscription> entries = subscribersByEventType.get(eventType);
         if (entries == null) {
-            Set<EventSubscriber> newEntries = new CopyOnWriteArraySet<>();
+            Set<Subscription> newEntries = new CopyOnWriteArraySet<>();
             entries = subscribersByEventType.putIfAbsent(eventType, newEntries);
             if (entries == null) {
                 entries = newEntries;
             }
         }
-        entries.add(subscriber);
+        final Subscription subscription;
+        switch (deliveryPolicy) {
+            case ASYNC_ORDERED:
+                subscription = new OrderedSubscription(subscriber);
+                break;
+            case ASYNC_UNORDERED:
+                subscription = new UnorderedSubscription(subscriber);
+                break;
+            default:
+                subscription = new Subscription(subscriber);
+        }
+        entries.add(subscription);
     }
 
     /**
@@ -154,15 +244,47 @@ public class EventService {
      */
     public void unsubscribe(EventSubscriber<?> subscriber) {
         final Class<?> eventType = getEventType(subscriber);
-        final Set<EventSubscriber> entries = subscribersByEventType.get(eventType);
+        final Set<Subscription> entries = subscribersByEventType.get(eventType);
         if (entries != null && !entries.isEmpty()) {
-            boolean changed = entries.remove(subscriber);
-            if (changed) {
-                if (entries.isEmpty()) {
-                    subscribersByEventType.remove(eventType);
+            for (Subscription subscription : entries) {
+                if (subscription.subscriber.equals(subscriber)) {
+                    entries.remove(subscription);
+                    subscription.cancel();
+                    if (entries.isEmpty()) {
+                        subscribersByEventType.remove(eventType);
+                    }
+                    break;
+                }
+            }
+        }
+    }
+
+    private DeliveryCounters getCounters(Class<?> eventType) {
+        DeliveryCounters counters = countersByEventType.get(eventType);
+        if (counters == null) {
+            DeliveryCounters newCounters = new DeliveryCounters(eventType);
+            counters = countersByEventType.putIfAbsent(eventType, newCounters);
+            if (counters == null) {
+                counters = newCounters;
+            }
+        }
+        return counters;
+    }
+
+    private ExecutorService getExecutor() {
+        ExecutorService executor = this.executor;
+        if (executor == null) {
+            synchronized (this) {
+                executor = this.executor;
+                if (executor == null) {
+                    this.executor = executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(),
+                                                                            new ThreadFactoryBuilder().setNameFormat("EventService-%d")
+                                                                                                      .setDaemon(true)
+                                                                                                      .build());
                 }
             }
         }
+        return executor;
     }
 
     private Class<?> getEventType(EventSubscriber<?> subscriber) {
@@ -190,4 +312,198 @@ public class EventService {
         }
         return eventType;
     }
+
+    /** Event that should be delivered to subscriber. */
+    private static class Delivery {
+        final Object           event;
+        final DeliveryCounters counters;
+        final long             publishTime;
+
+        Delivery(Object event, DeliveryCounters counters, long publishTime) {
+            this.event = event;
+            this.counters = counters;
+            this.publishTime = publishTime;
+        }
+    }
+
+    /** Subscriber that is called in the thread that publishes event. */
+    private static class Subscription {
+        final EventSubscriber subscriber;
+
+        Subscription(EventSubscriber subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        void publish(Delivery delivery) {
+            deliver(delivery);
+        }
+
+        void cancel() {
+        }
+
+        @SuppressWarnings("unchecked")
+        void deliver(Delivery delivery) {
+            try {
+                subscriber.onEvent(delivery.event);
+            } catch (RuntimeException e) {
+                LOG.error(e.getMessage(), e);
+            } finally {
+                delivery.counters.delivered(System.nanoTime() - delivery.publishTime);
+            }
+        }
+
+        void dropped(Delivery delivery) {
+            if (delivery.counters.dropped.getAndIncrement() == 0) {
+                LOG.warn("Queue of subscriber {} is full, events {} are dropped", subscriber, delivery.counters.eventType.getName());
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o || o instanceof Subscription && subscriber.equals(((Subscription)o).subscriber);
+        }
+
+        @Override
+        public int hashCode() {
+            return subscriber.hashCode();
+        }
+    }
+
+    /** Subscriber that is called asynchronously one event at a time. */
+    private class OrderedSubscription extends Subscription implements Runnable {
+        final Queue<Delivery> queue;
+        final AtomicInteger   queueSize;
+        final AtomicBoolean   scheduled;
+        volatile boolean cancelled;
+
+        OrderedSubscription(EventSubscriber subscriber) {
+            super(subscriber);
+            queue = new ConcurrentLinkedQueue<>();
+            queueSize = new AtomicInteger();
+            scheduled = new AtomicBoolean();
+        }
+
+        @Override
+        void publish(Delivery delivery) {
+            if (queueSize.incrementAndGet() > queueCapacity) {
+                queueSize.decrementAndGet();
+                dropped(delivery);
+                return;
+            }
+            delivery.counters.queueDepth.incrementAndGet();
+            queue.add(delivery);
+            schedule();
+        }
+
+        @Override
+        void cancel() {
+            cancelled = true;
+        }
+
+        @Override
+        public void run() {
+            try {
+                for (int i = 0; i < ORDERED_DELIVERY_BATCH; i++) {
+                    final Delivery delivery = queue.poll();
+                    if (delivery == null) {
+                        break;
+                    }
+                    queueSize.decrementAndGet();
+                    delivery.counters.queueDepth.decrementAndGet();
+                    if (!cancelled) {
+                        deliver(delivery);
+                    }
+                }
+            } finally {
+                scheduled.set(false);
+            }
+            if (!queue.isEmpty()) {
+                schedule();
+            }
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    getExecutor().execute(this);
+                } catch (RejectedExecutionException e) {
+                    scheduled.set(false);
+                    LOG.warn("Unable deliver event to {}, event service is stopped", subscriber);
+                }
+            }
+        }
+    }
+
+    /** Subscriber that is called asynchronously and may be called concurrently. */
+    private class UnorderedSubscription extends Subscription {
+        final AtomicInteger pending;
+        volatile boolean cancelled;
+
+        UnorderedSubscription(EventSubscriber subscriber) {
+            super(subscriber);
+            pending = new AtomicInteger();
+        }
+
+        @Override
+        void publish(Delivery delivery) {
+            if (pending.incrementAndGet() > queueCapacity) {
+                pending.decrementAndGet();
+                dropped(delivery);
+                return;
+            }
+            delivery.counters.queueDepth.incrementAndGet();
+            try {
+                getExecutor().execute(() -> {
+                    pending.decrementAndGet();
+                    delivery.counters.queueDepth.decrementAndGet();
+                    if (!cancelled) {
+                        deliver(delivery);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                pending.decrementAndGet();
+                delivery.counters.queueDepth.decrementAndGet();
+                LOG.warn("Unable deliver event to {}, event service is stopped", subscriber);
+            }
+        }
+
+        @Override
+        void cancel() {
+            cancelled = true;
+        }
+    }
+
+    /** Delivery counters of events of one type. */
+    private static class DeliveryCounters {
+        final Class<?>   eventType;
+        final AtomicLong published         = new AtomicLong();
+        final AtomicLong delivered         = new AtomicLong();
+        final AtomicLong dropped           = new AtomicLong();
+        final AtomicLong queueDepth        = new AtomicLong();
+        final AtomicLong totalLatencyNanos = new AtomicLong();
+        final AtomicLong maxLatencyNanos   = new AtomicLong();
+
+        DeliveryCounters(Class<?> eventType) {
+            this.eventType = eventType;
+        }
+
+        void delivered(long latencyNanos) {
+            delivered.incrementAndGet();
+            totalLatencyNanos.addAndGet(latencyNanos);
+            long max;
+            while ((max = maxLatencyNanos.get()) < latencyNanos && !maxLatencyNanos.compareAndSet(max, latencyNanos)) {
+                // retry
+            }
+        }
+
+        EventDeliveryMetrics snapshot() {
+            return new EventDeliveryMetrics(eventType,
+                                            published.get(),
+                                            delivered.get(),
+                                            dropped.get(),
+                                            queueDepth.get(),
+                                            totalLatencyNanos.get(),
+                                            maxLatencyNanos.get());
+        }
+    }
 }
@@ -0,0 +1,196 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Line consumer which passes lines to delegate asynchronously, so producer of lines isn't slowed down by slow delegate.
+ * <p/>
+ * Lines are put to bounded ring buffer and are passed to delegate with {@link LineConsumer#writeLines(List)} in batches
+ * by the given executor. Batch is written when buffer contains {@code batchSize} lines or {@code flushDelayMs} later than
+ * the first line of batch is written. When buffer is full producer waits up to {@code maxBlockMs} until there is free
+ * space in buffer, after that line is dropped. Consumer which must not lose lines, e.g. one which writes to file, should be
+ * created with {@link Long#MAX_VALUE} as {@code maxBlockMs}, then producer waits for delegate instead.
+ * <p/>
+ * All the lines which are accepted before consumer is closed are written to delegate when consumer is closed.
+ */
+public class AsyncLineConsumer implements LineConsumer {
+    private static final Logger LOG = LoggerFactory.getLogger(AsyncLineConsumer.class);
+
+    private final LineConsumer             delegate;
+    private final ScheduledExecutorService executor;
+    private final BlockingQueue<String>    buffer;
+    private final int                      batchSize;
+    private final long                     flushDelayMs;
+    private final long                     maxBlockMs;
+    private final Object                   flushLock     = new Object();
+    /** Lines are added to buffer under read lock, so no line is added after buffer is flushed by {@link #close()}. */
+    private final ReadWriteLock            closeLock     = new ReentrantReadWriteLock();
+    private final AtomicLong               blockedWrites = new AtomicLong();
+    private final AtomicLong               droppedLines  = new AtomicLong();
+
+    private ScheduledFuture<?> scheduledFlush;
+    private volatile boolean   closed;
+
+    /**
+     * @param delegate
+     *         consumer to which lines are written
+     * @param executor
+     *         executor which writes lines to delegate, may be shared by many consumers
+     * @param bufferSize
+     *         max number of lines which are kept in buffer
+     * @param batchSize
+     *         max number of lines which are written to delegate at once
+     * @param flushDelayMs
+     *         max time in milliseconds during which line may be kept in buffer
+     * @param maxBlockMs
+     *         max time in milliseconds which producer waits for free space in full buffer
+     */
+    public AsyncLineConsumer(LineConsumer delegate,
+                             ScheduledExecutorService executor,
+                             int bufferSize,
+                             int batchSize,
+                             long flushDelayMs,
+                             long maxBlockMs) {
+        this.delegate = delegate;
+        this.executor = executor;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.batchSize = Math.min(batchSize, bufferSize);
+        this.flushDelayMs = flushDelayMs;
+        this.maxBlockMs = maxBlockMs;
+    }
+
+    @Override
+    public void writeLine(String line) throws IOException {
+        if (line == null) {
+            line = "";
+        }
+        closeLock.readLock().lock();
+        try {
+            if (closed) {
+                throw new IOException("Line consumer is closed");
+            }
+            if (!buffer.offer(line)) {
+                // buffer is full, delegate can't keep up with producer
+                blockedWrites.incrementAndGet();
+                scheduleFlush(0);
+                boolean added = false;
+                try {
+                    added = buffer.offer(line, maxBlockMs, MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                if (!added) {
+                    droppedLines.incrementAndGet();
+                    return;
+                }
+            }
+        } finally {
+            closeLock.readLock().unlock();
+        }
+        scheduleFlush(buffer.size() >= batchSize ? 0 : flushDelayMs);
+    }
+
+    /** Returns number of writes which waited for free space in buffer. */
+    public long getBlockedWrites() {
+        return blockedWrites.get();
+    }
+
+    /** Returns number of lines which were dropped because buffer was full. */
+    public long getDroppedLines() {
+        return droppedLines.get();
+    }
+
+    @Override
+    public void close() throws IOException {
+        // waits for producers which are adding lines at the moment
+        closeLock.writeLock().lock();
+        try {
+            closed = true;
+        } finally {
+            closeLock.writeLock().unlock();
+        }
+        synchronized (this) {
+            if (scheduledFlush != null) {
+                scheduledFlush.cancel(false);
+                scheduledFlush = null;
+            }
+        }
+        flush();
+        if (droppedLines.get() > 0) {
+            LOG.warn("{} lines of output were dropped by {}, writes waited for free space in buffer {} times",
+                     droppedLines.get(), delegate, blockedWrites.get());
+        }
+        delegate.close();
+    }
+
+    private void scheduleFlush(long delayMs) {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            if (scheduledFlush != null) {
+                // flush is already scheduled, it's rescheduled only if it should be performed earlier
+                if (delayMs > 0 || scheduledFlush.getDelay(MILLISECONDS) <= 0 || !scheduledFlush.cancel(false)) {
+                    return;
+                }
+            }
+            try {
+                scheduledFlush = executor.schedule(this::flushScheduled, delayMs, MILLISECONDS);
+                return;
+            } catch (RejectedExecutionException e) {
+                scheduledFlush = null;
+            }
+        }
+        // executor is shut down, lines are written by producer
+        flush();
+    }
+
+    private void flushScheduled() {
+        synchronized (this) {
+            scheduledFlush = null;
+        }
+        flush();
+        if (!buffer.isEmpty()) {
+            scheduleFlush(buffer.size() >= batchSize ? 0 : flushDelayMs);
+        }
+    }
+
+    private void flush() {
+        synchronized (flushLock) {
+            final List<String> batch = new ArrayList<>(Math.min(batchSize, buffer.size()));
+            while (buffer.drainTo(batch, batchSize) > 0) {
+                try {
+                    delegate.writeLines(batch);
+                } catch (IOException e) {
+                    LOG.error(String.format("An error occurred while writing lines to the line consumer %s", delegate), e);
+                }
+                batch.clear();
+            }
+        }
+    }
+}
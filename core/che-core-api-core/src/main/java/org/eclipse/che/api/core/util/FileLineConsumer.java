@@ -15,6 +15,7 @@ import java.io.IOException;
 import java.io.Writer;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
+import java.util.List;
 
 /**
  * @author andrew00x
@@ -41,6 +42,18 @@ public class FileLineConsumer implements LineConsumer {
         writer.flush();
     }
 
+    /** Writes all the lines and flushes output once. */
+    @Override
+    public void writeLines(List<String> lines) throws IOException {
+        for (String line : lines) {
+            if (line != null) {
+                writer.write(line);
+            }
+            writer.write('\n');
+        }
+        writer.flush();
+    }
+
     @Override
     public void close() throws IOException {
         writer.close();
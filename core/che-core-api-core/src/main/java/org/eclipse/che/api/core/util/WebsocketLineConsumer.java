@@ -16,16 +16,25 @@ import org.everrest.websockets.message.ChannelBroadcastMessage;
 import org.slf4j.Logger;
 
 import java.io.IOException;
+import java.util.List;
 
 import static org.slf4j.LoggerFactory.getLogger;
 
 /**
- * Line consumer that send messages to specified websocket channel
+ * Line consumer that send messages to specified websocket channel.
+ * <p/>
+ * Batch of lines is sent in as few messages as possible, lines are joined with line separator.
+ * Line which ends with carriage return is always sent in separate message because client replaces
+ * such message with the next one.
  *
  * @author Alexander Garagatyi
  */
 public class WebsocketLineConsumer implements LineConsumer {
     private static final Logger LOG = getLogger(WebsocketLineConsumer.class);
+
+    /** Max number of characters of lines which are joined in single message. */
+    private static final int MAX_MESSAGE_LENGTH = 32 * 1024;
+
     private final String channel;
 
     public WebsocketLineConsumer(String channel) {
@@ -34,6 +43,43 @@ public class WebsocketLineConsumer implements LineConsumer {
 
     @Override
     public void writeLine(String line) throws IOException {
+        sendMessage(line);
+    }
+
+    @Override
+    public void writeLines(List<String> lines) throws IOException {
+        final StringBuilder message = new StringBuilder();
+        boolean empty = true;
+        for (String line : lines) {
+            if (line == null) {
+                line = "";
+            }
+            if (line.endsWith("\r")) {
+                if (!empty) {
+                    sendMessage(message.toString());
+                    message.setLength(0);
+                    empty = true;
+                }
+                sendMessage(line);
+                continue;
+            }
+            if (!empty && message.length() + line.length() + 1 > MAX_MESSAGE_LENGTH) {
+                sendMessage(message.toString());
+                message.setLength(0);
+                empty = true;
+            }
+            if (!empty) {
+                message.append('\n');
+            }
+            message.append(line);
+            empty = false;
+        }
+        if (!empty) {
+            sendMessage(message.toString());
+        }
+    }
+
+    private void sendMessage(String line) {
         final ChannelBroadcastMessage bm = new ChannelBroadcastMessage();
         bm.setChannel(channel);
         bm.setBody(JsonUtils.getJsonString(line));
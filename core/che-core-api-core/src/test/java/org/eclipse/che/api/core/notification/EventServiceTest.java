@@ -11,12 +11,16 @@
 package org.eclipse.che.api.core.notification;
 
 import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @author andrew00x
@@ -29,6 +33,11 @@ public class EventServiceTest {
         bus = new EventService();
     }
 
+    @AfterMethod
+    public void tearDown() {
+        bus.stop();
+    }
+
     @Test
     public void testSimpleEvent() {
         final List<Object> events = new ArrayList<>();
@@ -157,4 +166,105 @@ public class EventServiceTest {
         bus.publish(new Event());
         Assert.assertEquals(events.size(), 0);
     }
+
+    @Test
+    public void testAsyncOrderedDelivery() throws Exception {
+        final List<String> events = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch delivered = new CountDownLatch(10);
+        bus.subscribe(new EventSubscriber<String>() {
+            @Override
+            public void onEvent(String event) {
+                try {
+                    release.await();
+                } catch (InterruptedException ignored) {
+                }
+                events.add(event);
+                delivered.countDown();
+            }
+        }, DeliveryPolicy.ASYNC_ORDERED);
+        List<String> published = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            bus.publish("event" + i);
+            published.add("event" + i);
+        }
+        // Publisher is not blocked by slow subscriber.
+        Assert.assertTrue(events.isEmpty());
+        release.countDown();
+        Assert.assertTrue(delivered.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals(events, published);
+    }
+
+    @Test
+    public void testAsyncUnorderedDelivery() throws Exception {
+        final List<String> events = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch delivered = new CountDownLatch(10);
+        bus.subscribe(new EventSubscriber<String>() {
+            @Override
+            public void onEvent(String event) {
+                events.add(event);
+                delivered.countDown();
+            }
+        }, DeliveryPolicy.ASYNC_UNORDERED);
+        for (int i = 0; i < 10; i++) {
+            bus.publish("event" + i);
+        }
+        Assert.assertTrue(delivered.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals(events.size(), 10);
+    }
+
+    @Test
+    public void testDropsEventsWhenQueueOfAsyncSubscriberIsFull() throws Exception {
+        bus = new EventService(5);
+        final List<Event> events = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch started = new CountDownLatch(1);
+        bus.subscribe(new EventSubscriber<Event>() {
+            @Override
+            public void onEvent(Event event) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException ignored) {
+                }
+                events.add(event);
+            }
+        }, DeliveryPolicy.ASYNC_ORDERED);
+        bus.publish(new Event());
+        Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 10; i++) {
+            bus.publish(new Event());
+        }
+
+        EventDeliveryMetrics metrics = bus.getMetrics().get(0);
+        Assert.assertEquals(metrics.getEventType(), Event.class);
+        Assert.assertEquals(metrics.getPublished(), 11);
+        Assert.assertEquals(metrics.getQueueDepth(), 5);
+        Assert.assertEquals(metrics.getDropped(), 5);
+
+        release.countDown();
+        for (int i = 0; i < 50 && bus.getMetrics().get(0).getDelivered() < 6; i++) {
+            Thread.sleep(100);
+        }
+        metrics = bus.getMetrics().get(0);
+        Assert.assertEquals(metrics.getDelivered(), 6);
+        Assert.assertEquals(metrics.getQueueDepth(), 0);
+        Assert.assertEquals(events.size(), 6);
+    }
+
+    @Test
+    public void testUnsubscribeAsyncSubscriber() throws Exception {
+        final List<String> events = Collections.synchronizedList(new ArrayList<>());
+        EventSubscriber<String> subscriber = new EventSubscriber<String>() {
+            @Override
+            public void onEvent(String event) {
+                events.add(event);
+            }
+        };
+        bus.subscribe(subscriber, DeliveryPolicy.ASYNC_ORDERED);
+        bus.unsubscribe(subscriber);
+        bus.publish("hello");
+        Thread.sleep(200);
+        Assert.assertTrue(events.isEmpty());
+    }
 }
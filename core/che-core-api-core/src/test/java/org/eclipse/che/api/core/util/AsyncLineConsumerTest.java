@@ -0,0 +1,187 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.util;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Arrays.asList;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class AsyncLineConsumerTest {
+    private ScheduledExecutorService executor;
+    private BatchRecorder            delegate;
+
+    @BeforeMethod
+    public void setUp() {
+        executor = Executors.newSingleThreadScheduledExecutor();
+        delegate = new BatchRecorder();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void shouldWriteBufferedLinesInSingleBatchOnClose() throws Exception {
+        final AsyncLineConsumer consumer = new AsyncLineConsumer(delegate, executor, 100, 100, TimeUnit.HOURS.toMillis(1), 0);
+
+        consumer.writeLine("a");
+        consumer.writeLine("b");
+        consumer.writeLine("c");
+
+        assertTrue(delegate.getBatches().isEmpty());
+        consumer.close();
+        assertEquals(delegate.getBatches(), asList(asList("a", "b", "c")));
+        assertTrue(delegate.closed);
+    }
+
+    @Test
+    public void shouldWriteBatchWhenBatchSizeIsReached() throws Exception {
+        final AsyncLineConsumer consumer = new AsyncLineConsumer(delegate, executor, 100, 2, TimeUnit.HOURS.toMillis(1), 0);
+
+        consumer.writeLine("a");
+        consumer.writeLine("b");
+
+        assertTrue(delegate.awaitBatches(1));
+        assertEquals(delegate.getBatches(), asList(asList("a", "b")));
+    }
+
+    @Test
+    public void shouldWriteBatchAfterFlushDelay() throws Exception {
+        final AsyncLineConsumer consumer = new AsyncLineConsumer(delegate, executor, 100, 100, 10, 0);
+
+        consumer.writeLine("a");
+
+        assertTrue(delegate.awaitBatches(1));
+        assertEquals(delegate.getBatches(), asList(asList("a")));
+    }
+
+    @Test
+    public void shouldDropLinesWhenBufferIsFull() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final BatchRecorder blockedDelegate = new BatchRecorder() {
+            @Override
+            public synchronized void writeLines(List<String> lines) throws IOException {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.writeLines(lines);
+            }
+        };
+        final AsyncLineConsumer consumer = new AsyncLineConsumer(blockedDelegate, executor, 2, 1, 0, 1);
+
+        for (int i = 0; i < 10; i++) {
+            consumer.writeLine(Integer.toString(i));
+        }
+        release.countDown();
+        consumer.close();
+
+        int written = 0;
+        for (List<String> batch : blockedDelegate.getBatches()) {
+            written += batch.size();
+        }
+        assertTrue(consumer.getDroppedLines() > 0);
+        assertTrue(consumer.getBlockedWrites() >= consumer.getDroppedLines());
+        assertEquals(written + consumer.getDroppedLines(), 10);
+    }
+
+    @Test
+    public void shouldWriteAllAcceptedLinesWhenClosedConcurrentlyWithWriters() throws Exception {
+        final AsyncLineConsumer consumer = new AsyncLineConsumer(delegate, executor, 16, 4, 1, Long.MAX_VALUE);
+        final AtomicInteger accepted = new AtomicInteger();
+        final CountDownLatch started = new CountDownLatch(4);
+        final List<Thread> writers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            final Thread writer = new Thread(() -> {
+                started.countDown();
+                try {
+                    for (int n = 0; n < 100000; n++) {
+                        consumer.writeLine(Integer.toString(n));
+                        accepted.incrementAndGet();
+                    }
+                } catch (IOException ignored) {
+                    // consumer is closed
+                }
+            });
+            writer.start();
+            writers.add(writer);
+        }
+        started.await();
+        consumer.close();
+        for (Thread writer : writers) {
+            writer.join();
+        }
+
+        int written = 0;
+        for (List<String> batch : delegate.getBatches()) {
+            written += batch.size();
+        }
+        assertEquals(consumer.getDroppedLines(), 0);
+        assertEquals(written, accepted.get());
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void shouldNotAcceptLinesAfterClose() throws Exception {
+        final AsyncLineConsumer consumer = new AsyncLineConsumer(delegate, executor, 100, 100, 10, 0);
+        consumer.close();
+
+        consumer.writeLine("a");
+    }
+
+    private static class BatchRecorder implements LineConsumer {
+        private final List<List<String>> batches = new ArrayList<>();
+
+        volatile boolean closed;
+
+        @Override
+        public void writeLine(String line) throws IOException {
+            writeLines(asList(line));
+        }
+
+        @Override
+        public synchronized void writeLines(List<String> lines) throws IOException {
+            batches.add(new ArrayList<>(lines));
+            notifyAll();
+        }
+
+        synchronized List<List<String>> getBatches() {
+            return new ArrayList<>(batches);
+        }
+
+        synchronized boolean awaitBatches(int count) throws InterruptedException {
+            final long end = System.currentTimeMillis() + 5000;
+            while (batches.size() < count && System.currentTimeMillis() < end) {
+                wait(100);
+            }
+            return batches.size() >= count;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
@@ -30,6 +30,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -70,7 +71,9 @@ public class DtoImplServerTemplate extends DtoImpl {
         // equals, hashCode, serialization and copy constructor
         emitEqualsAndHashCode(methods, builder);
         emitSerializer(methods, builder);
+        emitStreamSerializer(methods, builder);
         emitDeserializer(methods, builder);
+        emitStreamDeserializer(methods, builder);
         emitDeserializerShortcut(builder);
         emitCopyConstructor(methods, builder);
         // Delegation DTO methods.
@@ -301,8 +304,14 @@ public class DtoImplServerTemplate extends DtoImpl {
         builder.append("\n");
         builder.append("    @Override\n");
         builder.append("    public String toJson() {\n");
-        // The default toJson() creates its own JSON for internal printing, thus keeping JSONs values is safe
-        builder.append("      return gson.toJson(toJsonElementInt(false));\n");
+        // Write directly to the string without building JSON tree
+        builder.append("      java.io.StringWriter out = new java.io.StringWriter();\n");
+        builder.append("      try {\n");
+        builder.append("        writeTo(newJsonWriter(out));\n");
+        builder.append("      } catch (java.io.IOException e) {\n");
+        builder.append("        throw new com.google.gson.JsonIOException(e);\n");
+        builder.append("      }\n");
+        builder.append("      return out.toString();\n");
         builder.append("    }\n");
         builder.append("\n");
         builder.append("    @Override\n");
@@ -451,6 +460,140 @@ public class DtoImplServerTemplate extends DtoImpl {
         }
     }
 
+    /**
+     * Generates method that writes DTO to {@link com.google.gson.stream.JsonWriter} directly. Unlike {@code toJsonElement()} it doesn't
+     * create intermediate JSON tree, but produces the same JSON.
+     */
+    private void emitStreamSerializer(List<Method> getters, StringBuilder builder) {
+        builder.append("    @Override\n");
+        builder.append("    public void writeTo(JsonWriter writer) throws java.io.IOException {\n");
+        if (isCompactJson()) {
+            // Compact DTOs are small, so write them through JSON tree and don't duplicate rules of compact serialization
+            builder.append("      gson.toJson(toJsonElementInt(false), writer);\n");
+        } else {
+            builder.append("      writer.beginObject();\n");
+            for (Method getter : getUniqueJsonFieldGetters(getters)) {
+                emitStreamSerializeFieldForMethod(getter, builder);
+            }
+            builder.append("      writer.endObject();\n");
+        }
+        builder.append("    }\n\n");
+    }
+
+    private void emitStreamSerializeFieldForMethod(Method getter, StringBuilder builder) {
+        builder.append("      writer.name(").append(quoteStringLiteral(getJsonFieldName(getter))).append(");\n");
+        emitStreamSerializerImpl(expandType(getter.getGenericReturnType()), 0, builder, getJavaFieldName(getter.getName()), "      ");
+    }
+
+    /**
+     * Produces code to write the value of the given variable to JsonWriter.
+     *
+     * @param expandedTypes
+     *         the type and its generic (and its generic (..)) expanded into a list, @see {@link #expandType(java.lang.reflect.Type)}
+     * @param depth
+     *         the depth (in the generics) for this recursive call. This can be used to index into {@code expandedTypes}
+     * @param inVar
+     *         the java variable that will be the input for serialization
+     * @param i
+     *         indentation string
+     */
+    private void emitStreamSerializerImpl(List<Type> expandedTypes, int depth, StringBuilder builder, String inVar, String i) {
+        Type type = expandedTypes.get(depth);
+        Class<?> rawClass = getRawClass(type);
+        String value = depth == 0 ? "this." + inVar : inVar;
+        String childInVar = inVar + "_";
+        if (isList(rawClass) || isMap(rawClass)) {
+            String ci = i;
+            if (depth == 0) {
+                builder.append(i).append("this.").append(getEnsureName(inVar)).append("();\n");
+            } else {
+                builder.append(i).append("if (").append(value).append(" == null) {\n");
+                builder.append(i).append("  writer.nullValue();\n");
+                builder.append(i).append("} else {\n");
+                ci = i + "  ";
+            }
+            String childInTypeName = getImplName(expandedTypes.get(depth + 1), false);
+            if (isList(rawClass)) {
+                builder.append(ci).append("writer.beginArray();\n");
+                builder.append(ci).append("for (").append(childInTypeName).append(" ").append(childInVar).append(" : ").append(value)
+                       .append(") {\n");
+            } else {
+                String entryVar = "entry" + depth;
+                builder.append(ci).append("writer.beginObject();\n");
+                builder.append(ci).append("for (java.util.Map.Entry<String, ").append(childInTypeName).append("> ").append(entryVar)
+                       .append(" : ").append(value).append(".entrySet()) {\n");
+                builder.append(ci).append("  writer.name(").append(entryVar).append(".getKey());\n");
+                builder.append(ci).append("  ").append(childInTypeName).append(" ").append(childInVar).append(" = ").append(entryVar)
+                       .append(".getValue();\n");
+            }
+            emitStreamSerializerImpl(expandedTypes, depth + 1, builder, childInVar, ci + "  ");
+            builder.append(ci).append("}\n");
+            builder.append(ci).append(isList(rawClass) ? "writer.endArray();\n" : "writer.endObject();\n");
+            if (depth > 0) {
+                builder.append(i).append("}\n");
+            }
+        } else if (rawClass.isEnum()) {
+            builder.append(i).append("writer.value(").append(value).append(" == null ? null : ").append(value).append(".name());\n");
+        } else if (getEnclosingTemplate().isDtoInterface(rawClass)) {
+            emitStreamSerializeNullable(value, "((" + getImplNameForDto(rawClass) + ")" + value + ").writeTo(writer);", builder, i);
+        } else if (rawClass.equals(String.class)
+                   || rawClass == boolean.class
+                   || rawClass == int.class
+                   || rawClass == long.class
+                   || rawClass == double.class
+                   || rawClass == short.class
+                   || rawClass == byte.class
+                   || rawClass == Integer.class
+                   || rawClass == Long.class
+                   || rawClass == Double.class
+                   || rawClass == Float.class
+                   || rawClass == Short.class
+                   || rawClass == Byte.class) {
+            // JsonWriter writes null for null String or Number
+            builder.append(i).append("writer.value(").append(value).append(");\n");
+        } else if (rawClass == float.class) {
+            // Float must be written as Number, otherwise it is widened to double and loses its string representation
+            builder.append(i).append("writer.value(Float.valueOf(").append(value).append("));\n");
+        } else if (rawClass == Boolean.class) {
+            emitStreamSerializeNullable(value, "writer.value(" + value + ".booleanValue());", builder, i);
+        } else if (isAny(rawClass)) {
+            builder.append(i).append("if (").append(value).append(" instanceof JsonElement) {\n");
+            builder.append(i).append("  gson.toJson((JsonElement)").append(value).append(", writer);\n");
+            builder.append(i).append("} else {\n");
+            builder.append(i).append("  writer.nullValue();\n");
+            builder.append(i).append("}\n");
+        } else {
+            final Class<?> dtoImplementation = getEnclosingTemplate().getDtoImplementation(rawClass);
+            if (dtoImplementation != null) {
+                emitStreamSerializeNullable(value, "((JsonSerializable)" + value + ").writeTo(writer);", builder, i);
+            } else {
+                throw new IllegalArgumentException("Unable to generate server implementation for DTO interface " +
+                                                   getDtoInterface().getCanonicalName() + ". Type " + rawClass +
+                                                   " is not allowed to use in DTO interface.");
+            }
+        }
+    }
+
+    private void emitStreamSerializeNullable(String value, String writeStatement, StringBuilder builder, String i) {
+        builder.append(i).append("if (").append(value).append(" == null) {\n");
+        builder.append(i).append("  writer.nullValue();\n");
+        builder.append(i).append("} else {\n");
+        builder.append(i).append("  ").append(writeStatement).append("\n");
+        builder.append(i).append("}\n");
+    }
+
+    /**
+     * Returns getters which have distinct JSON field names. If few getters have the same JSON name, then the last one is used, it is the
+     * same as JSON tree does, but position of field is defined by the first getter.
+     */
+    private List<Method> getUniqueJsonFieldGetters(List<Method> getters) {
+        Map<String, Method> jsonFieldGetters = new LinkedHashMap<>();
+        for (Method getter : getters) {
+            jsonFieldGetters.put(getJsonFieldName(getter), getter);
+        }
+        return new ArrayList<>(jsonFieldGetters.values());
+    }
+
     /** Generates a static factory method that creates a new instance based on a JsonElement. */
     private void emitDeserializer(List<Method> getters, StringBuilder builder) {
         // The default fromJsonElement(json) works in unsafe mode and clones the JSON's for 'any' properties
@@ -605,6 +748,126 @@ public class DtoImplServerTemplate extends DtoImpl {
         }
     }
     
+    /**
+     * Generates a static factory method that creates a new instance based on data from {@link com.google.gson.stream.JsonReader}.
+     * Unlike {@code fromJsonElement()} it doesn't need whole JSON tree in memory.
+     */
+    private void emitStreamDeserializer(List<Method> getters, StringBuilder builder) {
+        builder.append("    public static ").append(getImplClassName())
+               .append(" fromJsonReader(JsonReader reader) throws java.io.IOException {\n");
+        if (isCompactJson()) {
+            builder.append("      return fromJsonElement(new JsonParser().parse(reader), false);\n");
+        } else {
+            builder.append("      if (reader.peek() == JsonToken.NULL) {\n");
+            builder.append("        reader.nextNull();\n");
+            builder.append("        return null;\n");
+            builder.append("      }\n\n");
+            builder.append("      ").append(getImplClassName()).append(" dto = new ").append(getImplClassName()).append("();\n");
+            builder.append("      reader.beginObject();\n");
+            builder.append("      while (reader.hasNext()) {\n");
+            builder.append("        switch (reader.nextName()) {\n");
+            for (Method getter : getUniqueJsonFieldGetters(getters)) {
+                emitStreamDeserializeFieldForMethod(getter, builder);
+            }
+            builder.append("          default:\n");
+            builder.append("            reader.skipValue();\n");
+            builder.append("        }\n");
+            builder.append("      }\n");
+            builder.append("      reader.endObject();\n");
+            builder.append("      return dto;\n");
+        }
+        builder.append("    }\n\n");
+    }
+
+    private void emitStreamDeserializeFieldForMethod(Method method, StringBuilder builder) {
+        final String fieldName = getFieldNameFromGetterName(method.getName());
+        final String fieldNameOut = fieldName + "Out";
+        builder.append("          case ").append(quoteStringLiteral(getJsonFieldName(method))).append(": {\n");
+        emitStreamDeserializerImpl(expandType(method.getGenericReturnType()), 0, builder, fieldNameOut, "            ");
+        builder.append("            dto.").append(getSetterName(fieldName)).append("(").append(fieldNameOut).append(");\n");
+        builder.append("            break;\n");
+        builder.append("          }\n");
+    }
+
+    /**
+     * Produces code to read value of the type from JsonReader.
+     *
+     * @param expandedTypes
+     *         the type and its generic (and its generic (..)) expanded into a list, @see {@link #expandType(java.lang.reflect.Type)}
+     * @param depth
+     *         the depth (in the generics) for this recursive call. This can be used to index into {@code expandedTypes}
+     * @param outVar
+     *         the java variable that will be the output for deserialization
+     * @param i
+     *         indentation string
+     */
+    private void emitStreamDeserializerImpl(List<Type> expandedTypes, int depth, StringBuilder builder, String outVar, String i) {
+        Type type = expandedTypes.get(depth);
+        String childOutVar = outVar + "_";
+        Class<?> rawClass = getRawClass(type);
+
+        if (isList(rawClass) || isMap(rawClass)) {
+            builder.append(i).append(getImplName(type, false)).append(" ").append(outVar).append(" = null;\n");
+            builder.append(i).append("if (reader.peek() == JsonToken.NULL) {\n");
+            builder.append(i).append("  reader.nextNull();\n");
+            builder.append(i).append("} else {\n");
+            builder.append(i).append("  ").append(outVar).append(" = new ").append(getImplName(type, true)).append("();\n");
+            if (isList(rawClass)) {
+                builder.append(i).append("  reader.beginArray();\n");
+                builder.append(i).append("  while (reader.hasNext()) {\n");
+                emitStreamDeserializerImpl(expandedTypes, depth + 1, builder, childOutVar, i + "    ");
+                builder.append(i).append("    ").append(outVar).append(".add(").append(childOutVar).append(");\n");
+                builder.append(i).append("  }\n");
+                builder.append(i).append("  reader.endArray();\n");
+            } else {
+                String keyVar = outVar + "Key";
+                builder.append(i).append("  reader.beginObject();\n");
+                builder.append(i).append("  while (reader.hasNext()) {\n");
+                builder.append(i).append("    String ").append(keyVar).append(" = reader.nextName();\n");
+                emitStreamDeserializerImpl(expandedTypes, depth + 1, builder, childOutVar, i + "    ");
+                builder.append(i).append("    ").append(outVar).append(".put(").append(keyVar).append(", ").append(childOutVar)
+                       .append(");\n");
+                builder.append(i).append("  }\n");
+                builder.append(i).append("  reader.endObject();\n");
+            }
+            builder.append(i).append("}\n");
+        } else if (getEnclosingTemplate().isDtoInterface(rawClass)) {
+            builder.append(i).append(getImplName(rawClass, false)).append(" ").append(outVar).append(" = ")
+                   .append(getImplNameForDto(rawClass)).append(".fromJsonReader(reader);\n");
+        } else if (rawClass.isPrimitive()) {
+            String primitiveName = rawClass.getSimpleName();
+            builder.append(i).append(primitiveName).append(" ").append(outVar).append(" = ");
+            if (rawClass == boolean.class) {
+                builder.append("reader.nextBoolean();\n");
+            } else if (rawClass == long.class) {
+                builder.append("reader.nextLong();\n");
+            } else if (rawClass == double.class) {
+                builder.append("reader.nextDouble();\n");
+            } else if (rawClass == float.class) {
+                builder.append("(float)reader.nextDouble();\n");
+            } else if (rawClass == int.class) {
+                builder.append("reader.nextInt();\n");
+            } else {
+                builder.append("(").append(primitiveName).append(")reader.nextInt();\n");
+            }
+        } else if (rawClass.equals(String.class)) {
+            builder.append(i).append("String ").append(outVar).append(" = readString(reader);\n");
+        } else if (isAny(rawClass)) {
+            builder.append(i).append("JsonElement ").append(outVar).append(" = new JsonParser().parse(reader);\n");
+        } else {
+            final Class<?> dtoImplementation = getEnclosingTemplate().getDtoImplementation(rawClass);
+            if (dtoImplementation != null) {
+                builder.append(i).append(getImplName(rawClass, false)).append(" ").append(outVar).append(" = ")
+                       .append(dtoImplementation.getCanonicalName()).append(".fromJsonReader(reader);\n");
+            } else {
+                // Use gson to handle all other types.
+                String rawClassName = rawClass.getName().replace('$', '.');
+                builder.append(i).append(rawClassName).append(" ").append(outVar).append(" = gson.fromJson(reader, ")
+                       .append(rawClassName).append(".class);\n");
+            }
+        }
+    }
+
     /**
      * Append the expression that clones the given JsonElement variable into a new value. If the copyJons run-time
      * parameter is set to false, then the expression won't perform a clone but instead will reuse the variable by
@@ -10,27 +10,26 @@
  *******************************************************************************/
 package org.eclipse.che.dto.server;
 
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.google.gson.stream.MalformedJsonException;
 
-import org.eclipse.che.commons.lang.reflect.ParameterizedTypeImpl;
 import org.eclipse.che.dto.shared.DTO;
 import org.eclipse.che.dto.shared.JsonArray;
 import org.eclipse.che.dto.shared.JsonStringMap;
 
-import java.io.BufferedReader;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
-import java.lang.reflect.ParameterizedType;
-import java.lang.reflect.Type;
+import java.io.StringReader;
+import java.io.Writer;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -43,24 +42,6 @@ import java.util.concurrent.ConcurrentHashMap;
  * @author andrew00x
  */
 public final class DtoFactory {
-    private static final Gson gson = new GsonBuilder().serializeNulls().create();
-
-    private static final LoadingCache<Type, ParameterizedType> listTypeCache = CacheBuilder.newBuilder().concurrencyLevel(16).build(
-            new CacheLoader<Type, ParameterizedType>() {
-                @Override
-                public ParameterizedType load(Type type) {
-                    return new ParameterizedTypeImpl(List.class, type);
-                }
-            });
-
-    private static final LoadingCache<Type, ParameterizedType> mapTypeCache = CacheBuilder.newBuilder().concurrencyLevel(16).build(
-            new CacheLoader<Type, ParameterizedType>() {
-                @Override
-                public ParameterizedType load(Type type) {
-                    return new ParameterizedTypeImpl(Map.class, String.class, type);
-                }
-            });
-
     private static final DtoFactory INSTANCE = new DtoFactory();
 
     public static DtoFactory getInstance() {
@@ -143,6 +124,55 @@ public final class DtoFactory {
         throw new IllegalArgumentException("JsonSerializable instance required. ");
     }
 
+    /**
+     * Writes JSON representation of DTO to the writer. Unlike {@link #toJson(Object)} it doesn't create JSON string in memory.
+     *
+     * @param dto
+     *         DTO object
+     * @param writer
+     *         writer to write JSON, writer is flushed but isn't closed
+     * @throws IllegalArgumentException
+     *         if specified object isn't instance of {@link JsonSerializable}
+     * @throws IOException
+     *         if an i/o error occurs
+     */
+    public <T> void toJson(T dto, Writer writer) throws IOException {
+        if (!(dto instanceof JsonSerializable)) {
+            throw new IllegalArgumentException("JsonSerializable instance required. ");
+        }
+        final JsonWriter jsonWriter = newJsonWriter(writer);
+        ((JsonSerializable)dto).writeTo(jsonWriter);
+        jsonWriter.flush();
+    }
+
+    /**
+     * Writes collection of DTOs to the writer as JSON array.
+     *
+     * @param dtos
+     *         DTO objects
+     * @param writer
+     *         writer to write JSON, writer is flushed but isn't closed
+     * @throws IllegalArgumentException
+     *         if any of specified objects isn't instance of {@link JsonSerializable}
+     * @throws IOException
+     *         if an i/o error occurs
+     */
+    public void toJsonArray(Collection<?> dtos, Writer writer) throws IOException {
+        final JsonWriter jsonWriter = newJsonWriter(writer);
+        jsonWriter.beginArray();
+        for (Object dto : dtos) {
+            if (dto == null) {
+                jsonWriter.nullValue();
+            } else if (dto instanceof JsonSerializable) {
+                ((JsonSerializable)dto).writeTo(jsonWriter);
+            } else {
+                throw new IllegalArgumentException("JsonSerializable instance required. ");
+            }
+        }
+        jsonWriter.endArray();
+        jsonWriter.flush();
+    }
+
     public <T> JsonElement toJsonElement(T dto) {
         if (dto instanceof JsonSerializable) {
             return ((JsonSerializable)dto).toJsonElement();
@@ -176,7 +206,11 @@ public final class DtoFactory {
      *         if can't provide any implementation for specified interface
      */
     public <T> T createDtoFromJson(String json, Class<T> dtoInterface) {
-        return getDtoProvider(dtoInterface).fromJson(json);
+        final DtoProvider<T> dtoProvider = getDtoProvider(dtoInterface);
+        if (json == null) {
+            return null;
+        }
+        return parse(json, dtoProvider::fromJson);
     }
 
     /**
@@ -193,14 +227,8 @@ public final class DtoFactory {
      *         if an i/o error occurs
      */
     public <T> T createDtoFromJson(Reader json, Class<T> dtoInterface) throws IOException {
-        DtoProvider<T> dtoProvider = getDtoProvider(dtoInterface);
-        StringBuilder sb = new StringBuilder();
-        BufferedReader br = new BufferedReader(json);
-        String line;
-        while ((line = br.readLine()) != null) {
-            sb.append(line);
-        }
-        return dtoProvider.fromJson(sb.toString());
+        final DtoProvider<T> dtoProvider = getDtoProvider(dtoInterface);
+        return parse(json, dtoProvider::fromJson);
     }
 
     /**
@@ -235,12 +263,7 @@ public final class DtoFactory {
      */
     public <T> JsonArray<T> createListDtoFromJson(String json, Class<T> dtoInterface) {
         final DtoProvider<T> dtoProvider = getDtoProvider(dtoInterface);
-        final List<JsonElement> list = gson.fromJson(json, listTypeCache.getUnchecked(JsonElement.class));
-        final List<T> result = new ArrayList<>(list.size());
-        for (JsonElement e : list) {
-            result.add(dtoProvider.fromJson(e));
-        }
-        return new JsonArrayImpl<>(result);
+        return parse(json, reader -> readList(reader, dtoProvider));
     }
 
 
@@ -257,21 +280,7 @@ public final class DtoFactory {
      */
     public <T> JsonArray<T> createListDtoFromJson(Reader json, Class<T> dtoInterface) throws IOException {
         final DtoProvider<T> dtoProvider = getDtoProvider(dtoInterface);
-        final List<JsonElement> list;
-        try {
-            list = gson.fromJson(json, listTypeCache.getUnchecked(JsonElement.class));
-        } catch (JsonSyntaxException e) {
-            final Throwable cause = e.getCause();
-            if (cause instanceof IOException) {
-                throw (IOException)cause;
-            }
-            throw e;
-        }
-        final List<T> result = new ArrayList<>(list.size());
-        for (JsonElement e : list) {
-            result.add(dtoProvider.fromJson(e));
-        }
-        return new JsonArrayImpl<>(result);
+        return parse(json, reader -> readList(reader, dtoProvider));
     }
 
     /**
@@ -306,12 +315,7 @@ public final class DtoFactory {
      */
     public <T> JsonStringMap<T> createMapDtoFromJson(String json, Class<T> dtoInterface) {
         final DtoProvider<T> dtoProvider = getDtoProvider(dtoInterface);
-        final Map<String, JsonElement> map = gson.fromJson(json, mapTypeCache.getUnchecked(JsonElement.class));
-        final Map<String, T> result = new LinkedHashMap<>(map.size());
-        for (Map.Entry<String, JsonElement> e : map.entrySet()) {
-            result.put(e.getKey(), dtoProvider.fromJson(e.getValue()));
-        }
-        return new JsonStringMapImpl<>(result);
+        return parse(json, reader -> readMap(reader, dtoProvider));
     }
 
 
@@ -328,24 +332,9 @@ public final class DtoFactory {
      * @throws IOException
      *         if an i/o error occurs
      */
-    @SuppressWarnings("unchecked")
     public <T> JsonStringMap<T> createMapDtoFromJson(Reader json, Class<T> dtoInterface) throws IOException {
         final DtoProvider<T> dtoProvider = getDtoProvider(dtoInterface);
-        final Map<String, JsonElement> map;
-        try {
-            map = gson.fromJson(json, mapTypeCache.getUnchecked(JsonElement.class));
-        } catch (JsonSyntaxException e) {
-            final Throwable cause = e.getCause();
-            if (cause instanceof IOException) {
-                throw (IOException)cause;
-            }
-            throw e;
-        }
-        final Map<String, T> result = new LinkedHashMap<>(map.size());
-        for (Map.Entry<String, JsonElement> e : map.entrySet()) {
-            result.put(e.getKey(), dtoProvider.fromJson(e.getValue()));
-        }
-        return new JsonStringMapImpl<>(result);
+        return parse(json, reader -> readMap(reader, dtoProvider));
     }
 
     /**
@@ -367,6 +356,76 @@ public final class DtoFactory {
 
     //
 
+    /** Reads JSON value with reader. */
+    @FunctionalInterface
+    private interface JsonReaderFunction<R> {
+        R read(JsonReader reader) throws IOException;
+    }
+
+    private static <R> R parse(String json, JsonReaderFunction<R> function) {
+        try {
+            return parse(new StringReader(json), function);
+        } catch (IOException e) {
+            throw new JsonSyntaxException(e);
+        }
+    }
+
+    /**
+     * Reads JSON from the stream without creating JSON tree. Malformed JSON is reported with {@link JsonSyntaxException} in the same way
+     * as gson does, {@code null} is returned for empty input.
+     */
+    private static <R> R parse(Reader json, JsonReaderFunction<R> function) throws IOException {
+        final JsonReader reader = new JsonReader(json);
+        reader.setLenient(true);
+        boolean empty = true;
+        try {
+            reader.peek();
+            empty = false;
+            final R result = function.read(reader);
+            if (reader.peek() != JsonToken.END_DOCUMENT) {
+                throw new JsonSyntaxException("JSON document was not fully consumed.");
+            }
+            return result;
+        } catch (EOFException e) {
+            if (empty) {
+                return null;
+            }
+            throw new JsonSyntaxException(e);
+        } catch (MalformedJsonException | IllegalStateException | NumberFormatException e) {
+            throw new JsonSyntaxException(e);
+        }
+    }
+
+    private static <T> JsonArray<T> readList(JsonReader reader, DtoProvider<T> dtoProvider) throws IOException {
+        final List<T> result = new ArrayList<>();
+        reader.beginArray();
+        while (reader.hasNext()) {
+            result.add(dtoProvider.fromJson(reader));
+        }
+        reader.endArray();
+        return new JsonArrayImpl<>(result);
+    }
+
+    private static <T> JsonStringMap<T> readMap(JsonReader reader, DtoProvider<T> dtoProvider) throws IOException {
+        final Map<String, T> result = new LinkedHashMap<>();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            final String key = reader.nextName();
+            result.put(key, dtoProvider.fromJson(reader));
+        }
+        reader.endObject();
+        return new JsonStringMapImpl<>(result);
+    }
+
+    /** Creates JsonWriter which writes JSON in the same way as {@link JsonSerializable#toJson()} does. */
+    private static JsonWriter newJsonWriter(Writer writer) {
+        final JsonWriter jsonWriter = new JsonWriter(writer);
+        jsonWriter.setLenient(true);
+        jsonWriter.setHtmlSafe(false);
+        jsonWriter.setSerializeNulls(false);
+        return jsonWriter;
+    }
+
     @SuppressWarnings("unchecked")
     private <T> DtoProvider<T> getDtoProvider(Class<T> dtoInterface) {
         DtoProvider<?> dtoProvider = dtoInterface2Providers.get(dtoInterface);
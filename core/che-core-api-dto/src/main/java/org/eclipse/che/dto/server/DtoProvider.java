@@ -11,6 +11,9 @@
 package org.eclipse.che.dto.server;
 
 import com.google.gson.JsonElement;
+import com.google.gson.stream.JsonReader;
+
+import java.io.IOException;
 
 /**
  * Provides implementation of DTO interface.
@@ -24,6 +27,9 @@ public interface DtoProvider<DTO> {
 
     DTO fromJson(JsonElement json);
 
+    /** Reads DTO from JSON stream. Reader must be positioned at the beginning of JSON object or JSON null. */
+    DTO fromJson(JsonReader reader) throws IOException;
+
     DTO newInstance();
 
     DTO clone(DTO origin);
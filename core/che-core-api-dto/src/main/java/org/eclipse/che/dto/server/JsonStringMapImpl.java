@@ -14,7 +14,9 @@ import org.eclipse.che.dto.shared.JsonStringMap;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
+import com.google.gson.stream.JsonWriter;
 
+import java.io.IOException;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
@@ -106,6 +108,11 @@ public class JsonStringMapImpl<T> implements JsonStringMap<T> {
         return gson.toJsonTree(this);
     }
 
+    @Override
+    public void writeTo(JsonWriter writer) throws IOException {
+        gson.toJson(this, getClass(), writer);
+    }
+
     @Override
     public String toString() {
         return delegate.toString();
@@ -10,11 +10,13 @@
  *******************************************************************************/
 package org.eclipse.che.dto;
 
+import com.google.gson.GsonBuilder;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import com.google.gson.JsonPrimitive;
+import com.google.gson.JsonSyntaxException;
 
 import org.eclipse.che.dto.definitions.ComplicatedDto;
 import org.eclipse.che.dto.definitions.DTOHierarchy;
@@ -29,6 +31,8 @@ import org.eclipse.che.dto.server.DtoFactory;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.io.StringReader;
+import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -325,6 +329,54 @@ public class ServerDtoTest {
         assertEquals(complicatedDto.getArrayOfArrayOfEnum().get(0).get(2), ComplicatedDto.SimpleEnum.THREE);
     }
 
+    @Test
+    public void testStreamSerializerWritesTheSameJsonAsJsonTree() throws Exception {
+        SimpleDto simpleDto = dtoFactory.createDto(SimpleDto.class).withName("<name>").withId(1);
+        Map<String, SimpleDto> mapDtos = new HashMap<>(1);
+        mapDtos.put("key", simpleDto);
+        ComplicatedDto dto = dtoFactory.createDto(ComplicatedDto.class)
+                                       .withStrings(asList("Something 1", null))
+                                       .withSimpleEnum(ComplicatedDto.SimpleEnum.TWO)
+                                       .withMap(mapDtos)
+                                       .withSimpleDtos(asList(simpleDto, null))
+                                       .withArrayOfArrayOfEnum(asList(asList(ComplicatedDto.SimpleEnum.ONE,
+                                                                             ComplicatedDto.SimpleEnum.THREE)));
+        final StringWriter writer = new StringWriter();
+
+        dtoFactory.toJson(dto, writer);
+
+        final String treeJson = new GsonBuilder().disableHtmlEscaping().create().toJson(dtoFactory.toJsonElement(dto));
+        assertEquals(writer.toString(), treeJson);
+        assertEquals(dtoFactory.toJson(dto), treeJson);
+    }
+
+    @Test
+    public void testStreamDeserializerSkipsUnknownFields() throws Exception {
+        final String json = "{\"unknown\":{\"a\":[1,{\"b\":null}]},\"name\":\"Something\",\"id\":\"1\",\"default\":null}";
+
+        SimpleDto dto = dtoFactory.createDtoFromJson(new StringReader(json), SimpleDto.class);
+
+        checkSimpleDto(dto, "Something", 1, null);
+    }
+
+    @Test
+    public void testListDtoSerializerAndDeserializer() throws Exception {
+        List<SimpleDto> dtos = asList(dtoFactory.createDto(SimpleDto.class).withName("Something 1").withId(1),
+                                      null,
+                                      dtoFactory.createDto(SimpleDto.class).withName("Something 2").withId(2));
+        final StringWriter writer = new StringWriter();
+
+        dtoFactory.toJsonArray(dtos, writer);
+        org.eclipse.che.dto.shared.JsonArray<SimpleDto> result = dtoFactory.createListDtoFromJson(writer.toString(), SimpleDto.class);
+
+        assertEquals(result, dtos);
+    }
+
+    @Test(expectedExceptions = JsonSyntaxException.class)
+    public void testDeserializerFailsOnMalformedJson() throws Exception {
+        dtoFactory.createDtoFromJson(new StringReader("{\"name\":\"Something\","), SimpleDto.class);
+    }
+
     private void checkSimpleDto(SimpleDto dto, String expectedName, int expectedId, String expectedDefault) {
         assertEquals(dto.getName(), expectedName);
         assertEquals(dto.getId(), expectedId);
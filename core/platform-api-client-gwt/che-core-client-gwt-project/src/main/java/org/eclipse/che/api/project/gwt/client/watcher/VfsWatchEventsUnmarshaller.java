@@ -0,0 +1,56 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.project.gwt.client.watcher;
+
+import com.google.gwt.json.client.JSONParser;
+
+import org.eclipse.che.api.project.shared.dto.event.VfsWatchEvent;
+import org.eclipse.che.ide.dto.DtoFactory;
+import org.eclipse.che.ide.websocket.Message;
+import org.eclipse.che.ide.websocket.rest.Unmarshallable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unmarshaller for messages of {@link VfsWatchEvent#VFS_CHANNEL} channel. Server sends changes of files either as single event or as
+ * JSON array of events collected during batch window, in both cases payload is list of events.
+ */
+public class VfsWatchEventsUnmarshaller implements Unmarshallable<List<VfsWatchEvent>> {
+    private final DtoFactory          dtoFactory;
+    private final List<VfsWatchEvent> payload;
+
+    public VfsWatchEventsUnmarshaller(DtoFactory dtoFactory) {
+        this.dtoFactory = dtoFactory;
+        this.payload = new ArrayList<>();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void unmarshal(Message message) {
+        payload.clear();
+        final String body = message.getBody();
+        if (body == null) {
+            return;
+        }
+        if (JSONParser.parseStrict(body).isArray() != null) {
+            payload.addAll(dtoFactory.createListDtoFromJson(body, VfsWatchEvent.class));
+        } else {
+            payload.add(dtoFactory.createDtoFromJson(body, VfsWatchEvent.class));
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<VfsWatchEvent> getPayload() {
+        return payload;
+    }
+}
@@ -14,7 +14,8 @@ package org.eclipse.che.api.local;
 import com.google.common.reflect.TypeToken;
 
 import org.eclipse.che.api.core.NotFoundException;
-import org.eclipse.che.api.local.storage.LocalStorage;
+import org.eclipse.che.api.core.ServerException;
+import org.eclipse.che.api.local.storage.JournaledLocalStorage;
 import org.eclipse.che.api.local.storage.LocalStorageFactory;
 import org.eclipse.che.api.user.server.dao.Profile;
 import org.eclipse.che.api.user.server.dao.UserProfileDao;
@@ -27,8 +28,9 @@ import java.io.IOException;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * @author Anton Korneta
@@ -36,20 +38,20 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
 @Singleton
 public class LocalProfileDaoImpl implements UserProfileDao {
 
-    private final Map<String, Profile> profiles;
-    private final ReadWriteLock        lock;
-    private final LocalStorage         profileStorage;
+    private final Map<String, Profile>           profiles;
+    private final Lock                           lock;
+    private final JournaledLocalStorage<Profile> profileStorage;
 
     @Inject
     public LocalProfileDaoImpl(LocalStorageFactory storageFactory) throws IOException {
-        profiles = new HashMap<>();
-        lock = new ReentrantReadWriteLock();
-        profileStorage = storageFactory.create("profiles.json");
+        profiles = new ConcurrentHashMap<>();
+        lock = new ReentrantLock();
+        profileStorage = storageFactory.createJournaled("profiles.json", new TypeToken<Profile>() {});
     }
 
     @PostConstruct
-    private void start() {
-        profiles.putAll(profileStorage.loadMap(new TypeToken<Map<String, Profile>>() {}));
+    private void start() throws IOException {
+        profiles.putAll(profileStorage.load());
         // Add default entry if file doesn't exist or invalid or empty.
         if (profiles.isEmpty()) {
             final Map<String, String> attributes = new HashMap<>(2);
@@ -58,68 +60,81 @@ public class LocalProfileDaoImpl implements UserProfileDao {
             Profile profile = new Profile().withId("che")
                                            .withUserId("che")
                                            .withAttributes(attributes);
+            profileStorage.put(profile.getId(), profile);
             profiles.put(profile.getId(), profile);
         }
     }
 
     @PreDestroy
     private void stop() throws IOException {
-        profileStorage.store(profiles);
+        profileStorage.close();
     }
 
     @Override
-    public void create(Profile profile) {
-        lock.writeLock().lock();
+    public void create(Profile profile) throws ServerException {
+        lock.lock();
         try {
             // just replace existed profile
             final Profile copy = new Profile().withId(profile.getId()).withUserId(profile.getUserId())
                                               .withAttributes(new LinkedHashMap<>(profile.getAttributes()));
+            persist(copy);
             profiles.put(copy.getId(), copy);
         } finally {
-            lock.writeLock().unlock();
+            lock.unlock();
         }
     }
 
     @Override
-    public void update(Profile profile) throws NotFoundException {
-        lock.writeLock().lock();
+    public void update(Profile profile) throws NotFoundException, ServerException {
+        lock.lock();
         try {
             final Profile myProfile = profiles.get(profile.getId());
             if (myProfile == null) {
                 throw new NotFoundException(String.format("Profile not found %s", profile.getId()));
             }
-            myProfile.getAttributes().clear();
-            myProfile.getAttributes().putAll(profile.getAttributes());
+            // stored profiles are not modified in place, readers copy them without lock
+            final Profile updated = new Profile().withId(myProfile.getId()).withUserId(myProfile.getUserId())
+                                                 .withAttributes(new LinkedHashMap<>(profile.getAttributes()));
+            persist(updated);
+            profiles.put(updated.getId(), updated);
         } finally {
-            lock.writeLock().unlock();
+            lock.unlock();
         }
     }
 
     @Override
-    public void remove(String id) throws NotFoundException {
-        lock.writeLock().lock();
+    public void remove(String id) throws NotFoundException, ServerException {
+        lock.lock();
         try {
-            final Profile profile = profiles.remove(id);
-            if (profile == null) {
+            if (!profiles.containsKey(id)) {
                 throw new NotFoundException(String.format("Profile not found %s", id));
             }
+            try {
+                profileStorage.remove(id);
+            } catch (IOException e) {
+                throw new ServerException("Impossible to remove profile " + id + " from local storage", e);
+            }
+            profiles.remove(id);
         } finally {
-            lock.writeLock().unlock();
+            lock.unlock();
         }
     }
 
     @Override
     public Profile getById(String id) throws NotFoundException {
-        lock.readLock().lock();
+        final Profile profile = profiles.get(id);
+        if (profile == null) {
+            throw new NotFoundException(String.format("Profile not found %s", id));
+        }
+        return new Profile().withId(profile.getId()).withUserId(profile.getUserId())
+                            .withAttributes(new LinkedHashMap<>(profile.getAttributes()));
+    }
+
+    private void persist(Profile profile) throws ServerException {
         try {
-            final Profile profile = profiles.get(id);
-            if (profile == null) {
-                throw new NotFoundException(String.format("Profile not found %s", id));
-            }
-            return new Profile().withId(profile.getId()).withUserId(profile.getUserId())
-                                .withAttributes(new LinkedHashMap<>(profile.getAttributes()));
-        } finally {
-            lock.readLock().unlock();
+            profileStorage.put(profile.getId(), profile);
+        } catch (IOException e) {
+            throw new ServerException("Impossible to store profile " + profile.getId() + " in local storage", e);
         }
     }
 }
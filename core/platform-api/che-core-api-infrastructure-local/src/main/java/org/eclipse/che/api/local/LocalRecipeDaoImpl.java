@@ -19,7 +19,8 @@ import com.google.inject.Inject;
 
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.NotFoundException;
-import org.eclipse.che.api.local.storage.LocalStorage;
+import org.eclipse.che.api.core.ServerException;
+import org.eclipse.che.api.local.storage.JournaledLocalStorage;
 import org.eclipse.che.api.local.storage.LocalStorageFactory;
 import org.eclipse.che.api.machine.server.recipe.adapters.GroupAdapter;
 import org.eclipse.che.api.machine.server.recipe.adapters.PermissionsAdapter;
@@ -33,71 +34,80 @@ import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
 import javax.inject.Singleton;
 import java.io.IOException;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import static java.lang.String.format;
-import static java.util.function.Function.identity;
-import static java.util.stream.Collectors.toMap;
 
 /**
+ * In-memory implementation of {@link RecipeDao}. Changes of recipes which are not predefined
+ * are written to the journal of {@link JournaledLocalStorage}.
+ *
  * @author Eugene Voevodin
  * @author Anton Korneta
  */
 @Singleton
 public class LocalRecipeDaoImpl implements RecipeDao {
 
-    private final Map<String, ManagedRecipe> recipes;
-    private final ReadWriteLock              lock;
-    private final LocalStorage               recipeStorage;
+    /** Creator of predefined recipes, such recipes are not stored. */
+    private static final String PREDEFINED_RECIPES_CREATOR = "codenvy";
+
+    private final Map<String, ManagedRecipe>           recipes;
+    private final Lock                                 lock;
+    private final JournaledLocalStorage<ManagedRecipe> recipeStorage;
 
     @Inject
     public LocalRecipeDaoImpl(LocalStorageFactory storageFactory) throws IOException {
         Map<Class<?>, Object> adapters = ImmutableMap.of(Permissions.class, new PermissionsAdapter(), Group.class, new GroupAdapter());
-        this.recipeStorage = storageFactory.create("recipes.json", adapters);
-        this.recipes = new HashMap<>();
-        lock = new ReentrantReadWriteLock();
+        this.recipeStorage = storageFactory.createJournaled("recipes.json", new TypeToken<RecipeImpl>() {}, adapters);
+        this.recipes = new ConcurrentHashMap<>();
+        lock = new ReentrantLock();
     }
 
     @PostConstruct
     public void start() {
-        recipes.putAll(recipeStorage.loadMap(new TypeToken<Map<String, RecipeImpl>>() {}));
+        recipes.putAll(recipeStorage.load());
     }
 
     @PreDestroy
     public void stop() throws IOException {
-        Map<String, ManagedRecipe> recipesToStore = recipes.values()
-                                                           .stream()
-                                                           .filter(recipe -> !"codenvy".equals(recipe.getCreator()))
-                                                           .collect(toMap(ManagedRecipe::getId, identity()));
-
-        recipeStorage.store(recipesToStore);
+        recipeStorage.close();
     }
 
     @Override
-    public void create(ManagedRecipe recipe) throws ConflictException {
-        lock.writeLock().lock();
+    public void create(ManagedRecipe recipe) throws ConflictException, ServerException {
+        lock.lock();
         try {
             if (recipes.containsKey(recipe.getId())) {
                 throw new ConflictException(format("Recipe with id %s already exists", recipe.getId()));
             }
+            persist(recipe);
             recipes.put(recipe.getId(), recipe);
         } finally {
-            lock.writeLock().unlock();
+            lock.unlock();
         }
     }
 
     @Override
-    public void update(ManagedRecipe update) throws NotFoundException {
-        lock.writeLock().lock();
+    public void update(ManagedRecipe update) throws NotFoundException, ServerException {
+        lock.lock();
         try {
-            final RecipeImpl target = (RecipeImpl)recipes.get(update.getId());
-            if (target == null) {
+            final ManagedRecipe existing = recipes.get(update.getId());
+            if (existing == null) {
                 throw new NotFoundException(format("Recipe with id '%s' was not found", update.getId()));
             }
+            // stored recipes are not modified in place, readers get them without lock
+            final RecipeImpl target = new RecipeImpl().withId(existing.getId())
+                                                      .withName(existing.getName())
+                                                      .withCreator(existing.getCreator())
+                                                      .withType(existing.getType())
+                                                      .withScript(existing.getScript())
+                                                      .withTags(existing.getTags())
+                                                      .withPermissions(existing.getPermissions())
+                                                      .withDescription(existing.getDescription());
             if (update.getType() != null) {
                 target.setType(update.getType());
             }
@@ -113,71 +123,74 @@ public class LocalRecipeDaoImpl implements RecipeDao {
             if (!update.getTags().isEmpty()) {
                 target.setTags(update.getTags());
             }
+            persist(target);
+            recipes.put(target.getId(), target);
         } finally {
-            lock.writeLock().unlock();
+            lock.unlock();
         }
     }
 
     @Override
-    public void remove(String id) {
-        lock.writeLock().lock();
+    public void remove(String id) throws ServerException {
+        lock.lock();
         try {
+            try {
+                recipeStorage.remove(id);
+            } catch (IOException e) {
+                throw new ServerException(format("Impossible to remove recipe %s from local storage", id), e);
+            }
             recipes.remove(id);
         } finally {
-            lock.writeLock().unlock();
+            lock.unlock();
         }
     }
 
     @Override
     public ManagedRecipe getById(String id) throws NotFoundException {
-        lock.readLock().lock();
-        try {
-            final ManagedRecipe recipe = recipes.get(id);
-            if (recipe == null) {
-                throw new NotFoundException(format("Recipe with id %s was not found", id));
-            }
-            return recipe;
-        } finally {
-            lock.readLock().unlock();
+        final ManagedRecipe recipe = recipes.get(id);
+        if (recipe == null) {
+            throw new NotFoundException(format("Recipe with id %s was not found", id));
         }
+        return recipe;
     }
 
     @Override
     public List<ManagedRecipe> search(final List<String> tags, final String type, int skipCount, int maxItems) {
-        lock.readLock().lock();
-        try {
-            return FluentIterable.from(recipes.values())
-                                 .skip(skipCount)
-                                 .filter(new Predicate<ManagedRecipe>() {
-                                     @Override
-                                     public boolean apply(ManagedRecipe recipe) {
-                                         return (tags == null || recipe.getTags().containsAll(tags))
-                                                && (type == null || type.equals(recipe.getType()));
-                                     }
-                                 })
-                                 .limit(maxItems)
-                                 .toList();
-        } finally {
-            lock.readLock().unlock();
-        }
+        return FluentIterable.from(recipes.values())
+                             .skip(skipCount)
+                             .filter(new Predicate<ManagedRecipe>() {
+                                 @Override
+                                 public boolean apply(ManagedRecipe recipe) {
+                                     return (tags == null || recipe.getTags().containsAll(tags))
+                                            && (type == null || type.equals(recipe.getType()));
+                                 }
+                             })
+                             .limit(maxItems)
+                             .toList();
     }
 
     @Override
     public List<ManagedRecipe> getByCreator(final String creator, int skipCount, int maxItems) {
-        lock.readLock().lock();
+        return FluentIterable.from(recipes.values())
+                             .skip(skipCount)
+                             .filter(new Predicate<ManagedRecipe>() {
+                                 @Override
+                                 public boolean apply(ManagedRecipe recipe) {
+                                     return recipe.getCreator().equals(creator);
+                                 }
+                             })
+                             .limit(maxItems)
+                             .toList();
+    }
+
+    private void persist(ManagedRecipe recipe) throws ServerException {
+        if (PREDEFINED_RECIPES_CREATOR.equals(recipe.getCreator())) {
+            return;
+        }
         try {
-            return FluentIterable.from(recipes.values())
-                                 .skip(skipCount)
-                                 .filter(new Predicate<ManagedRecipe>() {
-                                     @Override
-                                     public boolean apply(ManagedRecipe recipe) {
-                                         return recipe.getCreator().equals(creator);
-                                     }
-                                 })
-                                 .limit(maxItems)
-                                 .toList();
-        } finally {
-            lock.readLock().unlock();
+            recipeStorage.put(recipe.getId(), recipe);
+        } catch (IOException e) {
+            throw new ServerException(format("Impossible to store recipe %s in local storage", recipe.getId()), e);
         }
     }
 }
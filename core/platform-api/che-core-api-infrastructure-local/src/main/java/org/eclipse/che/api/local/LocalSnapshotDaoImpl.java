@@ -13,7 +13,7 @@ package org.eclipse.che.api.local;
 import com.google.common.reflect.TypeToken;
 
 import org.eclipse.che.api.core.NotFoundException;
-import org.eclipse.che.api.local.storage.LocalStorage;
+import org.eclipse.che.api.local.storage.JournaledLocalStorage;
 import org.eclipse.che.api.local.storage.LocalStorageFactory;
 import org.eclipse.che.api.machine.server.dao.SnapshotDao;
 import org.eclipse.che.api.machine.server.exception.SnapshotException;
@@ -26,36 +26,38 @@ import javax.annotation.PreDestroy;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.io.IOException;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.lang.String.format;
 import static java.util.Collections.singletonMap;
 import static java.util.stream.Collectors.toList;
 
 /**
- * In-memory implementation of {@link SnapshotDao}.
+ * In-memory implementation of {@link SnapshotDao}, changes are written to the journal of {@link JournaledLocalStorage}.
  *
  * @author Yevhenii Voevodin
  */
 @Singleton
 public class LocalSnapshotDaoImpl implements SnapshotDao {
 
-    private final Map<String, SnapshotImpl> snapshots;
-    private final LocalStorage              snapshotStorage;
+    private final Map<String, SnapshotImpl>           snapshots;
+    private final JournaledLocalStorage<SnapshotImpl> snapshotStorage;
 
     @Inject
     public LocalSnapshotDaoImpl(LocalStorageFactory storageFactory) throws IOException {
-        snapshots = new HashMap<>();
-        snapshotStorage = storageFactory.create("snapshots.json", singletonMap(InstanceKey.class, new InstanceKeyAdapter()));
+        snapshots = new ConcurrentHashMap<>();
+        snapshotStorage = storageFactory.createJournaled("snapshots.json",
+                                                         new TypeToken<SnapshotImpl>() {},
+                                                         singletonMap(InstanceKey.class, new InstanceKeyAdapter()));
     }
 
     @Override
-    public synchronized SnapshotImpl getSnapshot(String workspaceId, String envName, String machineName) throws NotFoundException,
-                                                                                                                SnapshotException {
+    public SnapshotImpl getSnapshot(String workspaceId, String envName, String machineName) throws NotFoundException,
+                                                                                                   SnapshotException {
         final Optional<SnapshotImpl> snapshotOpt = doGetSnapshot(workspaceId, envName, machineName);
         if (!snapshotOpt.isPresent()) {
             throw new NotFoundException(format("Snapshot with workspace id '%s', environment name '%s', machine name %s doesn't exist",
@@ -65,7 +67,7 @@ public class LocalSnapshotDaoImpl implements SnapshotDao {
     }
 
     @Override
-    public synchronized SnapshotImpl getSnapshot(String snapshotId) throws NotFoundException, SnapshotException {
+    public SnapshotImpl getSnapshot(String snapshotId) throws NotFoundException, SnapshotException {
         final SnapshotImpl snapshot = snapshots.get(snapshotId);
         if (snapshot == null) {
             throw new NotFoundException("Snapshot with id '" + snapshotId + "' doesn't exist");
@@ -77,14 +79,20 @@ public class LocalSnapshotDaoImpl implements SnapshotDao {
     public synchronized void saveSnapshot(SnapshotImpl snapshot) throws SnapshotException {
         Objects.requireNonNull(snapshot, "Required non-null snapshot");
         final Optional<SnapshotImpl> opt = doGetSnapshot(snapshot.getWorkspaceId(), snapshot.getEnvName(), snapshot.getMachineName());
-        if (opt.isPresent()) {
-            snapshots.remove(opt.get().getId());
+        try {
+            if (opt.isPresent()) {
+                snapshotStorage.remove(opt.get().getId());
+                snapshots.remove(opt.get().getId());
+            }
+            snapshotStorage.put(snapshot.getId(), snapshot);
+        } catch (IOException e) {
+            throw new SnapshotException("Impossible to store snapshot " + snapshot.getId() + " in local storage", e);
         }
         snapshots.put(snapshot.getId(), snapshot);
     }
 
     @Override
-    public synchronized List<SnapshotImpl> findSnapshots(String namespace, String workspaceId) throws SnapshotException {
+    public List<SnapshotImpl> findSnapshots(String namespace, String workspaceId) throws SnapshotException {
         return snapshots.values()
                         .stream()
                         .filter(snapshot -> snapshot.getNamespace().equals(namespace) && snapshot.getWorkspaceId().equals(workspaceId))
@@ -93,17 +101,22 @@ public class LocalSnapshotDaoImpl implements SnapshotDao {
 
     @Override
     public synchronized void removeSnapshot(String snapshotId) throws NotFoundException, SnapshotException {
+        try {
+            snapshotStorage.remove(snapshotId);
+        } catch (IOException e) {
+            throw new SnapshotException("Impossible to remove snapshot " + snapshotId + " from local storage", e);
+        }
         snapshots.remove(snapshotId);
     }
 
     @PostConstruct
     public synchronized void loadSnapshots() {
-        snapshots.putAll(snapshotStorage.loadMap(new TypeToken<Map<String, SnapshotImpl>>() {}));
+        snapshots.putAll(snapshotStorage.load());
     }
 
     @PreDestroy
     public synchronized void saveSnapshots() throws IOException {
-        snapshotStorage.store(snapshots);
+        snapshotStorage.close();
     }
 
     private Optional<SnapshotImpl> doGetSnapshot(String workspaceId, String envName, String machineName) {
@@ -11,13 +11,12 @@
 package org.eclipse.che.api.local;
 
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.collect.ArrayListMultimap;
-import com.google.common.collect.ListMultimap;
 import com.google.common.reflect.TypeToken;
 
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.NotFoundException;
-import org.eclipse.che.api.local.storage.LocalStorage;
+import org.eclipse.che.api.core.ServerException;
+import org.eclipse.che.api.local.storage.JournaledLocalStorage;
 import org.eclipse.che.api.local.storage.LocalStorageFactory;
 import org.eclipse.che.api.ssh.server.model.impl.SshPairImpl;
 import org.eclipse.che.api.ssh.server.spi.SshDao;
@@ -28,37 +27,39 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
 import static java.lang.String.format;
 
 /**
- * In-memory implementation of {@link SshDao}
+ * In-memory implementation of {@link SshDao}. Pairs of owner are kept in unmodifiable list which is replaced on every change,
+ * so pairs are read without locking. Changed lists are written to the journal of {@link JournaledLocalStorage}.
  *
  * @author Sergii Leschenko
  */
 @Singleton
 public class LocalSshDaoImpl implements SshDao {
-    private final ListMultimap<String, SshPairImpl> pairs;
-    private final ReadWriteLock                     lock;
-    private final LocalStorage                      sshStorage;
+    private final Map<String, List<SshPairImpl>>           pairs;
+    private final Lock                                     lock;
+    private final JournaledLocalStorage<List<SshPairImpl>> sshStorage;
 
     @Inject
     public LocalSshDaoImpl(LocalStorageFactory storageFactory) throws IOException {
-        pairs = ArrayListMultimap.create();
-        lock = new ReentrantReadWriteLock();
-        sshStorage = storageFactory.create("ssh.json");
+        pairs = new ConcurrentHashMap<>();
+        lock = new ReentrantLock();
+        sshStorage = storageFactory.createJournaled("ssh.json", new TypeToken<List<SshPairImpl>>() {});
     }
 
     @Override
-    public void create(String owner, SshPairImpl usersSshPair) throws ConflictException {
-        lock.writeLock().lock();
+    public void create(String owner, SshPairImpl usersSshPair) throws ConflictException, ServerException {
+        lock.lock();
         try {
             final Optional<SshPairImpl> any = find(owner, usersSshPair.getService(), usersSshPair.getName());
             if (any.isPresent()) {
@@ -66,90 +67,88 @@ public class LocalSshDaoImpl implements SshDao {
                                                    usersSshPair.getService(),
                                                    usersSshPair.getName()));
             }
-            pairs.put(owner, usersSshPair);
+            final List<SshPairImpl> ownerPairs = new ArrayList<>(getPairs(owner));
+            ownerPairs.add(usersSshPair);
+            replacePairs(owner, ownerPairs);
         } finally {
-            lock.writeLock().unlock();
+            lock.unlock();
         }
     }
 
     @Override
     public SshPairImpl get(String owner, String service, String name) throws NotFoundException {
-        lock.readLock().lock();
-        try {
-            final Optional<SshPairImpl> any = find(owner, service, name);
-            if (any.isPresent()) {
-                return any.get();
-            }
-            throw new NotFoundException(format("Ssh pair with service '%s' and name '%s' was not found.", service, name));
-        } finally {
-            lock.readLock().unlock();
+        final Optional<SshPairImpl> any = find(owner, service, name);
+        if (any.isPresent()) {
+            return any.get();
         }
+        throw new NotFoundException(format("Ssh pair with service '%s' and name '%s' was not found.", service, name));
     }
 
     @Override
-    public void remove(String owner, String service, String name) throws NotFoundException {
-        lock.writeLock().lock();
+    public void remove(String owner, String service, String name) throws NotFoundException, ServerException {
+        lock.lock();
         try {
             final Optional<SshPairImpl> any = find(owner, service, name);
             if (!any.isPresent()) {
                 throw new NotFoundException(format("Ssh pair with service '%s' and name '%s' was not found.", service, name));
             }
-            pairs.remove(owner, any.get());
+            final List<SshPairImpl> ownerPairs = new ArrayList<>(getPairs(owner));
+            ownerPairs.remove(any.get());
+            replacePairs(owner, ownerPairs);
         } finally {
-            lock.writeLock().unlock();
+            lock.unlock();
         }
     }
 
     @Override
     public List<SshPairImpl> get(String owner, String service) {
-        lock.readLock().lock();
-        try {
-            return pairs.get(owner)
-                        .stream()
-                        .filter(sshPair -> sshPair.getService().equals(service))
-                        .collect(Collectors.toList());
-        } finally {
-            lock.readLock().unlock();
-        }
+        return getPairs(owner).stream()
+                              .filter(sshPair -> sshPair.getService().equals(service))
+                              .collect(Collectors.toList());
     }
 
     private Optional<SshPairImpl> find(String owner, String service, String name) {
-        return pairs.get(owner)
-                    .stream()
-                    .filter(sshPair -> sshPair.getService().equals(service)
-                                       && sshPair.getName().equals(name))
-                    .findAny();
+        return getPairs(owner).stream()
+                              .filter(sshPair -> sshPair.getService().equals(service)
+                                                 && sshPair.getName().equals(name))
+                              .findAny();
+    }
+
+    private List<SshPairImpl> getPairs(String owner) {
+        return pairs.getOrDefault(owner, Collections.emptyList());
+    }
+
+    /** Stores new pairs of owner, owner without pairs is removed. Must be called under {@link #lock}. */
+    private void replacePairs(String owner, List<SshPairImpl> ownerPairs) throws ServerException {
+        try {
+            if (ownerPairs.isEmpty()) {
+                sshStorage.remove(owner);
+                pairs.remove(owner);
+            } else {
+                sshStorage.put(owner, ownerPairs);
+                pairs.put(owner, Collections.unmodifiableList(ownerPairs));
+            }
+        } catch (IOException e) {
+            throw new ServerException(format("Impossible to store ssh pairs of user %s in local storage", owner), e);
+        }
     }
 
     @PostConstruct
     @VisibleForTesting
     void loadSshPairs() {
-        lock.writeLock().lock();
+        lock.lock();
         try {
-            final Map<String, List<SshPairImpl>> ownerToPairs = sshStorage.loadMap(new TypeToken<Map<String, List<SshPairImpl>>>() {});
-            for (Map.Entry<String, List<SshPairImpl>> stringListEntry : ownerToPairs.entrySet()) {
-                for (SshPairImpl sshPair : stringListEntry.getValue()) {
-                    pairs.put(stringListEntry.getKey(), sshPair);
-                }
+            for (Map.Entry<String, List<SshPairImpl>> ownerPairs : sshStorage.load().entrySet()) {
+                pairs.put(ownerPairs.getKey(), Collections.unmodifiableList(new ArrayList<>(ownerPairs.getValue())));
             }
         } finally {
-            lock.writeLock().unlock();
+            lock.unlock();
         }
     }
 
     @PreDestroy
     @VisibleForTesting
     void saveSshPairs() throws IOException {
-        lock.readLock().lock();
-        try {
-            final HashMap<String, List<SshPairImpl>> ownerToPairs = new HashMap<>();
-            for (Map.Entry<String, SshPairImpl> entry : pairs.entries()) {
-                ownerToPairs.computeIfAbsent(entry.getKey(), s -> new ArrayList<>());
-                ownerToPairs.get(entry.getKey()).add(entry.getValue());
-            }
-            sshStorage.store(ownerToPairs);
-        } finally {
-            lock.readLock().unlock();
-        }
+        sshStorage.close();
     }
 }
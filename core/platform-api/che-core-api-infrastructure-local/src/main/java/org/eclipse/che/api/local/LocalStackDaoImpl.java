@@ -27,18 +27,19 @@ import javax.annotation.PreDestroy;
 import javax.inject.Inject;
 import java.io.IOException;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
 
 /**
- * Implementation local storage for {@link Stack}
+ * Implementation local storage for {@link Stack}. Each change is stored by {@link StackLocalStorage} when it happens,
+ * reads are performed without locking.
  *
  * @author Alexander Andrienko
  */
@@ -47,66 +48,61 @@ public class LocalStackDaoImpl implements StackDao {
 
     private final StackLocalStorage      stackStorage;
     private final Map<String, StackImpl> stacks;
-    private final ReadWriteLock          lock;
+    private final Lock                   lock;
 
     @Inject
     public LocalStackDaoImpl(StackLocalStorage stackLocalStorage) throws IOException {
         this.stackStorage = stackLocalStorage;
-        this.stacks = new HashMap<>();
-        this.lock = new ReentrantReadWriteLock();
+        this.stacks = new ConcurrentHashMap<>();
+        this.lock = new ReentrantLock();
     }
 
     @PostConstruct
     public void start() {
-        lock.readLock().lock();
         stacks.putAll(stackStorage.loadMap());
-        lock.readLock().unlock();
     }
 
     @PreDestroy
     public void stop() throws IOException {
-        lock.writeLock().lock();
-        stackStorage.store(stacks);
-        lock.writeLock().unlock();
+        stackStorage.close();
     }
 
     @Override
     public void create(StackImpl stack) throws ConflictException, ServerException {
         requireNonNull(stack, "Stack required");
-        lock.writeLock().lock();
+        lock.lock();
         try {
             if (stacks.containsKey(stack.getId())) {
                 throw new ConflictException(format("Stack with id %s is already exist", stack.getId()));
             }
+            persist(stack);
             stacks.put(stack.getId(), stack);
         } finally {
-            lock.writeLock().unlock();
+            lock.unlock();
         }
     }
 
     @Override
     public StackImpl getById(String id) throws NotFoundException {
         requireNonNull(id, "Stack id required");
-        lock.readLock().lock();
-        try {
-            final StackImpl stack = stacks.get(id);
-            if (stack == null) {
-                throw new NotFoundException(format("Stack with id %s was not found", id));
-            }
-            return new StackImpl(stack);
-        } finally {
-            lock.readLock().unlock();
+        final StackImpl stack = stacks.get(id);
+        if (stack == null) {
+            throw new NotFoundException(format("Stack with id %s was not found", id));
         }
+        return new StackImpl(stack);
     }
 
     @Override
     public void remove(String id) throws ServerException {
         requireNonNull(id, "Stack id required");
-        lock.writeLock().lock();
+        lock.lock();
         try {
+            stackStorage.remove(id);
             stacks.remove(id);
+        } catch (IOException e) {
+            throw new ServerException(format("Impossible to remove stack %s from local storage", id), e);
         } finally {
-            lock.writeLock().unlock();
+            lock.unlock();
         }
     }
 
@@ -114,46 +110,45 @@ public class LocalStackDaoImpl implements StackDao {
     public void update(StackImpl update) throws NotFoundException, ServerException {
         requireNonNull(update, "Stack required");
         requireNonNull(update.getId(), "Stack id required");
-        lock.writeLock().lock();
+        lock.lock();
         try {
             String updateId = update.getId();
             if (!stacks.containsKey(updateId)) {
                 throw new NotFoundException(format("Stack with id %s was not found", updateId));
             }
+            persist(update);
             stacks.replace(updateId, update);
         } finally {
-            lock.writeLock().unlock();
+            lock.unlock();
         }
     }
 
     @Override
     public List<StackImpl> getByCreator(String creator, int skipCount, int maxItems) {
         requireNonNull(creator, "Stack creator required");
-        lock.readLock().lock();
-        try {
-            return stacks.values().stream()
-                         .skip(skipCount)
-                         .filter(stack -> creator.equals(stack.getCreator()))
-                         .limit(maxItems)
-                         .map(StackImpl::new)
-                         .collect(toList());
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stacks.values().stream()
+                     .skip(skipCount)
+                     .filter(stack -> creator.equals(stack.getCreator()))
+                     .limit(maxItems)
+                     .map(StackImpl::new)
+                     .collect(toList());
     }
 
     @Override
     public List<StackImpl> searchStacks(@Nullable List<String> tags, int skipCount, int maxItems) {
-        lock.readLock().lock();
+        return stacks.values().stream()
+                     .skip(skipCount)
+                     .filter(decoratedStack -> tags == null || decoratedStack.getTags().containsAll(tags))
+                     .limit(maxItems)
+                     .map(StackImpl::new)
+                     .collect(toList());
+    }
+
+    private void persist(StackImpl stack) throws ServerException {
         try {
-            return stacks.values().stream()
-                         .skip(skipCount)
-                         .filter(decoratedStack -> tags == null || decoratedStack.getTags().containsAll(tags))
-                         .limit(maxItems)
-                         .map(StackImpl::new)
-                         .collect(toList());
-        } finally {
-            lock.readLock().unlock();
+            stackStorage.put(stack);
+        } catch (IOException e) {
+            throw new ServerException(format("Impossible to store stack %s in local storage", stack.getId()), e);
         }
     }
 }
@@ -19,7 +19,7 @@ import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.core.model.machine.Recipe;
 import org.eclipse.che.api.core.model.project.ProjectConfig;
 import org.eclipse.che.api.core.model.workspace.WorkspaceStatus;
-import org.eclipse.che.api.local.storage.LocalStorage;
+import org.eclipse.che.api.local.storage.JournaledLocalStorage;
 import org.eclipse.che.api.local.storage.LocalStorageFactory;
 import org.eclipse.che.api.machine.server.recipe.adapters.RecipeTypeAdapter;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceImpl;
@@ -32,10 +32,10 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 
 import java.io.IOException;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.lang.String.format;
 import static java.util.stream.Collectors.toList;
@@ -43,10 +43,11 @@ import static java.util.stream.Collectors.toList;
 /**
  * In memory based implementation of {@link WorkspaceDao}.
  *
- * <p>{@link #loadWorkspaces() Loads} & {@link #saveWorkspaces() stores} in memory workspaces
- * to/from filesystem, when component starts/stops.
+ * <p>{@link #loadWorkspaces() Loads} in memory workspaces from filesystem when component starts,
+ * each change is written to the journal of {@link JournaledLocalStorage} immediately and
+ * {@link #saveWorkspaces() compacted} when component stops.
  *
- * @implNote it is thread-safe, guarded by <i>this</i> instance
+ * @implNote it is thread-safe, modifications are guarded by <i>this</i> instance, reads don't need lock
  *
  * @author Eugene Voevodin
  * @author Dmitry Shnurenko
@@ -55,25 +56,25 @@ import static java.util.stream.Collectors.toList;
 @Singleton
 public class LocalWorkspaceDaoImpl implements WorkspaceDao {
 
-    private final Map<String, WorkspaceImpl> workspaces;
-    private final LocalStorage               localStorage;
+    private final Map<String, WorkspaceImpl>           workspaces;
+    private final JournaledLocalStorage<WorkspaceImpl> localStorage;
 
     @Inject
     public LocalWorkspaceDaoImpl(LocalStorageFactory factory) throws IOException {
         final Map<Class<?>, Object> adapters = ImmutableMap.of(Recipe.class, new RecipeTypeAdapter(),
                                                                ProjectConfig.class, new ProjectConfigAdapter());
-        this.localStorage = factory.create("workspaces.json", adapters);
-        this.workspaces = new HashMap<>();
+        this.localStorage = factory.createJournaled("workspaces.json", new TypeToken<WorkspaceImpl>() {}, adapters);
+        this.workspaces = new ConcurrentHashMap<>();
     }
 
     @PostConstruct
     public synchronized void loadWorkspaces() {
-        workspaces.putAll(localStorage.loadMap(new TypeToken<Map<String, WorkspaceImpl>>() {}));
+        workspaces.putAll(localStorage.load());
     }
 
     @PreDestroy
     public synchronized void saveWorkspaces() throws IOException {
-        localStorage.store(workspaces);
+        localStorage.close();
     }
 
     @Override
@@ -87,6 +88,7 @@ public class LocalWorkspaceDaoImpl implements WorkspaceDao {
                                                workspace.getNamespace()));
         }
         workspace.setStatus(WorkspaceStatus.STOPPED);
+        persist(new WorkspaceImpl(workspace));
         workspaces.put(workspace.getId(), new WorkspaceImpl(workspace));
         return workspace;
     }
@@ -98,17 +100,23 @@ public class LocalWorkspaceDaoImpl implements WorkspaceDao {
             throw new NotFoundException("Workspace with id " + workspace.getId() + " was not found");
         }
         workspace.setStatus(null);
+        persist(new WorkspaceImpl(workspace));
         workspaces.put(workspace.getId(), new WorkspaceImpl(workspace));
         return workspace;
     }
 
     @Override
     public synchronized void remove(String id) throws ConflictException, ServerException {
+        try {
+            localStorage.remove(id);
+        } catch (IOException e) {
+            throw new ServerException("Impossible to remove workspace " + id + " from local storage", e);
+        }
         workspaces.remove(id);
     }
 
     @Override
-    public synchronized WorkspaceImpl get(String id) throws NotFoundException, ServerException {
+    public WorkspaceImpl get(String id) throws NotFoundException, ServerException {
         final WorkspaceImpl workspace = workspaces.get(id);
         if (workspace == null) {
             throw new NotFoundException("Workspace with id " + id + " was not found");
@@ -117,7 +125,7 @@ public class LocalWorkspaceDaoImpl implements WorkspaceDao {
     }
 
     @Override
-    public synchronized WorkspaceImpl get(String name, String namespace) throws NotFoundException, ServerException {
+    public WorkspaceImpl get(String name, String namespace) throws NotFoundException, ServerException {
         final Optional<WorkspaceImpl> wsOpt = find(name, namespace);
         if (!wsOpt.isPresent()) {
             throw new NotFoundException(format("Workspace with name %s and owner %s was not found", name, namespace));
@@ -126,7 +134,7 @@ public class LocalWorkspaceDaoImpl implements WorkspaceDao {
     }
 
     @Override
-    public synchronized List<WorkspaceImpl> getByNamespace(String namespace) throws ServerException {
+    public List<WorkspaceImpl> getByNamespace(String namespace) throws ServerException {
         return workspaces.values()
                          .stream()
                          .filter(ws -> ws.getNamespace().equals(namespace))
@@ -134,6 +142,14 @@ public class LocalWorkspaceDaoImpl implements WorkspaceDao {
                          .collect(toList());
     }
 
+    private void persist(WorkspaceImpl workspace) throws ServerException {
+        try {
+            localStorage.put(workspace.getId(), workspace);
+        } catch (IOException e) {
+            throw new ServerException("Impossible to store workspace " + workspace.getId() + " in local storage", e);
+        }
+    }
+
     private Optional<WorkspaceImpl> find(String name, String owner) {
         return workspaces.values()
                          .stream()
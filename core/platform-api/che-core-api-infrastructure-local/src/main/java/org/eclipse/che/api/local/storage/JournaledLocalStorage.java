@@ -0,0 +1,275 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.local.storage;
+
+import com.google.common.reflect.TypeParameter;
+import com.google.common.reflect.TypeToken;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * File system storage for map of model objects which persists every change when it happens.
+ *
+ * <p>State of storage consists of snapshot and journal. Snapshot is JSON file of the same format that {@link LocalStorage} uses,
+ * so files stored by {@link LocalStorage#store(Object)} are loaded as snapshots. Each change is appended to the journal
+ * ({@code <fileName>.journal}) as single line JSON record and forced to disk before {@link #put} or {@link #remove} returns.
+ * When journal contains {@code compactionThreshold} records the whole state is written to the new snapshot and journal is
+ * cleared. If record can't be written completely journal is truncated back to the end of the last complete record.
+ * {@link #load()} reads snapshot and replays journal, invalid records, e.g. incomplete record at the end of journal which
+ * may be left by crash, are skipped.
+ *
+ * <p>Storage keeps loaded state in memory to be able to create snapshots without help of its user. Modifications are ordered
+ * by monitor of storage, callers which need consistent order of changes in own data and in storage must perform both changes
+ * under the same lock.
+ */
+public class JournaledLocalStorage<V> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JournaledLocalStorage.class);
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+
+    private static final String JOURNAL_SUFFIX = ".journal";
+    private static final String PUT            = "put";
+    private static final String REMOVE         = "remove";
+
+    private final File           snapshotFile;
+    private final File           journalFile;
+    private final TypeToken<?>   valueType;
+    private final TypeToken<?>   mapType;
+    private final Gson           snapshotGson;
+    private final Gson           journalGson;
+    private final int            compactionThreshold;
+    private final Map<String, V> state;
+
+    private FileOutputStream journalOut;
+    private long             journalSize;
+    private int              journalRecords;
+
+    public JournaledLocalStorage(String rootDirPath,
+                                 String fileName,
+                                 TypeToken<? extends V> valueType,
+                                 Map<Class<?>, Object> typeAdapters,
+                                 int compactionThreshold) throws IOException {
+        final File rootDir = new File(rootDirPath);
+        if (!rootDir.exists() && !rootDir.mkdirs()) {
+            throw new IOException("Impossible to create root folder for local storage");
+        }
+        this.snapshotFile = new File(rootDir, fileName);
+        this.journalFile = new File(rootDir, fileName + JOURNAL_SUFFIX);
+        this.valueType = valueType;
+        this.mapType = mapOf(valueType);
+        this.compactionThreshold = compactionThreshold;
+        this.state = new ConcurrentHashMap<>();
+        final GsonBuilder builder = new GsonBuilder();
+        for (Map.Entry<Class<?>, Object> adapter : typeAdapters.entrySet()) {
+            builder.registerTypeAdapter(adapter.getKey(), adapter.getValue());
+        }
+        journalGson = builder.create();
+        snapshotGson = builder.setPrettyPrinting().create();
+    }
+
+    /**
+     * Loads snapshot and replays journal. If journal isn't empty its records are compacted into the new snapshot.
+     *
+     * @return copy of loaded map, or empty map if there is nothing stored yet or snapshot is invalid
+     */
+    public synchronized Map<String, V> load() {
+        state.clear();
+        if (snapshotFile.exists()) {
+            try (Reader reader = new InputStreamReader(new FileInputStream(snapshotFile), UTF_8)) {
+                final Map<String, V> snapshot = snapshotGson.fromJson(reader, mapType.getType());
+                if (snapshot != null) {
+                    state.putAll(snapshot);
+                }
+            } catch (JsonParseException e) {
+                LOG.warn(snapshotFile.getName() + " contains invalid JSON content");
+            } catch (IOException e) {
+                LOG.debug("Impossible to read from " + snapshotFile.getName());
+            }
+        }
+        final int replayed = replayJournal();
+        if (replayed > 0 || journalFile.exists()) {
+            try {
+                compact();
+            } catch (IOException e) {
+                LOG.error("Impossible to compact journal " + journalFile.getName(), e);
+            }
+        }
+        return new HashMap<>(state);
+    }
+
+    /** Appends record about new or updated value to the journal. */
+    public synchronized void put(String key, V value) throws IOException {
+        final JsonObject record = new JsonObject();
+        record.addProperty("op", PUT);
+        record.addProperty("key", key);
+        record.add("value", journalGson.toJsonTree(value));
+        append(record);
+        state.put(key, value);
+        compactIfNeeded();
+    }
+
+    /** Appends record about removed value to the journal. */
+    public synchronized void remove(String key) throws IOException {
+        if (!state.containsKey(key)) {
+            return;
+        }
+        final JsonObject record = new JsonObject();
+        record.addProperty("op", REMOVE);
+        record.addProperty("key", key);
+        append(record);
+        state.remove(key);
+        compactIfNeeded();
+    }
+
+    /** Writes current state to the new snapshot and clears journal. */
+    public synchronized void compact() throws IOException {
+        final File tmp = new File(snapshotFile.getParentFile(), snapshotFile.getName() + ".tmp");
+        try (FileOutputStream out = new FileOutputStream(tmp)) {
+            final Writer writer = new BufferedWriter(new OutputStreamWriter(out, UTF_8));
+            snapshotGson.toJson(new HashMap<>(state), writer);
+            writer.flush();
+            out.getFD().sync();
+        }
+        Files.move(tmp.toPath(), snapshotFile.toPath(), REPLACE_EXISTING, ATOMIC_MOVE);
+        closeJournal();
+        if (journalFile.exists() && !journalFile.delete()) {
+            throw new IOException("Impossible to delete journal " + journalFile.getName());
+        }
+        journalRecords = 0;
+    }
+
+    /** Compacts journal and releases journal file. Storage may be used after closing, journal is reopened on the next change. */
+    public synchronized void close() throws IOException {
+        compact();
+    }
+
+    private void compactIfNeeded() throws IOException {
+        if (journalRecords >= compactionThreshold) {
+            compact();
+        }
+    }
+
+    private void append(JsonObject record) throws IOException {
+        if (journalOut == null) {
+            journalOut = new FileOutputStream(journalFile, true);
+            journalSize = journalOut.getChannel().size();
+        }
+        final byte[] line = (journalGson.toJson(record) + '\n').getBytes(UTF_8);
+        try {
+            journalOut.write(line);
+            journalOut.getFD().sync();
+        } catch (IOException e) {
+            discardIncompleteRecord();
+            throw e;
+        }
+        journalSize += line.length;
+        journalRecords++;
+    }
+
+    /**
+     * Truncates journal to the end of the last complete record, so the next record isn't appended to the partially written one.
+     * If journal can't be truncated it is closed and next record is written after an invalid line which is skipped by replay.
+     */
+    private void discardIncompleteRecord() {
+        try {
+            journalOut.getChannel().truncate(journalSize);
+        } catch (IOException e) {
+            LOG.error("Impossible to truncate journal " + journalFile.getName(), e);
+            closeQuietly(journalOut);
+            journalOut = null;
+        }
+    }
+
+    private void closeJournal() throws IOException {
+        if (journalOut != null) {
+            try {
+                journalOut.close();
+            } finally {
+                journalOut = null;
+            }
+        }
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    private int replayJournal() {
+        if (!journalFile.exists()) {
+            return 0;
+        }
+        final JsonParser parser = new JsonParser();
+        int replayed = 0;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(journalFile), UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                final String key;
+                final V value;
+                try {
+                    final JsonObject record = parser.parse(line).getAsJsonObject();
+                    key = record.get("key").getAsString();
+                    value = PUT.equals(record.get("op").getAsString()) ? journalGson.fromJson(record.get("value"), valueType.getType())
+                                                                       : null;
+                } catch (RuntimeException e) {
+                    LOG.warn("Journal {} contains invalid record after {} valid records, the record is skipped",
+                             journalFile.getName(), replayed);
+                    continue;
+                }
+                if (value == null) {
+                    state.remove(key);
+                } else {
+                    state.put(key, value);
+                }
+                replayed++;
+            }
+        } catch (IOException e) {
+            LOG.error("Impossible to read journal " + journalFile.getName(), e);
+        }
+        return replayed;
+    }
+
+    private static <T> TypeToken<Map<String, T>> mapOf(TypeToken<T> valueType) {
+        return new TypeToken<Map<String, T>>() {}.where(new TypeParameter<T>() {}, valueType);
+    }
+}
@@ -11,10 +11,13 @@
 package org.eclipse.che.api.local.storage;
 
 
+import com.google.common.reflect.TypeToken;
+
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Singleton;
 import java.io.IOException;
+import java.util.Collections;
 import java.util.Map;
 
 /**
@@ -28,6 +31,11 @@ public class LocalStorageFactory {
     /** Path to storage root folder. */
     private final String pathToStorage;
 
+    /** Number of journal records after which journaled storage writes new snapshot. */
+    @com.google.inject.Inject(optional = true)
+    @Named("che.conf.storage.journal_compaction_threshold")
+    private int journalCompactionThreshold = JournaledLocalStorage.DEFAULT_COMPACTION_THRESHOLD;
+
     @Inject
     public LocalStorageFactory(@Named("che.conf.storage") String pathToStorage) {
         this.pathToStorage = pathToStorage;
@@ -56,4 +64,34 @@ public class LocalStorageFactory {
     public LocalStorage create(String fileName, Map<Class<?>, Object> typeAdapters) throws IOException {
         return new LocalStorage(pathToStorage, fileName, typeAdapters);
     }
-}
\ No newline at end of file
+
+    /**
+     * @param fileName
+     *         name of snapshot file in local storage, journal is stored next to it.
+     * @param valueType
+     *         type of stored values.
+     * @return instance of JournaledLocalStorage.
+     * @throws IOException
+     *         occurs when cannot create root storage directory.
+     */
+    public <V> JournaledLocalStorage<V> createJournaled(String fileName, TypeToken<? extends V> valueType) throws IOException {
+        return createJournaled(fileName, valueType, Collections.emptyMap());
+    }
+
+    /**
+     * @param fileName
+     *         name of snapshot file in local storage, journal is stored next to it.
+     * @param valueType
+     *         type of stored values.
+     * @param typeAdapters
+     *         types and object adapters when need a special deserialization.
+     * @return instance of JournaledLocalStorage.
+     * @throws IOException
+     *         occurs when cannot create root storage directory.
+     */
+    public <V> JournaledLocalStorage<V> createJournaled(String fileName,
+                                                        TypeToken<? extends V> valueType,
+                                                        Map<Class<?>, Object> typeAdapters) throws IOException {
+        return new JournaledLocalStorage<>(pathToStorage, fileName, valueType, typeAdapters, journalCompactionThreshold);
+    }
+}
@@ -14,7 +14,8 @@ import com.google.common.reflect.TypeToken;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 
-import org.eclipse.che.api.local.storage.LocalStorage;
+import org.eclipse.che.api.local.storage.JournaledLocalStorage;
+import org.eclipse.che.api.local.storage.LocalStorageFactory;
 import org.eclipse.che.api.workspace.server.model.impl.stack.StackImpl;
 import org.eclipse.che.api.workspace.server.stack.StackTypeAdaptersProvider;
 import org.eclipse.che.api.workspace.server.stack.image.StackIcon;
@@ -34,7 +35,8 @@ import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
 import static org.apache.commons.io.FileUtils.deleteDirectory;
 
 /**
- * Local {@link StackImpl} storage for storing stacks and their {@link StackIcon}
+ * Local {@link StackImpl} storage for storing stacks and their {@link StackIcon}.
+ * Stacks are journaled with {@link JournaledLocalStorage}, icon of stack is written when stack is stored.
  *
  * @author Alexander Andrienko
  */
@@ -46,35 +48,57 @@ public class StackLocalStorage {
     private static final String STACK_STORAGE_FILE = "stacks.json";
     private static final String ICON_FOLDER_NAME   = "stack_img";
 
-    private final LocalStorage localStorage;
-    private final Path         iconFolderPath;
+    private final JournaledLocalStorage<StackImpl> localStorage;
+    private final Path                             iconFolderPath;
 
     @Inject
     public StackLocalStorage(@Named("che.conf.storage") String pathToStorage,
+                             LocalStorageFactory storageFactory,
                              StackTypeAdaptersProvider adaptersProvider) throws IOException {
-        this.localStorage = new LocalStorage(pathToStorage, STACK_STORAGE_FILE, adaptersProvider.getTypeAdapters());
+        this.localStorage = storageFactory.createJournaled(STACK_STORAGE_FILE,
+                                                           new TypeToken<StackImpl>() {},
+                                                           adaptersProvider.getTypeAdapters());
         this.iconFolderPath = Paths.get(pathToStorage, ICON_FOLDER_NAME);
     }
 
     /**
-     * Store map {@code stacks} to the local stack storage
+     * Stores new or updated {@code stack} and its icon.
      *
-     * @param stacks
-     *         map, where key is id of the {@link StackImpl} and value is {@link StackImpl})
      * @throws IOException
+     *         when stack can't be written to the journal
      */
-    public void store(Map<String, StackImpl> stacks) throws IOException {
-        localStorage.store(stacks);
-        deleteDirectory(iconFolderPath.toFile());
-        stacks.values().forEach(this::saveIcon);
+    public void put(StackImpl stack) throws IOException {
+        localStorage.put(stack.getId(), stack);
+        deleteDirectory(iconFolderPath.resolve(stack.getId()).toFile());
+        saveIcon(stack);
+    }
+
+    /**
+     * Removes stack with given {@code id} and its icon.
+     *
+     * @throws IOException
+     *         when removal can't be written to the journal
+     */
+    public void remove(String id) throws IOException {
+        localStorage.remove(id);
+        deleteDirectory(iconFolderPath.resolve(id).toFile());
+    }
+
+    /**
+     * Writes all stored stacks to the snapshot and clears journal.
+     *
+     * @throws IOException
+     *         when snapshot can't be written
+     */
+    public void close() throws IOException {
+        localStorage.close();
     }
 
     /**
      * Load map(where key is id of the {@link StackImpl} and value is {@link StackImpl}) from local stack storage.
      */
     public Map<String, StackImpl> loadMap() {
-        Map<String, StackImpl> stackMap = localStorage.loadMap(new TypeToken<Map<String, StackImpl>>() {
-        });
+        Map<String, StackImpl> stackMap = localStorage.load();
         for (StackImpl stack : stackMap.values()) {
             setIconData(stack, iconFolderPath);
         }
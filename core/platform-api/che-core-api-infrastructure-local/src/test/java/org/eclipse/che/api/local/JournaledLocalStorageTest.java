@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.local;
+
+import com.google.common.reflect.TypeToken;
+
+import org.apache.commons.io.FileUtils;
+import org.eclipse.che.api.local.storage.JournaledLocalStorage;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+public class JournaledLocalStorageTest {
+
+    private Path storageDir;
+    private Path snapshotPath;
+    private Path journalPath;
+
+    @BeforeMethod
+    public void setUp() throws URISyntaxException {
+        final URL url = Thread.currentThread().getContextClassLoader().getResource(".");
+        assertNotNull(url);
+        storageDir = Paths.get(url.toURI()).getParent().resolve("journaled_storage");
+        snapshotPath = storageDir.resolve("values.json");
+        journalPath = storageDir.resolve("values.json.journal");
+    }
+
+    @AfterMethod
+    public void cleanUp() throws IOException {
+        FileUtils.deleteDirectory(storageDir.toFile());
+    }
+
+    @Test
+    public void shouldReplayJournalWhenStorageIsNotClosed() throws Exception {
+        final JournaledLocalStorage<String> storage = createStorage(10);
+        storage.put("first", "value1");
+        storage.put("second", "value2");
+        storage.remove("first");
+
+        assertTrue(Files.exists(journalPath));
+        assertFalse(Files.exists(snapshotPath));
+
+        final Map<String, String> loaded = createStorage(10).load();
+
+        assertEquals(loaded, Collections.singletonMap("second", "value2"));
+        assertFalse(Files.exists(journalPath));
+        assertTrue(Files.exists(snapshotPath));
+    }
+
+    @Test
+    public void shouldIgnoreIncompleteRecordAtTheEndOfJournal() throws Exception {
+        final JournaledLocalStorage<String> storage = createStorage(10);
+        storage.put("first", "value1");
+        Files.write(journalPath, "{\"op\":\"put\",\"key\":\"sec".getBytes(UTF_8), APPEND);
+
+        assertEquals(createStorage(10).load(), Collections.singletonMap("first", "value1"));
+    }
+
+    @Test
+    public void shouldSkipInvalidRecordInTheMiddleOfJournal() throws Exception {
+        final JournaledLocalStorage<String> storage = createStorage(10);
+        storage.put("first", "value1");
+        Files.write(journalPath, "{\"op\":\"put\",\"key\":\"sec\n".getBytes(UTF_8), APPEND);
+        storage.put("third", "value3");
+        storage.remove("first");
+
+        assertEquals(createStorage(10).load(), Collections.singletonMap("third", "value3"));
+    }
+
+    @Test
+    public void shouldWriteSnapshotWhenJournalReachesCompactionThreshold() throws Exception {
+        final JournaledLocalStorage<String> storage = createStorage(2);
+        storage.put("first", "value1");
+
+        assertTrue(Files.exists(journalPath));
+
+        storage.put("second", "value2");
+
+        assertFalse(Files.exists(journalPath));
+        assertEquals(createStorage(2).load().size(), 2);
+    }
+
+    @Test
+    public void shouldWriteSnapshotWhenStorageIsClosed() throws Exception {
+        final JournaledLocalStorage<String> storage = createStorage(10);
+        storage.put("first", "value1");
+        storage.close();
+
+        assertFalse(Files.exists(journalPath));
+        assertEquals(new String(Files.readAllBytes(snapshotPath), UTF_8), "{\n" +
+                                                                           "  \"first\": \"value1\"\n" +
+                                                                           "}");
+    }
+
+    private JournaledLocalStorage<String> createStorage(int compactionThreshold) throws IOException {
+        return new JournaledLocalStorage<>(storageDir.toString(),
+                                           "values.json",
+                                           new TypeToken<String>() {},
+                                           Collections.emptyMap(),
+                                           compactionThreshold);
+    }
+}
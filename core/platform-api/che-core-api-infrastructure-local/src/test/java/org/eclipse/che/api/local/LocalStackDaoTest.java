@@ -14,6 +14,7 @@ import com.google.common.collect.ImmutableMap;
 import com.google.gson.Gson;
 
 import org.apache.commons.io.FileUtils;
+import org.eclipse.che.api.local.storage.LocalStorageFactory;
 import org.eclipse.che.api.local.storage.stack.StackLocalStorage;
 import org.eclipse.che.api.machine.server.recipe.GroupImpl;
 import org.eclipse.che.api.machine.server.recipe.PermissionsImpl;
@@ -73,7 +74,9 @@ public class LocalStackDaoTest {
         stackJsonPath = storageRoot.resolve("stacks.json");
         parentIconFolder = storageRoot.resolve("stack_img").resolve("stackdskhfdskf");
         pathToIcon = parentIconFolder.resolve("java-type.svg");
-        stackDao = new LocalStackDaoImpl(new StackLocalStorage(storageRoot.toString(), new StackTypeAdaptersProvider()));
+        stackDao = new LocalStackDaoImpl(new StackLocalStorage(storageRoot.toString(),
+                                                                 new LocalStorageFactory(storageRoot.toString()),
+                                                                 new StackTypeAdaptersProvider()));
     }
 
     @AfterMethod
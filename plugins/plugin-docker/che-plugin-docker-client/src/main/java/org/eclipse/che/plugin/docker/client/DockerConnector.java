@@ -10,6 +10,7 @@
  *******************************************************************************/
 package org.eclipse.che.plugin.docker.client;
 
+import com.google.common.io.ByteStreams;
 import com.google.common.io.CharStreams;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
@@ -32,6 +33,7 @@ import org.eclipse.che.plugin.docker.client.json.ContainerConfig;
 import org.eclipse.che.plugin.docker.client.json.ContainerCreated;
 import org.eclipse.che.plugin.docker.client.json.ContainerExitStatus;
 import org.eclipse.che.plugin.docker.client.json.ContainerInfo;
+import org.eclipse.che.plugin.docker.client.json.ContainerPathStat;
 import org.eclipse.che.plugin.docker.client.json.ContainerProcesses;
 import org.eclipse.che.plugin.docker.client.json.ContainerResource;
 import org.eclipse.che.plugin.docker.client.json.Event;
@@ -59,6 +61,7 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.URI;
 import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
@@ -696,6 +699,41 @@ public class DockerConnector {
         }
     }
 
+    /**
+     * Gets stat of file or directory in the specified container without getting its content.
+     *
+     * @param container
+     *         container id
+     * @param path
+     *         path to file or directory inside specified container
+     * @return stat of resource
+     * @throws DockerException
+     *         with status 404 when resource doesn't exist
+     * @throws IOException
+     *         when problems occurs with docker api calls
+     * @apiNote this method implements 1.20 docker API and requires docker not less than 1.8.0 version
+     */
+    public ContainerPathStat getResourceStat(String container, String path) throws IOException {
+        try (DockerConnection connection = connectionFactory.openConnection(dockerDaemonUri)
+                                                            .method("HEAD")
+                                                            .path("/containers/" + container + "/archive")
+                                                            .query("path", path)) {
+            final DockerResponse response = connection.request();
+            final int status = response.getStatus();
+            if (status != OK.getStatusCode()) {
+                // response to HEAD request has no body with error message
+                throw new DockerException("Error response from docker API, status: " + status, status);
+            }
+            final String stat = response.getHeader("X-Docker-Container-Path-Stat");
+            if (stat == null) {
+                throw new IOException("Docker API response doesn't contain stat of resource " + path);
+            }
+            return JsonHelper.fromJson(new String(Base64.decodeBase64(stat), StandardCharsets.UTF_8), ContainerPathStat.class, null);
+        } catch (JsonParseException e) {
+            throw new IOException(e.getLocalizedMessage(), e);
+        }
+    }
+
     /**
      * Puts files into specified container.
      *
@@ -1206,10 +1244,13 @@ public class DockerConnector {
 
     private <T> T parseResponseStreamAndClose(InputStream inputStream, Class<T> clazz) throws IOException, JsonParseException {
         try (InputStream responseStream = inputStream) {
-            return JsonHelper.fromJson(responseStream,
-                                       clazz,
-                                       null,
-                                       FIRST_LETTER_LOWERCASE);
+            final T result = JsonHelper.fromJson(responseStream,
+                                                 clazz,
+                                                 null,
+                                                 FIRST_LETTER_LOWERCASE);
+            // response is complete json document, the end of its body is read, so connection may be reused
+            ByteStreams.exhaust(responseStream);
+            return result;
         }
     }
 
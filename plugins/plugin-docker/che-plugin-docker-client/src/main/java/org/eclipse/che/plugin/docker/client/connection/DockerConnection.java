@@ -13,6 +13,8 @@ package org.eclipse.che.plugin.docker.client.connection;
 import com.google.common.io.ByteStreams;
 
 import org.eclipse.che.commons.lang.Pair;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.Closeable;
 import java.io.IOException;
@@ -20,17 +22,21 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @author andrew00x
  * @author Alexander Garagatyi
  */
 public abstract class DockerConnection implements Closeable {
+    private static final Logger LOG = LoggerFactory.getLogger(DockerConnection.class);
+
     private String    method;
     private String    path;
     private Entity<?> entity;
-    private StringBuilder         query   = new StringBuilder();
-    private List<Pair<String, ?>> headers = Collections.emptyList();
+    private StringBuilder           query   = new StringBuilder();
+    private List<Pair<String, ?>>   headers = Collections.emptyList();
+    private DockerConnectionMetrics metrics;
 
     public DockerConnection method(String method) {
         this.method = method;
@@ -81,8 +87,25 @@ public abstract class DockerConnection implements Closeable {
         return this;
     }
 
+    DockerConnection metrics(DockerConnectionMetrics metrics) {
+        this.metrics = metrics;
+        return this;
+    }
+
     public DockerResponse request() throws IOException {
-        return request(method, path, query.toString(), headers, entity);
+        final long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            final DockerResponse response = request(method, path, query.toString(), headers, entity);
+            failed = false;
+            return response;
+        } finally {
+            final long time = System.nanoTime() - start;
+            if (metrics != null) {
+                metrics.onRequest(time, failed);
+            }
+            LOG.debug("Docker API request {} {} took {} ms", method, path, TimeUnit.NANOSECONDS.toMillis(time));
+        }
     }
 
     protected abstract DockerResponse request(String method,
@@ -101,6 +124,11 @@ public abstract class DockerConnection implements Closeable {
         }
 
         abstract void writeTo(OutputStream output) throws IOException;
+
+        /** Returns true if entity may be written more than once, e.g. to send request again over new connection. */
+        boolean isRepeatable() {
+            return true;
+        }
     }
 
     static class StreamEntity extends Entity<InputStream> {
@@ -117,6 +145,11 @@ public abstract class DockerConnection implements Closeable {
                 entity.close();
             }
         }
+
+        @Override
+        boolean isRepeatable() {
+            return false;
+        }
     }
 
     static class StringEntity extends Entity<String> {
@@ -16,19 +16,30 @@ import org.eclipse.che.plugin.docker.client.DockerCertificates;
 import org.eclipse.che.plugin.docker.client.DockerConnector;
 import org.eclipse.che.plugin.docker.client.DockerConnectorConfiguration;
 
+import javax.annotation.PreDestroy;
 import javax.inject.Named;
+import javax.inject.Singleton;
 import java.net.URI;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Factory for connections to docker API.
  *
  * <p>Detects connection implementation by checking docker daemon URI.
  *
+ * <p>Connections to unix socket are kept open after response is read and are reused for the next requests, see
+ * {@link UnixSocketConnectionPool}. Connections over TCP are reused by JDK if keep-alive is enabled for them.
+ *
  * @author Alexander Garagatyi
  */
+@Singleton
 public class DockerConnectionFactory {
     public static final String CONNECTION_TIMEOUT_MS_PROPERTY      = "docker.connection.tcp.connection_timeout_ms";
     public static final String CONNECTION_READ_TIMEOUT_MS_PROPERTY = "docker.connection.tcp.read_timeout_ms";
+    public static final String TCP_KEEP_ALIVE_PROPERTY             = "docker.connection.tcp.keep_alive";
+    public static final String POOL_MAX_IDLE_PROPERTY              = "docker.connection.pool.max_idle";
+    public static final String POOL_KEEP_ALIVE_MS_PROPERTY         = "docker.connection.pool.keep_alive_ms";
 
     @Inject(optional = true)
     @Named(CONNECTION_TIMEOUT_MS_PROPERTY)
@@ -38,7 +49,22 @@ public class DockerConnectionFactory {
     @Named(CONNECTION_READ_TIMEOUT_MS_PROPERTY)
     private int connectionReadTimeoutMs = 60000;
 
-    private final DockerCertificates dockerCertificates;
+    @Inject(optional = true)
+    @Named(TCP_KEEP_ALIVE_PROPERTY)
+    private boolean tcpKeepAlive = false;
+
+    @Inject(optional = true)
+    @Named(POOL_MAX_IDLE_PROPERTY)
+    private int poolMaxIdle = 8;
+
+    @Inject(optional = true)
+    @Named(POOL_KEEP_ALIVE_MS_PROPERTY)
+    private long poolKeepAliveMs = 60000;
+
+    private final DockerCertificates                              dockerCertificates;
+    private final DockerConnectionMetrics                         metrics = new DockerConnectionMetrics();
+    // key = path to docker socket
+    private final ConcurrentMap<String, UnixSocketConnectionPool> pools   = new ConcurrentHashMap<>();
 
     @Inject
     public DockerConnectionFactory(DockerConnectorConfiguration connectorConfiguration) {
@@ -47,9 +73,24 @@ public class DockerConnectionFactory {
 
     public DockerConnection openConnection(URI dockerDaemonUri) {
         if (DockerConnectorConfiguration.isUnixSocketUri(dockerDaemonUri)) {
-            return new UnixSocketConnection(dockerDaemonUri.getPath());
+            final UnixSocketConnectionPool pool =
+                    pools.computeIfAbsent(dockerDaemonUri.getPath(),
+                                          path -> new UnixSocketConnectionPool(path, poolMaxIdle, poolKeepAliveMs, metrics));
+            return new UnixSocketConnection(pool).metrics(metrics);
         } else {
-            return new TcpConnection(dockerDaemonUri, dockerCertificates, connectionTimeoutMs, connectionReadTimeoutMs);
+            return new TcpConnection(dockerDaemonUri, dockerCertificates, connectionTimeoutMs, connectionReadTimeoutMs, tcpKeepAlive)
+                    .metrics(metrics);
         }
     }
+
+    /** Returns statistics of requests to docker API. */
+    public DockerConnectionMetrics getMetrics() {
+        return metrics;
+    }
+
+    @PreDestroy
+    public void closePools() {
+        pools.values().forEach(UnixSocketConnectionPool::close);
+        pools.clear();
+    }
 }
@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.docker.client.connection;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * Statistics of requests to docker API. Time of request is time from start of sending of request until status line and headers
+ * of response are received.
+ */
+public class DockerConnectionMetrics {
+    private final AtomicLong      requests          = new AtomicLong();
+    private final AtomicLong      failedRequests    = new AtomicLong();
+    private final AtomicLong      totalTimeNanos    = new AtomicLong();
+    private final LongAccumulator maxTimeNanos      = new LongAccumulator(Math::max, 0);
+    private final AtomicLong      openedConnections = new AtomicLong();
+    private final AtomicLong      reusedConnections = new AtomicLong();
+
+    void onRequest(long timeNanos, boolean failed) {
+        requests.incrementAndGet();
+        if (failed) {
+            failedRequests.incrementAndGet();
+        }
+        totalTimeNanos.addAndGet(timeNanos);
+        maxTimeNanos.accumulate(timeNanos);
+    }
+
+    void onConnectionOpened() {
+        openedConnections.incrementAndGet();
+    }
+
+    void onConnectionReused() {
+        reusedConnections.incrementAndGet();
+    }
+
+    /** Returns number of sent requests. */
+    public long getRequests() {
+        return requests.get();
+    }
+
+    /** Returns number of requests which failed with I/O error. */
+    public long getFailedRequests() {
+        return failedRequests.get();
+    }
+
+    /** Returns average time of request in milliseconds. */
+    public double getAverageTimeMs() {
+        final long count = requests.get();
+        return count == 0 ? 0 : (double)totalTimeNanos.get() / count / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /** Returns max time of request in milliseconds. */
+    public long getMaxTimeMs() {
+        return TimeUnit.NANOSECONDS.toMillis(maxTimeNanos.get());
+    }
+
+    /** Returns number of new connections to docker daemon. Connections which are pooled by JDK are not counted. */
+    public long getOpenedConnections() {
+        return openedConnections.get();
+    }
+
+    /** Returns number of requests which were sent over pooled connection. */
+    public long getReusedConnections() {
+        return reusedConnections.get();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("requests: %d, failed: %d, avg time: %.2f ms, max time: %d ms, opened connections: %d, reused connections: %d",
+                             getRequests(), getFailedRequests(), getAverageTimeMs(), getMaxTimeMs(), getOpenedConnections(),
+                             getReusedConnections());
+    }
+}
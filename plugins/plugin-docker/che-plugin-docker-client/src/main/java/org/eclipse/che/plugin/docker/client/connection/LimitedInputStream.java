@@ -59,6 +59,11 @@ public class LimitedInputStream extends InputStream {
         return doRead(b, 0, len);
     }
 
+    /** Returns number of bytes which are not read yet. */
+    synchronized int remaining() {
+        return limit - pos;
+    }
+
     private int doRead(byte[] b, int off, int len) throws IOException {
         if (pos >= limit) {
             return -1;
@@ -11,9 +11,9 @@
 package org.eclipse.che.plugin.docker.client.connection;
 
 import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableSet;
 
 import org.eclipse.che.commons.lang.Pair;
-import org.eclipse.che.plugin.docker.client.CLibrary;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
@@ -22,59 +22,84 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
-import java.net.ConnectException;
 import java.util.List;
-
-import static org.eclipse.che.plugin.docker.client.CLibrary.AF_UNIX;
-import static org.eclipse.che.plugin.docker.client.CLibrary.SOCK_STREAM;
-import static org.eclipse.che.plugin.docker.client.CLibrary.SockAddrUn;
-import static org.eclipse.che.plugin.docker.client.CLibraryFactory.getCLibrary;
+import java.util.Set;
 
 /**
+ * Connection to docker unix socket.
+ * <p/>
+ * Socket is taken from {@link UnixSocketConnectionPool} and is returned to pool when connection is closed if response was read
+ * completely, otherwise socket is closed. Idempotent request which fails on pooled socket is sent again over new socket.
+ *
  * @author andrew00x
  * @author Alexander Garagatyi
  */
 public class UnixSocketConnection extends DockerConnection {
-    private final String dockerSocketPath;
+    private static final Set<String> IDEMPOTENT_METHODS = ImmutableSet.of("GET", "HEAD", "PUT", "DELETE", "OPTIONS");
+
+    private final UnixSocketConnectionPool pool;
 
-    private int fd = -1;
+    private int                      fd = -1;
+    private UnixSocketDockerResponse response;
 
     public UnixSocketConnection(String dockerSocketPath) {
-        this.dockerSocketPath = dockerSocketPath;
+        this(new UnixSocketConnectionPool(dockerSocketPath, 0, 0, new DockerConnectionMetrics()));
+    }
+
+    public UnixSocketConnection(UnixSocketConnectionPool pool) {
+        this.pool = pool;
     }
 
     @Override
     protected DockerResponse request(String method, String path, String query, List<Pair<String, ?>> headers, Entity entity)
             throws IOException {
-        fd = connect();
-        final OutputStream output = new BufferedOutputStream(openOutputStream(fd));
-        writeHttpHeaders(output, method, path, query, headers);
-        if (entity != null) {
-            entity.writeTo(output);
+        final int idle = pool.acquireIdle();
+        if (idle != -1) {
+            try {
+                return request(idle, method, path, query, headers, entity);
+            } catch (IOException e) {
+                // daemon might close connection while it was idle, send request again over new connection if it is possible,
+                // non-idempotent requests are never sent again since daemon might already process them
+                if (!IDEMPOTENT_METHODS.contains(method) || (entity != null && !entity.isRepeatable())) {
+                    throw e;
+                }
+            }
         }
-        return new UnixSocketDockerResponse(new BufferedInputStream(openInputStream(fd)));
+        return request(pool.connect(), method, path, query, headers, entity);
     }
 
+    private DockerResponse request(int fd, String method, String path, String query, List<Pair<String, ?>> headers, Entity entity)
+            throws IOException {
+        this.fd = fd;
+        try {
+            final OutputStream output = new BufferedOutputStream(openOutputStream(fd));
+            writeHttpHeaders(output, method, path, query, headers);
+            if (entity != null) {
+                entity.writeTo(output);
+            }
+            response = new UnixSocketDockerResponse(new BufferedInputStream(openInputStream(fd)), !"HEAD".equals(method));
+            // read status line and headers, so broken connection is detected here
+            response.getStatus();
+            return response;
+        } catch (IOException e) {
+            this.fd = -1;
+            response = null;
+            pool.discard(fd);
+            throw e;
+        }
+    }
 
     @Override
     public void close() {
         if (fd != -1) {
-            getCLibrary().close(fd);
-        }
-    }
-
-    private int connect() throws IOException {
-        final CLibrary cLib = getCLibrary();
-        int fd = cLib.socket(AF_UNIX, SOCK_STREAM, 0);
-        if (fd == -1) {
-            throw new ConnectException(String.format("Unable connect to unix socket: '%s'", dockerSocketPath));
-        }
-        final SockAddrUn sockAddr = new SockAddrUn(dockerSocketPath);
-        int c = cLib.connect(fd, sockAddr, sockAddr.size());
-        if (c == -1) {
-            throw new ConnectException(String.format("Unable connect to unix socket: '%s'", dockerSocketPath));
+            if (response != null && response.consume()) {
+                pool.release(fd);
+            } else {
+                pool.discard(fd);
+            }
+            fd = -1;
+            response = null;
         }
-        return fd;
     }
 
     private void writeHttpHeaders(OutputStream output, String method, String path, String query, List<Pair<String, ?>> headers)
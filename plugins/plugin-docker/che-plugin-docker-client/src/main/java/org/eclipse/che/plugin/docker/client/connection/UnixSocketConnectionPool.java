@@ -0,0 +1,138 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.docker.client.connection;
+
+import org.eclipse.che.plugin.docker.client.CLibrary;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+
+import static org.eclipse.che.plugin.docker.client.CLibrary.AF_UNIX;
+import static org.eclipse.che.plugin.docker.client.CLibrary.SOCK_STREAM;
+import static org.eclipse.che.plugin.docker.client.CLibrary.SockAddrUn;
+import static org.eclipse.che.plugin.docker.client.CLibraryFactory.getCLibrary;
+
+/**
+ * Pool of idle HTTP/1.1 keep-alive connections to docker unix socket.
+ * <p/>
+ * Connection is returned to pool only after response is read completely, so next request on it starts from clean state. The most
+ * recently used connection is reused first, connections which are idle longer than keep-alive time are closed.
+ */
+public class UnixSocketConnectionPool {
+    private final String                  dockerSocketPath;
+    private final int                     maxIdle;
+    private final long                    keepAliveMs;
+    private final DockerConnectionMetrics metrics;
+    private final Deque<IdleSocket>       idle = new ArrayDeque<>();
+
+    private boolean closed;
+
+    /**
+     * @param dockerSocketPath
+     *         path to docker unix socket
+     * @param maxIdle
+     *         max number of idle connections which are kept open, if {@code 0} connections are not reused
+     * @param keepAliveMs
+     *         time in milliseconds after which idle connection is closed
+     * @param metrics
+     *         collects number of opened and reused connections
+     */
+    public UnixSocketConnectionPool(String dockerSocketPath, int maxIdle, long keepAliveMs, DockerConnectionMetrics metrics) {
+        this.dockerSocketPath = dockerSocketPath;
+        this.maxIdle = maxIdle;
+        this.keepAliveMs = keepAliveMs;
+        this.metrics = metrics;
+    }
+
+    /** Returns idle connection or {@code -1} if there is no idle connection. */
+    int acquireIdle() {
+        final long now = System.currentTimeMillis();
+        synchronized (this) {
+            closeExpired(now);
+            final IdleSocket socket = idle.pollFirst();
+            if (socket != null) {
+                metrics.onConnectionReused();
+                return socket.fd;
+            }
+        }
+        return -1;
+    }
+
+    /** Opens new connection to docker socket. */
+    int connect() throws IOException {
+        final CLibrary cLib = getCLibrary();
+        int fd = cLib.socket(AF_UNIX, SOCK_STREAM, 0);
+        if (fd == -1) {
+            throw new ConnectException(String.format("Unable connect to unix socket: '%s'", dockerSocketPath));
+        }
+        final SockAddrUn sockAddr = new SockAddrUn(dockerSocketPath);
+        int c = cLib.connect(fd, sockAddr, sockAddr.size());
+        if (c == -1) {
+            cLib.close(fd);
+            throw new ConnectException(String.format("Unable connect to unix socket: '%s'", dockerSocketPath));
+        }
+        metrics.onConnectionOpened();
+        return fd;
+    }
+
+    /** Returns connection to pool. Connection is closed if pool is full or closed. */
+    void release(int fd) {
+        synchronized (this) {
+            if (!closed && idle.size() < maxIdle) {
+                idle.addFirst(new IdleSocket(fd, System.currentTimeMillis()));
+                return;
+            }
+        }
+        getCLibrary().close(fd);
+    }
+
+    /** Closes connection which must not be reused, e.g. connection in unknown state after error. */
+    void discard(int fd) {
+        getCLibrary().close(fd);
+    }
+
+    /** Returns number of idle connections. */
+    public synchronized int getIdleCount() {
+        return idle.size();
+    }
+
+    /** Closes all idle connections, connections which are in use are closed when they are released. */
+    public synchronized void close() {
+        closed = true;
+        for (IdleSocket socket : idle) {
+            getCLibrary().close(socket.fd);
+        }
+        idle.clear();
+    }
+
+    private void closeExpired(long now) {
+        for (Iterator<IdleSocket> i = idle.iterator(); i.hasNext(); ) {
+            final IdleSocket socket = i.next();
+            if (now - socket.idleSince > keepAliveMs) {
+                i.remove();
+                getCLibrary().close(socket.fd);
+            }
+        }
+    }
+
+    private static class IdleSocket {
+        final int  fd;
+        final long idleSince;
+
+        IdleSocket(int fd, long idleSince) {
+            this.fd = fd;
+            this.idleSince = idleSince;
+        }
+    }
+}
@@ -26,14 +26,27 @@ public class UnixSocketDockerResponse implements DockerResponse {
         }
     };
 
+    /** Max number of unread bytes of response which are skipped to make connection reusable. */
+    private static final int MAX_SKIPPED_BYTES = 64 * 1024;
+
     private final InputStream rawData;
+    private final boolean     hasBody;
 
     private InputStream data;
     private String[]    headersFields;
     private int         status;
 
     UnixSocketDockerResponse(InputStream input) {
+        this(input, true);
+    }
+
+    /**
+     * @param hasBody
+     *         {@code false} if response can't have body regardless of its headers, e.g. response to HEAD request
+     */
+    UnixSocketDockerResponse(InputStream input, boolean hasBody) {
         rawData = input;
+        this.hasBody = hasBody;
         status = -1;
     }
 
@@ -144,7 +157,9 @@ public class UnixSocketDockerResponse implements DockerResponse {
         }
         this.headersFields = headerFields.toArray(new String[headerFields.size()]);
         final int contentLength = getContentLength();
-        if (contentLength == 0) {
+        final int status = getStatus();
+        // responses with these codes never have body
+        if (!hasBody || contentLength == 0 || status == 204 || status == 304) {
             return data = EMPTY;
         }
         if (contentLength > 0) {
@@ -152,4 +167,40 @@ public class UnixSocketDockerResponse implements DockerResponse {
         }
         return data = "chunked".equals(getHeader("Transfer-Encoding")) ? new ChunkedInputStream(rawData) : rawData;
     }
+
+    /**
+     * Reads rest of body of response. Returns {@code true} if connection may be used for the next request, i.e. body of response is
+     * read completely and docker doesn't close connection.
+     * <p/>
+     * Unix socket has no read timeout, so only the rest of body which has known small length is read here. Chunked body is never read,
+     * it may be endless stream, e.g. events or logs which are followed, so connection is reused only when chunked body is read to the
+     * end by the consumer of response.
+     */
+    synchronized boolean consume() {
+        if (headersFields == null) {
+            return false;
+        }
+        try {
+            if ("close".equalsIgnoreCase(getHeader("Connection"))) {
+                return false;
+            }
+            if (data == EMPTY) {
+                return true;
+            }
+            if (data instanceof ChunkedInputStream) {
+                return ((ChunkedInputStream)data).isEof();
+            }
+            if (!(data instanceof LimitedInputStream) || ((LimitedInputStream)data).remaining() > MAX_SKIPPED_BYTES) {
+                // body ends when connection is closed or connection is hijacked by docker, e.g. for attach
+                return false;
+            }
+            final byte[] buffer = new byte[8192];
+            while (data.read(buffer) != -1) {
+                // skip the rest of body
+            }
+            return true;
+        } catch (IOException ignored) {
+        }
+        return false;
+    }
 }
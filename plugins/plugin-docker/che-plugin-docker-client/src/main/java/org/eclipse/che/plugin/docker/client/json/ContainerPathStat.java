@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.docker.client.json;
+
+/**
+ * Stat of file or directory inside container, see {@code X-Docker-Container-Path-Stat} header of archive API.
+ */
+public class ContainerPathStat {
+    /** Bit of {@link #getMode() mode} which is set for directories, see {@code os.ModeDir} in Go. */
+    public static final long MODE_DIR = 1L << 31;
+
+    private String name;
+    private long   size;
+    private long   mode;
+    private String mtime;
+    private String linkTarget;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public void setSize(long size) {
+        this.size = size;
+    }
+
+    public long getMode() {
+        return mode;
+    }
+
+    public void setMode(long mode) {
+        this.mode = mode;
+    }
+
+    public String getMtime() {
+        return mtime;
+    }
+
+    public void setMtime(String mtime) {
+        this.mtime = mtime;
+    }
+
+    /** Returns absolute path to target of symbolic link or empty string if resource isn't symbolic link. */
+    public String getLinkTarget() {
+        return linkTarget;
+    }
+
+    public void setLinkTarget(String linkTarget) {
+        this.linkTarget = linkTarget;
+    }
+
+    public boolean isDirectory() {
+        return (mode & MODE_DIR) != 0;
+    }
+
+    @Override
+    public String toString() {
+        return "ContainerPathStat{" +
+               "name='" + name + '\'' +
+               ", size=" + size +
+               ", mode=" + mode +
+               ", mtime='" + mtime + '\'' +
+               ", linkTarget='" + linkTarget + '\'' +
+               '}';
+    }
+
+    // -------------------
+
+    public ContainerPathStat withName(String name) {
+        this.name = name;
+        return this;
+    }
+
+    public ContainerPathStat withSize(long size) {
+        this.size = size;
+        return this;
+    }
+
+    public ContainerPathStat withMode(long mode) {
+        this.mode = mode;
+        return this;
+    }
+
+    public ContainerPathStat withMtime(String mtime) {
+        this.mtime = mtime;
+        return this;
+    }
+
+    public ContainerPathStat withLinkTarget(String linkTarget) {
+        this.linkTarget = linkTarget;
+        return this;
+    }
+}
@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.docker.client.connection;
+
+import com.google.common.io.ByteStreams;
+
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class UnixSocketDockerResponseTest {
+
+    @Test
+    public void shouldAllowReuseOfConnectionWhenBodyWithContentLengthIsNotReadCompletely() throws IOException {
+        final UnixSocketDockerResponse response = response("HTTP/1.1 200 OK\r\n" +
+                                                           "Content-Length: 11\r\n" +
+                                                           "\r\n" +
+                                                           "{\"Id\":\"1\"}\n");
+
+        assertEquals(response.getStatus(), 200);
+        assertEquals(response.getInputStream().read(), '{');
+        assertTrue(response.consume());
+    }
+
+    @Test
+    public void shouldAllowReuseOfConnectionWhenChunkedBodyIsReadCompletely() throws IOException {
+        final UnixSocketDockerResponse response = response("HTTP/1.1 200 OK\r\n" +
+                                                           "Transfer-Encoding: chunked\r\n" +
+                                                           "\r\n" +
+                                                           "2\r\n" +
+                                                           "{}\r\n" +
+                                                           "0\r\n" +
+                                                           "\r\n");
+
+        assertEquals(response.getStatus(), 200);
+        assertEquals(ByteStreams.toByteArray(response.getInputStream()), "{}".getBytes());
+        assertTrue(response.consume());
+    }
+
+    @Test(timeOut = 10_000)
+    public void shouldNotReadUnfinishedChunkedBodyWhenResponseIsClosed() throws IOException {
+        final InputStream unfinished = new SequenceInputStream(new ByteArrayInputStream(("HTTP/1.1 200 OK\r\n" +
+                                                                                         "Transfer-Encoding: chunked\r\n" +
+                                                                                         "\r\n" +
+                                                                                         "2\r\n" +
+                                                                                         "{}\r\n").getBytes()),
+                                                               new InputStream() {
+                                                                   @Override
+                                                                   public int read() throws IOException {
+                                                                       // daemon didn't send the rest of stream yet
+                                                                       throw new AssertionError("Unfinished body must not be read");
+                                                                   }
+                                                               });
+        final UnixSocketDockerResponse response = new UnixSocketDockerResponse(unfinished);
+
+        assertEquals(response.getStatus(), 200);
+        assertFalse(response.consume());
+    }
+
+    @Test
+    public void shouldNotReadLargeRestOfBodyWhenResponseIsClosed() throws IOException {
+        final UnixSocketDockerResponse response = response("HTTP/1.1 200 OK\r\n" +
+                                                           "Content-Length: 1048576\r\n" +
+                                                           "\r\n" +
+                                                           "{");
+
+        assertEquals(response.getStatus(), 200);
+        assertFalse(response.consume());
+    }
+
+    @Test
+    public void shouldAllowReuseOfConnectionWhenResponseHasNoContent() throws IOException {
+        final UnixSocketDockerResponse response = response("HTTP/1.1 204 No Content\r\n" +
+                                                           "Server: Docker\r\n" +
+                                                           "\r\n");
+
+        assertEquals(response.getStatus(), 204);
+        assertEquals(response.getInputStream().read(), -1);
+        assertTrue(response.consume());
+    }
+
+    @Test
+    public void shouldNotReadBodyOfResponseToHeadRequest() throws IOException {
+        final UnixSocketDockerResponse response = new UnixSocketDockerResponse(new ByteArrayInputStream(("HTTP/1.1 200 OK\r\n" +
+                                                                                                         "Content-Length: 100\r\n" +
+                                                                                                         "\r\n").getBytes()),
+                                                                               false);
+
+        assertEquals(response.getStatus(), 200);
+        assertEquals(response.getInputStream().read(), -1);
+        assertTrue(response.consume());
+    }
+
+    @Test
+    public void shouldNotAllowReuseOfConnectionWhenLengthOfBodyIsUnknown() throws IOException {
+        final UnixSocketDockerResponse response = response("HTTP/1.1 200 OK\r\n" +
+                                                           "Content-Type: application/vnd.docker.raw-stream\r\n" +
+                                                           "\r\n" +
+                                                           "output");
+
+        assertEquals(response.getStatus(), 200);
+        assertFalse(response.consume());
+    }
+
+    @Test
+    public void shouldNotAllowReuseOfConnectionWhenDockerClosesIt() throws IOException {
+        final UnixSocketDockerResponse response = response("HTTP/1.1 200 OK\r\n" +
+                                                           "Connection: close\r\n" +
+                                                           "Content-Length: 0\r\n" +
+                                                           "\r\n");
+
+        assertEquals(response.getStatus(), 200);
+        assertFalse(response.consume());
+    }
+
+    private UnixSocketDockerResponse response(String raw) {
+        return new UnixSocketDockerResponse(new ByteArrayInputStream(raw.getBytes()));
+    }
+}
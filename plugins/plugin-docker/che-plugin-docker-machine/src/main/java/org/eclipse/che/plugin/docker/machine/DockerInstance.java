@@ -16,7 +16,6 @@ import org.eclipse.che.api.core.NotFoundException;
 import org.eclipse.che.api.core.model.machine.Command;
 import org.eclipse.che.api.core.model.machine.Machine;
 import org.eclipse.che.api.core.util.LineConsumer;
-import org.eclipse.che.api.core.util.ListLineConsumer;
 import org.eclipse.che.api.machine.server.exception.MachineException;
 import org.eclipse.che.api.machine.server.impl.AbstractInstance;
 import org.eclipse.che.api.machine.server.model.impl.MachineRuntimeInfoImpl;
@@ -25,8 +24,6 @@ import org.eclipse.che.api.machine.server.spi.InstanceKey;
 import org.eclipse.che.api.machine.server.spi.InstanceProcess;
 import org.eclipse.che.commons.lang.NameGenerator;
 import org.eclipse.che.plugin.docker.client.DockerConnector;
-import org.eclipse.che.plugin.docker.client.Exec;
-import org.eclipse.che.plugin.docker.client.LogMessage;
 import org.eclipse.che.plugin.docker.client.ProgressLineFormatterImpl;
 import org.eclipse.che.plugin.docker.client.json.ContainerInfo;
 import org.eclipse.che.plugin.docker.machine.node.DockerNode;
@@ -36,13 +33,10 @@ import org.slf4j.LoggerFactory;
 import javax.inject.Inject;
 import javax.inject.Named;
 import java.io.IOException;
-import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import static java.lang.String.format;
 
@@ -56,21 +50,11 @@ import static java.lang.String.format;
 public class DockerInstance extends AbstractInstance {
     private static final Logger LOG = LoggerFactory.getLogger(DockerInstance.class);
 
-    private static final AtomicInteger pidSequence           = new AtomicInteger(1);
-    private static final String        PID_FILE_TEMPLATE     = "/tmp/docker-exec-%s.pid";
-    private static final Pattern       PID_FILE_PATH_PATTERN = Pattern.compile(String.format(PID_FILE_TEMPLATE, "([0-9]+)"));
-    /**
-     * Produces output in form:
-     * <pre>
-     * /some/path/pid_file_template-1.pid
-     * /some/path/pid_file_template-3.pid
-     * /some/path/pid_file_template-14.pid
-     * </pre>
-     * Where each line is full path to pid file of <b>process that is running<b/>
-     */
-    private static final String GET_ALIVE_PROCESSES_COMMAND =
-            format("for pidFile in $(find %s -print 2>/dev/null); do kill -0 \"$(cat ${pidFile})\" 2>/dev/null && echo \"${pidFile}\"; done",
-                   format(PID_FILE_TEMPLATE, "*"));
+    public static final String PROCESS_TABLE_TTL_PROPERTY = "machine.docker.process_table.ttl_ms";
+
+    static final String PID_FILE_TEMPLATE = "/tmp/docker-exec-%s.pid";
+
+    private static final AtomicInteger pidSequence = new AtomicInteger(1);
 
     private final DockerMachineFactory                        dockerMachineFactory;
     private final String                                      container;
@@ -81,6 +65,8 @@ public class DockerInstance extends AbstractInstance {
     private final DockerNode                                  node;
     private final DockerInstanceStopDetector                  dockerInstanceStopDetector;
     private final DockerInstanceProcessesCleaner              processesCleaner;
+    private final DockerInstanceFileReader                    fileReader;
+    private final DockerProcessTable                          processTable;
     private final ConcurrentHashMap<Integer, InstanceProcess> machineProcesses;
 
     private MachineRuntimeInfoImpl machineRuntime;
@@ -95,7 +81,9 @@ public class DockerInstance extends AbstractInstance {
                           @Assisted DockerNode node,
                           @Assisted LineConsumer outputConsumer,
                           DockerInstanceStopDetector dockerInstanceStopDetector,
-                          DockerInstanceProcessesCleaner processesCleaner) {
+                          DockerInstanceProcessesCleaner processesCleaner,
+                          DockerInstanceFileReader fileReader,
+                          @Named(PROCESS_TABLE_TTL_PROPERTY) long processTableTtlMs) {
         super(machine);
         this.dockerMachineFactory = dockerMachineFactory;
         this.container = container;
@@ -106,6 +94,8 @@ public class DockerInstance extends AbstractInstance {
         this.node = node;
         this.dockerInstanceStopDetector = dockerInstanceStopDetector;
         this.processesCleaner = processesCleaner;
+        this.fileReader = fileReader;
+        this.processTable = new DockerProcessTable(docker, container, processTableTtlMs);
         this.machineProcesses = new ConcurrentHashMap<>();
         processesCleaner.trackProcesses(this);
     }
@@ -149,26 +139,16 @@ public class DockerInstance extends AbstractInstance {
 
     @Override
     public List<InstanceProcess> getProcesses() throws MachineException {
-        List<InstanceProcess> processes = new LinkedList<>();
-        try {
-            final Exec exec = docker.createExec(container, false, "/bin/bash", "-c", GET_ALIVE_PROCESSES_COMMAND);
-            docker.startExec(exec.getId(), logMessage -> {
-                final String pidFilePath = logMessage.getContent().trim();
-                final Matcher matcher = PID_FILE_PATH_PATTERN.matcher(pidFilePath);
-                if (matcher.matches()) {
-                    final int virtualPid = Integer.parseInt(matcher.group(1));
-                    final InstanceProcess dockerProcess = machineProcesses.get(virtualPid);
-                    if (dockerProcess != null) {
-                        processes.add(dockerProcess);
-                    } else {
-                        LOG.warn("Machine process {} exists in container but missing in processes map", virtualPid);
-                    }
-                }
-            });
-            return processes;
-        } catch (IOException e) {
-            throw new MachineException(e);
+        final List<InstanceProcess> processes = new LinkedList<>();
+        for (Integer pid : processTable.getAlivePids()) {
+            final InstanceProcess dockerProcess = machineProcesses.get(pid);
+            if (dockerProcess != null) {
+                processes.add(dockerProcess);
+            } else {
+                LOG.warn("Machine process {} exists in container but missing in processes map", pid);
+            }
         }
+        return processes;
     }
 
     @Override
@@ -178,7 +158,8 @@ public class DockerInstance extends AbstractInstance {
                                                                            container,
                                                                            outputChannel,
                                                                            String.format(PID_FILE_TEMPLATE, pid),
-                                                                           pid);
+                                                                           pid,
+                                                                           processTable);
         machineProcesses.put(pid, process);
         return process;
     }
@@ -226,6 +207,7 @@ public class DockerInstance extends AbstractInstance {
         machineProcesses.clear();
         processesCleaner.untrackProcesses(getId());
         dockerInstanceStopDetector.stopDetection(container);
+        fileReader.invalidate(container);
         try {
             if (getConfig().isDev()) {
                 node.unbindWorkspace();
@@ -251,12 +233,8 @@ public class DockerInstance extends AbstractInstance {
 
     /**
      * Reads file content by specified file path.
-     *
-     * TODO:
-     * add file size checking,
-     * note that size checking and file content reading
-     * should be done in an atomic way,
-     * which means that two separate instance processes is not the case.
+     * <p/>
+     * File is read with docker archive API, see {@link DockerInstanceFileReader}.
      *
      * @param filePath
      *         path to file on machine instance
@@ -267,35 +245,24 @@ public class DockerInstance extends AbstractInstance {
      * @return if {@code limit} and {@code startFrom} grater than 0
      * content from {@code startFrom} to {@code startFrom + limit} will be returned,
      * if file contains less lines than {@code startFrom} empty content will be returned
+     * @throws NotFoundException
+     *         if file doesn't exist
      * @throws MachineException
      *         if any error occurs with file reading
      */
     @Override
-    public String readFileContent(String filePath, int startFrom, int limit) throws MachineException {
-        if (limit <= 0 || startFrom <= 0) {
-            throw new MachineException("Impossible to read file " + limit + " lines from " + startFrom + " line");
-        }
-
-        // command sed getting file content from startFrom line to (startFrom + limit)
-        String bashCommand = format("sed -n \'%1$2s, %2$2sp\' %3$2s", startFrom, startFrom + limit, filePath);
-
-        final String[] command = {"/bin/bash", "-c", bashCommand};
-
-        ListLineConsumer lines = new ListLineConsumer();
-        try {
-            Exec exec = docker.createExec(container, false, command);
-            docker.startExec(exec.getId(), new LogMessagePrinter(lines, LogMessage::getContent));
-        } catch (IOException e) {
-            throw new MachineException(format("Error occurs while initializing command %s in docker container %s: %s",
-                                              Arrays.toString(command), container, e.getLocalizedMessage()), e);
-        }
+    public String readFileContent(String filePath, int startFrom, int limit) throws NotFoundException, MachineException {
+        return fileReader.readLines(container, filePath, startFrom, limit);
+    }
 
-        String content = lines.getText();
-        if (content.contains("sed: can't read " + filePath + ": No such file or directory") ||
-            content.contains("cat: " + filePath + ": No such file or directory")) {
-            throw new MachineException("File with path " + filePath + " not found");
-        }
-        return content;
+    /**
+     * Reads range of bytes of file by specified file path.
+     * <p/>
+     * File is read with docker archive API, see {@link DockerInstanceFileReader}.
+     */
+    @Override
+    public byte[] readFileBytes(String filePath, long offset, int length) throws NotFoundException, MachineException {
+        return fileReader.readBytes(container, filePath, offset, length);
     }
 
     /**
@@ -328,6 +295,15 @@ public class DockerInstance extends AbstractInstance {
         }
     }
 
+    /**
+     * Marks process as running in the table of processes
+     *
+     * <p>Used by {@link DockerInstanceProcessesCleaner}
+     */
+    void processStarted(int pid) {
+        processTable.processStarted(pid);
+    }
+
     /**
      * Removes process from the list of processes
      *
@@ -335,5 +311,6 @@ public class DockerInstance extends AbstractInstance {
      */
     void removeProcess(int pid) {
         machineProcesses.remove(pid);
+        processTable.processStopped(pid);
     }
 }
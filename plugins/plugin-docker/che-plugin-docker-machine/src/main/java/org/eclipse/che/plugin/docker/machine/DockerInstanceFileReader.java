@@ -0,0 +1,290 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.docker.machine;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.io.ByteStreams;
+import com.google.inject.Inject;
+
+import org.eclipse.che.api.core.NotFoundException;
+import org.eclipse.che.api.machine.server.exception.MachineException;
+import org.eclipse.che.plugin.docker.client.DockerConnector;
+import org.eclipse.che.plugin.docker.client.DockerException;
+import org.eclipse.che.plugin.docker.client.json.ContainerPathStat;
+
+import javax.inject.Named;
+import javax.inject.Singleton;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Reads files from containers with docker archive API, so reading of file doesn't need exec in container.
+ * <p/>
+ * Content of small files is cached. Cached content is reused while stat of file, i.e. its size and modification time,
+ * which is got with cheap HEAD request stays the same.
+ */
+@Singleton
+public class DockerInstanceFileReader {
+    public static final String MAX_CACHED_FILE_SIZE_PROPERTY = "machine.docker.file_cache.max_file_size_bytes";
+    public static final String CACHE_SIZE_PROPERTY           = "machine.docker.file_cache.size_bytes";
+
+    private static final int  TAR_BLOCK_SIZE         = 512;
+    private static final int  TAR_SIZE_OFFSET        = 124;
+    private static final int  TAR_SIZE_LENGTH        = 12;
+    private static final int  TAR_TYPE_OFFSET        = 156;
+    private static final int  MAX_SYMLINKS_TO_FOLLOW = 8;
+
+    @Inject(optional = true)
+    @Named(MAX_CACHED_FILE_SIZE_PROPERTY)
+    private long maxCachedFileSize = 1024 * 1024;
+
+    @Inject(optional = true)
+    @Named(CACHE_SIZE_PROPERTY)
+    private long cacheSize = 32 * 1024 * 1024;
+
+    private final DockerConnector docker;
+
+    private volatile Cache<String, CachedFile> cache;
+
+    @Inject
+    public DockerInstanceFileReader(DockerConnector docker) {
+        this.docker = docker;
+    }
+
+    /**
+     * Reads lines of file from container.
+     *
+     * @param container
+     *         container id
+     * @param filePath
+     *         path to file inside container
+     * @param startFrom
+     *         number of the first line to read, lines are numbered from 1
+     * @param limit
+     *         number of lines to read after the first one
+     * @return lines from {@code startFrom} to {@code startFrom + limit} inclusive with their line separators or empty string
+     * if file contains less lines than {@code startFrom}
+     * @throws NotFoundException
+     *         if file doesn't exist
+     * @throws MachineException
+     *         if path points to directory or any other error occurs
+     */
+    public String readLines(String container, String filePath, int startFrom, int limit) throws NotFoundException, MachineException {
+        if (limit <= 0 || startFrom <= 0) {
+            throw new MachineException("Impossible to read file " + limit + " lines from " + startFrom + " line");
+        }
+        try (InputStream content = openContent(container, filePath)) {
+            return new String(readLines(content, startFrom, startFrom + limit), UTF_8);
+        } catch (IOException e) {
+            throw new MachineException(format("Error occurs while reading file %s in docker container %s: %s",
+                                              filePath, container, e.getLocalizedMessage()), e);
+        }
+    }
+
+    /**
+     * Reads bytes of file from container.
+     *
+     * @param container
+     *         container id
+     * @param filePath
+     *         path to file inside container
+     * @param offset
+     *         offset of the first byte to read
+     * @param length
+     *         max number of bytes to read
+     * @return bytes of file, array is shorter than {@code length} if end of file is reached
+     * @throws NotFoundException
+     *         if file doesn't exist
+     * @throws MachineException
+     *         if path points to directory or any other error occurs
+     */
+    public byte[] readBytes(String container, String filePath, long offset, int length) throws NotFoundException, MachineException {
+        if (offset < 0 || length < 0) {
+            throw new MachineException("Impossible to read file " + length + " bytes from " + offset + " byte");
+        }
+        try (InputStream content = openContent(container, filePath)) {
+            ByteStreams.skipFully(content, offset);
+            return ByteStreams.toByteArray(ByteStreams.limit(content, length));
+        } catch (EOFException e) {
+            // offset is beyond end of file
+            return new byte[0];
+        } catch (IOException e) {
+            throw new MachineException(format("Error occurs while reading file %s in docker container %s: %s",
+                                              filePath, container, e.getLocalizedMessage()), e);
+        }
+    }
+
+    /** Removes cached files of the given container. */
+    public void invalidate(String container) {
+        final String prefix = container + ':';
+        getCache().asMap().keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    private InputStream openContent(String container, String filePath) throws NotFoundException, IOException {
+        String path = filePath;
+        ContainerPathStat stat = stat(container, path, filePath);
+        for (int i = 0; i < MAX_SYMLINKS_TO_FOLLOW && stat.getLinkTarget() != null && !stat.getLinkTarget().isEmpty(); i++) {
+            path = stat.getLinkTarget();
+            stat = stat(container, path, filePath);
+        }
+        if (stat.isDirectory()) {
+            throw new IOException(format("%s is a directory", filePath));
+        }
+        final String key = container + ':' + path;
+        final String etag = stat.getSize() + "-" + stat.getMtime();
+        final CachedFile cached = getCache().getIfPresent(key);
+        if (cached != null && cached.etag.equals(etag)) {
+            return new ByteArrayInputStream(cached.content);
+        }
+        final InputStream archive = docker.getResource(container, path);
+        try {
+            final long size = nextEntry(archive);
+            final InputStream content = ByteStreams.limit(archive, size);
+            if (size > maxCachedFileSize) {
+                // large file is streamed, archive is closed together with returned stream
+                return content;
+            }
+            final byte[] bytes = ByteStreams.toByteArray(content);
+            archive.close();
+            // file might be changed between stat and read, so it's cached only when its size is the same as in stat
+            if (bytes.length == stat.getSize()) {
+                getCache().put(key, new CachedFile(etag, bytes));
+            } else {
+                getCache().invalidate(key);
+            }
+            return new ByteArrayInputStream(bytes);
+        } catch (IOException e) {
+            archive.close();
+            throw e;
+        }
+    }
+
+    private ContainerPathStat stat(String container, String path, String filePath) throws NotFoundException, IOException {
+        try {
+            return docker.getResourceStat(container, path);
+        } catch (DockerException e) {
+            if (e.getStatus() == 404) {
+                throw new NotFoundException("File with path " + filePath + " not found");
+            }
+            throw e;
+        }
+    }
+
+    private Cache<String, CachedFile> getCache() {
+        Cache<String, CachedFile> cache = this.cache;
+        if (cache == null) {
+            synchronized (this) {
+                cache = this.cache;
+                if (cache == null) {
+                    // cache is created lazily because its size is injected after constructor is called
+                    this.cache = cache = CacheBuilder.newBuilder()
+                                                     .maximumWeight(cacheSize)
+                                                     .weigher((String key, CachedFile file) -> file.content.length)
+                                                     .build();
+                }
+            }
+        }
+        return cache;
+    }
+
+    /**
+     * Reads lines with numbers from {@code from} to {@code to} inclusive from the stream. Lines are numbered from 1.
+     */
+    static byte[] readLines(InputStream in, long from, long to) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[8192];
+        long line = 1;
+        int n;
+        while (line <= to && (n = in.read(buffer)) != -1) {
+            int start = 0;
+            for (int i = 0; i < n && line <= to; i++) {
+                if (buffer[i] == '\n') {
+                    if (line >= from) {
+                        out.write(buffer, start, i + 1 - start);
+                    }
+                    start = i + 1;
+                    line++;
+                }
+            }
+            if (line >= from && line <= to) {
+                out.write(buffer, start, n - start);
+            }
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Skips headers of tar archive up to the first file entry and returns size of the entry.
+     * Extended headers, e.g. PAX headers or GNU long names, are skipped.
+     */
+    static long nextEntry(InputStream tar) throws IOException {
+        final byte[] header = new byte[TAR_BLOCK_SIZE];
+        for (; ; ) {
+            ByteStreams.readFully(tar, header);
+            if (isZeroBlock(header)) {
+                throw new IOException("Archive doesn't contain file");
+            }
+            final long size = parseSize(header);
+            final byte type = header[TAR_TYPE_OFFSET];
+            if (type == '0' || type == 0 || type == '7') {
+                return size;
+            }
+            if (type != 'x' && type != 'g' && type != 'L' && type != 'K') {
+                throw new IOException(format("Unsupported type of archive entry '%c'", (char)type));
+            }
+            // extended header, its content is padded to size of block
+            ByteStreams.skipFully(tar, (size + TAR_BLOCK_SIZE - 1) / TAR_BLOCK_SIZE * TAR_BLOCK_SIZE);
+        }
+    }
+
+    private static long parseSize(byte[] header) throws IOException {
+        if ((header[TAR_SIZE_OFFSET] & 0x80) != 0) {
+            // base-256 encoding which is used for sizes which don't fit to 11 octal digits
+            long size = 0;
+            for (int i = TAR_SIZE_OFFSET + 1; i < TAR_SIZE_OFFSET + TAR_SIZE_LENGTH; i++) {
+                size = (size << 8) | (header[i] & 0xff);
+            }
+            return size;
+        }
+        final String octal = new String(header, TAR_SIZE_OFFSET, TAR_SIZE_LENGTH, UTF_8).replace('\0', ' ').trim();
+        try {
+            return octal.isEmpty() ? 0 : Long.parseLong(octal, 8);
+        } catch (NumberFormatException e) {
+            throw new IOException("Invalid size of archive entry " + octal);
+        }
+    }
+
+    private static boolean isZeroBlock(byte[] block) {
+        for (byte b : block) {
+            if (b != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static class CachedFile {
+        final String etag;
+        final byte[] content;
+
+        CachedFile(String etag, byte[] content) {
+            this.etag = etag;
+            this.content = content;
+        }
+    }
+}
@@ -26,7 +26,8 @@ import java.util.concurrent.ConcurrentHashMap;
  * Removes process from {@link DockerInstance} on process destroying
  *
  * <p>Uses {@link EventService} to subscribe to processes events.<br>
- * Removes processes on {@code STOPPED} or {@code ERROR} process event.
+ * Removes processes on {@code STOPPED} or {@code ERROR} process event.<br>
+ * Marks processes as running on {@code STARTED} process event, so {@link DockerProcessTable} is updated without checking processes.
  *
  * @author Alexander Garagatyi
  */
@@ -45,9 +46,13 @@ public class DockerInstanceProcessesCleaner implements EventSubscriber<MachinePr
     public void onEvent(MachineProcessEvent event) {
         final Instance instance = dockerMachines.get(event.getMachineId());
 
-        if (instance != null && (event.getEventType() == EventType.STOPPED ||
-                                 event.getEventType() == EventType.ERROR)) {
+        if (instance == null) {
+            return;
+        }
+        if (event.getEventType() == EventType.STOPPED || event.getEventType() == EventType.ERROR) {
             ((DockerInstance)instance).removeProcess(event.getProcessId());
+        } else if (event.getEventType() == EventType.STARTED) {
+            ((DockerInstance)instance).processStarted(event.getProcessId());
         }
     }
 
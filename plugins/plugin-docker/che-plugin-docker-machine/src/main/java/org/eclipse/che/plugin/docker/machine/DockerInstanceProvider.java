@@ -14,6 +14,7 @@ import com.google.common.base.Strings;
 import com.google.common.collect.Maps;
 import com.google.common.collect.ObjectArrays;
 import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
 
 import org.eclipse.che.api.core.NotFoundException;
@@ -47,7 +48,10 @@ import org.eclipse.che.plugin.docker.machine.node.WorkspaceFolderPathProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.inject.Named;
+import javax.inject.Singleton;
 import javax.ws.rs.core.UriBuilder;
 import java.io.File;
 import java.io.IOException;
@@ -63,6 +67,8 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import static com.google.common.base.Strings.isNullOrEmpty;
@@ -73,11 +79,13 @@ import static com.google.common.base.Strings.isNullOrEmpty;
  * @author andrew00x
  * @author Alexander Garagatyi
  */
+@Singleton
 public class DockerInstanceProvider implements InstanceProvider {
     private static final Logger LOG = LoggerFactory.getLogger(DockerInstanceProvider.class);
 
     private final DockerConnector                  docker;
     private final DockerInstanceStopDetector       dockerInstanceStopDetector;
+    private final RecipeImageCache                 recipeImageCache;
     private final WorkspaceFolderPathProvider      workspaceFolderPathProvider;
     private final boolean                          doForcePullOnBuild;
     private final Set<String>                      supportedRecipeTypes;
@@ -90,12 +98,14 @@ public class DockerInstanceProvider implements InstanceProvider {
     private final Set<String>                      commonMachineEnvVariables;
     private final String[]                         allMachinesExtraHosts;
     private final String                           projectFolderPath;
+    private final ExecutorService                  prewarmExecutor;
 
     @Inject
     public DockerInstanceProvider(DockerConnector docker,
                                   DockerConnectorConfiguration dockerConnectorConfiguration,
                                   DockerMachineFactory dockerMachineFactory,
                                   DockerInstanceStopDetector dockerInstanceStopDetector,
+                                  RecipeImageCache recipeImageCache,
                                   @Named("machine.docker.dev_machine.machine_servers") Set<ServerConf> devMachineServers,
                                   @Named("machine.docker.machine_servers") Set<ServerConf> allMachinesServers,
                                   @Named("machine.docker.dev_machine.machine_volumes") Set<String> devMachineSystemVolumes,
@@ -111,6 +121,7 @@ public class DockerInstanceProvider implements InstanceProvider {
         this.docker = docker;
         this.dockerMachineFactory = dockerMachineFactory;
         this.dockerInstanceStopDetector = dockerInstanceStopDetector;
+        this.recipeImageCache = recipeImageCache;
         this.workspaceFolderPathProvider = workspaceFolderPathProvider;
         this.doForcePullOnBuild = doForcePullOnBuild;
         this.supportedRecipeTypes = Collections.singleton("Dockerfile");
@@ -153,6 +164,41 @@ public class DockerInstanceProvider implements InstanceProvider {
         } else {
             this.allMachinesExtraHosts = ObjectArrays.concat(allMachinesExtraHosts.split(","), dockerHost);
         }
+        this.prewarmExecutor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setNameFormat("RecipeImagePrewarm-%d")
+                                                                                           .setDaemon(true)
+                                                                                           .build());
+    }
+
+    /**
+     * Builds images of recipes which are configured for pre-warm in background, see {@link RecipeImageCache#getPrewarmRecipes()}.
+     * Recipes which have cached images already are skipped.
+     */
+    @PostConstruct
+    public void prewarmRecipeImages() {
+        prewarmExecutor.execute(() -> {
+            for (String recipe : recipeImageCache.getPrewarmRecipes()) {
+                try {
+                    final Dockerfile dockerfile = DockerfileParser.parse(recipe);
+                    final String key = recipeImageCache.getKey(dockerfile);
+                    if (key == null || recipeImageCache.getImage(key) != null) {
+                        continue;
+                    }
+                    final String image = recipeImageCache.getImageName(key);
+                    LOG.info("Pre-warm build of image {}", image);
+                    buildImage(dockerfile, LineConsumer.DEV_NULL, image, doForcePullOnBuild, 0, 0);
+                } catch (DockerFileException | MachineException e) {
+                    LOG.warn("Pre-warm build of recipe failed: {}", e.getMessage());
+                }
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+            }
+        });
+    }
+
+    @PreDestroy
+    public void stopRecipeImagesPrewarm() {
+        prewarmExecutor.shutdownNow();
     }
 
     /**
@@ -213,7 +259,23 @@ public class DockerInstanceProvider implements InstanceProvider {
         final String machineImageName = "eclipse-che/" + machineContainerName;
         final long memoryLimit = (long)machine.getConfig().getLimits().getRam() * 1024 * 1024;
 
-        buildImage(dockerfile, creationLogsOutput, machineImageName, doForcePullOnBuild, memoryLimit, -1);
+        final String recipeKey = recipeImageCache.getKey(dockerfile);
+        final String cachedImage = recipeKey == null ? null : recipeImageCache.getImage(recipeKey);
+        if (cachedImage != null) {
+            try {
+                creationLogsOutput.writeLine("[DOCKER] Image built from the same recipe is found, build is skipped");
+                // tag image with generated name, so it is removed with machine as built image
+                docker.tag(cachedImage, machineImageName, null);
+            } catch (IOException e) {
+                LOG.error(e.getLocalizedMessage(), e);
+                throw new MachineException("Can't create machine from cached image.");
+            }
+        } else {
+            buildImage(dockerfile, creationLogsOutput, machineImageName, doForcePullOnBuild, memoryLimit, -1);
+            if (recipeKey != null) {
+                recipeImageCache.put(recipeKey, machineImageName);
+            }
+        }
 
         return createInstance(machineContainerName,
                               machine,
@@ -16,7 +16,6 @@ import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.NotFoundException;
 import org.eclipse.che.api.core.model.machine.Command;
 import org.eclipse.che.api.core.util.LineConsumer;
-import org.eclipse.che.api.core.util.ListLineConsumer;
 import org.eclipse.che.api.core.util.ValueHolder;
 import org.eclipse.che.api.machine.server.exception.MachineException;
 import org.eclipse.che.api.machine.server.spi.InstanceProcess;
@@ -49,6 +48,7 @@ public class DockerProcess implements InstanceProcess {
     private final String              commandType;
     private final Map<String, String> attributes;
     private final String              outputChannel;
+    private final DockerProcessTable  processTable;
 
     private volatile boolean started;
 
@@ -58,7 +58,8 @@ public class DockerProcess implements InstanceProcess {
                          @Assisted("container") String container,
                          @Assisted("outputChannel") String outputChannel,
                          @Assisted("pid_file_path") String pidFilePath,
-                         @Assisted int pid) {
+                         @Assisted int pid,
+                         @Assisted DockerProcessTable processTable) {
         this.docker = docker;
         this.container = container;
         this.commandLine = command.getCommandLine();
@@ -68,7 +69,9 @@ public class DockerProcess implements InstanceProcess {
         this.outputChannel = outputChannel;
         this.pidFilePath = pidFilePath;
         this.pid = pid;
+        this.processTable = processTable;
         this.started = false;
+        processTable.register(pid, pidFilePath);
     }
 
     @Override
@@ -154,25 +157,8 @@ public class DockerProcess implements InstanceProcess {
 
     @Override
     public void checkAlive() throws MachineException, NotFoundException {
-        // Read pid from file and run 'kill -0 [pid]' command.
-        final String isAliveCmd = format("[ -r %1$s ] && kill -0 $(cat %1$s) || echo 'Unable read PID file'", pidFilePath);
-        final ListLineConsumer output = new ListLineConsumer();
-        final String[] command = {"/bin/bash", "-c", isAliveCmd};
-        Exec exec;
-        try {
-            exec = docker.createExec(container, false, command);
-        } catch (IOException e) {
-            throw new MachineException(format("Error occurs while initializing command %s in docker container %s: %s",
-                                              Arrays.toString(command), container, e.getMessage()), e);
-        }
-        try {
-            docker.startExec(exec.getId(), new LogMessagePrinter(output));
-        } catch (IOException e) {
-            throw new MachineException(format("Error occurs while executing command %s in docker container %s: %s",
-                                              Arrays.toString(exec.getCommand()), container, e.getMessage()), e);
-        }
-        // 'kill -0 [pid]' is silent if process is running or print "No such process" message otherwise
-        if (!output.getText().isEmpty()) {
+        // all the processes of machine are checked at once and result is shared between processes for a short time
+        if (!processTable.isAlive(pid)) {
             throw new NotFoundException(format("Process with pid %s not found", pid));
         }
     }
@@ -0,0 +1,181 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.docker.machine;
+
+import com.google.common.collect.ImmutableSet;
+
+import org.eclipse.che.api.machine.server.exception.MachineException;
+import org.eclipse.che.plugin.docker.client.DockerConnector;
+import org.eclipse.che.plugin.docker.client.Exec;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.lang.String.format;
+
+/**
+ * Table of processes which are running in container of {@link DockerInstance}.
+ * <p/>
+ * Liveness of all the processes of instance is checked with single exec in container. Result of check is reused during
+ * configured time, so listing of processes doesn't create exec per process. Table is updated by process events without
+ * exec, see {@link #processStarted(int)} and {@link #processStopped(int)}.
+ * <p/>
+ * Process is alive while process which pid is saved in its pid file is running. Each process registers path of its pid file
+ * with {@link #register(int, String)}, processes which are not registered are never alive.
+ */
+public class DockerProcessTable {
+    /**
+     * Produces output in form:
+     * <pre>
+     * /some/path/pid_file_template-1.pid
+     * /some/path/pid_file_template-3.pid
+     * /some/path/pid_file_template-14.pid
+     * </pre>
+     * Where each line is full path to pid file of <b>process that is running<b/>
+     */
+    private static final String GET_ALIVE_PROCESSES_COMMAND =
+            "for pidFile in %s; do kill -0 \"$(cat \"${pidFile}\" 2>/dev/null)\" 2>/dev/null && echo \"${pidFile}\"; done";
+
+    private final DockerConnector      docker;
+    private final String               container;
+    private final long                 ttlMs;
+    private final Object               checkLock = new Object();
+    private final Map<Integer, String> pidFiles  = new ConcurrentHashMap<>();
+
+    // guarded by this
+    private Snapshot snapshot;
+    private long     version;
+
+    /**
+     * @param docker
+     *         docker connector
+     * @param container
+     *         container where processes are running
+     * @param ttlMs
+     *         time in milliseconds during which result of check is reused, 0 means that processes are checked every time
+     */
+    public DockerProcessTable(DockerConnector docker, String container, long ttlMs) {
+        this.docker = docker;
+        this.container = container;
+        this.ttlMs = ttlMs;
+    }
+
+    /** Returns {@code true} if process with given virtual pid is running in container. */
+    public boolean isAlive(int pid) throws MachineException {
+        return getAlivePids().contains(pid);
+    }
+
+    /** Returns virtual pids of processes which are running in container. */
+    public Set<Integer> getAlivePids() throws MachineException {
+        Snapshot current = getFreshSnapshot();
+        if (current != null) {
+            return current.pids;
+        }
+        // concurrent callers wait for result of single check instead of running their own execs
+        synchronized (checkLock) {
+            current = getFreshSnapshot();
+            if (current != null) {
+                return current.pids;
+            }
+            final long checkVersion;
+            synchronized (this) {
+                checkVersion = version;
+            }
+            final Set<Integer> pids = checkAlivePids();
+            synchronized (this) {
+                // result isn't cached if processes were started or stopped during check, it might be outdated
+                if (version == checkVersion) {
+                    snapshot = new Snapshot(pids, System.currentTimeMillis());
+                }
+            }
+            return pids;
+        }
+    }
+
+    /** Registers path of pid file of process with given virtual pid, liveness of process is checked with this file. */
+    public void register(int pid, String pidFilePath) {
+        pidFiles.put(pid, pidFilePath);
+    }
+
+    /** Adds process to the table, it's called when process is started. */
+    public synchronized void processStarted(int pid) {
+        version++;
+        if (snapshot != null) {
+            snapshot = snapshot.with(pid);
+        }
+    }
+
+    /** Removes process from the table, it's called when process is finished or killed. */
+    public synchronized void processStopped(int pid) {
+        pidFiles.remove(pid);
+        version++;
+        if (snapshot != null) {
+            snapshot = snapshot.without(pid);
+        }
+    }
+
+    private synchronized Snapshot getFreshSnapshot() {
+        if (snapshot != null && System.currentTimeMillis() - snapshot.checkedAt < ttlMs) {
+            return snapshot;
+        }
+        return null;
+    }
+
+    private Set<Integer> checkAlivePids() throws MachineException {
+        final Map<String, Integer> pidsByFile = new HashMap<>();
+        final StringBuilder files = new StringBuilder();
+        for (Map.Entry<Integer, String> entry : pidFiles.entrySet()) {
+            pidsByFile.put(entry.getValue(), entry.getKey());
+            files.append(" '").append(entry.getValue().replace("'", "'\\''")).append('\'');
+        }
+        if (pidsByFile.isEmpty()) {
+            return ImmutableSet.of();
+        }
+        final Set<Integer> pids = new HashSet<>();
+        try {
+            final Exec exec = docker.createExec(container, false, "/bin/bash", "-c", format(GET_ALIVE_PROCESSES_COMMAND, files));
+            docker.startExec(exec.getId(), logMessage -> {
+                final Integer pid = pidsByFile.get(logMessage.getContent().trim());
+                if (pid != null) {
+                    pids.add(pid);
+                }
+            });
+        } catch (IOException e) {
+            throw new MachineException(format("Error occurs while checking processes in docker container %s: %s",
+                                              container, e.getMessage()), e);
+        }
+        return ImmutableSet.copyOf(pids);
+    }
+
+    private static class Snapshot {
+        final Set<Integer> pids;
+        final long         checkedAt;
+
+        Snapshot(Set<Integer> pids, long checkedAt) {
+            this.pids = pids;
+            this.checkedAt = checkedAt;
+        }
+
+        Snapshot with(int pid) {
+            return new Snapshot(ImmutableSet.<Integer>builder().addAll(pids).add(pid).build(), checkedAt);
+        }
+
+        Snapshot without(int pid) {
+            final Set<Integer> copy = new HashSet<>(pids);
+            copy.remove(pid);
+            return new Snapshot(ImmutableSet.copyOf(copy), checkedAt);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.docker.machine;
+
+import com.google.common.hash.Hashing;
+import com.google.inject.Inject;
+
+import org.eclipse.che.commons.annotation.Nullable;
+import org.eclipse.che.commons.lang.IoUtil;
+import org.eclipse.che.plugin.docker.client.DockerConnector;
+import org.eclipse.che.plugin.docker.client.DockerException;
+import org.eclipse.che.plugin.docker.client.Dockerfile;
+import org.eclipse.che.plugin.docker.client.json.ImageInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.inject.Named;
+import javax.inject.Singleton;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Cache of images built from machine recipes.
+ * <p/>
+ * Image built from recipe is tagged with hash of Dockerfile, e.g. {@code eclipse-che/recipe-cache:<hash>}. Machine which
+ * is created from recipe with the same hash later reuses tagged image instead of building it again. Image is reused while it isn't
+ * older than configured max age, so updates of base images are picked up eventually.
+ */
+@Singleton
+public class RecipeImageCache {
+    private static final Logger LOG = LoggerFactory.getLogger(RecipeImageCache.class);
+
+    public static final String REPOSITORY = "eclipse-che/recipe-cache";
+
+    public static final String ENABLED_PROPERTY     = "machine.docker.recipe_cache.enabled";
+    public static final String MAX_AGE_SEC_PROPERTY = "machine.docker.recipe_cache.max_age_sec";
+    public static final String PREWARM_PROPERTY     = "machine.docker.recipe_cache.prewarm";
+
+    @Inject(optional = true)
+    @Named(ENABLED_PROPERTY)
+    private boolean enabled = true;
+
+    @Inject(optional = true)
+    @Named(MAX_AGE_SEC_PROPERTY)
+    private long maxAgeSec = 24 * 60 * 60;
+
+    @Inject(optional = true)
+    @Named(PREWARM_PROPERTY)
+    private String prewarm;
+
+    private final DockerConnector docker;
+
+    @Inject
+    public RecipeImageCache(DockerConnector docker) {
+        this.docker = docker;
+    }
+
+    /**
+     * Returns key of image which is built from {@code dockerfile} or {@code null} if cache is disabled. Key is hash of the whole
+     * content of Dockerfile, because parser directives, e.g. {@code # escape=`}, and spaces in instructions may change the image.
+     */
+    @Nullable
+    public String getKey(Dockerfile dockerfile) {
+        if (!enabled) {
+            return null;
+        }
+        final StringBuilder content = new StringBuilder();
+        try {
+            dockerfile.writeDockerfile(content);
+        } catch (IOException e) {
+            LOG.warn("Unable count key of recipe: {}", e.getMessage());
+            return null;
+        }
+        return Hashing.sha1().hashString(content, UTF_8).toString();
+    }
+
+    /** Returns name of image with given key. */
+    public String getImageName(String key) {
+        return REPOSITORY + ':' + key;
+    }
+
+    /** Returns name of cached image with given key or {@code null} if there is no such image or image is too old. */
+    @Nullable
+    public String getImage(String key) {
+        final String image = getImageName(key);
+        final ImageInfo imageInfo;
+        try {
+            imageInfo = docker.inspectImage(image);
+        } catch (DockerException e) {
+            if (e.getStatus() != 404) {
+                LOG.warn("Unable inspect cached image {}: {}", image, e.getMessage());
+            }
+            return null;
+        } catch (IOException e) {
+            LOG.warn("Unable inspect cached image {}: {}", image, e.getMessage());
+            return null;
+        }
+        if (maxAgeSec > 0 && imageInfo.getCreated() != null) {
+            try {
+                final Instant created = OffsetDateTime.parse(imageInfo.getCreated()).toInstant();
+                if (created.plusSeconds(maxAgeSec).isBefore(Instant.now())) {
+                    LOG.debug("Cached image {} is created at {} and is too old to be reused", image, created);
+                    return null;
+                }
+            } catch (DateTimeParseException e) {
+                LOG.debug("Unable parse creation date of image {}: {}", image, imageInfo.getCreated());
+            }
+        }
+        return image;
+    }
+
+    /** Tags {@code image} as cached image with given key, previous image with the same key is untagged. */
+    public void put(String key, String image) {
+        final String cachedImage = getImageName(key);
+        try {
+            docker.removeImage(cachedImage, false);
+        } catch (IOException ignored) {
+            // there is no such image or it is used by running containers, tag is removed anyway in the last case
+        }
+        try {
+            docker.tag(image, REPOSITORY, key);
+        } catch (IOException e) {
+            LOG.warn("Unable tag image {} as {}: {}", image, cachedImage, e.getMessage());
+        }
+    }
+
+    /**
+     * Returns recipes which should be built at server start, so the first machines which are created from them don't wait for build.
+     * Recipes are read from URLs or files listed in {@value #PREWARM_PROPERTY} property.
+     */
+    public List<String> getPrewarmRecipes() {
+        final List<String> recipes = new ArrayList<>();
+        if (!enabled || prewarm == null || prewarm.trim().isEmpty()) {
+            return recipes;
+        }
+        for (String location : prewarm.split(",")) {
+            location = location.trim();
+            if (location.isEmpty()) {
+                continue;
+            }
+            try {
+                recipes.add(readRecipe(location));
+            } catch (IOException e) {
+                LOG.warn("Unable read recipe {}: {}", location, e.getMessage());
+            }
+        }
+        return recipes;
+    }
+
+    private String readRecipe(String location) throws IOException {
+        URL url;
+        try {
+            url = new URL(location);
+        } catch (MalformedURLException e) {
+            return new String(Files.readAllBytes(new File(location).toPath()), UTF_8);
+        }
+        try (InputStream in = url.openStream()) {
+            return IoUtil.readStream(in);
+        }
+    }
+}
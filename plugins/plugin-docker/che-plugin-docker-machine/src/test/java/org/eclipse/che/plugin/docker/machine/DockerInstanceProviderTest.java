@@ -27,6 +27,7 @@ import org.eclipse.che.commons.env.EnvironmentContext;
 import org.eclipse.che.commons.user.UserImpl;
 import org.eclipse.che.plugin.docker.client.DockerConnector;
 import org.eclipse.che.plugin.docker.client.DockerConnectorConfiguration;
+import org.eclipse.che.plugin.docker.client.Dockerfile;
 import org.eclipse.che.plugin.docker.client.ProgressMonitor;
 import org.eclipse.che.plugin.docker.client.dto.AuthConfigs;
 import org.eclipse.che.plugin.docker.client.json.ContainerConfig;
@@ -58,6 +59,7 @@ import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Matchers.anyLong;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.anyVararg;
 import static org.mockito.Matchers.eq;
@@ -94,6 +96,9 @@ public class DockerInstanceProviderTest {
     @Mock
     private DockerNode dockerNode;
 
+    @Mock
+    private RecipeImageCache recipeImageCache;
+
     @Mock
     private WorkspaceFolderPathProvider workspaceFolderPathProvider;
 
@@ -107,6 +112,7 @@ public class DockerInstanceProviderTest {
                                                                 dockerConnectorConfiguration,
                                                                 dockerMachineFactory,
                                                                 dockerInstanceStopDetector,
+                                                                recipeImageCache,
                                                                 Collections.emptySet(),
                                                                 Collections.emptySet(),
                                                                 Collections.emptySet(),
@@ -163,6 +169,40 @@ public class DockerInstanceProviderTest {
                                            anyVararg());
     }
 
+    @Test
+    public void shouldReuseCachedImageOnInstanceCreationFromRecipeWithTheSameHash() throws Exception {
+        String generatedContainerId = "genContainerId";
+        doReturn(generatedContainerId).when(dockerInstanceProvider).generateContainerName(eq(WORKSPACE_ID), eq(DISPLAY_NAME));
+        when(recipeImageCache.getKey(any(Dockerfile.class))).thenReturn("hash");
+        when(recipeImageCache.getImage("hash")).thenReturn("eclipse-che/recipe-cache:hash");
+
+
+        createInstanceFromRecipe();
+
+
+        verify(dockerConnector, never()).buildImage(anyString(),
+                                                    any(ProgressMonitor.class),
+                                                    any(AuthConfigs.class),
+                                                    anyBoolean(),
+                                                    anyLong(),
+                                                    anyLong(),
+                                                    anyVararg());
+        verify(dockerConnector).tag(eq("eclipse-che/recipe-cache:hash"), eq("eclipse-che/" + generatedContainerId), eq(null));
+    }
+
+    @Test
+    public void shouldCacheImageBuiltFromRecipe() throws Exception {
+        String generatedContainerId = "genContainerId";
+        doReturn(generatedContainerId).when(dockerInstanceProvider).generateContainerName(eq(WORKSPACE_ID), eq(DISPLAY_NAME));
+        when(recipeImageCache.getKey(any(Dockerfile.class))).thenReturn("hash");
+
+
+        createInstanceFromRecipe();
+
+
+        verify(recipeImageCache).put(eq("hash"), eq("eclipse-che/" + generatedContainerId));
+    }
+
     @Test
     public void shouldPullDockerImageOnInstanceCreationFromSnapshot() throws Exception {
         String repo = "repo";
@@ -413,6 +453,7 @@ public class DockerInstanceProviderTest {
                                                             dockerConnectorConfiguration,
                                                             dockerMachineFactory,
                                                             dockerInstanceStopDetector,
+                                                            recipeImageCache,
                                                             devServers,
                                                             commonServers,
                                                             Collections.emptySet(),
@@ -449,6 +490,7 @@ public class DockerInstanceProviderTest {
                                                             dockerConnectorConfiguration,
                                                             dockerMachineFactory,
                                                             dockerInstanceStopDetector,
+                                                            recipeImageCache,
                                                             Collections.emptySet(),
                                                             commonServers,
                                                             Collections.emptySet(),
@@ -491,6 +533,7 @@ public class DockerInstanceProviderTest {
                                                             dockerConnectorConfiguration,
                                                             dockerMachineFactory,
                                                             dockerInstanceStopDetector,
+                                                            recipeImageCache,
                                                             devServers,
                                                             commonServers,
                                                             Collections.emptySet(),
@@ -527,6 +570,7 @@ public class DockerInstanceProviderTest {
                                                             dockerConnectorConfiguration,
                                                             dockerMachineFactory,
                                                             dockerInstanceStopDetector,
+                                                            recipeImageCache,
                                                             Collections.emptySet(),
                                                             commonServers,
                                                             Collections.emptySet(),
@@ -564,6 +608,7 @@ public class DockerInstanceProviderTest {
                                                             dockerConnectorConfiguration,
                                                             dockerMachineFactory,
                                                             dockerInstanceStopDetector,
+                                                            recipeImageCache,
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
@@ -604,6 +649,7 @@ public class DockerInstanceProviderTest {
                                                             dockerConnectorConfiguration,
                                                             dockerMachineFactory,
                                                             dockerInstanceStopDetector,
+                                                            recipeImageCache,
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
@@ -644,6 +690,7 @@ public class DockerInstanceProviderTest {
                                                             dockerConnectorConfiguration,
                                                             dockerMachineFactory,
                                                             dockerInstanceStopDetector,
+                                                            recipeImageCache,
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
@@ -684,6 +731,7 @@ public class DockerInstanceProviderTest {
                                                             dockerConnectorConfiguration,
                                                             dockerMachineFactory,
                                                             dockerInstanceStopDetector,
+                                                            recipeImageCache,
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
@@ -719,6 +767,7 @@ public class DockerInstanceProviderTest {
                                                             dockerConnectorConfiguration,
                                                             dockerMachineFactory,
                                                             dockerInstanceStopDetector,
+                                                            recipeImageCache,
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
@@ -754,6 +803,7 @@ public class DockerInstanceProviderTest {
                                                             dockerConnectorConfiguration,
                                                             dockerMachineFactory,
                                                             dockerInstanceStopDetector,
+                                                            recipeImageCache,
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
@@ -788,6 +838,7 @@ public class DockerInstanceProviderTest {
                                                             dockerConnectorConfiguration,
                                                             dockerMachineFactory,
                                                             dockerInstanceStopDetector,
+                                                            recipeImageCache,
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
@@ -822,6 +873,7 @@ public class DockerInstanceProviderTest {
                                                             dockerConnectorConfiguration,
                                                             dockerMachineFactory,
                                                             dockerInstanceStopDetector,
+                                                            recipeImageCache,
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
@@ -863,6 +915,7 @@ public class DockerInstanceProviderTest {
                                                             dockerConnectorConfiguration,
                                                             dockerMachineFactory,
                                                             dockerInstanceStopDetector,
+                                                            recipeImageCache,
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             devVolumes,
@@ -905,6 +958,7 @@ public class DockerInstanceProviderTest {
                                                             dockerConnectorConfiguration,
                                                             dockerMachineFactory,
                                                             dockerInstanceStopDetector,
+                                                            recipeImageCache,
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             devVolumes,
@@ -946,6 +1000,7 @@ public class DockerInstanceProviderTest {
                                                             dockerConnectorConfiguration,
                                                             dockerMachineFactory,
                                                             dockerInstanceStopDetector,
+                                                            recipeImageCache,
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             devVolumes,
@@ -985,6 +1040,7 @@ public class DockerInstanceProviderTest {
                                                             dockerConnectorConfiguration,
                                                             dockerMachineFactory,
                                                             dockerInstanceStopDetector,
+                                                            recipeImageCache,
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             devVolumes,
@@ -1024,6 +1080,7 @@ public class DockerInstanceProviderTest {
                                                             dockerConnectorConfiguration,
                                                             dockerMachineFactory,
                                                             dockerInstanceStopDetector,
+                                                            recipeImageCache,
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             devVolumes,
@@ -1063,6 +1120,7 @@ public class DockerInstanceProviderTest {
                                                             dockerConnectorConfiguration,
                                                             dockerMachineFactory,
                                                             dockerInstanceStopDetector,
+                                                            recipeImageCache,
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             devVolumes,
@@ -1102,6 +1160,7 @@ public class DockerInstanceProviderTest {
                                                             dockerConnectorConfiguration,
                                                             dockerMachineFactory,
                                                             dockerInstanceStopDetector,
+                                                            recipeImageCache,
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             devVolumes,
@@ -1143,6 +1202,7 @@ public class DockerInstanceProviderTest {
                                                             dockerConnectorConfiguration,
                                                             dockerMachineFactory,
                                                             dockerInstanceStopDetector,
+                                                            recipeImageCache,
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             devVolumes,
@@ -1278,6 +1338,7 @@ public class DockerInstanceProviderTest {
                                                             dockerConnectorConfiguration,
                                                             dockerMachineFactory,
                                                             dockerInstanceStopDetector,
+                                                            recipeImageCache,
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
@@ -1309,6 +1370,7 @@ public class DockerInstanceProviderTest {
                                                             dockerConnectorConfiguration,
                                                             dockerMachineFactory,
                                                             dockerInstanceStopDetector,
+                                                            recipeImageCache,
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
@@ -1345,6 +1407,7 @@ public class DockerInstanceProviderTest {
                                                             dockerConnectorConfiguration,
                                                             dockerMachineFactory,
                                                             dockerInstanceStopDetector,
+                                                            recipeImageCache,
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
@@ -1376,6 +1439,7 @@ public class DockerInstanceProviderTest {
                                                             dockerConnectorConfiguration,
                                                             dockerMachineFactory,
                                                             dockerInstanceStopDetector,
+                                                            recipeImageCache,
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
@@ -1409,6 +1473,7 @@ public class DockerInstanceProviderTest {
                                                             dockerConnectorConfiguration,
                                                             dockerMachineFactory,
                                                             dockerInstanceStopDetector,
+                                                            recipeImageCache,
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
@@ -1450,6 +1515,7 @@ public class DockerInstanceProviderTest {
                                                             dockerConnectorConfiguration,
                                                             dockerMachineFactory,
                                                             dockerInstanceStopDetector,
+                                                            recipeImageCache,
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
@@ -1491,6 +1557,7 @@ public class DockerInstanceProviderTest {
                                                             dockerConnectorConfiguration,
                                                             dockerMachineFactory,
                                                             dockerInstanceStopDetector,
+                                                            recipeImageCache,
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
@@ -1532,6 +1599,7 @@ public class DockerInstanceProviderTest {
                                                             dockerConnectorConfiguration,
                                                             dockerMachineFactory,
                                                             dockerInstanceStopDetector,
+                                                            recipeImageCache,
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
@@ -10,7 +10,7 @@
  *******************************************************************************/
 package org.eclipse.che.plugin.docker.machine;
 
-import org.eclipse.che.api.core.ConflictException;
+import org.eclipse.che.api.core.NotFoundException;
 import org.eclipse.che.api.core.model.machine.MachineStatus;
 import org.eclipse.che.api.machine.server.exception.MachineException;
 import org.eclipse.che.api.machine.server.model.impl.LimitsImpl;
@@ -19,26 +19,25 @@ import org.eclipse.che.api.machine.server.model.impl.MachineImpl;
 import org.eclipse.che.api.machine.server.model.impl.MachineSourceImpl;
 import org.eclipse.che.api.machine.server.model.impl.ServerConfImpl;
 import org.eclipse.che.plugin.docker.client.DockerConnector;
-import org.eclipse.che.plugin.docker.client.Exec;
-import org.eclipse.che.plugin.docker.client.LogMessage;
-import org.eclipse.che.plugin.docker.client.MessageProcessor;
-import org.mockito.Matchers;
+import org.eclipse.che.plugin.docker.client.DockerException;
+import org.eclipse.che.plugin.docker.client.json.ContainerPathStat;
 import org.mockito.Mock;
 import org.mockito.testng.MockitoTestNGListener;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Listeners;
 import org.testng.annotations.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.Collections;
 
 import static java.util.Arrays.asList;
-import static org.mockito.Matchers.any;
-import static org.mockito.Matchers.anyBoolean;
 import static org.mockito.Matchers.anyString;
-import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 
@@ -55,13 +54,11 @@ public class DockerInstanceReadFileContentTest {
     @Mock
     private DockerInstanceStopDetector dockerInstanceStopDetector;
 
-    @Mock
-    private LogMessage logMessage;
-    @Mock
-    private Exec       exec;
+    private DockerInstanceFileReader fileReader;
 
     @BeforeMethod
     public void setUp() throws IOException {
+        fileReader = new DockerInstanceFileReader(dockerConnector);
 
         dockerInstance = spy(new DockerInstance(dockerConnector,
                                                 null,
@@ -87,74 +84,121 @@ public class DockerInstanceReadFileContentTest {
                                                                 "userId",
                                                                 MachineStatus.CREATING,
                                                                 null),
-                                                null,
+                                                "container",
                                                 null,
                                                 null,
                                                 null,
                                                 dockerInstanceStopDetector,
-                                                mock(DockerInstanceProcessesCleaner.class)));
+                                                mock(DockerInstanceProcessesCleaner.class),
+                                                fileReader,
+                                                1000));
     }
 
 
     @Test(expectedExceptions = MachineException.class)
-    public void readFileContentWithNegativeValuesTest() throws MachineException {
+    public void readFileContentWithNegativeValuesTest() throws Exception {
         dockerInstance.readFileContent("filePath", -1, -10);
     }
 
     @Test(expectedExceptions = MachineException.class)
-    public void readFileContentWithExecTroubleTest() throws MachineException, ConflictException, IOException {
-        String filePath = "filePath";
+    public void readFileContentWithDockerTroubleTest() throws Exception {
+        when(dockerConnector.getResourceStat(anyString(), anyString())).thenThrow(new IOException("message"));
 
-        when(dockerConnector.createExec(anyString(), anyBoolean(), Matchers.<String>anyVararg())).thenThrow(new IOException("message"));
+        dockerInstance.readFileContent("filePath", 1, 10);
+    }
+
+    @Test(expectedExceptions = NotFoundException.class, expectedExceptionsMessageRegExp = "File with path filePath not found")
+    public void whenFileNotFoundTest() throws Exception {
+        when(dockerConnector.getResourceStat(anyString(), anyString())).thenThrow(new DockerException("not found", 404));
 
-        dockerInstance.readFileContent(filePath, -1, 10);
+        dockerInstance.readFileContent("filePath", 1, 10);
     }
 
-    @Test(expectedExceptions = MachineException.class, expectedExceptionsMessageRegExp = "File with path filePath not found")
-    public void whenFileNotFoundSedCommandTest() throws MachineException, ConflictException, IOException {
-        String filePath = "filePath";
-        when(logMessage.getContent()).thenReturn("sed: can't read " + filePath + ": No such file or directory");
+    @Test(expectedExceptions = MachineException.class)
+    public void whenPathPointsToDirectoryTest() throws Exception {
+        when(dockerConnector.getResourceStat(anyString(), anyString()))
+                .thenReturn(new ContainerPathStat().withName("dir").withMode(ContainerPathStat.MODE_DIR | 0755));
 
-        when(dockerConnector.createExec(anyString(), anyBoolean(), Matchers.<String>anyVararg())).thenReturn(exec);
-        doAnswer(invocationOnMock -> {
-            MessageProcessor<LogMessage> processor = (MessageProcessor<LogMessage>)invocationOnMock.getArguments()[1];
-            processor.process(logMessage);
-            return processor;
-        }).when(dockerConnector).startExec(anyString(), any());
+        dockerInstance.readFileContent("dir", 1, 10);
+    }
 
-        dockerInstance.readFileContent(filePath, 1, 10);
+    @Test
+    public void readFileContentTest() throws Exception {
+        final String content = "line 1\nline 2\r\nline 3\nline 4\n";
+        mockFile("filePath", content, "2016-01-01T00:00:00Z");
+
+        assertEquals(dockerInstance.readFileContent("filePath", 1, 10), content);
+        assertEquals(dockerInstance.readFileContent("filePath", 2, 1), "line 2\r\nline 3\n");
+        assertEquals(dockerInstance.readFileContent("filePath", 4, 10), "line 4\n");
+        assertEquals(dockerInstance.readFileContent("filePath", 5, 10), "");
     }
 
-    @Test(expectedExceptions = MachineException.class, expectedExceptionsMessageRegExp = "File with path filePath not found")
-    public void whenFileNotFoundCatCommandTest() throws MachineException, ConflictException, IOException {
-        String filePath = "filePath";
-        when(logMessage.getContent()).thenReturn("cat: " + filePath + ": No such file or directory");
+    @Test
+    public void shouldReadContentOfFileAfterExtendedHeaderOfArchive() throws Exception {
+        final String content = "content";
+        when(dockerConnector.getResourceStat("container", "filePath"))
+                .thenReturn(new ContainerPathStat().withName("filePath").withSize(content.length()).withMtime("mtime"));
+        final ByteArrayOutputStream tar = new ByteArrayOutputStream();
+        tar.write(tarHeader(600, 'x'));
+        tar.write(new byte[1024]);
+        tar.write(tar(content));
+        when(dockerConnector.getResource("container", "filePath")).thenAnswer(invocation -> new ByteArrayInputStream(tar.toByteArray()));
+
+        assertEquals(dockerInstance.readFileContent("filePath", 1, 10), content);
+    }
 
-        when(dockerConnector.createExec(anyString(), anyBoolean(), Matchers.<String>anyVararg())).thenReturn(exec);
-        doAnswer(invocationOnMock -> {
-            MessageProcessor<LogMessage> processor = (MessageProcessor<LogMessage>)invocationOnMock.getArguments()[1];
-            processor.process(logMessage);
-            return processor;
-        }).when(dockerConnector).startExec(anyString(), any());
+    @Test
+    public void shouldReuseCachedContentWhileFileIsNotModified() throws Exception {
+        mockFile("filePath", "content\n", "2016-01-01T00:00:00Z");
 
-        dockerInstance.readFileContent(filePath, 1, 10);
+        dockerInstance.readFileContent("filePath", 1, 10);
+        dockerInstance.readFileContent("filePath", 1, 10);
+
+        verify(dockerConnector, times(2)).getResourceStat("container", "filePath");
+        verify(dockerConnector).getResource("container", "filePath");
+
+        mockFile("filePath", "modified\n", "2016-01-01T00:00:01Z");
+
+        assertEquals(dockerInstance.readFileContent("filePath", 1, 10), "modified\n");
+        verify(dockerConnector, times(2)).getResource("container", "filePath");
     }
 
     @Test
-    public void readFileContentTest() throws MachineException, ConflictException, IOException {
-        String filePath = "filePath";
-        String content = "content";
-        when(logMessage.getContent()).thenReturn(content);
+    public void shouldReadByteRangeOfFile() throws Exception {
+        mockFile("filePath", "0123456789", "2016-01-01T00:00:00Z");
+
+        assertEquals(new String(dockerInstance.readFileBytes("filePath", 2, 3)), "234");
+        assertEquals(new String(dockerInstance.readFileBytes("filePath", 8, 10)), "89");
+        assertEquals(dockerInstance.readFileBytes("filePath", 20, 10).length, 0);
+    }
 
-        when(dockerConnector.createExec(anyString(), anyBoolean(), Matchers.<String>anyVararg())).thenReturn(exec);
-        doAnswer(invocationOnMock -> {
-            MessageProcessor<LogMessage> processor = (MessageProcessor<LogMessage>)invocationOnMock.getArguments()[1];
-            processor.process(logMessage);
-            return processor;
-        }).when(dockerConnector).startExec(anyString(), any());
+    @Test(expectedExceptions = MachineException.class)
+    public void readFileBytesWithNegativeOffsetTest() throws Exception {
+        dockerInstance.readFileBytes("filePath", -1, 10);
+    }
 
-        String result = dockerInstance.readFileContent(filePath, 1, 10);
+    private void mockFile(String path, String content, String mtime) throws IOException {
+        when(dockerConnector.getResourceStat("container", path))
+                .thenReturn(new ContainerPathStat().withName(path).withSize(content.length()).withMode(0644).withMtime(mtime));
+        when(dockerConnector.getResource("container", path)).thenAnswer(invocation -> new ByteArrayInputStream(tar(content)));
+    }
+
+    private static byte[] tar(String content) throws IOException {
+        final ByteArrayOutputStream tar = new ByteArrayOutputStream();
+        tar.write(tarHeader(content.length(), '0'));
+        tar.write(content.getBytes());
+        tar.write(new byte[(512 - content.length() % 512) % 512]);
+        tar.write(new byte[1024]);
+        return tar.toByteArray();
+    }
 
-        assertEquals(result.trim(), content);
+    private static byte[] tarHeader(int size, char type) {
+        final byte[] header = new byte[512];
+        final byte[] name = "file".getBytes();
+        System.arraycopy(name, 0, header, 0, name.length);
+        final byte[] octalSize = String.format("%011o", size).getBytes();
+        System.arraycopy(octalSize, 0, header, 124, octalSize.length);
+        header[156] = (byte)type;
+        return header;
     }
 }
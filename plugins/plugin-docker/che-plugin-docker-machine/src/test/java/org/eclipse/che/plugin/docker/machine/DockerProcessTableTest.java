@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.docker.machine;
+
+import org.eclipse.che.api.machine.server.exception.MachineException;
+import org.eclipse.che.plugin.docker.client.DockerConnector;
+import org.eclipse.che.plugin.docker.client.Exec;
+import org.eclipse.che.plugin.docker.client.LogMessage;
+import org.eclipse.che.plugin.docker.client.MessageProcessor;
+import org.mockito.Matchers;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+
+import static com.google.common.collect.Sets.newHashSet;
+import static java.lang.String.format;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+@Listeners(MockitoTestNGListener.class)
+public class DockerProcessTableTest {
+    @Mock
+    private DockerConnector docker;
+    @Mock
+    private Exec            exec;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        when(exec.getId()).thenReturn("execId");
+        when(docker.createExec(anyString(), anyBoolean(), Matchers.<String>anyVararg())).thenReturn(exec);
+    }
+
+    @Test
+    public void shouldCheckAllProcessesWithSingleExec() throws Exception {
+        mockAlivePids(1, 3);
+        final DockerProcessTable table = createTable(60_000, 1, 2, 3);
+
+        assertTrue(table.isAlive(1));
+        assertFalse(table.isAlive(2));
+        assertTrue(table.isAlive(3));
+        assertEquals(table.getAlivePids(), newHashSet(1, 3));
+
+        verify(docker).createExec(anyString(), anyBoolean(), Matchers.<String>anyVararg());
+    }
+
+    @Test
+    public void shouldCheckProcessesAgainWhenResultIsExpired() throws Exception {
+        mockAlivePids(1);
+        final DockerProcessTable table = createTable(0, 1);
+
+        table.isAlive(1);
+        table.isAlive(1);
+
+        verify(docker, times(2)).createExec(anyString(), anyBoolean(), Matchers.<String>anyVararg());
+    }
+
+    @Test
+    public void shouldUpdateTableOnProcessEventsWithoutCheckingProcesses() throws Exception {
+        mockAlivePids(1);
+        final DockerProcessTable table = createTable(60_000, 1, 2);
+        table.getAlivePids();
+
+        table.processStarted(2);
+        assertTrue(table.isAlive(2));
+
+        table.processStopped(1);
+        assertFalse(table.isAlive(1));
+
+        verify(docker).createExec(anyString(), anyBoolean(), Matchers.<String>anyVararg());
+    }
+
+    @Test(expectedExceptions = MachineException.class)
+    public void shouldThrowMachineExceptionWhenProcessesCanNotBeChecked() throws Exception {
+        when(docker.createExec(anyString(), anyBoolean(), Matchers.<String>anyVararg())).thenThrow(new IOException("error"));
+
+        createTable(60_000, 1).getAlivePids();
+    }
+
+    @Test
+    public void shouldCheckProcessesWithTheirOwnPidFiles() throws Exception {
+        doAnswer(invocation -> {
+            @SuppressWarnings("unchecked")
+            final MessageProcessor<LogMessage> processor = (MessageProcessor<LogMessage>)invocation.getArguments()[1];
+            final LogMessage message = mock(LogMessage.class);
+            when(message.getContent()).thenReturn("/tmp/custom/process.pid\n");
+            processor.process(message);
+            return null;
+        }).when(docker).startExec(anyString(), any());
+        final DockerProcessTable table = createTable(60_000, 1);
+        table.register(2, "/tmp/custom/process.pid");
+
+        assertEquals(table.getAlivePids(), newHashSet(2));
+    }
+
+    @Test
+    public void shouldNotCheckProcessesWhenNoProcessIsRegistered() throws Exception {
+        final DockerProcessTable table = new DockerProcessTable(docker, "container", 60_000);
+
+        assertTrue(table.getAlivePids().isEmpty());
+
+        verify(docker, never()).createExec(anyString(), anyBoolean(), Matchers.<String>anyVararg());
+    }
+
+    private DockerProcessTable createTable(long ttlMs, int... pids) {
+        final DockerProcessTable table = new DockerProcessTable(docker, "container", ttlMs);
+        for (int pid : pids) {
+            table.register(pid, format(DockerInstance.PID_FILE_TEMPLATE, pid));
+        }
+        return table;
+    }
+
+    private void mockAlivePids(int... pids) throws IOException {
+        doAnswer(invocation -> {
+            @SuppressWarnings("unchecked")
+            final MessageProcessor<LogMessage> processor = (MessageProcessor<LogMessage>)invocation.getArguments()[1];
+            for (int pid : pids) {
+                final LogMessage message = mock(LogMessage.class);
+                when(message.getContent()).thenReturn(format(DockerInstance.PID_FILE_TEMPLATE, pid) + '\n');
+                processor.process(message);
+            }
+            return null;
+        }).when(docker).startExec(anyString(), any());
+    }
+}
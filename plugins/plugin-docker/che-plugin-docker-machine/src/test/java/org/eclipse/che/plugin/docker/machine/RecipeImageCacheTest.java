@@ -0,0 +1,47 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.docker.machine;
+
+import org.eclipse.che.plugin.docker.client.DockerConnector;
+import org.eclipse.che.plugin.docker.client.DockerfileParser;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+
+@Listeners(MockitoTestNGListener.class)
+public class RecipeImageCacheTest {
+    @Mock
+    private DockerConnector docker;
+
+    private RecipeImageCache cache;
+
+    @BeforeMethod
+    public void setUp() {
+        cache = new RecipeImageCache(docker);
+    }
+
+    @Test
+    public void shouldReturnSameKeyForSameRecipes() throws Exception {
+        assertEquals(cache.getKey(DockerfileParser.parse("FROM codenvy/ubuntu_jdk8\nRUN echo hello\n")),
+                     cache.getKey(DockerfileParser.parse("FROM codenvy/ubuntu_jdk8\nRUN echo hello\n")));
+    }
+
+    @Test
+    public void shouldReturnDifferentKeysForRecipesWithDifferentParserDirectives() throws Exception {
+        assertNotEquals(cache.getKey(DockerfileParser.parse("# escape=`\nFROM codenvy/ubuntu_jdk8\nRUN echo hello `\n world\n")),
+                        cache.getKey(DockerfileParser.parse("FROM codenvy/ubuntu_jdk8\nRUN echo hello `\n world\n")));
+    }
+}
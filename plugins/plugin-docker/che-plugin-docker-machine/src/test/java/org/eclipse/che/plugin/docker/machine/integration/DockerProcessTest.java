@@ -22,6 +22,7 @@ import org.eclipse.che.plugin.docker.client.helper.DefaultNetworkFinder;
 import org.eclipse.che.plugin.docker.client.json.ContainerConfig;
 import org.eclipse.che.plugin.docker.client.json.ContainerCreated;
 import org.eclipse.che.plugin.docker.machine.DockerProcess;
+import org.eclipse.che.plugin.docker.machine.DockerProcessTable;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
@@ -89,7 +90,8 @@ public class DockerProcessTest {
                                                               container,
                                                               "outputChannel",
                                                               "/tmp/chetests",
-                                                              pidGenerator.incrementAndGet());
+                                                              pidGenerator.incrementAndGet(),
+                                                              new DockerProcessTable(docker, container, 0));
 
         dockerProcess.start(new SOUTLineConsumer());
     }
@@ -17,6 +17,7 @@ import org.eclipse.che.ide.ext.java.shared.dto.ProposalApplyResult;
 import org.eclipse.che.ide.ext.java.shared.dto.Proposals;
 import org.eclipse.che.ide.ext.java.shared.dto.ConflictImportDTO;
 import org.eclipse.che.jdt.CodeAssist;
+import org.eclipse.che.jdt.javaeditor.JavaReconciler;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.JavaModelException;
@@ -48,13 +49,25 @@ public class CodeAssistService {
     @Inject
     private CodeAssist codeAssist;
 
+    @Inject
+    private JavaReconciler reconciler;
+
     @POST
     @Path("compute/completion")
     @Produces("application/json")
     public Proposals computeCompletionProposals(@QueryParam("projectpath") String projectPath,
                                                 @QueryParam("fqn") String fqn,
-                                                @QueryParam("offset") int offset, String content) throws JavaModelException {
+                                                @QueryParam("offset") int offset,
+                                                @QueryParam("editorid") String editorId,
+                                                String content) throws JavaModelException {
         IJavaProject javaProject = model.getJavaProject(projectPath);
+        if ((content == null || content.isEmpty()) && editorId != null) {
+            // editor which keeps working copy on server may skip sending of its content
+            final String workingCopyContent = reconciler.getWorkingCopyContent(editorId);
+            if (workingCopyContent != null) {
+                content = workingCopyContent;
+            }
+        }
         return codeAssist.computeProposals(javaProject, fqn, offset, content);
 
     }
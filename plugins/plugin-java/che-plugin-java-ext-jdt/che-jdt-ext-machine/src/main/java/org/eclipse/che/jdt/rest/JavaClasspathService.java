@@ -15,6 +15,7 @@ import org.eclipse.che.ide.ext.java.server.classpath.ClassPathBuilder;
 import org.eclipse.che.ide.ext.java.shared.dto.ClassPathBuilderResult;
 
 import javax.inject.Inject;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
@@ -40,13 +41,16 @@ public class JavaClasspathService {
      *
      * @param projectPath
      *         the path to the current project
+     * @param force
+     *         resolve dependencies even if previously resolved ones are up to date
      * @return information about updating dependencies
      */
     @Path("update")
     @Produces(MediaType.APPLICATION_JSON)
     @GET
-    public ClassPathBuilderResult update(@QueryParam("projectpath") final String projectPath) throws ExecutionException,
-                                                                                                     InterruptedException {
-        return classPathBuilder.buildClassPath(workspaceId, projectPath);
+    public ClassPathBuilderResult update(@QueryParam("projectpath") final String projectPath,
+                                         @QueryParam("force") @DefaultValue("false") final boolean force) throws ExecutionException,
+                                                                                                                 InterruptedException {
+        return classPathBuilder.buildClassPath(workspaceId, projectPath, force);
     }
 }
@@ -13,17 +13,25 @@ package org.eclipse.che.jdt.rest;
 
 import com.google.inject.Inject;
 
+import org.eclipse.che.api.core.ConflictException;
+import org.eclipse.che.ide.ext.java.shared.dto.Change;
 import org.eclipse.che.ide.ext.java.shared.dto.ReconcileResult;
 import org.eclipse.che.jdt.javaeditor.JavaReconciler;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.internal.core.JavaModel;
 import org.eclipse.jdt.internal.core.JavaModelManager;
+import org.eclipse.jface.text.BadLocationException;
 
+import javax.ws.rs.Consumes;
+import javax.ws.rs.DELETE;
 import javax.ws.rs.GET;
+import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.MediaType;
+import java.util.List;
 
 /**
  * @author Evgen Vidolob
@@ -43,4 +51,67 @@ public class JavaReconcileService {
         IJavaProject javaProject = model.getJavaProject(projectPath);
         return reconciler.reconcile(javaProject, fqn);
     }
+
+    /**
+     * Opens long-lived working copy of the file for editor. Subsequent changes of editor are applied to this working copy.
+     *
+     * @param editorId
+     *         unique id of editor
+     * @param projectPath
+     *         path to the project
+     * @param fqn
+     *         fully qualified name of the java file
+     * @param content
+     *         current content of editor, if empty saved content of the file is used
+     */
+    @POST
+    @Path("open")
+    @Consumes(MediaType.TEXT_PLAIN)
+    @Produces("application/json")
+    public ReconcileResult openWorkingCopy(@QueryParam("editorid") String editorId,
+                                           @QueryParam("projectpath") String projectPath,
+                                           @QueryParam("fqn") String fqn,
+                                           String content) throws JavaModelException {
+        IJavaProject javaProject = model.getJavaProject(projectPath);
+        return reconciler.openWorkingCopy(editorId, javaProject, fqn, content == null || content.isEmpty() ? null : content);
+    }
+
+    /**
+     * Applies text changes of editor to its working copy and reconciles it.
+     *
+     * @param editorId
+     *         unique id of editor
+     * @param changes
+     *         changes of editor since previous request in order they were made
+     * @throws ConflictException
+     *         if working copy isn't opened or it is out of sync with editor, in this case working copy should be opened again
+     */
+    @POST
+    @Path("changes")
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Produces("application/json")
+    public ReconcileResult applyChanges(@QueryParam("editorid") String editorId, List<Change> changes) throws JavaModelException,
+                                                                                                           ConflictException {
+        final ReconcileResult result;
+        try {
+            result = reconciler.applyChanges(editorId, changes);
+        } catch (BadLocationException e) {
+            throw new ConflictException(e.getMessage());
+        }
+        if (result == null) {
+            throw new ConflictException("Working copy of editor " + editorId + " isn't opened");
+        }
+        return result;
+    }
+
+    /**
+     * Discards working copy which was opened for editor.
+     *
+     * @param editorId
+     *         unique id of editor
+     */
+    @DELETE
+    public void closeWorkingCopy(@QueryParam("editorid") String editorId) {
+        reconciler.closeWorkingCopy(editorId);
+    }
 }
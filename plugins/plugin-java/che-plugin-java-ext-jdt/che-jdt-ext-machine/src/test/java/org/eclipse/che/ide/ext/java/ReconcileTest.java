@@ -12,6 +12,8 @@ package org.eclipse.che.ide.ext.java;
 
 
 import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.che.dto.server.DtoFactory;
+import org.eclipse.che.ide.ext.java.shared.dto.Change;
 import org.eclipse.che.ide.ext.java.shared.dto.HighlightedPosition;
 import org.eclipse.che.ide.ext.java.shared.dto.ReconcileResult;
 import org.eclipse.che.jdt.javaeditor.JavaReconciler;
@@ -23,6 +25,7 @@ import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.dom.AST;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.internal.core.DefaultWorkingCopyOwner;
+import org.eclipse.jface.text.BadLocationException;
 import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
@@ -31,9 +34,12 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import static org.fest.assertions.Assertions.assertThat;
+import static org.junit.Assert.fail;
 
 /**
  * @author Evgen Vidolob
@@ -99,6 +105,47 @@ public class ReconcileTest extends BaseTest {
     }
 
 
+    @Test
+    public void testWorkingCopyChangesReconcile() throws Exception {
+        String contents = "package p1;\n" +
+                          "public class X {\n" +
+                          "  public void foo() {\n" +
+                          "  }\n" +
+                          "  public void foo() {\n" +
+                          "  }\n" +
+                          "}";
+        ReconcileResult reconcile = reconciler.openWorkingCopy("editor1", project, "p1.X", contents);
+        assertThat(reconcile.getProblems()).hasSize(2);
+        assertThat(reconciler.openWorkingCopy("editor2", project, "p1.X", contents).getProblems()).hasSize(2);
+
+        Change rename = DtoFactory.newDto(Change.class).withOffset(contents.lastIndexOf("foo")).withLength(3).withText("bar");
+        reconcile = reconciler.applyChanges("editor1", Collections.singletonList(rename));
+        assertThat(reconcile.getProblems()).isEmpty();
+        assertThat(reconciler.getWorkingCopyContent("editor2")).isEqualTo(contents);
+
+        reconciler.closeWorkingCopy("editor1");
+        assertThat(reconciler.applyChanges("editor1", Collections.singletonList(rename))).isNull();
+        reconciler.closeWorkingCopy("editor2");
+    }
+
+    @Test
+    public void testWorkingCopyIsNotModifiedIfAnyChangeIsOutOfContent() throws Exception {
+        String contents = "package p1;\n" +
+                          "public class X {\n" +
+                          "}";
+        reconciler.openWorkingCopy("editor", project, "p1.X", contents);
+
+        Change insert = DtoFactory.newDto(Change.class).withOffset(contents.length() - 1).withLength(0).withText("int a;\n");
+        Change outside = DtoFactory.newDto(Change.class).withOffset(contents.length() + 100).withLength(1).withText("");
+        try {
+            reconciler.applyChanges("editor", Arrays.asList(insert, outside));
+            fail("BadLocationException expected");
+        } catch (BadLocationException expected) {
+        }
+        assertThat(reconciler.getWorkingCopyContent("editor")).isEqualTo(contents);
+        reconciler.closeWorkingCopy("editor");
+    }
+
     @Test
     public void testSemanticHighlight() throws Exception {
         IType type = project.findType("java.lang.Object");
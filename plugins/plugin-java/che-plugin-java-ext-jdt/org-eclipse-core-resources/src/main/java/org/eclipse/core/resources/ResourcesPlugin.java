@@ -191,6 +191,8 @@ public class ResourcesPlugin {
      */
     private static Workspace workspace = null;
     private static String          indexPath;
+    private static String          sharedIndexPath;
+    private static int             indexThreads = 1;
     private static String          workspacePath;
     private final  ProjectManager  projectManager;
     private final  ProjectRegistry projectRegistry;
@@ -217,6 +219,29 @@ public class ResourcesPlugin {
         return indexPath;
     }
 
+    /**
+     * Returns path to folder with indexes of jars that may be shared between workspaces or {@code null} if sharing of indexes is
+     * not configured.
+     */
+    public static String getSharedIndexPath() {
+        return sharedIndexPath;
+    }
+
+    /** Returns max number of index jobs of different jars and projects which are run at the same time. */
+    public static int getIndexThreads() {
+        return indexThreads;
+    }
+
+    @Inject(optional = true)
+    protected void setIndexThreads(@Named("che.jdt.index.threads") int indexThreads) {
+        ResourcesPlugin.indexThreads = indexThreads;
+    }
+
+    @Inject(optional = true)
+    protected void setSharedIndexPath(@Named("che.jdt.shared.index.dir") String sharedIndexPath) {
+        ResourcesPlugin.sharedIndexPath = sharedIndexPath;
+    }
+
     public static String getPluginId() {
         return pluginId;
     }
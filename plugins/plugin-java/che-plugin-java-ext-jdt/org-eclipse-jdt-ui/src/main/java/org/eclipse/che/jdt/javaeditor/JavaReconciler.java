@@ -14,7 +14,9 @@ package org.eclipse.che.jdt.javaeditor;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 
+import org.eclipse.che.commons.schedule.ScheduleRate;
 import org.eclipse.che.dto.server.DtoFactory;
+import org.eclipse.che.ide.ext.java.shared.dto.Change;
 import org.eclipse.che.ide.ext.java.shared.dto.HighlightedPosition;
 import org.eclipse.che.ide.ext.java.shared.dto.Problem;
 import org.eclipse.che.ide.ext.java.shared.dto.ReconcileResult;
@@ -30,12 +32,20 @@ import org.eclipse.jdt.core.compiler.IProblem;
 import org.eclipse.jdt.core.dom.AST;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.internal.core.ClassFileWorkingCopy;
+import org.eclipse.jdt.internal.ui.javaeditor.DocumentAdapter;
+import org.eclipse.jface.text.BadLocationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
 
 /**
  * @author Evgen Vidolob
@@ -44,14 +54,24 @@ import java.util.List;
 public class JavaReconciler {
     private static final Logger LOG = LoggerFactory.getLogger(JavaReconciler.class);
 
+    /** Working copy which isn't used during this time is discarded, e.g. if editor was closed without notifying server. */
+    private static final long WORKING_COPY_IDLE_TIMEOUT_MILLIS = MINUTES.toMillis(30);
 
     private SemanticHighlightingReconciler semanticHighlighting;
 
+    /** Working copies of files which are opened in editors by id of editor, see {@link #openWorkingCopy}. */
+    private final ConcurrentMap<String, EditorWorkingCopy> workingCopies = new ConcurrentHashMap<>();
+
     @Inject
     public JavaReconciler(SemanticHighlightingReconciler semanticHighlighting) {
         this.semanticHighlighting = semanticHighlighting;
     }
 
+    /**
+     * Reconciles saved content of type.
+     *
+     * @return result of reconcile or {@code null} if type isn't found
+     */
     public ReconcileResult reconcile(IJavaProject javaProject, String fqn) throws JavaModelException {
         final ProblemRequestor requestor = new ProblemRequestor();
         WorkingCopyOwner wcOwner = new WorkingCopyOwner() {
@@ -101,8 +121,87 @@ public class JavaReconciler {
             }
         }
 
+        return createResult(requestor.problems, positions);
+    }
+
+    /**
+     * Opens working copy of type for editor. Working copy is kept until it is closed with {@link #closeWorkingCopy(String)}, so
+     * changes of editor may be sent with {@link #applyChanges(String, List)} instead of saving and reading of the whole file.
+     * Working copy which is opened for the same editor already is replaced.
+     *
+     * @param editorId
+     *         unique id of editor, each editor has own working copy even if the same type is opened in few editors
+     * @param content
+     *         current content of editor, if {@code null} saved content of file is used
+     * @return result of reconcile of opened working copy or {@code null} if type isn't found
+     */
+    public ReconcileResult openWorkingCopy(String editorId, IJavaProject javaProject, String fqn, String content)
+            throws JavaModelException {
+        IType type = javaProject.findType(fqn);
+        if (type == null) {
+            return null;
+        }
+        if (type.isBinary()) {
+            throw new IllegalArgumentException("Can't reconcile binary type: " + fqn);
+        }
+        final EditorWorkingCopy workingCopy = new EditorWorkingCopy(type.getCompilationUnit(), content);
+        final EditorWorkingCopy previous = workingCopies.put(editorId, workingCopy);
+        if (previous != null) {
+            previous.discard();
+        }
+        return workingCopy.reconcile();
+    }
+
+    /**
+     * Applies changes of editor to its working copy and reconciles it. Offset of each change is relative to content which is
+     * produced by previous changes. Either all the changes are applied or working copy isn't modified at all.
+     *
+     * @return result of reconcile or {@code null} if working copy isn't opened for editor
+     * @throws BadLocationException
+     *         if any change is outside of content of working copy, it means that working copy is out of sync with editor and should
+     *         be opened again
+     */
+    public ReconcileResult applyChanges(String editorId, List<Change> changes) throws JavaModelException, BadLocationException {
+        final EditorWorkingCopy workingCopy = workingCopies.get(editorId);
+        if (workingCopy == null) {
+            return null;
+        }
+        synchronized (workingCopy) {
+            workingCopy.applyChanges(changes);
+            return workingCopy.reconcile();
+        }
+    }
+
+    /** Returns current content of working copy which is opened for editor or {@code null} if editor has no working copy. */
+    public String getWorkingCopyContent(String editorId) throws JavaModelException {
+        final EditorWorkingCopy workingCopy = workingCopies.get(editorId);
+        return workingCopy == null ? null : workingCopy.getContent();
+    }
+
+    /** Discards working copy which is opened for editor. Does nothing if editor has no working copy. */
+    public void closeWorkingCopy(String editorId) {
+        final EditorWorkingCopy workingCopy = workingCopies.remove(editorId);
+        if (workingCopy != null) {
+            workingCopy.discard();
+        }
+    }
+
+    /** Periodically discards working copies which are not used for a long time, e.g. if editor was closed without notifying server. */
+    @ScheduleRate(initialDelay = 1, period = 1, unit = MINUTES)
+    void discardIdleWorkingCopies() {
+        final long expired = System.currentTimeMillis() - WORKING_COPY_IDLE_TIMEOUT_MILLIS;
+        for (Iterator<Map.Entry<String, EditorWorkingCopy>> i = workingCopies.entrySet().iterator(); i.hasNext(); ) {
+            final EditorWorkingCopy workingCopy = i.next().getValue();
+            if (workingCopy.lastAccess < expired) {
+                i.remove();
+                workingCopy.discard();
+            }
+        }
+    }
+
+    private ReconcileResult createResult(List<IProblem> problems, List<HighlightedPosition> positions) {
         ReconcileResult result = DtoFactory.getInstance().createDto(ReconcileResult.class);
-        result.setProblems(convertProblems(requestor.problems));
+        result.setProblems(convertProblems(problems));
         result.setHighlightedPositions(positions);
         return result;
     }
@@ -131,6 +230,74 @@ public class JavaReconciler {
         return result;
     }
 
+    /** Long-lived working copy of file which is opened in editor. */
+    private class EditorWorkingCopy {
+        private final ProblemRequestor requestor = new ProblemRequestor();
+        private final WorkingCopyOwner owner;
+        private final ICompilationUnit workingCopy;
+
+        private volatile long lastAccess;
+
+        EditorWorkingCopy(ICompilationUnit compilationUnit, String content) throws JavaModelException {
+            owner = new WorkingCopyOwner() {
+                @Override
+                public IProblemRequestor getProblemRequestor(ICompilationUnit unit) {
+                    return requestor;
+                }
+
+                @Override
+                public IBuffer createBuffer(ICompilationUnit workingCopy) {
+                    if (content == null) {
+                        return new DocumentAdapter(workingCopy, (IFile)workingCopy.getResource());
+                    }
+                    return new DocumentAdapter(workingCopy, workingCopy.getPath(), content);
+                }
+            };
+            workingCopy = compilationUnit.getWorkingCopy(owner, null);
+            lastAccess = System.currentTimeMillis();
+        }
+
+        /** Changes are applied to the copy of content which replaces content of buffer only if all the changes are valid. */
+        synchronized void applyChanges(List<Change> changes) throws JavaModelException, BadLocationException {
+            lastAccess = System.currentTimeMillis();
+            if (changes.isEmpty()) {
+                return;
+            }
+            final IBuffer buffer = workingCopy.getBuffer();
+            final StringBuilder content = new StringBuilder(buffer.getContents());
+            for (Change change : changes) {
+                if (change.getOffset() < 0 || change.getLength() < 0 || change.getOffset() + change.getLength() > content.length()) {
+                    throw new BadLocationException("Change " + change.getOffset() + ':' + change.getLength() +
+                                                   " is outside of working copy " + workingCopy.getPath());
+                }
+                final String text = change.getText() == null ? "" : change.getText();
+                content.replace(change.getOffset(), change.getOffset() + change.getLength(), text);
+            }
+            buffer.setContents(content.toString());
+        }
+
+        synchronized ReconcileResult reconcile() throws JavaModelException {
+            lastAccess = System.currentTimeMillis();
+            requestor.reset();
+            CompilationUnit unit = workingCopy.reconcile(AST.JLS8, true, owner, null);
+            return createResult(new ArrayList<>(requestor.problems), semanticHighlighting.reconcileSemanticHighlight(unit));
+        }
+
+        synchronized String getContent() throws JavaModelException {
+            lastAccess = System.currentTimeMillis();
+            return workingCopy.getSource();
+        }
+
+        synchronized void discard() {
+            try {
+                workingCopy.getBuffer().close();
+                workingCopy.discardWorkingCopy();
+            } catch (JavaModelException e) {
+                LOG.debug(e.getMessage(), e);
+            }
+        }
+    }
+
     private static class ProblemRequestor implements IProblemRequestor {
 
         private List<IProblem> problems = new ArrayList<>();
@@ -0,0 +1,289 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.search.indexing;
+
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.jdt.internal.core.search.processing.IJob;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs index jobs of different containers (jars, projects) concurrently on bounded pool of threads. Jobs of the same container are
+ * run one by one in order they were scheduled, so each index is updated by single thread at a time as {@link IndexManager}
+ * expects.
+ * <p/>
+ * Containers are processed in order they were scheduled, but container which is needed for search may be moved to the head of
+ * queue with {@link #prioritize(IPath)}.
+ */
+public class ConcurrentIndexJobScheduler {
+    private static final Logger LOG = LoggerFactory.getLogger(ConcurrentIndexJobScheduler.class);
+
+    private final ThreadPoolExecutor executor;
+    private final Runnable           onJobDone;
+
+    // key = container path, value = jobs of container, the first job is either running or queued in executor
+    private final Map<IPath, Deque<IJob>>   jobs  = new HashMap<>();
+    // key = container path, value = task which is queued in executor and isn't started yet
+    private final Map<IPath, ContainerTask> tasks = new HashMap<>();
+    private final AtomicInteger             seq   = new AtomicInteger();
+
+    private int  pending;
+    private int  running;
+    private long completed;
+    private long failed;
+    private long busyStart;
+
+    /**
+     * @param threads
+     *         max number of jobs that are run at the same time
+     * @param onJobDone
+     *         is called after each job
+     */
+    ConcurrentIndexJobScheduler(int threads, Runnable onJobDone) {
+        this.onJobDone = onJobDone;
+        final AtomicInteger threadNumber = new AtomicInteger();
+        final ThreadFactory threadFactory = r -> {
+            final Thread thread = new Thread(r, "JdtIndexer-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            thread.setPriority(Thread.NORM_PRIORITY - 1);
+            return thread;
+        };
+        executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new PriorityBlockingQueue<>(), threadFactory);
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    /** Adds job to the end of queue of container. */
+    synchronized void schedule(IPath containerPath, IJob job) {
+        if (pending == 0) {
+            busyStart = System.currentTimeMillis();
+        }
+        pending++;
+        Deque<IJob> containerJobs = jobs.get(containerPath);
+        if (containerJobs == null) {
+            jobs.put(containerPath, containerJobs = new ArrayDeque<>());
+        }
+        containerJobs.add(job);
+        if (containerJobs.size() == 1) {
+            submit(containerPath, false);
+        }
+    }
+
+    /** Moves jobs of container to the head of queue. Does nothing if jobs of container are running already or there are no jobs. */
+    synchronized void prioritize(IPath containerPath) {
+        final ContainerTask task = tasks.get(containerPath);
+        if (task != null && !task.prioritized && executor.getQueue().remove(task)) {
+            submit(containerPath, true);
+        }
+    }
+
+    /** Returns true if there is job which equals to {@code job} and is not completed yet. */
+    synchronized boolean isJobWaiting(IJob job) {
+        for (Deque<IJob> containerJobs : jobs.values()) {
+            if (containerJobs.contains(job)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Returns true if there is job of container which isn't started yet. */
+    synchronized boolean hasWaitingJobs(IPath containerPath) {
+        final Deque<IJob> containerJobs = jobs.get(containerPath);
+        // the first job is running if task of container isn't in queue
+        return containerJobs != null && containerJobs.size() > (tasks.containsKey(containerPath) ? 0 : 1);
+    }
+
+    /** Returns number of jobs which are not completed yet. */
+    synchronized int getPendingCount() {
+        return pending;
+    }
+
+    /**
+     * Cancels jobs which belong to given family, or all jobs if family is {@code null}. Jobs which are waiting are removed from
+     * queue, running jobs are notified with {@link IJob#cancel()} and are finished by themselves.
+     */
+    void discardJobs(String jobFamily) {
+        final List<IJob> cancelled = new ArrayList<>();
+        synchronized (this) {
+            for (Iterator<Map.Entry<IPath, Deque<IJob>>> i = jobs.entrySet().iterator(); i.hasNext(); ) {
+                final Map.Entry<IPath, Deque<IJob>> entry = i.next();
+                final Deque<IJob> containerJobs = entry.getValue();
+                final ContainerTask task = tasks.get(entry.getKey());
+                // the first job is running if task of container isn't in queue
+                final boolean firstIsRunning = task == null;
+                int index = 0;
+                for (Iterator<IJob> j = containerJobs.iterator(); j.hasNext(); index++) {
+                    final IJob job = j.next();
+                    if (jobFamily == null || job.belongsTo(jobFamily)) {
+                        cancelled.add(job);
+                        if (index > 0 || !firstIsRunning) {
+                            j.remove();
+                            pending--;
+                        }
+                    }
+                }
+                if (containerJobs.isEmpty()) {
+                    i.remove();
+                    executor.getQueue().remove(tasks.remove(entry.getKey()));
+                }
+            }
+        }
+        for (IJob job : cancelled) {
+            job.cancel();
+        }
+    }
+
+    /** Returns snapshot of state of scheduler. */
+    synchronized Progress getProgress() {
+        return new Progress(pending, running, completed, failed, executor.getMaximumPoolSize());
+    }
+
+    void shutdown() {
+        discardJobs(null);
+        executor.shutdownNow();
+    }
+
+    private void submit(IPath containerPath, boolean prioritized) {
+        final ContainerTask task = new ContainerTask(containerPath, prioritized, seq.getAndIncrement());
+        tasks.put(containerPath, task);
+        executor.execute(task);
+    }
+
+    private void run(IPath containerPath) {
+        final IJob job;
+        synchronized (this) {
+            tasks.remove(containerPath);
+            final Deque<IJob> containerJobs = jobs.get(containerPath);
+            if (containerJobs == null || containerJobs.isEmpty()) {
+                return;
+            }
+            job = containerJobs.peek();
+            running++;
+        }
+        boolean succeeded = false;
+        try {
+            job.execute(null);
+            succeeded = true;
+        } catch (RuntimeException e) {
+            LOG.error("Index job " + job + " failed", e);
+        } finally {
+            synchronized (this) {
+                running--;
+                pending--;
+                if (succeeded) {
+                    completed++;
+                } else {
+                    failed++;
+                }
+                final Deque<IJob> containerJobs = jobs.get(containerPath);
+                if (containerJobs != null) {
+                    containerJobs.remove(job);
+                    if (containerJobs.isEmpty()) {
+                        jobs.remove(containerPath);
+                    } else {
+                        submit(containerPath, false);
+                    }
+                }
+                if (pending == 0) {
+                    LOG.info("Indexing is completed in {} ms, {} jobs are completed, {} jobs failed",
+                             System.currentTimeMillis() - busyStart, completed, failed);
+                }
+            }
+            onJobDone.run();
+        }
+    }
+
+    private class ContainerTask implements Runnable, Comparable<ContainerTask> {
+        final IPath   containerPath;
+        final boolean prioritized;
+        final int     order;
+
+        ContainerTask(IPath containerPath, boolean prioritized, int order) {
+            this.containerPath = containerPath;
+            this.prioritized = prioritized;
+            this.order = order;
+        }
+
+        @Override
+        public void run() {
+            ConcurrentIndexJobScheduler.this.run(containerPath);
+        }
+
+        @Override
+        public int compareTo(ContainerTask other) {
+            if (prioritized != other.prioritized) {
+                return prioritized ? -1 : 1;
+            }
+            return Integer.compare(order, other.order);
+        }
+    }
+
+    /** State of concurrent indexing. */
+    public static class Progress {
+        private final int  pendingJobs;
+        private final int  runningJobs;
+        private final long completedJobs;
+        private final long failedJobs;
+        private final int  threads;
+
+        Progress(int pendingJobs, int runningJobs, long completedJobs, long failedJobs, int threads) {
+            this.pendingJobs = pendingJobs;
+            this.runningJobs = runningJobs;
+            this.completedJobs = completedJobs;
+            this.failedJobs = failedJobs;
+            this.threads = threads;
+        }
+
+        /** Returns number of jobs which are waiting or running. */
+        public int getPendingJobs() {
+            return pendingJobs;
+        }
+
+        /** Returns number of jobs which are running now. */
+        public int getRunningJobs() {
+            return runningJobs;
+        }
+
+        /** Returns number of completed jobs since start of scheduler. */
+        public long getCompletedJobs() {
+            return completedJobs;
+        }
+
+        /** Returns number of jobs which failed since start of scheduler. */
+        public long getFailedJobs() {
+            return failedJobs;
+        }
+
+        /** Returns max number of jobs which may run at the same time. */
+        public int getThreads() {
+            return threads;
+        }
+
+        @Override
+        public String toString() {
+            return "pending: " + pendingJobs + ", running: " + runningJobs + ", completed: " + completedJobs + ", failed: " + failedJobs +
+                   ", threads: " + threads;
+        }
+    }
+}
@@ -91,9 +91,37 @@ public class IndexManager extends JobManager implements IIndexConstants {
     private SimpleLookupTable participantsContainers = null;
     private boolean           participantUpdated     = false;
     private String indexLocation;
+    // indexes of jars which are shared between workspaces, null if sharing is disabled
+    private SharedJarIndexCache sharedJarIndexCache;
+    // runs index requests of different containers concurrently, null if all jobs are run by single background thread
+    private ConcurrentIndexJobScheduler concurrentJobs;
 
     public IndexManager(String indexLocation) {
+        this(indexLocation, null);
+    }
+
+    public IndexManager(String indexLocation, String sharedIndexLocation) {
+        this(indexLocation, sharedIndexLocation, 1);
+    }
+
+    /**
+     * @param indexLocation
+     *         folder of indexes of this workspace
+     * @param sharedIndexLocation
+     *         folder of indexes of jars which may be shared between workspaces, see {@link SharedJarIndexCache},
+     *         {@code null} disables sharing
+     * @param indexThreads
+     *         max number of index requests of different containers which are run at the same time, if {@code 1} all jobs are run
+     *         one by one by single background thread
+     */
+    public IndexManager(String indexLocation, String sharedIndexLocation, int indexThreads) {
         this.indexLocation = indexLocation;
+        if (sharedIndexLocation != null) {
+            sharedJarIndexCache = new SharedJarIndexCache(new File(sharedIndexLocation));
+        }
+        if (indexThreads > 1) {
+            concurrentJobs = new ConcurrentIndexJobScheduler(indexThreads, () -> this.needToSave = true);
+        }
         indexNamesMapFile = new File(getSavedIndexesDirectory(), "indexNamesMap.txt");
         savedIndexNamesFile = new File(getSavedIndexesDirectory(), "savedIndexNames.txt");
         participantIndexNamesFile = new File(getSavedIndexesDirectory(), "participantsIndexNames.txt");
@@ -399,12 +427,19 @@ public class IndexManager extends JobManager implements IIndexConstants {
         if (this.javaLikeNamesChanged) {
             this.javaLikeNamesChanged = hasJavaLikeNamesChanged();
         }
+        boolean prioritize = this.concurrentJobs != null && this.concurrentJobs.getPendingCount() > 0;
         for (int i = 0; i < length; i++) {
             if (progressMonitor != null && progressMonitor.isCanceled()) {
                 throw new OperationCanceledException();
             }
             // may trigger some index recreation work
             IndexLocation indexLocation = locations[i];
+            if (prioritize) {
+                // search needs this index, build it before indexes which aren't needed now
+                IPath containerPath = (IPath)this.indexLocations.keyForValue(indexLocation);
+                if (containerPath != null)
+                    this.concurrentJobs.prioritize(containerPath);
+            }
             Index index = getIndex(indexLocation);
             if (index == null) {
                 // only need containerPath if the index must be built
@@ -608,6 +643,17 @@ public class IndexManager extends JobManager implements IIndexConstants {
             } else {
                 indexFile = IndexLocation.createIndexLocation(indexURL);
             }
+        } else if (sharedJarIndexCache != null) {
+            // reuse index of the same jar which was built by this or other workspace
+            File jar = path.toFile();
+            if (SharedJarIndexCache.isJar(jar) && !computeIndexLocation(path).exists()) {
+                URL sharedIndexURL = sharedJarIndexCache.getIndexURL(jar);
+                if (sharedIndexURL != null) {
+                    if (JobManager.VERBOSE)
+                        Util.verbose("-> reusing shared index " + sharedIndexURL + " for " + path); //$NON-NLS-1$ //$NON-NLS-2$
+                    indexFile = IndexLocation.createIndexLocation(sharedIndexURL);
+                }
+            }
         }
 //        if (JavaCore.getPlugin() == null) return;
         IndexRequest request = null;
@@ -680,7 +726,50 @@ public class IndexManager extends JobManager implements IIndexConstants {
      * No more job awaiting.
      */
     protected void notifyIdle(long idlingTime) {
-        if (idlingTime > 1000 && this.needToSave) saveIndexes();
+        // indexes which are being built concurrently are saved by their jobs
+        if (idlingTime > 1000 && this.needToSave && (this.concurrentJobs == null || this.concurrentJobs.getPendingCount() == 0))
+            saveIndexes();
+    }
+
+    /**
+     * Index requests are run concurrently if it is enabled, other jobs are queued for background thread.
+     */
+    public void request(IJob job) {
+        if (this.concurrentJobs != null && job instanceof IndexRequest) {
+            job.ensureReadyToRun();
+            if (JobManager.VERBOSE)
+                Util.verbose("REQUEST concurrent background job - " + job); //$NON-NLS-1$
+            this.concurrentJobs.schedule(((IndexRequest)job).containerPath, job);
+        } else {
+            super.request(job);
+        }
+    }
+
+    public synchronized int awaitingJobsCount() {
+        return super.awaitingJobsCount() + (this.concurrentJobs == null ? 0 : this.concurrentJobs.getPendingCount());
+    }
+
+    public synchronized boolean isJobWaiting(IJob request) {
+        return super.isJobWaiting(request) || (this.concurrentJobs != null && this.concurrentJobs.isJobWaiting(request));
+    }
+
+    public void discardJobs(String jobFamily) {
+        super.discardJobs(jobFamily);
+        if (this.concurrentJobs != null)
+            this.concurrentJobs.discardJobs(jobFamily);
+    }
+
+    public void shutdown() {
+        if (this.concurrentJobs != null)
+            this.concurrentJobs.shutdown();
+        super.shutdown();
+    }
+
+    /**
+     * Returns state of concurrent indexing or {@code null} if index requests are run by single background thread.
+     */
+    public ConcurrentIndexJobScheduler.Progress getConcurrentIndexingProgress() {
+        return this.concurrentJobs == null ? null : this.concurrentJobs.getProgress();
     }
 
     /**
@@ -935,6 +1024,12 @@ public class IndexManager extends JobManager implements IIndexConstants {
             if (JobManager.VERBOSE)
                 Util.verbose("-> saving index " + index.getIndexLocation()); //$NON-NLS-1$
             index.save();
+            if (sharedJarIndexCache != null) {
+                File container = new File(index.containerPath);
+                if (SharedJarIndexCache.isJar(container) && index.getIndexFile() != null) {
+                    sharedJarIndexCache.put(container, index.getIndexFile());
+                }
+            }
         }
         synchronized (this) {
             IPath containerPath = new Path(index.containerPath);
@@ -945,6 +1040,7 @@ public class IndexManager extends JobManager implements IIndexConstants {
                         if (((IndexRequest)job).containerPath.equals(containerPath)) return;
                 }
             }
+            if (this.concurrentJobs != null && this.concurrentJobs.hasWaitingJobs(containerPath)) return;
             IndexLocation indexLocation = computeIndexLocation(containerPath);
             updateIndexState(indexLocation, SAVED_STATE);
         }
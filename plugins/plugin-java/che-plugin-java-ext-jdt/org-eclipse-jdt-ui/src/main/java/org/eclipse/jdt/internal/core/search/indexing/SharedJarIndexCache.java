@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.search.indexing;
+
+import org.eclipse.jdt.internal.core.index.DiskIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * Cache of indexes of jars which is keyed by content of jar, so it may be shared between workspaces, e.g. when cache folder is
+ * mounted volume. Index of jar is built once and then is reused for every jar with the same content regardless of its location.
+ * <p/>
+ * Index is stored in cache with atomic move, so partially written indexes are never visible to other users of cache. Key of index
+ * includes version of index format, indexes of other versions are ignored.
+ */
+class SharedJarIndexCache {
+    private static final Logger LOG = LoggerFactory.getLogger(SharedJarIndexCache.class);
+
+    private static final String INDEX_SUFFIX = ".index";
+
+    private final File                 cacheDir;
+    // key = path of jar, value = content hash of jar
+    private final Map<String, JarHash> hashes = new ConcurrentHashMap<>();
+
+    SharedJarIndexCache(File cacheDir) {
+        this.cacheDir = cacheDir;
+    }
+
+    /** Returns true if given file may be indexed as jar. */
+    static boolean isJar(File file) {
+        final String name = file.getName().toLowerCase();
+        return (name.endsWith(".jar") || name.endsWith(".zip")) && file.isFile();
+    }
+
+    /** Returns URL of cached index of jar with the same content as given jar or {@code null} if there is no such index. */
+    URL getIndexURL(File jar) {
+        final String hash = getHash(jar);
+        if (hash == null) {
+            return null;
+        }
+        final File index = new File(cacheDir, hash + INDEX_SUFFIX);
+        if (!index.isFile()) {
+            return null;
+        }
+        try {
+            return index.toURI().toURL();
+        } catch (MalformedURLException e) {
+            return null;
+        }
+    }
+
+    /** Adds index of jar to cache. Does nothing if cache contains index of jar with the same content already. */
+    void put(File jar, File indexFile) {
+        final String hash = getHash(jar);
+        if (hash == null || !indexFile.isFile()) {
+            return;
+        }
+        final File index = new File(cacheDir, hash + INDEX_SUFFIX);
+        if (index.exists()) {
+            return;
+        }
+        File tmp = null;
+        try {
+            Files.createDirectories(cacheDir.toPath());
+            tmp = File.createTempFile(hash, ".tmp", cacheDir);
+            Files.copy(indexFile.toPath(), tmp.toPath(), REPLACE_EXISTING);
+            Files.move(tmp.toPath(), index.toPath(), ATOMIC_MOVE);
+            LOG.debug("Index of {} is added to shared cache as {}", jar, index.getName());
+        } catch (IOException e) {
+            LOG.warn("Unable add index of {} to shared cache: {}", jar, e.getMessage());
+        } finally {
+            if (tmp != null && tmp.exists() && !tmp.delete()) {
+                LOG.warn("Unable delete temporary file {}", tmp);
+            }
+        }
+    }
+
+    private String getHash(File jar) {
+        final long length = jar.length();
+        final long lastModified = jar.lastModified();
+        final JarHash cached = hashes.get(jar.getPath());
+        if (cached != null && cached.length == length && cached.lastModified == lastModified) {
+            return cached.hash;
+        }
+        final String hash;
+        try (InputStream in = new FileInputStream(jar)) {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            digest.update(DiskIndex.SIGNATURE.getBytes(UTF_8));
+            final byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+            hash = toHex(digest.digest());
+        } catch (IOException | NoSuchAlgorithmException e) {
+            LOG.warn("Unable count hash of {}: {}", jar, e.getMessage());
+            return null;
+        }
+        hashes.put(jar.getPath(), new JarHash(length, lastModified, hash));
+        return hash;
+    }
+
+    private static String toHex(byte[] bytes) {
+        final StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+    private static class JarHash {
+        final long   length;
+        final long   lastModified;
+        final String hash;
+
+        JarHash(long length, long lastModified, String hash) {
+            this.length = length;
+            this.lastModified = lastModified;
+            this.hash = hash;
+        }
+    }
+}
@@ -73,7 +73,20 @@ public class DependenciesUpdater {
         this.notifications = new HashMap<>();
     }
 
+    /** Updates dependencies of project, previously resolved dependencies are reused if they are up to date. */
     public void updateDependencies(ProjectConfig config) {
+        updateDependencies(config, false);
+    }
+
+    /**
+     * Updates dependencies of project.
+     *
+     * @param config
+     *         configuration of project to update its dependencies
+     * @param force
+     *         resolve dependencies even if previously resolved ones are up to date
+     */
+    public void updateDependencies(ProjectConfig config, boolean force) {
         if (appContext.getCurrentProject() == null) {
             return;
         }
@@ -91,7 +104,7 @@ public class DependenciesUpdater {
 
         final LogsOutputHandler logsOutputHandler = outputHandlerProvider.get();
 
-        classpathServiceClient.updateDependencies(path, new RequestCallback<ClassPathBuilderResult>(unmarshaller) {
+        classpathServiceClient.updateDependencies(path, force, new RequestCallback<ClassPathBuilderResult>(unmarshaller) {
             @Override
             protected void onSuccess(ClassPathBuilderResult result) {
                 String updatedChannel = result.getChannel();
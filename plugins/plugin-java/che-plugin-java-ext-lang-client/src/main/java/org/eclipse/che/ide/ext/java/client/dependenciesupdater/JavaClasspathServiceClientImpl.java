@@ -50,8 +50,8 @@ public class JavaClasspathServiceClientImpl implements JavaClasspathServiceClien
 
     /** {@inheritDoc} */
     @Override
-    public void updateDependencies(String projectPath, RequestCallback<ClassPathBuilderResult> callback) {
-        final String requestUrl = baseHttpUrl + "/classpath/update?projectpath=" + projectPath;
+    public void updateDependencies(String projectPath, boolean force, RequestCallback<ClassPathBuilderResult> callback) {
+        final String requestUrl = baseHttpUrl + "/classpath/update?projectpath=" + projectPath + "&force=" + force;
 
         MessageBuilder builder = new MessageBuilder(GET, requestUrl);
         builder.header(ACCEPT, APPLICATION_JSON);
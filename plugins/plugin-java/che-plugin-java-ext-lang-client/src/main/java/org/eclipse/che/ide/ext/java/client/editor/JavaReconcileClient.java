@@ -10,17 +10,25 @@
  *******************************************************************************/
 package org.eclipse.che.ide.ext.java.client.editor;
 
+import com.google.gwt.user.client.rpc.AsyncCallback;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.google.inject.name.Named;
 
+import org.eclipse.che.ide.MimeType;
 import org.eclipse.che.ide.api.app.AppContext;
+import org.eclipse.che.ide.ext.java.shared.dto.Change;
 import org.eclipse.che.ide.ext.java.shared.dto.ReconcileResult;
 import org.eclipse.che.ide.rest.AsyncRequestCallback;
 import org.eclipse.che.ide.rest.AsyncRequestFactory;
 import org.eclipse.che.ide.rest.DtoUnmarshallerFactory;
 import org.eclipse.che.ide.util.loging.Log;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.eclipse.che.ide.rest.HTTPHeader.CONTENT_TYPE;
+
 /**
  * @author Evgen Vidolob
  */
@@ -59,6 +67,65 @@ public class JavaReconcileClient {
                            });
     }
 
+    /**
+     * Opens working copy of the file on server for editor, subsequent changes of editor are sent with {@link #applyChanges}.
+     *
+     * @param editorId
+     *         unique id of editor
+     * @param content
+     *         current content of editor
+     */
+    public void openWorkingCopy(String editorId,
+                                String projectPath,
+                                String fqn,
+                                String content,
+                                AsyncCallback<ReconcileResult> callback) {
+        String url = getWorkingCopyUrl() + "open?editorid=" + editorId + "&projectpath=" + projectPath + "&fqn=" + fqn;
+        asyncRequestFactory.createPostRequest(url, null)
+                           .header(CONTENT_TYPE, MimeType.TEXT_PLAIN)
+                           .data(content)
+                           .send(newCallback(callback));
+    }
+
+    /**
+     * Applies changes of editor to its working copy and reconciles it. Request fails if working copy is out of sync with editor, in
+     * this case working copy should be opened again.
+     *
+     * @param editorId
+     *         unique id of editor
+     * @param changes
+     *         changes of editor since previous request in order they were made
+     */
+    public void applyChanges(String editorId, List<Change> changes, AsyncCallback<ReconcileResult> callback) {
+        String url = getWorkingCopyUrl() + "changes?editorid=" + editorId;
+        List<Change> body = new ArrayList<>(changes);
+        asyncRequestFactory.createPostRequest(url, body).send(newCallback(callback));
+    }
+
+    /** Discards working copy which was opened for editor. */
+    public void closeWorkingCopy(String editorId) {
+        String url = getWorkingCopyUrl() + "?editorid=" + editorId;
+        asyncRequestFactory.createDeleteRequest(url).send();
+    }
+
+    private String getWorkingCopyUrl() {
+        return javaCAPath + "/jdt/" + workspaceId + "/reconcile/";
+    }
+
+    private AsyncRequestCallback<ReconcileResult> newCallback(final AsyncCallback<ReconcileResult> callback) {
+        return new AsyncRequestCallback<ReconcileResult>(dtoUnmarshallerFactory.newUnmarshaller(ReconcileResult.class)) {
+            @Override
+            protected void onSuccess(ReconcileResult result) {
+                callback.onSuccess(result);
+            }
+
+            @Override
+            protected void onFailure(Throwable exception) {
+                callback.onFailure(exception);
+            }
+        };
+    }
+
     public interface ReconcileCallback {
         void onReconcile(ReconcileResult result);
     }
@@ -10,6 +10,7 @@
  *******************************************************************************/
 package org.eclipse.che.ide.ext.java.client.editor;
 
+import com.google.gwt.user.client.rpc.AsyncCallback;
 import com.google.inject.assistedinject.Assisted;
 import com.google.inject.assistedinject.AssistedInject;
 import com.google.web.bindery.event.shared.EventBus;
@@ -18,32 +19,52 @@ import com.google.web.bindery.event.shared.HandlerRegistration;
 import org.eclipse.che.ide.api.editor.EditorWithErrors;
 import org.eclipse.che.ide.api.project.tree.VirtualFile;
 import org.eclipse.che.ide.api.text.Region;
+import org.eclipse.che.ide.dto.DtoFactory;
 import org.eclipse.che.ide.ext.java.client.event.DependencyUpdatedEvent;
 import org.eclipse.che.ide.ext.java.client.event.DependencyUpdatedEventHandler;
 import org.eclipse.che.ide.ext.java.client.projecttree.JavaSourceFolderUtil;
+import org.eclipse.che.ide.ext.java.shared.dto.Change;
 import org.eclipse.che.ide.ext.java.shared.dto.Problem;
 import org.eclipse.che.ide.ext.java.shared.dto.ReconcileResult;
 import org.eclipse.che.ide.jseditor.client.annotation.AnnotationModel;
 import org.eclipse.che.ide.jseditor.client.document.Document;
+import org.eclipse.che.ide.jseditor.client.events.DocumentChangeEvent;
+import org.eclipse.che.ide.jseditor.client.events.DocumentChangeHandler;
 import org.eclipse.che.ide.jseditor.client.reconciler.DirtyRegion;
 import org.eclipse.che.ide.jseditor.client.reconciler.ReconcilingStrategy;
 import org.eclipse.che.ide.jseditor.client.texteditor.EmbeddedTextEditorPresenter;
+import org.eclipse.che.ide.util.UUID;
 import org.eclipse.che.ide.util.loging.Log;
 
 import javax.validation.constraints.NotNull;
+import java.util.ArrayList;
 import java.util.List;
 
-public class JavaReconcilerStrategy implements ReconcilingStrategy {
+/**
+ * Reconciles content of java editor on server. Editor has own working copy on server which is opened with the whole content of
+ * editor, after that only changes of document are sent. If working copy is out of sync with editor, e.g. server was restarted, it
+ * is opened again.
+ */
+public class JavaReconcilerStrategy implements ReconcilingStrategy, DocumentChangeHandler {
 
 
     private final EmbeddedTextEditorPresenter<?> editor;
     private final JavaCodeAssistProcessor        codeAssistProcessor;
     private final AnnotationModel                annotationModel;
     private final HandlerRegistration            handlerRegistration;
+    private final DtoFactory                     dtoFactory;
+    private final String                         editorId;
+    private final List<Change>                   pendingChanges;
     private       SemanticHighlightRenderer      highlighter;
     private       JavaReconcileClient            client;
     private       VirtualFile                    file;
+    private       Document                       document;
+    private       HandlerRegistration            documentChangeRegistration;
     private boolean first = true;
+    /** Working copy is opened or open request is sent already, changes of document are relative to its content. */
+    private boolean workingCopyOpened;
+    private boolean requestInProgress;
+    private boolean reconcileRequested;
 
     @AssistedInject
     public JavaReconcilerStrategy(@Assisted @NotNull final EmbeddedTextEditorPresenter<?> editor,
@@ -51,8 +72,12 @@ public class JavaReconcilerStrategy implements ReconcilingStrategy {
                                   @Assisted final AnnotationModel annotationModel,
                                   final JavaReconcileClient client,
                                   final SemanticHighlightRenderer highlighter,
+                                  final DtoFactory dtoFactory,
                                   EventBus eventBus) {
         this.editor = editor;
+        this.dtoFactory = dtoFactory;
+        this.editorId = UUID.uuid();
+        this.pendingChanges = new ArrayList<>();
         this.client = client;
         this.codeAssistProcessor = codeAssistProcessor;
         this.annotationModel = annotationModel;
@@ -68,8 +93,20 @@ public class JavaReconcilerStrategy implements ReconcilingStrategy {
 
     @Override
     public void setDocument(final Document document) {
+        this.document = document;
         file = editor.getEditorInput().getFile();
         highlighter.init(editor.getHasTextMarkers(), document);
+        documentChangeRegistration = document.getDocumentHandle().getDocEventBus().addHandler(DocumentChangeEvent.TYPE, this);
+    }
+
+    @Override
+    public void onDocumentChange(DocumentChangeEvent event) {
+        if (workingCopyOpened) {
+            pendingChanges.add(dtoFactory.createDto(Change.class)
+                                         .withOffset(event.getOffset())
+                                         .withLength(event.getRemoveCharCount())
+                                         .withText(event.getText()));
+        }
     }
 
     @Override
@@ -83,18 +120,25 @@ public class JavaReconcilerStrategy implements ReconcilingStrategy {
             first = false;
         }
 
-
-        String fqn = JavaSourceFolderUtil.getFQNForFile(file);
-        client.reconcile(file.getProject().getProjectConfig().getPath(), fqn, new JavaReconcileClient.ReconcileCallback() {
-            @Override
-            public void onReconcile(ReconcileResult result) {
-                if (result == null) {
-                    return;
-                }
-                doReconcile(result.getProblems());
-                highlighter.reconcile(result.getHighlightedPositions());
-            }
-        });
+        if (requestInProgress) {
+            reconcileRequested = true;
+            return;
+        }
+        requestInProgress = true;
+        if (workingCopyOpened) {
+            final List<Change> changes = new ArrayList<>(pendingChanges);
+            pendingChanges.clear();
+            client.applyChanges(editorId, changes, new ReconcileCallback(true));
+        } else {
+            workingCopyOpened = true;
+            pendingChanges.clear();
+            String fqn = JavaSourceFolderUtil.getFQNForFile(file);
+            client.openWorkingCopy(editorId,
+                                   file.getProject().getProjectConfig().getPath(),
+                                   fqn,
+                                   document.getContents(),
+                                   new ReconcileCallback(false));
+        }
     }
 
 
@@ -155,5 +199,47 @@ public class JavaReconcilerStrategy implements ReconcilingStrategy {
         if (handlerRegistration != null) {
             handlerRegistration.removeHandler();
         }
+        if (documentChangeRegistration != null) {
+            documentChangeRegistration.removeHandler();
+        }
+        if (workingCopyOpened) {
+            workingCopyOpened = false;
+            client.closeWorkingCopy(editorId);
+        }
+    }
+
+    private class ReconcileCallback implements AsyncCallback<ReconcileResult> {
+        private final boolean changes;
+
+        ReconcileCallback(boolean changes) {
+            this.changes = changes;
+        }
+
+        @Override
+        public void onSuccess(ReconcileResult result) {
+            requestInProgress = false;
+            if (result != null) {
+                doReconcile(result.getProblems());
+                highlighter.reconcile(result.getHighlightedPositions());
+            }
+            if (reconcileRequested) {
+                reconcileRequested = false;
+                parse();
+            }
+        }
+
+        @Override
+        public void onFailure(Throwable exception) {
+            requestInProgress = false;
+            workingCopyOpened = false;
+            pendingChanges.clear();
+            // working copy is out of sync with editor, it is opened again with the whole content of editor
+            if (changes || reconcileRequested) {
+                reconcileRequested = false;
+                parse();
+            } else {
+                Log.error(JavaReconcilerStrategy.class, exception);
+            }
+        }
     }
 }
@@ -29,11 +29,15 @@ public interface ClassPathBuilder {
      *         id of current workspace
      * @param projectPath
      *         relative path to current project from the workspace
+     * @param force
+     *         if {@code true} classpath is resolved again even if implementation considers previously resolved classpath as up to
+     *         date, it is set when user explicitly asks to update dependencies
      * @return information about building project classpath
      * @throws ExecutionException
      *         if the computation threw an exception
      * @throws InterruptedException
      *         if the current thread was interrupted
      */
-    ClassPathBuilderResult buildClassPath(String workspaceId, String projectPath) throws ExecutionException, InterruptedException;
+    ClassPathBuilderResult buildClassPath(String workspaceId, String projectPath, boolean force) throws ExecutionException,
+                                                                                                    InterruptedException;
 }
@@ -47,7 +47,7 @@ public class UpdateDependencyAction extends AbstractPerspectiveAction {
     /** {@inheritDoc} */
     @Override
     public void actionPerformed(ActionEvent e) {
-        dependenciesUpdater.updateDependencies(appContext.getCurrentProject().getProjectConfig());
+        dependenciesUpdater.updateDependencies(appContext.getCurrentProject().getProjectConfig(), true);
     }
 
     /** {@inheritDoc} */
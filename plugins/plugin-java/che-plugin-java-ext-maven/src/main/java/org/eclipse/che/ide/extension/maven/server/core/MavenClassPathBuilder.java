@@ -35,13 +35,18 @@ import org.slf4j.LoggerFactory;
 import javax.annotation.PreDestroy;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.eclipse.che.dto.server.DtoFactory.newDto;
 
 /**
@@ -52,8 +57,14 @@ import static org.eclipse.che.dto.server.DtoFactory.newDto;
 public class MavenClassPathBuilder implements ClassPathBuilder {
     private static final Logger LOG = LoggerFactory.getLogger(MavenClassPathBuilder.class);
 
+    static final String CLASSPATH_FILE        = ".codenvy/classpath.maven";
+    static final String CLASSPATH_FINGERPRINT = ".codenvy/classpath.maven.fingerprint";
+    private static final String SOURCES_FINGERPRINT   = ".codenvy/sources.maven.fingerprint";
+
     private final ExecutorService executorService;
+    private final ExecutorService sourcesExecutor;
     private final ProjectManager  projectManager;
+    private final Set<String>     sourcesDownloads = ConcurrentHashMap.newKeySet();
 
     private String workspaceId;
 
@@ -66,11 +77,22 @@ public class MavenClassPathBuilder implements ClassPathBuilder {
         ThreadFactory threadFactory = new ThreadFactoryBuilder().setNameFormat(MavenClassPathBuilder.class.getSimpleName() + "-%d").build();
 
         executorService = Executors.newFixedThreadPool(5, threadFactory);
+        sourcesExecutor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setNameFormat("MavenSourcesDownloader-%d")
+                                                                                      .setDaemon(true)
+                                                                                      .setPriority(Thread.MIN_PRIORITY)
+                                                                                      .build());
     }
 
-    /** {@inheritDoc} */
+    /**
+     * {@inheritDoc}
+     * <p/>
+     * Unless {@code force} is set Maven isn't run if classpath was resolved already and neither pom.xml files of project and its
+     * parents nor settings.xml were changed since then, saved classpath is used instead. Sources of dependencies are downloaded in
+     * background after classpath is resolved.
+     */
     @Override
-    public ClassPathBuilderResult buildClassPath(String workspaceId, String projectPath) throws ExecutionException, InterruptedException {
+    public ClassPathBuilderResult buildClassPath(String workspaceId, String projectPath, boolean force) throws ExecutionException,
+                                                                                                             InterruptedException {
         this.workspaceId = workspaceId;
 
         //TODO Temporary solution for IDEX-4270
@@ -81,21 +103,31 @@ public class MavenClassPathBuilder implements ClassPathBuilder {
             LOG.error(e.getMessage(), e);
         }
 
+        final File projectDir = new File(ResourcesPlugin.getPathToWorkspace() + projectPath);
+        final String fingerprint = MavenClasspathFingerprint.count(projectDir);
+        if (canReuseClasspath(projectDir, fingerprint, force)) {
+            LOG.debug("Maven classpath of project {} is up to date", projectPath);
+            setClasspathContainer(projectPath);
+            scheduleSourcesDownload(projectPath, projectDir, fingerprint);
+            ClassPathBuilderResult result = newDto(ClassPathBuilderResult.class);
+            result.setChannel(getChannel(projectPath));
+            result.setStatus(ClassPathBuilderResult.Status.SUCCESS);
+            return result;
+        }
+
         Callable<ClassPathBuilderResult> callable = () -> {
+            final File fingerprintFile = new File(projectDir, CLASSPATH_FINGERPRINT);
+            // remove fingerprint before resolution, so classpath file isn't reused if resolution fails in the middle
+            MavenClasspathFingerprint.delete(fingerprintFile);
 
             ClassPathBuilderResult result = dependencyUpdateProcessor(projectPath);
 
-            IJavaProject javaProject = JavaModelManager.getJavaModelManager().getJavaModel().getJavaProject(projectPath);
-
             if (ClassPathBuilderResult.Status.SUCCESS.equals(result.getStatus())) {
-                IClasspathContainer container = MavenClasspathUtil.readMavenClasspath(javaProject);
-                try {
-                    JavaCore.setClasspathContainer(container.getPath(), new IJavaProject[]{javaProject},
-                                                   new IClasspathContainer[]{container},
-                                                   null);
-                } catch (JavaModelException e) {
-                    LOG.error(e.getMessage(), e);
+                if (fingerprint != null) {
+                    MavenClasspathFingerprint.write(fingerprintFile, fingerprint);
                 }
+                setClasspathContainer(projectPath);
+                scheduleSourcesDownload(projectPath, projectDir, fingerprint);
             }
 
             return result;
@@ -105,24 +137,100 @@ public class MavenClassPathBuilder implements ClassPathBuilder {
         return executorService.submit(callable).get();
     }
 
+    /**
+     * Checks whether classpath which is saved in project may be used instead of running Maven. It is never reused when {@code force}
+     * is set.
+     */
+    static boolean canReuseClasspath(File projectDir, String fingerprint, boolean force) {
+        return !force && isClasspathUpToDate(projectDir, fingerprint);
+    }
+
+    /**
+     * Checks whether classpath which is saved in project was resolved for the given {@code fingerprint} and all its jars still exist
+     * in local repository.
+     */
+    private static boolean isClasspathUpToDate(File projectDir, String fingerprint) {
+        if (fingerprint == null || !fingerprint.equals(MavenClasspathFingerprint.read(new File(projectDir, CLASSPATH_FINGERPRINT)))) {
+            return false;
+        }
+        final File classpathFile = new File(projectDir, CLASSPATH_FILE);
+        if (!classpathFile.isFile()) {
+            return false;
+        }
+        // local repository might be cleaned since classpath was resolved
+        try {
+            final String content = new String(Files.readAllBytes(classpathFile.toPath()), UTF_8).trim();
+            if (!content.isEmpty()) {
+                for (String jar : content.split(":")) {
+                    if (!new File(jar).exists()) {
+                        return false;
+                    }
+                }
+            }
+        } catch (IOException e) {
+            return false;
+        }
+        return true;
+    }
+
+    private void setClasspathContainer(String projectPath) {
+        IJavaProject javaProject = JavaModelManager.getJavaModelManager().getJavaModel().getJavaProject(projectPath);
+        IClasspathContainer container = MavenClasspathUtil.readMavenClasspath(javaProject);
+        try {
+            JavaCore.setClasspathContainer(container.getPath(), new IJavaProject[]{javaProject},
+                                           new IClasspathContainer[]{container},
+                                           null);
+        } catch (JavaModelException e) {
+            LOG.error(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Downloads sources of dependencies in background with low priority. Does nothing if sources were downloaded for the same
+     * fingerprint of project already or downloading for project is scheduled already.
+     */
+    private void scheduleSourcesDownload(String projectPath, File projectDir, String fingerprint) {
+        final File sourcesFingerprintFile = new File(projectDir, SOURCES_FINGERPRINT);
+        if (fingerprint != null && fingerprint.equals(MavenClasspathFingerprint.read(sourcesFingerprintFile))) {
+            return;
+        }
+        if (!sourcesDownloads.add(projectPath)) {
+            return;
+        }
+        try {
+            sourcesExecutor.execute(() -> {
+                try {
+                    ProcessBuilder sourcesProcessBuilder = new ProcessBuilder().command(MavenUtils.getMavenExecCommand(),
+                                                                                        "dependency:sources",
+                                                                                        "-Dclassifier=sources")
+                                                                               .directory(projectDir)
+                                                                               .redirectErrorStream(true);
+                    ClassPathBuilderResult result = executeBuilderProcess(projectPath, sourcesProcessBuilder);
+                    if (ClassPathBuilderResult.Status.SUCCESS.equals(result.getStatus()) && fingerprint != null) {
+                        MavenClasspathFingerprint.write(sourcesFingerprintFile, fingerprint);
+                    }
+                } finally {
+                    sourcesDownloads.remove(projectPath);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            sourcesDownloads.remove(projectPath);
+        }
+    }
+
     private ClassPathBuilderResult dependencyUpdateProcessor(String projectPath) {
         String command = MavenUtils.getMavenExecCommand();
         File projectDir = new File(ResourcesPlugin.getPathToWorkspace() + projectPath);
 
         ProcessBuilder classPathProcessBuilder = new ProcessBuilder().command(command, "dependency:build-classpath",
-                                                                              "-Dmdep.outputFile=.codenvy/classpath.maven")
+                                                                              "-Dmdep.outputFile=" + CLASSPATH_FILE)
                                                                      .directory(projectDir)
                                                                      .redirectErrorStream(true);
-        ClassPathBuilderResult result = executeBuilderProcess(projectPath, classPathProcessBuilder);
-
-        if (ClassPathBuilderResult.Status.SUCCESS.equals(result.getStatus())) {
-            ProcessBuilder sourcesProcessBuilder = new ProcessBuilder().command(command, "dependency:sources", "-Dclassifier=sources")
-                                                                       .directory(projectDir)
-                                                                       .redirectErrorStream(true);
-            result = executeBuilderProcess(projectPath, sourcesProcessBuilder);
-        }
+        return executeBuilderProcess(projectPath, classPathProcessBuilder);
+    }
 
-        return result;
+    private String getChannel(String projectPath) {
+        return "dependencyUpdate:output:" + workspaceId + ':' + projectPath;
     }
 
     private ClassPathBuilderResult executeBuilderProcess(final String projectPath, ProcessBuilder processBuilder) {
@@ -141,7 +249,7 @@ public class MavenClassPathBuilder implements ClassPathBuilder {
                                                                                 + "due to timeout. Project: "
                                                                                 + projectPath)));
 
-            String channel = "dependencyUpdate:output:" + workspaceId + ':' + projectPath;
+            String channel = getChannel(projectPath);
 
             classPathBuilderResult.setChannel(channel);
 
@@ -180,5 +288,6 @@ public class MavenClassPathBuilder implements ClassPathBuilder {
     @PreDestroy
     public void destroy() {
         executorService.shutdown();
+        sourcesExecutor.shutdownNow();
     }
 }
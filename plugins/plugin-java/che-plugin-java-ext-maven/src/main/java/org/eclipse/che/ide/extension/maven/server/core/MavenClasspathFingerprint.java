@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.ide.extension.maven.server.core;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+import org.eclipse.che.ide.maven.tools.MavenUtils;
+import org.eclipse.che.ide.maven.tools.Model;
+import org.eclipse.che.ide.maven.tools.Parent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.HashSet;
+import java.util.Set;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Fingerprint of inputs of Maven classpath resolution: pom.xml of project, pom.xml files of parents which are resolved with
+ * {@code relativePath} and user and global settings.xml. Resolved classpath may be reused while fingerprint is the same.
+ * <p/>
+ * Fingerprint is stored in {@code .codenvy} folder of project next to file which it describes.
+ */
+class MavenClasspathFingerprint {
+    private static final Logger LOG = LoggerFactory.getLogger(MavenClasspathFingerprint.class);
+
+    private static final int MAX_PARENTS = 32;
+
+    private MavenClasspathFingerprint() {
+    }
+
+    /** Counts fingerprint of project in {@code projectDir} or returns {@code null} if project doesn't have pom.xml. */
+    static String count(File projectDir) {
+        File pom = new File(projectDir, "pom.xml");
+        if (!pom.isFile()) {
+            return null;
+        }
+        final Hasher hasher = Hashing.sha1().newHasher();
+        final Set<File> visited = new HashSet<>();
+        try {
+            for (int i = 0; pom != null && i < MAX_PARENTS && visited.add(pom.getCanonicalFile()); i++) {
+                putFile(hasher, pom);
+                pom = getParentPom(pom);
+            }
+            putFile(hasher, new File(System.getProperty("user.home"), ".m2" + File.separatorChar + "settings.xml"));
+            final File mavenHome = MavenUtils.getMavenHome();
+            if (mavenHome != null) {
+                putFile(hasher, new File(mavenHome, "conf" + File.separatorChar + "settings.xml"));
+            }
+        } catch (IOException e) {
+            LOG.warn("Unable count fingerprint of maven project {}: {}", projectDir, e.getMessage());
+            return null;
+        }
+        return hasher.hash().toString();
+    }
+
+    /** Returns fingerprint which is stored in {@code file} or {@code null} if there is no such file. */
+    static String read(File file) {
+        if (!file.isFile()) {
+            return null;
+        }
+        try {
+            return new String(Files.readAllBytes(file.toPath()), UTF_8).trim();
+        } catch (IOException e) {
+            LOG.warn("Unable read {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    /** Stores fingerprint in {@code file}. */
+    static void write(File file, String fingerprint) {
+        try {
+            Files.createDirectories(file.getParentFile().toPath());
+            Files.write(file.toPath(), fingerprint.getBytes(UTF_8));
+        } catch (IOException e) {
+            LOG.warn("Unable write {}: {}", file, e.getMessage());
+        }
+    }
+
+    /** Removes stored fingerprint, so resolution is run again next time. */
+    static void delete(File file) {
+        if (file.exists() && !file.delete()) {
+            LOG.warn("Unable delete {}", file);
+        }
+    }
+
+    private static void putFile(Hasher hasher, File file) throws IOException {
+        hasher.putString(file.getAbsolutePath(), UTF_8);
+        if (file.isFile()) {
+            hasher.putBoolean(true).putBytes(Files.readAllBytes(file.toPath()));
+        } else {
+            hasher.putBoolean(false);
+        }
+    }
+
+    private static File getParentPom(File pom) throws IOException {
+        final Parent parent = Model.readFrom(pom).getParent();
+        if (parent == null || parent.getRelativePath().isEmpty()) {
+            return null;
+        }
+        File parentPom = new File(pom.getParentFile(), parent.getRelativePath());
+        if (parentPom.isDirectory()) {
+            parentPom = new File(parentPom, "pom.xml");
+        }
+        return parentPom.isFile() ? parentPom : null;
+    }
+}
@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.ide.extension.maven.server.projecttype;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import org.eclipse.che.api.core.ForbiddenException;
+import org.eclipse.che.api.core.ServerException;
+import org.eclipse.che.api.vfs.VirtualFile;
+import org.eclipse.che.api.vfs.impl.file.FileWatcherEventType;
+import org.eclipse.che.api.vfs.impl.file.FileWatcherNotificationHandler;
+import org.eclipse.che.api.vfs.impl.file.FileWatcherNotificationListener;
+import org.eclipse.che.ide.maven.tools.Model;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+
+/**
+ * Cache of parsed pom.xml files. Parsing of pom.xml builds DOM tree, so it is much more expensive than reading of attributes of
+ * parsed model, which is done many times while project types of folders are resolved.
+ * <p/>
+ * Cached model is used while size and modification date of pom.xml are the same as they were when model was parsed. Cache is also
+ * invalidated by file watcher events. Cached models are shared between callers, so they must not be modified.
+ */
+@Singleton
+public class MavenModelCache {
+    private static final Logger LOG = LoggerFactory.getLogger(MavenModelCache.class);
+
+    /** Max number of cached models. */
+    private static final int CACHE_MAX_SIZE = 1000;
+
+    private final Cache<String, CachedModel>      models;
+    private final FileWatcherNotificationHandler  fileWatcherNotificationHandler;
+    private final FileWatcherNotificationListener pomListener;
+    private final AtomicLong                      hits   = new AtomicLong();
+    private final AtomicLong                      misses = new AtomicLong();
+
+    @Inject
+    public MavenModelCache(FileWatcherNotificationHandler fileWatcherNotificationHandler) {
+        this.models = CacheBuilder.newBuilder()
+                                  .maximumSize(CACHE_MAX_SIZE)
+                                  .expireAfterAccess(30, MINUTES)
+                                  .build();
+        this.fileWatcherNotificationHandler = fileWatcherNotificationHandler;
+        if (fileWatcherNotificationHandler != null) {
+            pomListener = new FileWatcherNotificationListener(virtualFile -> "pom.xml".equals(virtualFile.getName())) {
+                @Override
+                public void onFileWatcherEvent(VirtualFile virtualFile, FileWatcherEventType eventType) {
+                    invalidate(virtualFile);
+                }
+            };
+            fileWatcherNotificationHandler.addNotificationListener(pomListener);
+        } else {
+            pomListener = null;
+        }
+    }
+
+    /** Creates cache which relies on size and modification date of pom.xml only. */
+    public MavenModelCache() {
+        this(null);
+    }
+
+    /** Returns parsed model of {@code pom}, model is parsed only if there is no up to date model in cache. */
+    public Model getModel(VirtualFile pom) throws ServerException, ForbiddenException, IOException {
+        final String key = pom.getPath().toString();
+        final long length = pom.getLength();
+        final long lastModified = pom.getLastModificationDate();
+        final CachedModel cached = models.getIfPresent(key);
+        if (cached != null && cached.length == length && cached.lastModified == lastModified) {
+            hits.incrementAndGet();
+            return cached.model;
+        }
+        misses.incrementAndGet();
+        final Model model = Model.readFrom(pom);
+        models.put(key, new CachedModel(length, lastModified, model));
+        return model;
+    }
+
+    /** Drops cached model of {@code pom}. */
+    public void invalidate(VirtualFile pom) {
+        models.invalidate(pom.getPath().toString());
+    }
+
+    public void invalidateAll() {
+        models.invalidateAll();
+    }
+
+    /** Returns number of requests which were served with cached model. */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /** Returns number of requests which caused parsing of pom.xml. */
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /** Returns number of cached models. */
+    public long getSize() {
+        return models.size();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (pomListener != null) {
+            fileWatcherNotificationHandler.removeNotificationListener(pomListener);
+        }
+        LOG.debug("Maven model cache: {} hits, {} misses", hits.get(), misses.get());
+        models.invalidateAll();
+    }
+
+    private static class CachedModel {
+        final long  length;
+        final long  lastModified;
+        final Model model;
+
+        CachedModel(long length, long lastModified, Model model) {
+            this.length = length;
+            this.lastModified = lastModified;
+            this.model = model;
+        }
+    }
+}
@@ -22,6 +22,7 @@ import org.eclipse.che.ide.maven.tools.Build;
 import org.eclipse.che.ide.maven.tools.Model;
 import org.eclipse.che.ide.maven.tools.Resource;
 
+import javax.inject.Inject;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
@@ -48,12 +49,23 @@ import static org.eclipse.che.ide.extension.maven.shared.MavenAttributes.VERSION
  */
 public class MavenValueProviderFactory implements ValueProviderFactory {
 
+    private final MavenModelCache modelCache;
+
+    @Inject
+    public MavenValueProviderFactory(MavenModelCache modelCache) {
+        this.modelCache = modelCache;
+    }
+
+    public MavenValueProviderFactory() {
+        this(new MavenModelCache());
+    }
+
     protected Model readModel(FolderEntry projectFolder) throws ValueStorageException, ServerException, ForbiddenException, IOException {
         FileEntry pomFile = (FileEntry)projectFolder.getChild("pom.xml");
         if (pomFile == null) {
             throw new ValueStorageException("pom.xml does not exist.");
         }
-        return Model.readFrom(pomFile.getInputStream());
+        return modelCache.getModel(pomFile.getVirtualFile());
     }
 
     protected void throwReadException(Exception e) throws ValueStorageException {
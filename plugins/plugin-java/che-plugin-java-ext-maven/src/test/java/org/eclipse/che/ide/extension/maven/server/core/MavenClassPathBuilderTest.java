@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.ide.extension.maven.server.core;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.file.Files;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.eclipse.che.ide.extension.maven.server.core.MavenClassPathBuilder.CLASSPATH_FILE;
+import static org.eclipse.che.ide.extension.maven.server.core.MavenClassPathBuilder.CLASSPATH_FINGERPRINT;
+import static org.eclipse.che.ide.extension.maven.server.core.MavenClassPathBuilder.canReuseClasspath;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class MavenClassPathBuilderTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File   projectDir;
+    private File   jar;
+    private String fingerprint;
+
+    @Before
+    public void setUp() throws Exception {
+        projectDir = folder.newFolder("project");
+        MavenClasspathFingerprintTest.writePom(projectDir, "", "project");
+        jar = folder.newFile("dependency.jar");
+        fingerprint = MavenClasspathFingerprint.count(projectDir);
+    }
+
+    @Test
+    public void reusesClasspathWhichIsResolvedForTheSameFingerprint() throws Exception {
+        saveResolvedClasspath(fingerprint);
+
+        assertTrue(canReuseClasspath(projectDir, MavenClasspathFingerprint.count(projectDir), false));
+    }
+
+    @Test
+    public void doesNotReuseClasspathWhenPomIsModified() throws Exception {
+        saveResolvedClasspath(fingerprint);
+
+        MavenClasspathFingerprintTest.writePom(projectDir, "", "modified");
+        String newFingerprint = MavenClasspathFingerprint.count(projectDir);
+
+        assertNotEquals(fingerprint, newFingerprint);
+        assertFalse(canReuseClasspath(projectDir, newFingerprint, false));
+    }
+
+    @Test
+    public void doesNotReuseClasspathWhenDependencyIsRemovedFromLocalRepository() throws Exception {
+        saveResolvedClasspath(fingerprint);
+
+        assertTrue(jar.delete());
+
+        assertFalse(canReuseClasspath(projectDir, fingerprint, false));
+    }
+
+    @Test
+    public void doesNotReuseClasspathWhichIsNotResolvedYet() throws Exception {
+        assertFalse(canReuseClasspath(projectDir, fingerprint, false));
+    }
+
+    @Test
+    public void doesNotReuseClasspathOfProjectWithoutPom() throws Exception {
+        assertFalse(canReuseClasspath(folder.newFolder("empty"), null, false));
+    }
+
+    @Test
+    public void doesNotReuseUpToDateClasspathWhenUpdateIsForced() throws Exception {
+        saveResolvedClasspath(fingerprint);
+
+        assertFalse(canReuseClasspath(projectDir, fingerprint, true));
+    }
+
+    private void saveResolvedClasspath(String fingerprint) throws Exception {
+        File classpathFile = new File(projectDir, CLASSPATH_FILE);
+        Files.createDirectories(classpathFile.getParentFile().toPath());
+        Files.write(classpathFile.toPath(), jar.getAbsolutePath().getBytes(UTF_8));
+        MavenClasspathFingerprint.write(new File(projectDir, CLASSPATH_FINGERPRINT), fingerprint);
+    }
+}
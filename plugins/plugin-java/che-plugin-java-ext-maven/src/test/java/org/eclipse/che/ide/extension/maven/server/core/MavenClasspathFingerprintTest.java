@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.ide.extension.maven.server.core;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.file.Files;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class MavenClasspathFingerprintTest {
+    private static final String POM_CONTENT = "<project>\n" +
+                                              "    <modelVersion>4.0.0</modelVersion>\n" +
+                                              "%s" +
+                                              "    <groupId>org.eclipse.che</groupId>\n" +
+                                              "    <artifactId>%s</artifactId>\n" +
+                                              "    <version>1.0</version>\n" +
+                                              "</project>";
+
+    private static final String PARENT = "    <parent>\n" +
+                                         "        <groupId>org.eclipse.che</groupId>\n" +
+                                         "        <artifactId>parent</artifactId>\n" +
+                                         "        <version>1.0</version>\n" +
+                                         "        <relativePath>../pom.xml</relativePath>\n" +
+                                         "    </parent>\n";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File parentDir;
+    private File projectDir;
+
+    @Before
+    public void setUp() throws Exception {
+        parentDir = folder.newFolder("parent");
+        projectDir = new File(parentDir, "project");
+        assertTrue(projectDir.mkdir());
+        writePom(parentDir, "", "parent");
+        writePom(projectDir, PARENT, "project");
+    }
+
+    @Test
+    public void fingerprintIsNullIfProjectHasNoPom() throws Exception {
+        assertNull(MavenClasspathFingerprint.count(folder.newFolder("empty")));
+    }
+
+    @Test
+    public void fingerprintIsTheSameWhilePomsAreNotModified() throws Exception {
+        String fingerprint = MavenClasspathFingerprint.count(projectDir);
+
+        assertNotNull(fingerprint);
+        assertEquals(fingerprint, MavenClasspathFingerprint.count(projectDir));
+    }
+
+    @Test
+    public void fingerprintIsChangedWhenPomIsModified() throws Exception {
+        String fingerprint = MavenClasspathFingerprint.count(projectDir);
+
+        writePom(projectDir, PARENT, "modified");
+
+        assertNotEquals(fingerprint, MavenClasspathFingerprint.count(projectDir));
+    }
+
+    @Test
+    public void fingerprintIsChangedWhenParentPomIsModified() throws Exception {
+        String fingerprint = MavenClasspathFingerprint.count(projectDir);
+
+        writePom(parentDir, "", "modified");
+
+        assertNotEquals(fingerprint, MavenClasspathFingerprint.count(projectDir));
+    }
+
+    @Test
+    public void writtenFingerprintCanBeReadAndDeleted() throws Exception {
+        File file = new File(projectDir, MavenClassPathBuilder.CLASSPATH_FINGERPRINT);
+
+        MavenClasspathFingerprint.write(file, "fingerprint");
+        assertEquals("fingerprint", MavenClasspathFingerprint.read(file));
+
+        MavenClasspathFingerprint.delete(file);
+        assertFalse(file.exists());
+        assertNull(MavenClasspathFingerprint.read(file));
+    }
+
+    static void writePom(File dir, String parent, String artifactId) throws Exception {
+        Files.write(new File(dir, "pom.xml").toPath(), String.format(POM_CONTENT, parent, artifactId).getBytes(UTF_8));
+    }
+}
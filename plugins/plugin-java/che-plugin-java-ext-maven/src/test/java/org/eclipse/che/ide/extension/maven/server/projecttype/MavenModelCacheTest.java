@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.ide.extension.maven.server.projecttype;
+
+import org.eclipse.che.api.vfs.Path;
+import org.eclipse.che.api.vfs.VirtualFile;
+import org.eclipse.che.ide.maven.tools.Model;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class MavenModelCacheTest {
+    private static final String POM_CONTENT = "<project>\n" +
+                                              "    <modelVersion>4.0.0</modelVersion>\n" +
+                                              "    <groupId>org.eclipse.che</groupId>\n" +
+                                              "    <artifactId>%s</artifactId>\n" +
+                                              "    <version>1.0</version>\n" +
+                                              "</project>";
+
+    private MavenModelCache cache;
+    private VirtualFile     pom;
+    private String          content;
+
+    @Before
+    public void setUp() throws Exception {
+        cache = new MavenModelCache();
+        content = String.format(POM_CONTENT, "first");
+        pom = mock(VirtualFile.class);
+        when(pom.getPath()).thenReturn(Path.of("/project/pom.xml"));
+        when(pom.getLength()).thenAnswer(invocation -> (long)content.length());
+        when(pom.getLastModificationDate()).thenReturn(1000L);
+        when(pom.getContent()).thenAnswer(invocation -> new ByteArrayInputStream(content.getBytes()));
+    }
+
+    @Test
+    public void parsesPomOnlyOnceWhileItIsNotModified() throws Exception {
+        Model first = cache.getModel(pom);
+        Model second = cache.getModel(pom);
+
+        assertSame(first, second);
+        assertEquals("first", second.getArtifactId());
+        verify(pom, times(1)).getContent();
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void parsesPomAgainWhenItIsModified() throws Exception {
+        Model first = cache.getModel(pom);
+        content = String.format(POM_CONTENT, "modified");
+        when(pom.getLastModificationDate()).thenReturn(2000L);
+
+        Model second = cache.getModel(pom);
+
+        assertNotSame(first, second);
+        assertEquals("modified", second.getArtifactId());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    public void parsesPomAgainWhenItIsInvalidated() throws Exception {
+        Model first = cache.getModel(pom);
+        cache.invalidate(pom);
+
+        Model second = cache.getModel(pom);
+
+        assertNotSame(first, second);
+        verify(pom, times(2)).getContent();
+        assertEquals(0, cache.getHitCount());
+    }
+}
@@ -0,0 +1,176 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.project.server;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+import org.eclipse.che.api.core.ServerException;
+import org.eclipse.che.api.vfs.VirtualFile;
+import org.eclipse.che.api.vfs.VirtualFileFilter;
+import org.eclipse.che.api.vfs.VirtualFileVisitor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Comparator;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * Disk cache of exported archives.
+ * <p/>
+ * Archive is identified by hash of exported tree, i.e. paths, sizes and modification dates of exported items, archive format and
+ * compression level. Archive is built again only when something in tree is changed. Least recently used archives are removed when
+ * size of cache exceeds limit.
+ */
+public class ExportArchiveCache {
+    private static final Logger LOG = LoggerFactory.getLogger(ExportArchiveCache.class);
+
+    private static final String ARCHIVE_SUFFIX = ".arc";
+
+    private final File cacheDir;
+    private final long maxSize;
+
+    /**
+     * @param cacheDir
+     *         folder for cached archives, it is created if needed
+     * @param maxSize
+     *         max size of all archives in cache in bytes
+     */
+    public ExportArchiveCache(File cacheDir, long maxSize) {
+        this.cacheDir = cacheDir;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Counts key of archive of {@code folder}. Only metadata of files is read, so it is much cheaper than building of archive.
+     *
+     * @param folder
+     *         exported folder
+     * @param filter
+     *         filter of exported items
+     * @param format
+     *         archive format, e.g. zip
+     * @param compressionLevel
+     *         compression level
+     */
+    public String getKey(VirtualFile folder, VirtualFileFilter filter, String format, int compressionLevel) throws ServerException {
+        final Hasher hasher = Hashing.sha1().newHasher();
+        hasher.putString(folder.getPath().toString(), UTF_8)
+              .putString(format, UTF_8)
+              .putInt(compressionLevel);
+        folder.accept(new VirtualFileVisitor() {
+            @Override
+            public void visit(VirtualFile virtualFile) throws ServerException {
+                if (filter.accept(virtualFile)) {
+                    hasher.putString(virtualFile.getPath().toString(), UTF_8).putBoolean(virtualFile.isFolder());
+                    if (virtualFile.isFolder()) {
+                        for (VirtualFile child : virtualFile.getChildren()) {
+                            child.accept(this);
+                        }
+                    } else {
+                        hasher.putLong(virtualFile.getLength()).putLong(virtualFile.getLastModificationDate());
+                    }
+                }
+            }
+        });
+        return hasher.hash().toString();
+    }
+
+    /** Returns cached archive or {@code null} if there is no archive with given key. */
+    public File get(String key) {
+        final File archive = new File(cacheDir, key + ARCHIVE_SUFFIX);
+        if (!archive.isFile()) {
+            return null;
+        }
+        // modification date is used as access time for removing of least recently used archives
+        archive.setLastModified(System.currentTimeMillis());
+        return archive;
+    }
+
+    /**
+     * Creates output for new archive. Archive becomes available with {@link #get(String)} after {@link Entry#commit()}, archive
+     * which isn't committed is removed when output is closed.
+     */
+    public Entry create(String key) throws IOException {
+        Files.createDirectories(cacheDir.toPath());
+        return new Entry(key, File.createTempFile(key, ".tmp", cacheDir));
+    }
+
+    private synchronized void evict() {
+        final File[] archives = cacheDir.listFiles((dir, name) -> name.endsWith(ARCHIVE_SUFFIX));
+        if (archives == null) {
+            return;
+        }
+        long size = 0;
+        for (File archive : archives) {
+            size += archive.length();
+        }
+        if (size <= maxSize) {
+            return;
+        }
+        Arrays.sort(archives, Comparator.comparingLong(File::lastModified));
+        for (int i = 0; i < archives.length && size > maxSize; i++) {
+            final long length = archives[i].length();
+            if (archives[i].delete()) {
+                size -= length;
+            } else {
+                LOG.warn("Unable delete cached archive {}", archives[i]);
+            }
+        }
+    }
+
+    /** Output for new archive in cache. */
+    public class Entry extends FileOutputStream {
+        private final String key;
+        private final File   tmp;
+
+        private boolean committed;
+        private boolean closed;
+
+        private Entry(String key, File tmp) throws IOException {
+            super(tmp);
+            this.key = key;
+            this.tmp = tmp;
+        }
+
+        /** Marks archive as complete, archive is added in cache when output is closed. */
+        public void commit() {
+            committed = true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                super.close();
+                if (committed) {
+                    Files.move(tmp.toPath(), new File(cacheDir, key + ARCHIVE_SUFFIX).toPath(), REPLACE_EXISTING, ATOMIC_MOVE);
+                    evict();
+                }
+            } finally {
+                if (tmp.exists() && !tmp.delete()) {
+                    LOG.warn("Unable delete temporary archive {}", tmp);
+                }
+            }
+        }
+    }
+}
@@ -16,7 +16,14 @@ import io.swagger.annotations.ApiParam;
 import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
 
+import com.google.common.io.ByteStreams;
+import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import com.google.gson.stream.JsonWriter;
+
 import org.apache.commons.fileupload.FileItem;
+import org.apache.commons.io.output.CloseShieldOutputStream;
+import org.apache.commons.io.output.TeeOutputStream;
 import org.apache.tika.Tika;
 import org.eclipse.che.api.core.BadRequestException;
 import org.eclipse.che.api.core.ConflictException;
@@ -35,11 +42,15 @@ import org.eclipse.che.api.project.server.type.ProjectTypeResolution;
 import org.eclipse.che.api.project.shared.dto.CopyOptions;
 import org.eclipse.che.api.project.shared.dto.ItemReference;
 import org.eclipse.che.api.project.shared.dto.MoveOptions;
+import org.eclipse.che.api.project.shared.dto.SearchResultDto;
 import org.eclipse.che.api.project.shared.dto.SourceEstimation;
 import org.eclipse.che.api.project.shared.dto.TreeElement;
+import org.eclipse.che.api.vfs.Archiver;
+import org.eclipse.che.api.vfs.ArchiverFactory;
 import org.eclipse.che.api.vfs.VirtualFile;
 import org.eclipse.che.api.vfs.search.QueryExpression;
 import org.eclipse.che.api.vfs.search.SearchResult;
+import org.eclipse.che.api.vfs.search.SearchResultConsumer;
 import org.eclipse.che.api.vfs.search.SearchResultEntry;
 import org.eclipse.che.api.vfs.search.Searcher;
 import org.eclipse.che.api.workspace.shared.dto.ProjectConfigDto;
@@ -51,24 +62,36 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.inject.Inject;
+import javax.inject.Named;
 import javax.inject.Singleton;
 import javax.validation.constraints.NotNull;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
 import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.GenericEntity;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriBuilder;
+import java.io.BufferedWriter;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -79,6 +102,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.Files.newInputStream;
 import static javax.ws.rs.HttpMethod.DELETE;
 import static javax.ws.rs.HttpMethod.GET;
 import static javax.ws.rs.HttpMethod.PUT;
@@ -91,6 +116,7 @@ import static org.eclipse.che.api.project.server.Constants.LINK_REL_TREE;
 import static org.eclipse.che.api.project.server.Constants.LINK_REL_UPDATE_CONTENT;
 import static org.eclipse.che.api.project.server.Constants.LINK_REL_UPDATE_PROJECT;
 import static org.eclipse.che.api.project.server.DtoConverter.asDto;
+import static org.eclipse.che.api.vfs.VirtualFileFilters.dotGitFilter;
 import static org.eclipse.che.dto.server.DtoFactory.newDto;
 
 /**
@@ -106,12 +132,30 @@ import static org.eclipse.che.dto.server.DtoFactory.newDto;
 @Path("/project/{ws-id}")
 @Singleton
 public class ProjectService extends Service {
+    /** Header which contains skip count of the next page of children, it isn't sent when there are no more children. */
+    public static final String NEXT_SKIP_COUNT_HEADER = "X-Next-Skip-Count";
+
     private static final Logger LOG  = LoggerFactory.getLogger(ProjectService.class);
     private static final Tika   TIKA = new Tika();
 
+    private static final ArchiverFactory ARCHIVER_FACTORY = new ArchiverFactory();
+    private static final Gson            JSON             = new Gson();
+
     private ProjectManager projectManager;
     private EventService   eventService;
 
+    /** Folder for cached archives of exported folders. */
+    @com.google.inject.Inject(optional = true)
+    @Named("project.export.cache_dir")
+    private String exportCacheDir = new File(System.getProperty("java.io.tmpdir"), "che-export-cache").getPath();
+
+    /** Max size of all cached archives of exported folders in megabytes. */
+    @com.google.inject.Inject(optional = true)
+    @Named("project.export.cache_max_size_mb")
+    private long exportCacheMaxSizeMb = 512;
+
+    private ExportArchiveCache exportCache;
+
     @Inject
     public ProjectService(ProjectManager projectManager, EventService eventService) {
         this.projectManager = projectManager;
@@ -708,17 +752,38 @@ public class ProjectService extends Service {
 
     @GET
     @Path("/export/{path:.*}")
-    @Produces(ExtMediaType.APPLICATION_ZIP)
+    @Produces({ExtMediaType.APPLICATION_ZIP, ExtMediaType.APPLICATION_X_TAR})
     @ApiOperation(value = "Download ZIP",
-                  notes = "Export resource as zip. It can be an entire project or folder")
-    @ApiResponses({@ApiResponse(code = 201, message = ""),
+                  notes = "Export resource as zip or tar archive. It can be an entire project or folder. Archive is streamed to the " +
+                          "client and cached, so repeated downloads of not modified folder and ranged requests are served from disk")
+    @ApiResponses({@ApiResponse(code = 200, message = "OK"),
+                   @ApiResponse(code = 206, message = "Part of archive is returned"),
+                   @ApiResponse(code = 304, message = "Archive is not modified"),
                    @ApiResponse(code = 403, message = "User not authorized to call this operation"),
                    @ApiResponse(code = 404, message = "Not found"),
+                   @ApiResponse(code = 409, message = "Invalid format or compression level"),
+                   @ApiResponse(code = 416, message = "Requested range is not satisfiable"),
                    @ApiResponse(code = 500, message = "Internal Server Error")})
-    public InputStream exportZip(@ApiParam(value = "Workspace ID", required = true)
-                                 @PathParam("ws-id") String workspace,
-                                 @ApiParam(value = "Path to resource to be exported")
-                                 @PathParam("path") String path) throws NotFoundException, ForbiddenException, ServerException {
+    public Response exportZip(@ApiParam(value = "Workspace ID", required = true)
+                              @PathParam("ws-id") String workspace,
+                              @ApiParam(value = "Path to resource to be exported")
+                              @PathParam("path") String path,
+                              @ApiParam(value = "Archive format", allowableValues = "zip,tar")
+                              @DefaultValue("zip") @QueryParam("format") String format,
+                              @ApiParam(value = "Compression level of zip archive from 0 (no compression) to 9. " +
+                                                "If not specified default level is used")
+                              @DefaultValue("-1") @QueryParam("compressionLevel") int compressionLevel,
+                              @HeaderParam("Range") String range,
+                              @Context Request request) throws NotFoundException,
+                                                               ForbiddenException,
+                                                               ConflictException,
+                                                               ServerException {
+        if (!"zip".equals(format) && !"tar".equals(format)) {
+            throw new ConflictException(String.format("Unsupported archive format '%s'.", format));
+        }
+        if (compressionLevel < -1 || compressionLevel > 9) {
+            throw new ConflictException(String.format("Invalid 'compressionLevel' parameter: %d.", compressionLevel));
+        }
 
         final FolderEntry folder = projectManager.asFolder(path);
 
@@ -726,7 +791,129 @@ public class ProjectService extends Service {
             throw new NotFoundException("Folder not found " + path);
         }
 
-        return folder.getVirtualFile().zip();
+        final VirtualFile virtualFile = folder.getVirtualFile();
+        final ExportArchiveCache cache = getExportCache();
+        final String key = cache.getKey(virtualFile, dotGitFilter(), format, compressionLevel);
+        final EntityTag entityTag = new EntityTag(key);
+        final Response.ResponseBuilder notModified = request.evaluatePreconditions(entityTag);
+        if (notModified != null) {
+            return notModified.tag(entityTag).build();
+        }
+
+        final String mediaType = "tar".equals(format) ? ExtMediaType.APPLICATION_X_TAR : ExtMediaType.APPLICATION_ZIP;
+        final String fileName = (virtualFile.isRoot() ? "workspace" : virtualFile.getName()) + '.' + format;
+        final Archiver archiver = ARCHIVER_FACTORY.createArchiver(virtualFile, format);
+
+        File archive = cache.get(key);
+        if (archive == null) {
+            if (range == null) {
+                // stream archive to the client while it is written to the cache
+                return Response.ok((StreamingOutput)output -> writeArchive(archiver, compressionLevel, cache, key, output), mediaType)
+                               .tag(entityTag)
+                               .header("Accept-Ranges", "bytes")
+                               .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + '"')
+                               .build();
+            }
+            try {
+                writeArchive(archiver, compressionLevel, cache, key, null);
+            } catch (IOException e) {
+                throw new ServerException(e.getMessage(), e);
+            }
+            archive = cache.get(key);
+            if (archive == null) {
+                throw new ServerException("Unable to cache archive of " + path);
+            }
+        }
+        return archiveResponse(archive, range, entityTag, mediaType, fileName);
+    }
+
+    private synchronized ExportArchiveCache getExportCache() {
+        if (exportCache == null) {
+            exportCache = new ExportArchiveCache(new File(exportCacheDir), exportCacheMaxSizeMb * 1024 * 1024);
+        }
+        return exportCache;
+    }
+
+    /** Writes archive to the cache and to the {@code output} if it isn't {@code null}. */
+    private static void writeArchive(Archiver archiver, int compressionLevel, ExportArchiveCache cache, String key, OutputStream output)
+            throws IOException {
+        try (ExportArchiveCache.Entry entry = cache.create(key)) {
+            final OutputStream cached = new CloseShieldOutputStream(entry);
+            archiver.compress(output == null ? cached : new TeeOutputStream(new CloseShieldOutputStream(output), cached),
+                              dotGitFilter(),
+                              compressionLevel);
+            entry.commit();
+        } catch (ServerException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    /** Sends whole archive or its part if {@code range} is specified. */
+    private static Response archiveResponse(File archive, String range, EntityTag entityTag, String mediaType, String fileName) {
+        final long length = archive.length();
+        final long[] bounds = range == null ? null : parseRange(range, length);
+        if (bounds != null && bounds.length == 0) {
+            return Response.status(Response.Status.REQUESTED_RANGE_NOT_SATISFIABLE)
+                           .header("Content-Range", "bytes */" + length)
+                           .build();
+        }
+        final long start = bounds == null ? 0 : bounds[0];
+        final long count = bounds == null ? length : bounds[1] - bounds[0] + 1;
+        final Response.ResponseBuilder builder = bounds == null ? Response.ok()
+                                                                : Response.status(Response.Status.PARTIAL_CONTENT)
+                                                                          .header("Content-Range",
+                                                                                  "bytes " + bounds[0] + '-' + bounds[1] + '/' + length);
+        return builder.entity((StreamingOutput)output -> {
+                          try (InputStream in = newInputStream(archive.toPath())) {
+                              ByteStreams.skipFully(in, start);
+                              ByteStreams.copy(ByteStreams.limit(in, count), output);
+                          }
+                      })
+                      .type(mediaType)
+                      .tag(entityTag)
+                      .header("Accept-Ranges", "bytes")
+                      .header(HttpHeaders.CONTENT_LENGTH, Long.toString(count))
+                      .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + '"')
+                      .build();
+    }
+
+    /**
+     * Parses value of {@code Range} header, only single range of bytes is supported.
+     *
+     * @return first and last byte of range, empty array if range is not satisfiable or {@code null} if header isn't supported and
+     * whole content should be sent
+     */
+    static long[] parseRange(String range, long length) {
+        if (!range.startsWith("bytes=") || range.indexOf(',') >= 0) {
+            return null;
+        }
+        final String spec = range.substring("bytes=".length()).trim();
+        final int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+        final long start;
+        final long end;
+        try {
+            if (dash == 0) {
+                // suffix range, last N bytes
+                final long suffix = Long.parseLong(spec.substring(1));
+                if (suffix <= 0) {
+                    return new long[0];
+                }
+                start = Math.max(0, length - suffix);
+                end = length - 1;
+            } else {
+                start = Long.parseLong(spec.substring(0, dash));
+                end = dash == spec.length() - 1 ? length - 1 : Math.min(Long.parseLong(spec.substring(dash + 1)), length - 1);
+            }
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        if (start >= length || start > end) {
+            return new long[0];
+        }
+        return new long[]{start, end};
     }
 
     @GET
@@ -756,63 +943,89 @@ public class ProjectService extends Service {
     @Path("/children/{parent:.*}")
     @Produces(MediaType.APPLICATION_JSON)
     @ApiOperation(value = "Get project children items",
-                  notes = "Request all children items for a project, such as files and folders",
+                  notes = "Request all children items for a project, such as files and folders. If there are more children after " +
+                          "returned page, skip count of the next page is sent in " + NEXT_SKIP_COUNT_HEADER + " header",
                   response = ItemReference.class,
                   responseContainer = "List")
     @ApiResponses({@ApiResponse(code = 200, message = "OK"),
                    @ApiResponse(code = 403, message = "User not authorized to call this operation"),
                    @ApiResponse(code = 404, message = "Not found"),
                    @ApiResponse(code = 500, message = "Internal Server Error")})
-    public List<ItemReference> getChildren(@ApiParam(value = "Workspace ID", required = true)
-                                           @PathParam("ws-id") String workspace,
-                                           @ApiParam(value = "Path to a project", required = true)
-                                           @PathParam("parent") String path) throws NotFoundException,
-                                                                                    ForbiddenException,
-                                                                                    ServerException {
+    public Response getChildren(@ApiParam(value = "Workspace ID", required = true)
+                                @PathParam("ws-id") String workspace,
+                                @ApiParam(value = "Path to a project", required = true)
+                                @PathParam("parent") String path,
+                                @ApiParam(value = "Maximum items to return. If not specified all children are returned")
+                                @QueryParam("maxItems") @DefaultValue("-1") int maxItems,
+                                @ApiParam(value = "Skip count. Children are sorted, folders go first")
+                                @QueryParam("skipCount") int skipCount,
+                                @ApiParam(value = "Include hypermedia links of items. If not specified ?includeLinks=true is used by default")
+                                @DefaultValue("true") @QueryParam("includeLinks") boolean includeLinks)
+            throws NotFoundException, ForbiddenException, ConflictException, ServerException {
+        if (skipCount < 0) {
+            throw new ConflictException(String.format("Invalid 'skipCount' parameter: %d.", skipCount));
+        }
+
         final FolderEntry folder = projectManager.asFolder(path);
 
         if (folder == null) {
             throw new NotFoundException("Parent not found for " + path);
         }
 
-        final List<VirtualFileEntry> children = folder.getChildren();
+        final List<VirtualFileEntry> allChildren = folder.getChildren();
+        final List<VirtualFileEntry> children = page(allChildren, skipCount, maxItems);
         final ArrayList<ItemReference> result = new ArrayList<>(children.size());
         for (VirtualFileEntry child : children) {
-            if (child.isFile()) {
-                result.add(injectFileLinks(asDto((FileEntry)child), workspace));
-            } else {
-                result.add(injectFolderLinks(asDto((FolderEntry)child), workspace));
-            }
+            result.add(asItemReference(child, workspace, includeLinks));
         }
 
-        return result;
+        final GenericEntity<List<ItemReference>> entity = new GenericEntity<List<ItemReference>>(result) {
+        };
+        return withNextSkipCount(Response.ok(entity), skipCount, children.size(), allChildren.size()).build();
     }
 
     @GET
     @Path("/tree/{parent:.*}")
     @Produces(MediaType.APPLICATION_JSON)
     @ApiOperation(value = "Get project tree",
-                  notes = "Get project tree. Depth is specified in a query parameter",
+                  notes = "Get project tree. Depth is specified in a query parameter. If there are more children of requested folder " +
+                          "after returned page, skip count of the next page is sent in " + NEXT_SKIP_COUNT_HEADER + " header",
                   response = TreeElement.class)
     @ApiResponses({@ApiResponse(code = 200, message = "OK"),
                    @ApiResponse(code = 403, message = "User not authorized to call this operation"),
                    @ApiResponse(code = 404, message = "Not found"),
                    @ApiResponse(code = 500, message = "Internal Server Error")})
-    public TreeElement getTree(@ApiParam(value = "Workspace ID", required = true)
-                               @PathParam("ws-id") String workspace,
-                               @ApiParam(value = "Path to resource. Can be project or its folders", required = true)
-                               @PathParam("parent") String path,
-                               @ApiParam(value = "Tree depth. This parameter can be dropped. If not specified ?depth=1 is used by default")
-                               @DefaultValue("1") @QueryParam("depth") int depth,
-                               @ApiParam(value = "include children files (in addition to children folders). This parameter can be dropped" +
-                                                 ". If not specified ?includeFiles=false is used by default")
-                               @DefaultValue("false") @QueryParam("includeFiles") boolean includeFiles) throws NotFoundException,
-                                                                                                               ForbiddenException,
-                                                                                                               ServerException {
+    public Response getTree(@ApiParam(value = "Workspace ID", required = true)
+                            @PathParam("ws-id") String workspace,
+                            @ApiParam(value = "Path to resource. Can be project or its folders", required = true)
+                            @PathParam("parent") String path,
+                            @ApiParam(value = "Tree depth. This parameter can be dropped. If not specified ?depth=1 is used by default")
+                            @DefaultValue("1") @QueryParam("depth") int depth,
+                            @ApiParam(value = "include children files (in addition to children folders). This parameter can be dropped" +
+                                              ". If not specified ?includeFiles=false is used by default")
+                            @DefaultValue("false") @QueryParam("includeFiles") boolean includeFiles,
+                            @ApiParam(value = "Maximum children to return for each folder of tree. If not specified all children are returned")
+                            @QueryParam("maxItems") @DefaultValue("-1") int maxItems,
+                            @ApiParam(value = "Skip count of children of requested folder. Children are sorted, folders go first")
+                            @QueryParam("skipCount") int skipCount,
+                            @ApiParam(value = "Include hypermedia links of items. If not specified ?includeLinks=true is used by default")
+                            @DefaultValue("true") @QueryParam("includeLinks") boolean includeLinks)
+            throws NotFoundException, ForbiddenException, ConflictException, ServerException {
+        if (skipCount < 0) {
+            throw new ConflictException(String.format("Invalid 'skipCount' parameter: %d.", skipCount));
+        }
+
         final FolderEntry folder = projectManager.asFolder(path);
 
-        return newDto(TreeElement.class).withNode(injectFolderLinks(asDto(folder), workspace))
-                                        .withChildren(getTree(folder, workspace, depth, includeFiles));
+        final TreeElement tree = newDto(TreeElement.class).withNode(asItemReference(folder, workspace, includeLinks));
+        if (depth == 0) {
+            return Response.ok(tree).build();
+        }
+        final List<? extends VirtualFileEntry> allChildren = getTreeChildren(folder, includeFiles);
+        final List<? extends VirtualFileEntry> children = page(allChildren, skipCount, maxItems);
+        tree.setChildren(asTreeElements(children, workspace, depth, includeFiles, maxItems, includeLinks));
+
+        return withNextSkipCount(Response.ok(tree), skipCount, children.size(), allChildren.size()).build();
     }
 
     @GET
@@ -913,6 +1126,131 @@ public class ProjectService extends Service {
         return items;
     }
 
+    @GET
+    @Path("/occurrences/{path:.*}")
+    @Produces(MediaType.APPLICATION_JSON)
+    @ApiOperation(value = "Search for text in files",
+                  notes = "Search for files applying a number of search filters as query parameters. Each result contains positions of " +
+                          "searched text in the file. Results are streamed to the client as they are found",
+                  response = SearchResultDto.class,
+                  responseContainer = "List")
+    @ApiResponses({@ApiResponse(code = 200, message = "OK"),
+                   @ApiResponse(code = 403, message = "User not authorized to call this operation"),
+                   @ApiResponse(code = 404, message = "Not found"),
+                   @ApiResponse(code = 409, message = "Conflict error"),
+                   @ApiResponse(code = 500, message = "Internal Server Error")})
+    public StreamingOutput searchOccurrences(@ApiParam(value = "Workspace ID", required = true)
+                                             @PathParam("ws-id") String workspace,
+                                             @ApiParam(value = "Path to resource, i.e. where to search?", required = true)
+                                             @PathParam("path") String path,
+                                             @ApiParam(value = "Resource name")
+                                             @QueryParam("name") String name,
+                                             @ApiParam(value = "Search keywords", required = true)
+                                             @QueryParam("text") String text,
+                                             @ApiParam(value = "Maximum items to display. If this parameter is dropped, there are no limits")
+                                             @QueryParam("maxItems") @DefaultValue("-1") int maxItems,
+                                             @ApiParam(value = "Skip count")
+                                             @QueryParam("skipCount") int skipCount) throws NotFoundException,
+                                                                                            ForbiddenException,
+                                                                                            ConflictException,
+                                                                                            ServerException {
+        if (skipCount < 0) {
+            throw new ConflictException(String.format("Invalid 'skipCount' parameter: %d.", skipCount));
+        }
+
+        final Searcher searcher;
+        try {
+            searcher = projectManager.getSearcher();
+        } catch (NotFoundException e) {
+            LOG.warn(e.getLocalizedMessage());
+            return output -> output.write("[]".getBytes(UTF_8));
+        }
+
+        final QueryExpression expr = new QueryExpression()
+                .setPath(path.startsWith("/") ? path : ('/' + path))
+                .setName(name)
+                .setText(text)
+                .setSkipCount(skipCount)
+                .setMaxItems(maxItems)
+                .setIncludePositions(true);
+        final FolderEntry root = projectManager.getProjectsRoot();
+
+        return output -> {
+            final SearchResultsWriter writer =
+                    new SearchResultsWriter(new JsonWriter(new BufferedWriter(new OutputStreamWriter(output, UTF_8))), root, workspace);
+            try {
+                searcher.search(expr, writer);
+            } catch (ServerException e) {
+                if (!writer.isStarted()) {
+                    // nothing is written yet, e.g. query is invalid, so error may be sent instead of results
+                    throw new WebApplicationException(e, Response.serverError()
+                                                                 .entity(DtoFactory.getInstance().toJson(e.getServiceError()))
+                                                                 .type(APPLICATION_JSON)
+                                                                 .build());
+                }
+                LOG.error(String.format("Search of '%s' in %s failed after some results were sent", text, path), e);
+            }
+            writer.finish();
+        };
+    }
+
+    /**
+     * Writes results of search as JSON array as soon as they are found. Array is started with the first result, so response isn't
+     * committed if search fails before any result is found.
+     */
+    private class SearchResultsWriter implements SearchResultConsumer {
+        private final JsonWriter  writer;
+        private final FolderEntry root;
+        private final String      workspace;
+
+        private boolean first = true;
+
+        SearchResultsWriter(JsonWriter writer, FolderEntry root, String workspace) {
+            this.writer = writer;
+            this.root = root;
+            this.workspace = workspace;
+        }
+
+        @Override
+        public void accept(SearchResultEntry entry) throws ServerException {
+            final VirtualFileEntry child = root.getChild(entry.getFilePath());
+            if (child == null || !child.isFile()) {
+                return;
+            }
+            final SearchResultDto result =
+                    newDto(SearchResultDto.class).withItemReference(injectFileLinks(asDto((FileEntry)child), workspace))
+                                                 .withSearchOccurrences(entry.getOccurrences()
+                                                                             .stream()
+                                                                             .map(DtoConverter::asDto)
+                                                                             .collect(Collectors.toList()));
+            try {
+                start();
+                JSON.toJson(DtoFactory.getInstance().toJsonElement(result), writer);
+                writer.flush();
+            } catch (IOException | JsonIOException e) {
+                throw new ServerException(e.getMessage(), e);
+            }
+        }
+
+        boolean isStarted() {
+            return !first;
+        }
+
+        /** Closes array of results, empty array is written if there are no results. */
+        void finish() throws IOException {
+            start();
+            writer.endArray();
+            writer.flush();
+        }
+
+        private void start() throws IOException {
+            if (first) {
+                writer.beginArray();
+                first = false;
+            }
+        }
+    }
+
     private void logProjectCreatedEvent(@NotNull String projectName, @NotNull String projectType) {
         LOG.info("EVENT#project-created# PROJECT#{}# TYPE#{}# WS#{}# USER#{}# PAAS#default#",
                  projectName,
@@ -944,33 +1282,76 @@ public class ProjectService extends Service {
     private List<TreeElement> getTree(FolderEntry folder,
                                       String workspace,
                                       int depth,
-                                      boolean includeFiles) throws ServerException, NotFoundException {
+                                      boolean includeFiles,
+                                      int maxItems,
+                                      boolean includeLinks) throws ServerException, NotFoundException {
         if (depth == 0) {
             return null;
         }
+        return asTreeElements(page(getTreeChildren(folder, includeFiles), 0, maxItems), workspace, depth, includeFiles, maxItems,
+                              includeLinks);
+    }
 
-        final List<? extends VirtualFileEntry> children;
-
-        if (includeFiles) {
-            children = folder.getChildFoldersFiles();
-        } else {
-            children = folder.getChildFolders();
-        }
-
+    private List<TreeElement> asTreeElements(List<? extends VirtualFileEntry> children,
+                                             String workspace,
+                                             int depth,
+                                             boolean includeFiles,
+                                             int maxItems,
+                                             boolean includeLinks) throws ServerException, NotFoundException {
         final List<TreeElement> nodes = new ArrayList<>(children.size());
         for (VirtualFileEntry child : children) {
             if (child.isFolder()) {
                 nodes.add(newDto(TreeElement.class)
-                                  .withNode(injectFolderLinks(asDto((FolderEntry)child), workspace))
-                                  .withChildren(getTree((FolderEntry)child, workspace, depth - 1, includeFiles)));
+                                  .withNode(asItemReference(child, workspace, includeLinks))
+                                  .withChildren(getTree((FolderEntry)child, workspace, depth - 1, includeFiles, maxItems, includeLinks)));
             } else {
-                nodes.add(newDto(TreeElement.class).withNode(injectFileLinks(asDto((FileEntry)child), workspace)));
+                nodes.add(newDto(TreeElement.class).withNode(asItemReference(child, workspace, includeLinks)));
             }
         }
 
         return nodes;
     }
 
+    private static List<? extends VirtualFileEntry> getTreeChildren(FolderEntry folder, boolean includeFiles) throws ServerException {
+        return includeFiles ? folder.getChildFoldersFiles() : folder.getChildFolders();
+    }
+
+    /**
+     * Gets items of page. Paging is applied before converting of items to DTOs, so large folders are not converted entirely.
+     *
+     * @param maxItems
+     *         max number of items in page, zero or negative value means no limit
+     * @return items of page or empty list if {@code skipCount} is greater than number of items
+     */
+    private static <T> List<T> page(List<T> items, int skipCount, int maxItems) {
+        if (skipCount == 0 && (maxItems <= 0 || maxItems >= items.size())) {
+            return items;
+        }
+        if (skipCount >= items.size()) {
+            return Collections.emptyList();
+        }
+        final int end = maxItems > 0 ? (int)Math.min((long)skipCount + maxItems, items.size()) : items.size();
+        return items.subList(skipCount, end);
+    }
+
+    /** Adds {@value #NEXT_SKIP_COUNT_HEADER} header to response if there are more items after the page. */
+    private static Response.ResponseBuilder withNextSkipCount(Response.ResponseBuilder response, int skipCount, int pageSize, int total) {
+        final long next = (long)skipCount + pageSize;
+        if (pageSize > 0 && next < total) {
+            response.header(NEXT_SKIP_COUNT_HEADER, Long.toString(next));
+        }
+        return response;
+    }
+
+    private ItemReference asItemReference(VirtualFileEntry entry, String workspace, boolean includeLinks) throws ServerException {
+        if (entry.isFile()) {
+            final ItemReference itemReference = asDto((FileEntry)entry);
+            return includeLinks ? injectFileLinks(itemReference, workspace) : itemReference;
+        }
+        final ItemReference itemReference = asDto((FolderEntry)entry);
+        return includeLinks ? injectFolderLinks(itemReference, workspace) : itemReference;
+    }
+
     /* --------------------------------------------------------------------------- */
     /* TODO check "upload" methods below, they were copied from old VFS as is      */
     /* --------------------------------------------------------------------------- */
@@ -10,6 +10,9 @@
  *******************************************************************************/
 package org.eclipse.che.api.project.server.notification;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.gson.JsonArray;
+
 import org.eclipse.che.api.core.notification.EventService;
 import org.eclipse.che.api.core.notification.EventSubscriber;
 import org.eclipse.che.api.project.shared.dto.event.VfsWatchEvent;
@@ -22,30 +25,143 @@ import org.slf4j.LoggerFactory;
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
 import javax.inject.Inject;
+import javax.inject.Named;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.eclipse.che.api.vfs.impl.file.FileWatcherEventType.CREATED;
+import static org.eclipse.che.api.vfs.impl.file.FileWatcherEventType.DELETED;
+import static org.eclipse.che.api.vfs.impl.file.FileWatcherEventType.MODIFIED;
 
 /**
  *
- * Subscribes on VFS Watcher events and broadcasts them with websockets
+ * Subscribes on VFS Watcher events and broadcasts them with websockets.
+ * <p/>
+ * Events are collected per channel during batch window ({@code vfs.watcher.broadcast_window_ms}) that starts with the first event
+ * after previous flush. Events for the same path are merged, e.g. repeated modifications of file are sent once, and then collected
+ * events are sent in order of their paths' first appearance as single message which body is JSON array of {@link VfsWatchEvent}.
+ * If batch window is {@code 0} each event is sent immediately as JSON object, clients should accept both forms, see
+ * {@code VfsWatchEventsUnmarshaller}.
  * @author gazarenkov
  */
 public class VfsWatchBroadcaster implements EventSubscriber<VfsWatchEvent> {
 
     private static final Logger LOG = LoggerFactory.getLogger(VfsWatchBroadcaster.class);
 
-    private final EventService eventService;
+    private static final long DEFAULT_BATCH_WINDOW_MILLIS = 300;
+
+    private final EventService                            eventService;
+    /** Pending events grouped by channel and then by path. */
+    private final Map<String, Map<String, List<VfsWatchEvent>>> pendingEvents;
+
+    @com.google.inject.Inject(optional = true)
+    @Named("vfs.watcher.broadcast_window_ms")
+    private long batchWindowMillis = DEFAULT_BATCH_WINDOW_MILLIS;
+
+    private final ScheduledExecutorService executor;
 
     @Inject
     public VfsWatchBroadcaster(EventService eventService) {
         this.eventService = eventService;
+        pendingEvents = new HashMap<>();
+        executor = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setNameFormat("VfsWatchBroadcaster-%d")
+                                                                                        .setDaemon(true)
+                                                                                        .build());
+    }
+
+    VfsWatchBroadcaster(EventService eventService, long batchWindowMillis) {
+        this(eventService);
+        this.batchWindowMillis = batchWindowMillis;
     }
 
     @Override
     public void onEvent(VfsWatchEvent event) {
+        final String channel = VfsWatchEvent.VFS_CHANNEL;
+        if (batchWindowMillis <= 0) {
+            send(channel, DtoFactory.getInstance().toJson(event));
+            return;
+        }
+        synchronized (pendingEvents) {
+            Map<String, List<VfsWatchEvent>> channelEvents = pendingEvents.get(channel);
+            if (channelEvents == null) {
+                pendingEvents.put(channel, channelEvents = new LinkedHashMap<>());
+                executor.schedule(() -> flush(channel), batchWindowMillis, MILLISECONDS);
+            }
+            List<VfsWatchEvent> pathEvents = channelEvents.get(event.getPath());
+            if (pathEvents == null) {
+                channelEvents.put(event.getPath(), pathEvents = new ArrayList<>(2));
+            }
+            final VfsWatchEvent last = pathEvents.isEmpty() ? null : pathEvents.remove(pathEvents.size() - 1);
+            pathEvents.addAll(merge(last, event));
+            if (pathEvents.isEmpty()) {
+                channelEvents.remove(event.getPath());
+            }
+        }
+    }
 
+    /**
+     * Merges new event with the last event for the same path which is not sent yet.
+     *
+     * @return events that should be sent instead of both events, empty list if nothing should be sent, e.g. file is created and
+     * deleted during the same batch window. Deletion and creation of folder are sent both since content of new folder is unknown
+     */
+    static List<VfsWatchEvent> merge(VfsWatchEvent previous, VfsWatchEvent next) {
+        if (previous == null) {
+            return singletonList(next);
+        }
+        if (previous.getType() == CREATED) {
+            if (next.getType() == DELETED) {
+                return emptyList();
+            }
+            if (next.getType() == MODIFIED) {
+                return singletonList(previous);
+            }
+        } else if (previous.getType() == DELETED && next.getType() == CREATED) {
+            if (!next.isFile()) {
+                return asList(previous, next);
+            }
+            return singletonList(DtoFactory.newDto(VfsWatchEvent.class)
+                                           .withPath(next.getPath())
+                                           .withFile(true)
+                                           .withType(MODIFIED));
+        }
+        return singletonList(next);
+    }
+
+    private void flush(String channel) {
+        final List<VfsWatchEvent> events = new ArrayList<>();
+        synchronized (pendingEvents) {
+            final Map<String, List<VfsWatchEvent>> channelEvents = pendingEvents.remove(channel);
+            if (channelEvents == null) {
+                return;
+            }
+            channelEvents.values().forEach(events::addAll);
+        }
+        if (events.isEmpty()) {
+            return;
+        }
+        final JsonArray body = new JsonArray();
+        for (VfsWatchEvent event : events) {
+            body.add(DtoFactory.getInstance().toJsonElement(event));
+        }
+        send(channel, body.toString());
+    }
+
+    /** Sends message to all clients subscribed to the channel. */
+    protected void send(String channel, String body) {
         try {
             final ChannelBroadcastMessage bm = new ChannelBroadcastMessage();
-            bm.setChannel(VfsWatchEvent.VFS_CHANNEL);
-            bm.setBody(DtoFactory.getInstance().toJson(event));
+            bm.setChannel(channel);
+            bm.setBody(body);
             WSConnectionContext.sendMessage(bm);
         } catch (Exception e) {
             LOG.error(e.getLocalizedMessage(), e);
@@ -60,5 +176,13 @@ public class VfsWatchBroadcaster implements EventSubscriber<VfsWatchEvent> {
     @PreDestroy
     private void unsubscribe() {
         eventService.unsubscribe(this);
+        executor.shutdownNow();
+        final List<String> channels;
+        synchronized (pendingEvents) {
+            channels = new ArrayList<>(pendingEvents.keySet());
+        }
+        for (String channel : channels) {
+            flush(channel);
+        }
     }
 }
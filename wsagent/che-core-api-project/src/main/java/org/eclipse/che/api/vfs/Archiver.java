@@ -44,6 +44,21 @@ public abstract class Archiver {
      */
     public abstract void compress(OutputStream compressOutput, VirtualFileFilter filter) throws IOException, ServerException;
 
+    /**
+     * Write compressed content of folder to specified output with given compression level. By default compression level is ignored,
+     * archivers which compress content of files override this method.
+     *
+     * @param compressOutput
+     *         output for compressed content
+     * @param filter
+     *         only files that match to this filter are written in {@code compressOutput}
+     * @param compressionLevel
+     *         compression level from {@code 0} (no compression) to {@code 9} (best compression), or {@code -1} for default level
+     */
+    public void compress(OutputStream compressOutput, VirtualFileFilter filter, int compressionLevel) throws IOException, ServerException {
+        compress(compressOutput, filter);
+    }
+
     /**
      * Extract compressed content to {@code folder}.
      *
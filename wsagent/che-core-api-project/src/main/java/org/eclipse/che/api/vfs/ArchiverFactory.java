@@ -10,13 +10,30 @@
  *******************************************************************************/
 package org.eclipse.che.api.vfs;
 
+import java.util.concurrent.Executor;
+
 public class ArchiverFactory {
+    private final Executor extractExecutor;
+
+    public ArchiverFactory() {
+        this(null);
+    }
+
+    /**
+     * @param extractExecutor
+     *         executor for writing files extracted from ZIP archives, {@code null} if files must be written by thread which extracts
+     *         archive. Executor may be used only with file systems which support concurrent creation of files
+     */
+    public ArchiverFactory(Executor extractExecutor) {
+        this.extractExecutor = extractExecutor;
+    }
+
     public Archiver createArchiver(VirtualFile folder, String archiveType) {
         if (archiveType == null) {
             throw new IllegalArgumentException("Archive type might not be null");
         }
         if ("zip".equals(archiveType.toLowerCase())) {
-            return new ZipArchiver(folder);
+            return new ZipArchiver(folder, extractExecutor);
         } else if ("tar".equals(archiveType.toLowerCase())) {
             return new TarArchiver(folder);
         }
@@ -0,0 +1,319 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.vfs;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Advisory file locks with the same semantic as {@link PathLockFactory} but without global monitor. It does not prevent access to the
+ * file from other programs.
+ * <p/>
+ * Locks are reentrant, thread that already has lock for a path may lock this path again with any mode. Lock for a path conflicts with
+ * locks for parents and children of this path: exclusive lock for folder blocks any locks for its children and vise versa, shared lock
+ * for folder blocks only exclusive locks for its children and vise versa.
+ * <p/>
+ * Each locked path has own node with own monitor and waiting threads are notified only when lock for the path they are waiting for is
+ * released. To lock a path thread gets intention lock for each parent of the path (from root to the closest parent) and then gets
+ * required lock for the path itself. Intention locks are compatible with each other, so threads which work with different files in the
+ * same folder don't block each other. Locks for the whole chain are got all-or-nothing: if any of them isn't available thread releases
+ * locks which it got for the chain, waits for release of the blocking lock with backoff and tries again.
+ * <p/>
+ * Usage:
+ * <pre>
+ *      ConcurrentPathLockFactory lockFactory = ...
+ *
+ *      public void doSomething(Path path)
+ *      {
+ *         ConcurrentPathLockFactory.PathLock exclusiveLock = lockFactory.getLock(path, true).acquire(30000);
+ *         try
+ *         {
+ *            ... // do something
+ *         }
+ *         finally
+ *         {
+ *            exclusiveLock.release();
+ *         }
+ *      }
+ * </pre>
+ */
+public final class ConcurrentPathLockFactory {
+    private static final int  MAX_RECURSIVE_LOCKS = (1 << 10) - 1;
+    /** Min and max time which thread waits before it tries to get locks for the whole chain of paths again. */
+    private static final long MIN_BACKOFF_MS      = 1;
+    private static final long MAX_BACKOFF_MS      = 64;
+
+    // Lock modes. Order is important, it is used as index in arrays of counters.
+    /** Intention to get shared lock for some children. */
+    private static final int INTENTION_SHARED    = 0;
+    /** Intention to get exclusive lock for some children. */
+    private static final int INTENTION_EXCLUSIVE = 1;
+    private static final int SHARED              = 2;
+    private static final int EXCLUSIVE           = 3;
+
+    /** Max number of threads allowed to access file. */
+    private final int                         maxThreads;
+    private final ConcurrentMap<Path, Node>   nodes;
+    /** Locks obtained by current thread. */
+    private final ThreadLocal<Map<Path, int[]>> ownLocks;
+
+    /**
+     * @param maxThreads
+     *         the max number of threads are allowed to access one file. Typically this parameter should be big enough to
+     *         avoid blocking threads that need to obtain NOT exclusive lock.
+     */
+    public ConcurrentPathLockFactory(int maxThreads) {
+        if (maxThreads < 1) {
+            throw new IllegalArgumentException();
+        }
+        this.maxThreads = maxThreads;
+        nodes = new ConcurrentHashMap<>();
+        ownLocks = ThreadLocal.withInitial(HashMap::new);
+    }
+
+    public PathLock getLock(Path path, boolean exclusive) {
+        return new PathLock(path, exclusive);
+    }
+
+    private void acquire(Path path, boolean exclusive, long timeoutMilliseconds) {
+        final long endTime = timeoutMilliseconds > 0 ? System.currentTimeMillis() + timeoutMilliseconds : 0;
+        final List<Path> chain = parents(path);
+        chain.add(path);
+        final int intentionMode = exclusive ? INTENTION_EXCLUSIVE : INTENTION_SHARED;
+        final int pathMode = exclusive ? EXCLUSIVE : SHARED;
+        long backoff = MIN_BACKOFF_MS;
+        for (; ; ) {
+            // Locks for the whole chain are got all-or-nothing. Thread never waits while it keeps intention locks got by this
+            // attempt, otherwise it might block thread which has lock for the path and wants to get lock for some parent.
+            int locked = 0;
+            Node conflict = null;
+            try {
+                for (; locked < chain.size(); locked++) {
+                    conflict = tryLock(chain.get(locked), locked == chain.size() - 1 ? pathMode : intentionMode);
+                    if (conflict != null) {
+                        break;
+                    }
+                }
+            } catch (RuntimeException | Error e) {
+                unlockAll(chain, locked, intentionMode);
+                throw e;
+            }
+            if (conflict == null) {
+                return;
+            }
+            unlockAll(chain, locked, intentionMode);
+            awaitRelease(conflict, chain.get(locked), locked == chain.size() - 1 ? pathMode : intentionMode, backoff, endTime, path);
+            backoff = Math.min(backoff * 2, MAX_BACKOFF_MS);
+        }
+    }
+
+    /** Releases the first {@code count} locks of chain, the last element of chain is the path itself. */
+    private void unlockAll(List<Path> chain, int count, int intentionMode) {
+        for (int i = count - 1; i >= 0; i--) {
+            unlock(chain.get(i), intentionMode);
+        }
+    }
+
+    private void release(Path path, boolean exclusive) {
+        if (unlock(path, exclusive ? EXCLUSIVE : SHARED)) {
+            final List<Path> parents = parents(path);
+            final int intentionMode = exclusive ? INTENTION_EXCLUSIVE : INTENTION_SHARED;
+            for (int i = parents.size() - 1; i >= 0; i--) {
+                unlock(parents.get(i), intentionMode);
+            }
+        }
+    }
+
+    /** Gets lock for the path if it's possible without waiting. Returns {@code null} if lock is got, otherwise node which blocks it. */
+    private Node tryLock(Path path, int mode) {
+        final Map<Path, int[]> threadLocks = ownLocks.get();
+        int[] own = threadLocks.get(path);
+        if (own != null && own[mode] > MAX_RECURSIVE_LOCKS) {
+            throw new Error("Max number of recursive locks exceeded. ");
+        }
+        for (; ; ) {
+            final Node node = nodes.computeIfAbsent(path, p -> new Node());
+            synchronized (node) {
+                if (node.removed) {
+                    // Node was removed by another thread after we got it from map, get new one.
+                    continue;
+                }
+                if (!node.isCompatible(mode, own)) {
+                    return node;
+                }
+                node.locks[mode]++;
+            }
+            break;
+        }
+        if (own == null) {
+            threadLocks.put(path, own = new int[4]);
+        }
+        own[mode]++;
+        return null;
+    }
+
+    /**
+     * Waits until lock for the path is released or backoff time is elapsed. Thread doesn't keep any locks of the current attempt while
+     * it waits, so waiting here can't cause deadlock.
+     */
+    private void awaitRelease(Node node, Path path, int mode, long backoff, long endTime, Path requestedPath) {
+        final int[] own = ownLocks.get().get(path);
+        synchronized (node) {
+            if (node.removed || node.isCompatible(mode, own)) {
+                return;
+            }
+            long waitTime = backoff;
+            if (endTime > 0) {
+                final long timeLeft = endTime - System.currentTimeMillis();
+                if (timeLeft <= 0) {
+                    throw new RuntimeException(String.format("Get lock timeout for '%s'. ", requestedPath));
+                }
+                waitTime = Math.min(waitTime, timeLeft);
+            }
+            node.waiters++;
+            try {
+                node.wait(waitTime);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            } finally {
+                node.waiters--;
+                if (node.waiters == 0 && node.isFree()) {
+                    nodes.remove(path, node);
+                    node.removed = true;
+                }
+            }
+        }
+    }
+
+    private boolean unlock(Path path, int mode) {
+        final Map<Path, int[]> threadLocks = ownLocks.get();
+        final int[] own = threadLocks.get(path);
+        if (own == null || own[mode] == 0) {
+            // Current thread doesn't have such lock.
+            return false;
+        }
+        if (--own[mode] == 0 && own[INTENTION_SHARED] == 0 && own[INTENTION_EXCLUSIVE] == 0 && own[SHARED] == 0 && own[EXCLUSIVE] == 0) {
+            threadLocks.remove(path);
+        }
+        final Node node = nodes.get(path);
+        synchronized (node) {
+            node.locks[mode]--;
+            if (node.waiters > 0) {
+                node.notifyAll();
+            } else if (node.isFree()) {
+                nodes.remove(path, node);
+                node.removed = true;
+            }
+        }
+        return true;
+    }
+
+    /** Returns parents of the path starting from root. */
+    private static List<Path> parents(Path path) {
+        final List<Path> parents = new ArrayList<>();
+        for (Path parent = path.getParent(); parent != null; parent = parent.getParent()) {
+            parents.add(0, parent);
+        }
+        return parents;
+    }
+
+    public void checkClean() {
+        assert nodes.isEmpty();
+    }
+
+   /* =============================================== */
+
+    private class Node {
+        /** Number of obtained locks in each mode. */
+        final int[] locks = new int[4];
+        int     waiters;
+        boolean removed;
+
+        /**
+         * Checks whether lock in the specified mode may be obtained. Locks obtained by current thread are not taken into account, so
+         * current thread never blocks itself.
+         */
+        boolean isCompatible(int mode, int[] own) {
+            final int intentionShared = others(INTENTION_SHARED, own);
+            final int intentionExclusive = others(INTENTION_EXCLUSIVE, own);
+            final int shared = others(SHARED, own);
+            final int exclusive = others(EXCLUSIVE, own);
+            switch (mode) {
+                case INTENTION_SHARED:
+                    return exclusive == 0;
+                case INTENTION_EXCLUSIVE:
+                    return exclusive == 0 && shared == 0;
+                case SHARED:
+                    return exclusive == 0 && intentionExclusive == 0 && shared < maxThreads - 1;
+                default:
+                    return exclusive == 0 && shared == 0 && intentionExclusive == 0 && intentionShared == 0;
+            }
+        }
+
+        boolean isFree() {
+            return locks[INTENTION_SHARED] == 0 && locks[INTENTION_EXCLUSIVE] == 0 && locks[SHARED] == 0 && locks[EXCLUSIVE] == 0;
+        }
+
+        private int others(int mode, int[] own) {
+            return own == null ? locks[mode] : locks[mode] - own[mode];
+        }
+    }
+
+    public final class PathLock {
+        private final Path    path;
+        private final boolean exclusive;
+
+        private PathLock(Path path, boolean exclusive) {
+            this.path = path;
+            this.exclusive = exclusive;
+        }
+
+        /**
+         * Acquire permit for file. Method is blocked until permit available.
+         *
+         * @return this PathLock instance
+         */
+        public PathLock acquire() {
+            ConcurrentPathLockFactory.this.acquire(path, exclusive, 0);
+            return this;
+        }
+
+        /**
+         * Acquire permit for file if it becomes available within the given timeout. It is the same as method {@link
+         * #acquire()} but with waiting timeout. If waiting timeout reached then RuntimeException thrown.
+         *
+         * @param timeoutMilliseconds
+         *         maximum time (in milliseconds) to wait for access permit
+         * @return this PathLock instance
+         * @throws RuntimeException
+         *         if waiting timeout reached
+         */
+        public PathLock acquire(long timeoutMilliseconds) {
+            ConcurrentPathLockFactory.this.acquire(path, exclusive, Math.max(1, timeoutMilliseconds));
+            return this;
+        }
+
+        /** Release file permit. */
+        public void release() {
+            ConcurrentPathLockFactory.this.release(path, exclusive);
+        }
+
+        /** Returns <code>true</code> if this lock is exclusive and <code>false</code> otherwise. */
+        public boolean isExclusive() {
+            return exclusive;
+        }
+    }
+}
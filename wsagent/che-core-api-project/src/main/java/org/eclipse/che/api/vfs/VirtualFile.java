@@ -11,6 +11,7 @@
 package org.eclipse.che.api.vfs;
 
 import com.google.common.annotations.Beta;
+import com.google.common.hash.HashFunction;
 
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.ForbiddenException;
@@ -699,6 +700,18 @@ public interface VirtualFile extends Comparable<VirtualFile> {
      */
     List<Pair<String, String>> countMd5Sums() throws ServerException;
 
+    /**
+     * Traverses recursively all files in current folder and count hash sum for each file with specified hash function. Result has
+     * the same structure as result of {@link #countMd5Sums()}. Clients which need to detect changed files only and don't need
+     * cryptographic hash may use faster non-cryptographic function, e.g. {@link com.google.common.hash.Hashing#murmur3_128()}.
+     *
+     * @param hashFunction
+     *         hash function
+     * @throws ServerException
+     *         if any error occurs
+     */
+    List<Pair<String, String>> countHashSums(HashFunction hashFunction) throws ServerException;
+
     /**
      * Gets java.io.File if implementation uses java.io.File as backend.
      *
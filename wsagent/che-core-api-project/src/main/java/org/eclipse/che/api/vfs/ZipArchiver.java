@@ -10,24 +10,76 @@
  *******************************************************************************/
 package org.eclipse.che.api.vfs;
 
+import com.google.common.collect.ImmutableSet;
 import com.google.common.io.ByteStreams;
 
+import org.apache.commons.io.input.CountingInputStream;
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.ForbiddenException;
 import org.eclipse.che.api.core.ServerException;
-import org.eclipse.che.api.vfs.util.NotClosableInputStream;
-import org.eclipse.che.api.vfs.util.ZipContent;
+import org.eclipse.che.api.vfs.util.ZipBombDetectingInputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.Deflater;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 import java.util.zip.ZipOutputStream;
 
+/**
+ * Archiver for ZIP format.
+ * <p/>
+ * Archive is extracted in one pass, ratio of uncompressed and compressed data is checked while archive is read with
+ * {@link ZipBombDetectingInputStream}. Folders are created when archive is read and resolved folders are reused for next entries.
+ * If executor is provided, files that are not bigger than {@link #MAX_BUFFERED_ENTRY_SIZE} are buffered and written by executor,
+ * bigger files are written directly from archive stream. If extraction fails, e.g. zip bomb is detected, files and folders which are
+ * created by extraction are removed, existed files which are overwritten before failure are not restored.
+ */
 public class ZipArchiver extends Archiver {
+    private static final Logger LOG = LoggerFactory.getLogger(ZipArchiver.class);
+
+    /** Max size of file which may be buffered in memory and written by executor. */
+    static final int MAX_BUFFERED_ENTRY_SIZE = 256 * 1024;
+    /** Max number of buffered files which are waiting for executor. */
+    static final int MAX_PENDING_ENTRIES     = 64;
+
+    /** Extensions of files which are already compressed, deflating of such files takes time but doesn't make archive smaller. */
+    static final Set<String> STORED_EXTENSIONS = ImmutableSet.of("jar", "war", "ear", "zip", "gz", "tgz", "bz2", "xz", "7z", "rar",
+                                                                 "png", "jpg", "jpeg", "gif", "ico", "mp3", "mp4", "avi", "woff",
+                                                                 "woff2");
+
+    private final Executor extractExecutor;
+
     public ZipArchiver(VirtualFile folder) {
+        this(folder, null);
+    }
+
+    /**
+     * @param folder
+     *         folder to compress or to extract archive to
+     * @param extractExecutor
+     *         executor for writing extracted files, may be {@code null} then all files are written by calling thread. File system of
+     *         {@code folder} must support concurrent creation of files if executor is provided
+     */
+    public ZipArchiver(VirtualFile folder, Executor extractExecutor) {
         super(folder);
+        this.extractExecutor = extractExecutor;
     }
 
     @Override
@@ -37,12 +89,23 @@ public class ZipArchiver extends Archiver {
 
     @Override
     public void compress(OutputStream zipOutput, VirtualFileFilter filter) throws IOException, ServerException {
+        compress(zipOutput, filter, Deflater.DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p/>
+     * Files which are already compressed, see {@link #STORED_EXTENSIONS}, are written without compression whatever level is set.
+     */
+    @Override
+    public void compress(OutputStream zipOutput, VirtualFileFilter filter, int compressionLevel) throws IOException, ServerException {
         try (ZipOutputStream zipOutputStream = new ZipOutputStream(zipOutput)) {
             folder.accept(new VirtualFileVisitor() {
                 @Override
                 public void visit(VirtualFile visitedVirtualFile) throws ServerException {
                     if (filter.accept(visitedVirtualFile)) {
                         if (!visitedVirtualFile.equals(folder)) {
+                            zipOutputStream.setLevel(isCompressed(visitedVirtualFile) ? Deflater.NO_COMPRESSION : compressionLevel);
                             addZipEntry(visitedVirtualFile, zipOutputStream);
                         }
                         if (visitedVirtualFile.isFolder()) {
@@ -56,6 +119,15 @@ public class ZipArchiver extends Archiver {
         }
     }
 
+    private boolean isCompressed(VirtualFile virtualFile) {
+        if (virtualFile.isFolder()) {
+            return false;
+        }
+        final String name = virtualFile.getName();
+        final int dot = name.lastIndexOf('.');
+        return dot > 0 && STORED_EXTENSIONS.contains(name.substring(dot + 1).toLowerCase());
+    }
+
     private String getZipEntryName(VirtualFile virtualFile) {
         Path zipPath = virtualFile.getPath().subPath(folder.getPath());
         if (virtualFile.isFolder()) {
@@ -87,49 +159,200 @@ public class ZipArchiver extends Archiver {
     @Override
     public void extract(InputStream zipInput, boolean overwrite, int stripNumber)
             throws IOException, ForbiddenException, ConflictException, ServerException {
-        try (ZipInputStream zip = new ZipInputStream(ZipContent.of(zipInput).getContent())) {
-            InputStream notClosableInputStream = new NotClosableInputStream(zip);
-            ZipEntry zipEntry;
-            while ((zipEntry = zip.getNextEntry()) != null) {
-                VirtualFile extractFolder = folder;
+        final long start = System.currentTimeMillis();
+        final Extraction extraction = new Extraction(overwrite);
+        final CountingInputStream compressed = new CountingInputStream(zipInput);
+        final ZipInputStream zip = new ZipInputStream(compressed);
+        final ZipBombDetectingInputStream uncompressed = new ZipBombDetectingInputStream(zip, compressed);
+        int files = 0;
+        boolean extracted = false;
+        try {
+            try {
+                ZipEntry zipEntry;
+                while ((zipEntry = zip.getNextEntry()) != null) {
+                    extraction.checkFailure();
 
-                Path relativePath = Path.of(zipEntry.getName());
+                    Path relativePath = Path.of(zipEntry.getName());
 
-                if (stripNumber > 0) {
-                    if (relativePath.length() <= stripNumber) {
+                    if (stripNumber > 0) {
+                        if (relativePath.length() <= stripNumber) {
+                            continue;
+                        }
+                        relativePath = relativePath.subPath(stripNumber);
+                    }
+
+                    if (zipEntry.isDirectory()) {
+                        extraction.getFolder(relativePath);
                         continue;
                     }
-                    relativePath = relativePath.subPath(stripNumber);
-                }
 
-                if (zipEntry.isDirectory()) {
-                    if (!extractFolder.hasChild(relativePath)) {
-                        extractFolder.createFolder(relativePath.toString());
+                    final VirtualFile parent = relativePath.length() > 1 ? extraction.getFolder(relativePath.getParent()) : folder;
+                    final byte[] head = ByteStreams.toByteArray(ByteStreams.limit(uncompressed, MAX_BUFFERED_ENTRY_SIZE + 1));
+                    if (extractExecutor != null && head.length <= MAX_BUFFERED_ENTRY_SIZE) {
+                        extraction.submit(parent, relativePath, head);
+                    } else {
+                        extraction.awaitIfSubmitted(relativePath);
+                        try {
+                            extraction.writeFile(parent,
+                                                 relativePath,
+                                                 new SequenceInputStream(new ByteArrayInputStream(head), uncompressed));
+                        } catch (ServerException e) {
+                            uncompressed.checkRatio();
+                            throw e;
+                        }
                     }
-                    continue;
+                    files++;
+                    zip.closeEntry();
+                }
+            } finally {
+                try {
+                    extraction.awaitAll();
+                } finally {
+                    zip.close();
                 }
+            }
+            extraction.checkFailure();
+            extracted = true;
+        } finally {
+            if (!extracted) {
+                extraction.rollback();
+            }
+        }
 
-                if (relativePath.length() > 1) {
-                    Path neededParentPath = relativePath.getParent();
-                    VirtualFile neededParent = extractFolder.getChild(neededParentPath);
-                    if (neededParent == null) {
-                        neededParent = extractFolder.createFolder(neededParentPath.toString());
-                    }
-                    extractFolder = neededParent;
+        final long time = Math.max(System.currentTimeMillis() - start, 1);
+        LOG.info("Extracted {} files ({} bytes from {} bytes of archive) to {} in {} ms, {} KB/s",
+                 files, uncompressed.getUncompressedBytes(), compressed.getByteCount(), folder.getPath(), time,
+                 uncompressed.getUncompressedBytes() * 1000 / 1024 / time);
+    }
+
+    /** State of single extraction. All methods except the ones which write buffered files are called by reading thread. */
+    private class Extraction {
+        final boolean                    overwrite;
+        final Map<Path, VirtualFile>     folders;
+        final Set<Path>                  submitted;
+        final Semaphore                  pending;
+        final AtomicReference<Exception> failure;
+        /** Folders created by extraction in order of creation, parent folders go before their children. */
+        final List<VirtualFile>          createdFolders;
+        /** Files created by extraction, files may be created by threads of executor. */
+        final Queue<VirtualFile>         createdFiles;
+
+        Extraction(boolean overwrite) {
+            this.overwrite = overwrite;
+            folders = new HashMap<>();
+            submitted = new HashSet<>();
+            pending = new Semaphore(MAX_PENDING_ENTRIES);
+            failure = new AtomicReference<>();
+            createdFolders = new ArrayList<>();
+            createdFiles = new ConcurrentLinkedQueue<>();
+        }
+
+        /** Returns folder with given path relative to extraction folder, folder and its missed parents are created. */
+        VirtualFile getFolder(Path relativePath) throws ForbiddenException, ConflictException, ServerException {
+            if (relativePath.isRoot()) {
+                return folder;
+            }
+            VirtualFile result = folders.get(relativePath);
+            if (result == null) {
+                result = folder.getChild(relativePath);
+                if (result == null) {
+                    final VirtualFile parent = relativePath.length() > 1 ? getFolder(relativePath.getParent()) : folder;
+                    result = parent.createFolder(relativePath.getName());
+                    createdFolders.add(result);
                 }
+                folders.put(relativePath, result);
+            }
+            return result;
+        }
 
-                String fileName = relativePath.getName();
-                VirtualFile file = extractFolder.getChild(Path.of(fileName));
-                if (file == null) {
-                    extractFolder.createFile(fileName, notClosableInputStream);
-                } else {
-                    if (overwrite) {
-                        file.updateContent(notClosableInputStream);
-                    } else {
-                        throw new ConflictException(String.format("File '%s' already exists", file.getPath()));
+        void submit(VirtualFile parent, Path relativePath, byte[] content) throws ServerException {
+            awaitIfSubmitted(relativePath);
+            acquire(1);
+            submitted.add(relativePath);
+            try {
+                extractExecutor.execute(() -> {
+                    try {
+                        if (failure.get() == null) {
+                            writeFile(parent, relativePath, new ByteArrayInputStream(content));
+                        }
+                    } catch (Exception e) {
+                        failure.compareAndSet(null, e);
+                    } finally {
+                        pending.release();
                     }
+                });
+            } catch (RuntimeException e) {
+                pending.release();
+                throw new ServerException(e.getMessage(), e);
+            }
+        }
+
+        void writeFile(VirtualFile parent, Path relativePath, InputStream content)
+                throws ForbiddenException, ConflictException, ServerException {
+            final VirtualFile file = parent.getChild(Path.of(relativePath.getName()));
+            if (file == null) {
+                createdFiles.add(parent.createFile(relativePath.getName(), content));
+            } else if (overwrite) {
+                file.updateContent(content);
+            } else {
+                throw new ConflictException(String.format("File '%s' already exists", file.getPath()));
+            }
+        }
+
+        /** Archive may contain the same file more than once, the next copy must not be written before the previous one. */
+        void awaitIfSubmitted(Path relativePath) throws ServerException {
+            if (submitted.contains(relativePath)) {
+                awaitAll();
+            }
+        }
+
+        void awaitAll() throws ServerException {
+            if (!submitted.isEmpty()) {
+                acquire(MAX_PENDING_ENTRIES);
+                pending.release(MAX_PENDING_ENTRIES);
+                submitted.clear();
+            }
+        }
+
+        /** Removes files and folders created by failed extraction. Must be called when all submitted files are written. */
+        void rollback() {
+            for (VirtualFile file : createdFiles) {
+                delete(file);
+            }
+            for (int i = createdFolders.size() - 1; i >= 0; i--) {
+                delete(createdFolders.get(i));
+            }
+        }
+
+        private void delete(VirtualFile virtualFile) {
+            try {
+                if (virtualFile.exists()) {
+                    virtualFile.delete();
                 }
-                zip.closeEntry();
+            } catch (ForbiddenException | ServerException e) {
+                LOG.warn("Unable remove {} after failed extraction of archive. {}", virtualFile.getPath(), e.getMessage());
+            }
+        }
+
+        void checkFailure() throws ForbiddenException, ConflictException, ServerException {
+            final Exception e = failure.get();
+            if (e instanceof ForbiddenException) {
+                throw (ForbiddenException)e;
+            } else if (e instanceof ConflictException) {
+                throw (ConflictException)e;
+            } else if (e instanceof ServerException) {
+                throw (ServerException)e;
+            } else if (e != null) {
+                throw new ServerException(e.getMessage(), e);
+            }
+        }
+
+        private void acquire(int permits) throws ServerException {
+            try {
+                pending.acquire(permits);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ServerException("Extraction of archive is interrupted");
             }
         }
     }
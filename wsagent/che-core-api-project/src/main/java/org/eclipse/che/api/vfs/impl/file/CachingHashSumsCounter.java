@@ -0,0 +1,209 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.vfs.impl.file;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalCause;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
+import com.google.common.io.ByteStreams;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import org.eclipse.che.api.core.ForbiddenException;
+import org.eclipse.che.api.core.ServerException;
+import org.eclipse.che.api.vfs.Path;
+import org.eclipse.che.api.vfs.VirtualFile;
+import org.eclipse.che.api.vfs.VirtualFileVisitor;
+import org.eclipse.che.commons.lang.Pair;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static com.google.common.hash.Funnels.asOutputStream;
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Counts hash sums of files of {@link LocalVirtualFileSystem} in parallel and caches them.
+ * <p/>
+ * Cached hash sum is used while size and modification date of file are the same as they were when hash sum was counted, so repeated
+ * counting costs single stat of each file. Hash sums of files that were modified less than {@link #RACY_MODIFICATION_INTERVAL_MILLIS}
+ * before counting are not cached since the next modification may not change modification date. Cache is also invalidated by
+ * file watcher events, sorted set of cached paths is kept to find cached descendants of folder without scanning the whole cache.
+ */
+class CachingHashSumsCounter {
+    /** Max number of cached hash sums. */
+    private static final int  CACHE_MAX_SIZE                    = 100000;
+    private static final long RACY_MODIFICATION_INTERVAL_MILLIS = 2000;
+
+    private final Cache<String, FileHashSum>    hashSums;
+    /** Paths of cached hash sums. Path may be missed here if its entry is evicted while it is put again, that is covered by file check. */
+    private final ConcurrentSkipListSet<String> cachedPaths;
+    private final ExecutorService               executor;
+
+    /**
+     * @param threads
+     *         number of threads which count hash sums, if {@code 1} hash sums are counted by calling thread
+     */
+    CachingHashSumsCounter(int threads) {
+        cachedPaths = new ConcurrentSkipListSet<>();
+        hashSums = CacheBuilder.newBuilder()
+                               .concurrencyLevel(8)
+                               .maximumSize(CACHE_MAX_SIZE)
+                               .expireAfterAccess(30, MINUTES)
+                               .<String, FileHashSum>removalListener(notification -> {
+                                   if (notification.getCause() != RemovalCause.REPLACED) {
+                                       cachedPaths.remove(notification.getKey());
+                                   }
+                               })
+                               .build();
+        if (threads > 1) {
+            final ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 60, SECONDS,
+                                                                   new LinkedBlockingQueue<>(),
+                                                                   new ThreadFactoryBuilder().setNameFormat("HashSumsCounter-%d")
+                                                                                             .setDaemon(true)
+                                                                                             .build());
+            pool.allowCoreThreadTimeOut(true);
+            executor = pool;
+        } else {
+            executor = null;
+        }
+    }
+
+    /**
+     * Counts hash sums of all files in {@code folder}, see {@link VirtualFile#countHashSums(HashFunction)}.
+     */
+    List<Pair<String, String>> countHashSums(LocalVirtualFile folder, HashFunction hashFunction) throws ServerException {
+        final List<LocalVirtualFile> files = new ArrayList<>();
+        folder.accept(new VirtualFileVisitor() {
+            @Override
+            public void visit(VirtualFile virtualFile) throws ServerException {
+                if (virtualFile.isFile()) {
+                    files.add((LocalVirtualFile)virtualFile);
+                } else {
+                    for (VirtualFile child : virtualFile.getChildren()) {
+                        child.accept(this);
+                    }
+                }
+            }
+        });
+
+        final String algorithm = hashFunction.toString();
+        // hash sums are returned in order of traversal whether they are cached or not
+        final List<CompletableFuture<Pair<String, String>>> hashes = new ArrayList<>(files.size());
+        for (LocalVirtualFile file : files) {
+            final String relativePath = file.getPath().subPath(folder.getPath()).toString();
+            final FileHashSum cached = hashSums.getIfPresent(file.getPath().toString());
+            if (cached != null && cached.matches(file.toIoFile(), algorithm)) {
+                hashes.add(CompletableFuture.completedFuture(Pair.of(cached.hash, relativePath)));
+            } else if (executor == null) {
+                hashes.add(CompletableFuture.completedFuture(Pair.of(countHashSum(file, hashFunction, algorithm), relativePath)));
+            } else {
+                hashes.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return Pair.of(countHashSum(file, hashFunction, algorithm), relativePath);
+                    } catch (ServerException e) {
+                        throw new CompletionException(e);
+                    }
+                }, executor));
+            }
+        }
+        final List<Pair<String, String>> result = new ArrayList<>(files.size());
+        try {
+            for (CompletableFuture<Pair<String, String>> future : hashes) {
+                result.add(future.join());
+            }
+        } catch (CompletionException e) {
+            hashes.forEach(future -> future.cancel(false));
+            if (e.getCause() instanceof ServerException) {
+                throw (ServerException)e.getCause();
+            }
+            throw new ServerException(e.getCause());
+        }
+        return result;
+    }
+
+    /** Drops cached hash sum of file with given path. If {@code recursive} is {@code true} hash sums of all descendants are dropped. */
+    void invalidate(Path path, boolean recursive) {
+        final String pathString = path.toString();
+        hashSums.invalidate(pathString);
+        if (recursive) {
+            // descendants of '/a' are between '/a/' inclusive and '/a0' exclusive, '0' is the next character after '/'
+            final String prefix = pathString.endsWith("/") ? pathString : pathString + '/';
+            final String end = prefix.substring(0, prefix.length() - 1) + '0';
+            for (String cached : cachedPaths.subSet(prefix, end)) {
+                hashSums.invalidate(cached);
+            }
+        }
+    }
+
+    void invalidateAll() {
+        hashSums.invalidateAll();
+    }
+
+    void close() {
+        hashSums.invalidateAll();
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private String countHashSum(LocalVirtualFile file, HashFunction hashFunction, String algorithm) throws ServerException {
+        final File ioFile = file.toIoFile();
+        final long length = ioFile.length();
+        final long lastModified = ioFile.lastModified();
+        final String hash;
+        try (InputStream in = file.getContent()) {
+            final Hasher hasher = hashFunction.newHasher();
+            ByteStreams.copy(in, asOutputStream(hasher));
+            hash = hasher.hash().toString();
+        } catch (IOException e) {
+            throw new ServerException(e);
+        } catch (ForbiddenException e) {
+            throw new ServerException(e.getServiceError());
+        }
+        if (System.currentTimeMillis() - lastModified > RACY_MODIFICATION_INTERVAL_MILLIS
+            && ioFile.length() == length && ioFile.lastModified() == lastModified) {
+            final String path = file.getPath().toString();
+            cachedPaths.add(path);
+            hashSums.put(path, new FileHashSum(algorithm, length, lastModified, hash));
+        }
+        return hash;
+    }
+
+    private static class FileHashSum {
+        final String algorithm;
+        final long   length;
+        final long   lastModified;
+        final String hash;
+
+        FileHashSum(String algorithm, long length, long lastModified, String hash) {
+            this.algorithm = algorithm;
+            this.length = length;
+            this.lastModified = lastModified;
+            this.hash = hash;
+        }
+
+        boolean matches(File ioFile, String algorithm) {
+            return this.algorithm.equals(algorithm) && ioFile.length() == length && ioFile.lastModified() == lastModified;
+        }
+    }
+}
@@ -23,6 +23,8 @@ import java.io.File;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 
+import static org.eclipse.che.api.vfs.impl.file.FileWatcherEventType.MODIFIED;
+
 @Singleton
 public class DefaultFileWatcherNotificationHandler implements FileWatcherNotificationHandler {
     private static final Logger LOG = LoggerFactory.getLogger(DefaultFileWatcherNotificationHandler.class);
@@ -38,10 +40,55 @@ public class DefaultFileWatcherNotificationHandler implements FileWatcherNotific
 
     @Override
     public void handleFileWatcherEvent(FileWatcherEventType eventType, File watchRoot, String subPath, boolean isDir) {
-        VirtualFile virtualFile = convertToVirtualFile(watchRoot, subPath, isDir);
+        final LocalVirtualFileSystem virtualFileSystem;
+        try {
+            virtualFileSystem = (LocalVirtualFileSystem)virtualFileSystemProvider.getVirtualFileSystem(true);
+        } catch (ServerException e) {
+            LOG.warn(e.getMessage());
+            return;
+        }
+        invalidateCaches(virtualFileSystem, eventType, subPath, isDir);
+        VirtualFile virtualFile = convertToVirtualFile(virtualFileSystem, watchRoot, subPath, isDir);
         if (virtualFile == null) {
             return;
         }
+        notifyListeners(virtualFile, eventType);
+    }
+
+    @Override
+    public void handleFileWatcherEvents(File watchRoot, List<FileWatcherEvent> events) {
+        final LocalVirtualFileSystem virtualFileSystem;
+        try {
+            virtualFileSystem = (LocalVirtualFileSystem)virtualFileSystemProvider.getVirtualFileSystem(true);
+        } catch (ServerException e) {
+            LOG.warn(e.getMessage());
+            return;
+        }
+        for (FileWatcherEvent event : events) {
+            invalidateCaches(virtualFileSystem, event.getType(), event.getSubPath(), event.isDirectory());
+        }
+        for (FileWatcherEvent event : events) {
+            VirtualFile virtualFile = convertToVirtualFile(virtualFileSystem, watchRoot, event.getSubPath(), event.isDirectory());
+            if (virtualFile != null) {
+                notifyListeners(virtualFile, event.getType());
+            }
+        }
+    }
+
+    /**
+     * Drops cached listings of folders and cached hash sums of files that are affected by event. Modification of file content does
+     * not change any listing.
+     */
+    private void invalidateCaches(LocalVirtualFileSystem virtualFileSystem, FileWatcherEventType eventType, String subPath,
+                                  boolean isDir) {
+        final Path path = Path.ROOT.newPath(subPath);
+        if (eventType != MODIFIED || isDir) {
+            virtualFileSystem.invalidateChildrenCache(path);
+        }
+        virtualFileSystem.invalidateHashSums(path, isDir || eventType != MODIFIED);
+    }
+
+    private void notifyListeners(VirtualFile virtualFile, FileWatcherEventType eventType) {
         for (FileWatcherNotificationListener virtualFileListener : fileWatcherNotificationListeners) {
             if (virtualFileListener.shouldBeNotifiedFor(virtualFile)) {
                 virtualFileListener.onFileWatcherEvent(virtualFile, eventType);
@@ -67,9 +114,8 @@ public class DefaultFileWatcherNotificationHandler implements FileWatcherNotific
         return fileWatcherNotificationListeners.remove(fileWatcherNotificationListener);
     }
 
-    private VirtualFile convertToVirtualFile(File root, String subPath, boolean isDir) {
+    private VirtualFile convertToVirtualFile(LocalVirtualFileSystem virtualFileSystem, File root, String subPath, boolean isDir) {
         try {
-            LocalVirtualFileSystem virtualFileSystem = (LocalVirtualFileSystem)virtualFileSystemProvider.getVirtualFileSystem(true);
             Path vfsPath = Path.of(subPath);
             VirtualFile virtualFile = virtualFileSystem.getRoot().getChild(vfsPath);
             if (virtualFile == null) {
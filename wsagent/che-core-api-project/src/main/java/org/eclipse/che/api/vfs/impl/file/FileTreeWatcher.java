@@ -32,8 +32,10 @@ import java.nio.file.WatchEvent;
 import java.nio.file.WatchKey;
 import java.nio.file.WatchService;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -48,22 +50,38 @@ import static com.google.common.collect.Maps.newHashMap;
 import static com.google.common.collect.Sets.newLinkedHashSet;
 import static java.nio.file.FileVisitResult.CONTINUE;
 import static java.nio.file.Files.getLastModifiedTime;
+import static java.nio.file.Files.readAttributes;
 import static java.nio.file.LinkOption.NOFOLLOW_LINKS;
 import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
 import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
 import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
 import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.eclipse.che.api.vfs.impl.file.FileWatcherEventType.CREATED;
 import static org.eclipse.che.api.vfs.impl.file.FileWatcherEventType.DELETED;
 import static org.eclipse.che.api.vfs.impl.file.FileWatcherEventType.MODIFIED;
 
+/**
+ * Watches file tree and notifies {@link FileWatcherNotificationHandler} about created, modified and deleted files.
+ * <p/>
+ * By default watcher re-lists directory after each signal of its {@code WatchKey} and compares content of directory with previous state.
+ * In event based mode ({@code vfs.local.fs_watcher_event_based}) watcher uses kinds and context paths of events delivered by {@code
+ * WatchService} and checks only changed files. Changes are coalesced until there are no new events during coalescing window
+ * ({@code vfs.local.fs_watcher_coalesce_window_ms}), so create, modify and delete of the same file in one burst produces at most one
+ * event. All changes of the burst are passed to handler with single call of {@link FileWatcherNotificationHandler#handleFileWatcherEvents}.
+ * Only directories that reported {@code OVERFLOW} are re-listed.
+ */
 @Singleton
 public class FileTreeWatcher {
     private static final Logger LOG = LoggerFactory.getLogger(FileTreeWatcher.class);
 
     private static final long EVENT_PROCESS_TIMEOUT_SEC = 2;
 
+    private static final long DEFAULT_COALESCE_WINDOW_MILLIS = 300;
+    /** Max delay of notification when new events come continuously, in number of coalescing windows. */
+    private static final int  MAX_COALESCE_WINDOWS           = 10;
+
     private final File                           watchRoot;
     private final Path                           watchRootPath;
     private final Map<Path, WatchedDirectory>    watchedDirectories;
@@ -71,13 +89,38 @@ public class FileTreeWatcher {
     private final FileWatcherNotificationHandler fileWatcherNotificationHandler;
     private final ExecutorService                executor;
     private final AtomicBoolean                  running;
+    private final List<FileWatcherEvent>         pendingNotifications;
     private       WatchService                   watchService;
     private       WatchEvent.Modifier[]          watchEventModifiers;
 
+    @com.google.inject.Inject(optional = true)
+    @Named("vfs.local.fs_watcher_event_based")
+    private boolean eventBased;
+
+    @com.google.inject.Inject(optional = true)
+    @Named("vfs.local.fs_watcher_coalesce_window_ms")
+    private long coalesceWindowMillis;
+
     @Inject
     public FileTreeWatcher(@Named("che.user.workspaces.storage") File watchRoot,
                            @Named("vfs.index_filter_matcher") Set<PathMatcher> excludePatterns,
                            FileWatcherNotificationHandler fileWatcherNotificationHandler) {
+        this(watchRoot, excludePatterns, fileWatcherNotificationHandler, false, DEFAULT_COALESCE_WINDOW_MILLIS);
+    }
+
+    /**
+     * @param eventBased
+     *         if {@code true} watcher works in event based mode, see description of this class
+     * @param coalesceWindowMillis
+     *         time without new events after which collected changes are passed to handler, used in event based mode only
+     */
+    public FileTreeWatcher(File watchRoot,
+                           Set<PathMatcher> excludePatterns,
+                           FileWatcherNotificationHandler fileWatcherNotificationHandler,
+                           boolean eventBased,
+                           long coalesceWindowMillis) {
+        this.eventBased = eventBased;
+        this.coalesceWindowMillis = coalesceWindowMillis;
         watchEventModifiers = new WatchEvent.Modifier[0];
         this.watchRoot = toCanonicalFile(watchRoot);
         this.watchRootPath = this.watchRoot.toPath();
@@ -88,6 +131,7 @@ public class FileTreeWatcher {
         executor = Executors.newSingleThreadExecutor(threadFactory);
         running = new AtomicBoolean();
         watchedDirectories = newHashMap();
+        pendingNotifications = new ArrayList<>();
     }
 
     private static File toCanonicalFile(File file) {
@@ -105,7 +149,7 @@ public class FileTreeWatcher {
         }
         running.set(true);
         walkTreeAndSetupWatches(watchRootPath);
-        executor.execute(new WatchEventTask());
+        executor.execute(eventBased ? new CoalescingWatchEventTask() : new WatchEventTask());
         fileWatcherNotificationHandler.started(watchRoot);
     }
 
@@ -322,10 +366,166 @@ public class FileTreeWatcher {
         }
     }
 
+    private class CoalescingWatchEventTask implements Runnable {
+        /** Changed paths. Value is {@code true} if {@code ENTRY_MODIFY} event was received for the path. */
+        final Map<Path, Boolean> changedPaths        = new LinkedHashMap<>();
+        final Set<Path>          overflowDirectories = newLinkedHashSet();
+        long firstEventTime;
+        long lastEventTime;
+
+        @Override
+        public void run() {
+            while (running.get()) {
+                try {
+                    WatchKey watchKey;
+                    if (changedPaths.isEmpty() && overflowDirectories.isEmpty()) {
+                        watchKey = watchService.take();
+                        firstEventTime = System.currentTimeMillis();
+                    } else {
+                        final long deadline = Math.min(lastEventTime + coalesceWindowMillis,
+                                                       firstEventTime + coalesceWindowMillis * MAX_COALESCE_WINDOWS);
+                        final long waitTime = deadline - System.currentTimeMillis();
+                        watchKey = waitTime > 0 ? watchService.poll(waitTime, MILLISECONDS) : null;
+                        if (watchKey == null) {
+                            try {
+                                processChanges(changedPaths, overflowDirectories);
+                            } finally {
+                                changedPaths.clear();
+                                overflowDirectories.clear();
+                            }
+                        }
+                    }
+                    if (watchKey != null) {
+                        lastEventTime = System.currentTimeMillis();
+                        collectEvents(watchKey);
+                    }
+                } catch (InterruptedException | ClosedWatchServiceException e) {
+                    running.set(false);
+                } catch (Throwable e) {
+                    running.set(false);
+                    fileWatcherNotificationHandler.errorOccurred(watchRoot, e);
+                }
+            }
+        }
+
+        void collectEvents(WatchKey watchKey) {
+            final Path directory = (Path)watchKey.watchable();
+            for (WatchEvent<?> event : watchKey.pollEvents()) {
+                if (event.kind() == OVERFLOW) {
+                    overflowDirectories.add(directory);
+                } else {
+                    changedPaths.merge(directory.resolve((Path)event.context()), event.kind() == ENTRY_MODIFY, Boolean::logicalOr);
+                }
+            }
+            watchKey.reset();
+        }
+    }
+
+    private void processChanges(Map<Path, Boolean> changedPaths, Collection<Path> overflowDirectories) {
+        for (Path directory : overflowDirectories) {
+            rescanDirectory(directory);
+        }
+        for (Map.Entry<Path, Boolean> entry : changedPaths.entrySet()) {
+            processChange(entry.getKey(), entry.getValue());
+        }
+        if (!pendingNotifications.isEmpty()) {
+            final List<FileWatcherEvent> events = new ArrayList<>(pendingNotifications);
+            pendingNotifications.clear();
+            fileWatcherNotificationHandler.handleFileWatcherEvents(watchRoot, events);
+        }
+    }
+
+    /** Checks all known and existed items of directory after {@code OVERFLOW} when some events for directory were lost. */
+    private void rescanDirectory(Path directory) {
+        WatchedDirectory watchedDirectory = watchedDirectories.get(directory);
+        if (watchedDirectory == null) {
+            return;
+        }
+        Set<Path> paths = newLinkedHashSet();
+        for (DirectoryItem directoryItem : watchedDirectory.getItems()) {
+            paths.add(directory.resolve(directoryItem.getName()));
+        }
+        if (Files.isDirectory(directory)) {
+            try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+                for (Path entry : entries) {
+                    paths.add(entry);
+                }
+            } catch (IOException e) {
+                LOG.warn(e.getMessage());
+            }
+        }
+        for (Path path : paths) {
+            processChange(path, false);
+        }
+    }
+
+    /** Compares current state of file with known state and fires event if they are different. */
+    private void processChange(Path path, boolean modifyEventReceived) {
+        WatchedDirectory parent = watchedDirectories.get(path.getParent());
+        if (parent == null) {
+            return;
+        }
+        DirectoryItem directoryItem = parent.getItem(path.getFileName());
+        BasicFileAttributes attributes;
+        try {
+            attributes = readAttributes(path, BasicFileAttributes.class, NOFOLLOW_LINKS);
+        } catch (IOException e) {
+            attributes = null;
+        }
+        if (directoryItem != null && (attributes == null || directoryItem.isDirectory() != attributes.isDirectory())) {
+            parent.removeItem(directoryItem.getName());
+            fireWatchEvent(DELETED, path, directoryItem.isDirectory());
+            if (directoryItem.isDirectory()) {
+                forgetDirectory(path);
+            }
+            directoryItem = null;
+        }
+        if (attributes == null) {
+            return;
+        }
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        if (directoryItem == null) {
+            boolean directory = attributes.isDirectory();
+            parent.addItem(new DirectoryItem(path.getFileName(), directory, lastModified));
+            fireWatchEvent(CREATED, path, directory);
+            if (directory) {
+                try {
+                    walkTreeAndSetupWatches(path);
+                    walkTreeAndFireCreatedEvents(path);
+                } catch (IOException ignored) {
+                }
+            }
+        } else {
+            if (attributes.isRegularFile() && (modifyEventReceived || lastModified != directoryItem.getLastModified())) {
+                fireWatchEvent(MODIFIED, path, false);
+            }
+            directoryItem.touch(lastModified);
+        }
+    }
+
+    /** Stops watching deleted directory and fires events for all its known items. */
+    private void forgetDirectory(Path directory) {
+        WatchedDirectory watchedDirectory = watchedDirectories.remove(directory);
+        if (watchedDirectory != null) {
+            watchedDirectory.getWatchKey().cancel();
+            for (DirectoryItem directoryItem : watchedDirectory.getItems()) {
+                Path itemPath = directory.resolve(directoryItem.getName());
+                fireWatchEvent(DELETED, itemPath, directoryItem.isDirectory());
+                if (directoryItem.isDirectory()) {
+                    forgetDirectory(itemPath);
+                }
+            }
+        }
+    }
+
     private void fireWatchEvent(FileWatcherEventType eventType, Path eventPath, boolean isDirectory) {
         Path relativePath = watchRootPath.relativize(eventPath);
         if (shouldNotify(relativePath)) {
-            fileWatcherNotificationHandler.handleFileWatcherEvent(eventType, watchRoot, relativePath.toString(), isDirectory);
+            if (eventBased) {
+                pendingNotifications.add(new FileWatcherEvent(eventType, relativePath.toString(), isDirectory));
+            } else {
+                fileWatcherNotificationHandler.handleFileWatcherEvent(eventType, watchRoot, relativePath.toString(), isDirectory);
+            }
         }
     }
 
@@ -363,15 +563,15 @@ public class FileTreeWatcher {
     }
 
     static class WatchedDirectory {
-        final Path                path;
-        final WatchKey            watchKey;
-        final List<DirectoryItem> items;
+        final Path                     path;
+        final WatchKey                 watchKey;
+        final Map<Path, DirectoryItem> items;
         int hitCounter;
 
         WatchedDirectory(Path path, WatchKey watchKey) {
             this.path = path;
             this.watchKey = watchKey;
-            items = newArrayList();
+            items = new LinkedHashMap<>();
         }
 
         WatchKey getWatchKey() {
@@ -383,21 +583,20 @@ public class FileTreeWatcher {
         }
 
         DirectoryItem getItem(Path name) {
-            for (DirectoryItem item : items) {
-                if (item.getName().equals(name)) {
-                    return item;
-                }
-            }
-            return null;
+            return items.get(name);
         }
 
         void addItem(DirectoryItem item) {
             item.updateHitCounter(this.hitCounter);
-            items.add(item);
+            items.put(item.getName(), item);
+        }
+
+        void removeItem(Path name) {
+            items.remove(name);
         }
 
-        List<DirectoryItem> getItems() {
-            return items;
+        Collection<DirectoryItem> getItems() {
+            return items.values();
         }
 
         int incrementHitCounter() {
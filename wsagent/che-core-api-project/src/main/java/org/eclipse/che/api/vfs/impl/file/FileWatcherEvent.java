@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.vfs.impl.file;
+
+import java.util.Objects;
+
+/** Change of single file or directory under watch root, see {@link FileWatcherNotificationHandler#handleFileWatcherEvents}. */
+public class FileWatcherEvent {
+    private final FileWatcherEventType type;
+    private final String               subPath;
+    private final boolean              directory;
+
+    public FileWatcherEvent(FileWatcherEventType type, String subPath, boolean directory) {
+        this.type = type;
+        this.subPath = subPath;
+        this.directory = directory;
+    }
+
+    public FileWatcherEventType getType() {
+        return type;
+    }
+
+    /** Path relative to watch root. */
+    public String getSubPath() {
+        return subPath;
+    }
+
+    public boolean isDirectory() {
+        return directory;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof FileWatcherEvent)) {
+            return false;
+        }
+        FileWatcherEvent other = (FileWatcherEvent)o;
+        return type == other.type
+               && directory == other.directory
+               && Objects.equals(subPath, other.subPath);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, subPath, directory);
+    }
+
+    @Override
+    public String toString() {
+        return "FileWatcherEvent{" +
+               "type=" + type +
+               ", subPath='" + subPath + '\'' +
+               ", directory=" + directory +
+               '}';
+    }
+}
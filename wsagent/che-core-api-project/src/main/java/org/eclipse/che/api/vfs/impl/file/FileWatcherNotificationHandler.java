@@ -11,10 +11,21 @@
 package org.eclipse.che.api.vfs.impl.file;
 
 import java.io.File;
+import java.util.List;
 
 public interface FileWatcherNotificationHandler {
     void handleFileWatcherEvent(FileWatcherEventType eventType, File watchRoot, String subPath, boolean isDir);
 
+    /**
+     * Handles changes collected by {@link FileTreeWatcher} during one coalescing window. By default each event is passed to {@link
+     * #handleFileWatcherEvent(FileWatcherEventType, File, String, boolean)}.
+     */
+    default void handleFileWatcherEvents(File watchRoot, List<FileWatcherEvent> events) {
+        for (FileWatcherEvent event : events) {
+            handleFileWatcherEvent(event.getType(), watchRoot, event.getSubPath(), event.isDirectory());
+        }
+    }
+
     void started(File watchRoot);
 
     void errorOccurred(File watchRoot, Throwable cause);
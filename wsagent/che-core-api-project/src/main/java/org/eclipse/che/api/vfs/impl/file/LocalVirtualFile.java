@@ -10,6 +10,7 @@
  *******************************************************************************/
 package org.eclipse.che.api.vfs.impl.file;
 
+import com.google.common.hash.HashFunction;
 import com.google.common.io.ByteStreams;
 
 import org.eclipse.che.api.core.ConflictException;
@@ -314,6 +315,11 @@ public class LocalVirtualFile implements VirtualFile {
         return fileSystem.countMd5Sums(this);
     }
 
+    @Override
+    public List<Pair<String, String>> countHashSums(HashFunction hashFunction) throws ServerException {
+        return fileSystem.countHashSums(this, hashFunction);
+    }
+
     @Override
     public File toIoFile() {
         return ioFile;
@@ -10,10 +10,12 @@
  *******************************************************************************/
 package org.eclipse.che.api.vfs.impl.file;
 
+import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.hash.HashFunction;
 import com.google.common.hash.Hashing;
 import com.google.common.io.ByteStreams;
 import com.google.common.io.Files;
@@ -25,10 +27,9 @@ import org.eclipse.che.api.core.util.FileCleaner;
 import org.eclipse.che.api.vfs.AbstractVirtualFileSystemProvider;
 import org.eclipse.che.api.vfs.Archiver;
 import org.eclipse.che.api.vfs.ArchiverFactory;
-import org.eclipse.che.api.vfs.HashSumsCounter;
+import org.eclipse.che.api.vfs.ConcurrentPathLockFactory;
 import org.eclipse.che.api.vfs.LockedFileFinder;
 import org.eclipse.che.api.vfs.Path;
-import org.eclipse.che.api.vfs.PathLockFactory;
 import org.eclipse.che.api.vfs.VirtualFile;
 import org.eclipse.che.api.vfs.VirtualFileFilter;
 import org.eclipse.che.api.vfs.VirtualFileSystem;
@@ -52,7 +53,7 @@ import java.io.FileOutputStream;
 import java.io.FilenameFilter;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -89,6 +90,16 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
     private static final String   FILE_PROPERTIES_DIR    = VFS_SERVICE_DIR + File.separatorChar + "props";
     private static final String   PROPERTIES_FILE_SUFFIX = "_props";
 
+    /** Max number of names in all cached listings of folders. */
+    private static final int  CHILDREN_CACHE_MAX_NAMES     = 200000;
+    /**
+     * Listing of folder is not cached if folder is modified less than this time ago. Modification date of folder may have coarse
+     * resolution, changes made in the same time unit right after reading of listing would not be detected otherwise.
+     */
+    private static final long RACY_LISTING_INTERVAL_MILLIS = 2000;
+    /** Max number of threads which count hash sums of files. */
+    private static final int  HASH_SUMS_THREADS            = Math.min(4, Runtime.getRuntime().availableProcessors());
+
     private static final FilenameFilter DOT_VFS_DIR_FILTER = (dir, name) -> !(VFS_SERVICE_DIR.equals(name));
 
     private static final FilenameFilter VFS_LOCK_FILTER =
@@ -120,13 +131,24 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
         }
     }
 
+    /** Names of children of folder in order of {@link LocalVirtualFile#compareTo} and modification date of folder they are read at. */
+    private static class ChildrenListing {
+        final String[] names;
+        final long     lastModified;
+
+        ChildrenListing(String[] names, long lastModified) {
+            this.names = names;
+            this.lastModified = lastModified;
+        }
+    }
+
     private final File                                            ioRoot;
     private final ArchiverFactory                                 archiverFactory;
     private final SearcherProvider                                searcherProvider;
     private final AbstractVirtualFileSystemProvider.CloseCallback closeCallback;
 
     /* NOTE -- This does not related to virtual file system locking in any kind. -- */
-    private final PathLockFactory pathLockFactory;
+    private final ConcurrentPathLockFactory pathLockFactory;
 
     private final LocalVirtualFile root;
 
@@ -136,6 +158,9 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
     private final FileMetadataSerializer                  metadataSerializer;
     private final LoadingCache<Path, Map<String, String>> metadataCache;
 
+    private final Cache<Path, ChildrenListing> childrenCache;
+    private final CachingHashSumsCounter       hashSumsCounter;
+
     @SuppressWarnings("unchecked")
     public LocalVirtualFileSystem(File ioRoot,
                                   ArchiverFactory archiverFactory,
@@ -147,7 +172,7 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
         this.closeCallback = closeCallback;
 
         root = new LocalVirtualFile(ioRoot, Path.ROOT, this);
-        pathLockFactory = new PathLockFactory(FILE_LOCK_MAX_THREADS);
+        pathLockFactory = new ConcurrentPathLockFactory(FILE_LOCK_MAX_THREADS);
 
         locksSerializer = new FileLockSerializer();
         lockTokensCache = CacheBuilder.newBuilder()
@@ -162,6 +187,15 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
                                     .maximumSize(256)
                                     .expireAfterAccess(10, MINUTES)
                                     .build(new FilePropertiesCacheLoader());
+
+        childrenCache = CacheBuilder.newBuilder()
+                                    .concurrencyLevel(8)
+                                    .maximumWeight(CHILDREN_CACHE_MAX_NAMES)
+                                    .weigher((Path path, ChildrenListing listing) -> listing.names.length + 1)
+                                    .expireAfterAccess(10, MINUTES)
+                                    .build();
+
+        hashSumsCounter = new CachingHashSumsCounter(HASH_SUMS_THREADS);
     }
 
     @Override
@@ -177,6 +211,8 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
     @Override
     public void close() throws ServerException {
         cleanUpCaches();
+        childrenCache.invalidateAll();
+        hashSumsCounter.close();
         if (searcherProvider != null) {
             Searcher searcher = searcherProvider.getSearcher(this, false);
             if (searcher != null) {
@@ -210,8 +246,8 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
         metadataCache.invalidateAll();
     }
 
-    /** Used in tests. Need this to check state of PathLockFactory. All locks MUST be released at the end of request lifecycle. */
-    PathLockFactory getPathLockFactory() {
+    /** Used in tests. Need this to check state of lock factory. All locks MUST be released at the end of request lifecycle. */
+    ConcurrentPathLockFactory getPathLockFactory() {
         return pathLockFactory;
     }
 
@@ -245,24 +281,14 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
 
     List<VirtualFile> getChildren(LocalVirtualFile parent, VirtualFileFilter filter) throws ServerException {
         if (parent.isFolder()) {
-            final List<VirtualFile> children = doGetChildren(parent, DOT_VFS_DIR_FILTER, filter);
-            Collections.sort(children);
-            return children;
+            return doGetChildren(parent, filter);
         }
         return emptyList();
     }
 
 
-    private List<VirtualFile> doGetChildren(LocalVirtualFile parent, FilenameFilter ioFileFilter, VirtualFileFilter vfsFilter)
-            throws ServerException {
-        if (ioFileFilter == null) {
-            ioFileFilter = IoUtil.ANY_FILTER;
-        }
-
-        final String[] names = parent.toIoFile().list(ioFileFilter);
-        if (names == null) {
-            throw new ServerException(String.format("Unable get children of '%s'", parent.getPath()));
-        }
+    private List<VirtualFile> doGetChildren(LocalVirtualFile parent, VirtualFileFilter vfsFilter) throws ServerException {
+        final String[] names = getChildrenNames(parent);
 
         if (vfsFilter == null) {
             vfsFilter = VirtualFileFilter.ACCEPT_ALL;
@@ -280,6 +306,70 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
         return children;
     }
 
+    /**
+     * Gets sorted names of children of folder. Listing is cached until modification date of folder is changed or file watcher reports
+     * about changes in folder, see {@link #invalidateChildrenCache(Path)}. Returned array must not be modified.
+     */
+    private String[] getChildrenNames(LocalVirtualFile parent) throws ServerException {
+        final File ioFolder = parent.toIoFile();
+        final long lastModified = ioFolder.lastModified();
+        final ChildrenListing cached = childrenCache.getIfPresent(parent.getPath());
+        if (cached != null && cached.lastModified == lastModified) {
+            return cached.names;
+        }
+
+        final String[] names = ioFolder.list(DOT_VFS_DIR_FILTER);
+        if (names == null) {
+            throw new ServerException(String.format("Unable get children of '%s'", parent.getPath()));
+        }
+
+        // Same order as LocalVirtualFile.compareTo() gives: folders then files, sorted by name. Check type of each item only once.
+        Arrays.sort(names);
+        final String[] sorted = new String[names.length];
+        int folders = 0;
+        int files = names.length;
+        for (String name : names) {
+            if (new File(ioFolder, name).isDirectory()) {
+                sorted[folders++] = name;
+            } else {
+                sorted[--files] = name;
+            }
+        }
+        reverse(sorted, folders, sorted.length);
+
+        if (System.currentTimeMillis() - lastModified > RACY_LISTING_INTERVAL_MILLIS) {
+            childrenCache.put(parent.getPath(), new ChildrenListing(sorted, lastModified));
+        }
+        return sorted;
+    }
+
+    private static void reverse(String[] array, int from, int to) {
+        for (int i = from, j = to - 1; i < j; i++, j--) {
+            final String tmp = array[i];
+            array[i] = array[j];
+            array[j] = tmp;
+        }
+    }
+
+    /**
+     * Drops cached listings of parent of {@code path} and of {@code path} itself. Listings of descendants of removed or replaced
+     * folder are not looked up, they don't match modification date of new folders and are evicted from cache eventually.
+     */
+    void invalidateChildrenCache(Path path) {
+        if (!path.isRoot()) {
+            childrenCache.invalidate(path.getParent());
+        }
+        childrenCache.invalidate(path);
+    }
+
+    /**
+     * Drops cached hash sums of file with given path. If {@code recursive} is {@code true} hash sums of all its descendants are
+     * dropped as well.
+     */
+    void invalidateHashSums(Path path, boolean recursive) {
+        hashSumsCounter.invalidate(path, recursive);
+    }
+
 
     LocalVirtualFile createFile(LocalVirtualFile parent, String name, InputStream content)
             throws ForbiddenException, ConflictException, ServerException {
@@ -490,7 +580,8 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
 
     InputStream getContent(LocalVirtualFile virtualFile) throws ForbiddenException, ServerException {
         if (virtualFile.isFile()) {
-            final PathLockFactory.PathLock lock = pathLockFactory.getLock(virtualFile.getPath(), false).acquire(WAIT_FOR_FILE_LOCK_TIMEOUT);
+            final ConcurrentPathLockFactory.PathLock lock =
+                    pathLockFactory.getLock(virtualFile.getPath(), false).acquire(WAIT_FOR_FILE_LOCK_TIMEOUT);
             File spoolFile = null;
             try {
                 final File ioFile = virtualFile.toIoFile();
@@ -524,7 +615,8 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
             if (fileIsLockedAndLockTokenIsInvalid(virtualFile, lockToken)) {
                 throw new ForbiddenException(String.format("Unable update content of file '%s'. File is locked", virtualFile.getPath()));
             }
-            final PathLockFactory.PathLock lock = pathLockFactory.getLock(virtualFile.getPath(), true).acquire(WAIT_FOR_FILE_LOCK_TIMEOUT);
+            final ConcurrentPathLockFactory.PathLock lock =
+                    pathLockFactory.getLock(virtualFile.getPath(), true).acquire(WAIT_FOR_FILE_LOCK_TIMEOUT);
             try {
                 doUpdateContent(virtualFile, content);
             } finally {
@@ -593,6 +685,9 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
             LOG.error("Unable delete file {}", virtualFile.toIoFile());
             throw new ServerException(String.format("Unable delete item '%s'", virtualFile.getPath()));
         }
+
+        invalidateChildrenCache(virtualFile.getPath());
+        invalidateHashSums(virtualFile.getPath(), true);
     }
 
 
@@ -673,7 +768,8 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
 
     String lock(LocalVirtualFile virtualFile, long timeout) throws ForbiddenException, ConflictException, ServerException {
         if (virtualFile.isFile()) {
-            final PathLockFactory.PathLock pathLock = pathLockFactory.getLock(virtualFile.getPath(), true).acquire(WAIT_FOR_FILE_LOCK_TIMEOUT);
+            final ConcurrentPathLockFactory.PathLock pathLock =
+                    pathLockFactory.getLock(virtualFile.getPath(), true).acquire(WAIT_FOR_FILE_LOCK_TIMEOUT);
             try {
                 return doLock(virtualFile, timeout);
             } finally {
@@ -732,7 +828,7 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
             throw new ForbiddenException(String.format("Unable unlock file '%s'. Lock token does not match", virtualFile.getPath()));
         }
 
-        final PathLockFactory.PathLock lockFilePathLock = pathLockFactory.getLock(virtualFile.getPath(), true).acquire(
+        final ConcurrentPathLockFactory.PathLock lockFilePathLock = pathLockFactory.getLock(virtualFile.getPath(), true).acquire(
                 WAIT_FOR_FILE_LOCK_TIMEOUT);
         try {
             doUnlock(virtualFile);
@@ -770,7 +866,7 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
     }
 
     private FileLock getFileLock(LocalVirtualFile virtualFile) throws ServerException {
-        final PathLockFactory.PathLock lockFilePathLock =
+        final ConcurrentPathLockFactory.PathLock lockFilePathLock =
                 pathLockFactory.getLock(virtualFile.getPath(), true).acquire(WAIT_FOR_FILE_LOCK_TIMEOUT);
         try {
             final FileLock lock;
@@ -814,7 +910,7 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
 
 
     Map<String, String> getProperties(LocalVirtualFile virtualFile) throws ServerException {
-        final PathLockFactory.PathLock metadataFilePathLock =
+        final ConcurrentPathLockFactory.PathLock metadataFilePathLock =
                 pathLockFactory.getLock(virtualFile.getPath(), false).acquire(WAIT_FOR_FILE_LOCK_TIMEOUT);
         try {
             return newLinkedHashMap(metadataCache.get(virtualFile.getPath()));
@@ -839,7 +935,8 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
             throw new ForbiddenException(
                     String.format("Unable update properties of item '%s'. Item is locked", virtualFile.getPath()));
         }
-        final PathLockFactory.PathLock pathLock = pathLockFactory.getLock(virtualFile.getPath(), true).acquire(WAIT_FOR_FILE_LOCK_TIMEOUT);
+        final ConcurrentPathLockFactory.PathLock pathLock =
+                pathLockFactory.getLock(virtualFile.getPath(), true).acquire(WAIT_FOR_FILE_LOCK_TIMEOUT);
         try {
             doUpdateProperties(virtualFile, updates);
         } finally {
@@ -905,10 +1002,14 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
 
 
     List<Pair<String, String>> countMd5Sums(LocalVirtualFile virtualFile) throws ServerException {
+        return countHashSums(virtualFile, Hashing.md5());
+    }
+
+    List<Pair<String, String>> countHashSums(LocalVirtualFile virtualFile, HashFunction hashFunction) throws ServerException {
         if (virtualFile.isFile()) {
             return emptyList();
         }
-        return new HashSumsCounter(virtualFile, Hashing.md5()).countHashSums();
+        return hashSumsCounter.countHashSums(virtualFile, hashFunction);
     }
 
 
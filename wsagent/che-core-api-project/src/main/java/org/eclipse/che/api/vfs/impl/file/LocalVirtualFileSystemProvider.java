@@ -10,6 +10,8 @@
  *******************************************************************************/
 package org.eclipse.che.api.vfs.impl.file;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.vfs.AbstractVirtualFileSystemProvider;
 import org.eclipse.che.api.vfs.ArchiverFactory;
@@ -22,12 +24,26 @@ import javax.inject.Singleton;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
 
 @Singleton
 public class LocalVirtualFileSystemProvider extends AbstractVirtualFileSystemProvider {
+    private static final int DEFAULT_EXTRACT_THREADS = Math.min(4, Runtime.getRuntime().availableProcessors());
+
     private final File             rootDirectory;
     private final SearcherProvider searcherProvider;
 
+    /** Number of threads which write files extracted from ZIP archives, {@code 0} to write files by thread which extracts archive. */
+    @com.google.inject.Inject(optional = true)
+    @Named("vfs.zip.extract_threads")
+    private int extractThreads = DEFAULT_EXTRACT_THREADS;
+
+    private ExecutorService extractExecutor;
+
     @Inject
     public LocalVirtualFileSystemProvider(@Named("che.user.workspaces.storage") File rootDirectory,
                                           SearcherProvider searcherProvider) throws IOException {
@@ -38,6 +54,20 @@ public class LocalVirtualFileSystemProvider extends AbstractVirtualFileSystemPro
 
     @Override
     protected VirtualFileSystem createVirtualFileSystem(CloseCallback closeCallback) throws ServerException {
-        return new LocalVirtualFileSystem(rootDirectory, new ArchiverFactory(), searcherProvider, closeCallback);
+        return new LocalVirtualFileSystem(rootDirectory, new ArchiverFactory(getExtractExecutor()), searcherProvider, closeCallback);
+    }
+
+    private synchronized ExecutorService getExtractExecutor() {
+        if (extractExecutor == null && extractThreads > 0) {
+            final ThreadPoolExecutor executor = new ThreadPoolExecutor(extractThreads, extractThreads, 60, SECONDS,
+                                                                       new LinkedBlockingQueue<>(),
+                                                                       new ThreadFactoryBuilder().setNameFormat("ZipExtractor-%d")
+                                                                                                 .setDaemon(true)
+                                                                                                 .build());
+            // threads are needed only while archives are extracted
+            executor.allowCoreThreadTimeOut(true);
+            extractExecutor = executor;
+        }
+        return extractExecutor;
     }
 }
@@ -10,6 +10,7 @@
  *******************************************************************************/
 package org.eclipse.che.api.vfs.impl.memory;
 
+import com.google.common.hash.HashFunction;
 import com.google.common.hash.Hashing;
 import com.google.common.io.ByteStreams;
 
@@ -220,12 +221,17 @@ public class MemoryVirtualFile implements VirtualFile {
 
     @Override
     public List<Pair<String, String>> countMd5Sums() throws ServerException {
+        return countHashSums(Hashing.md5());
+    }
+
+    @Override
+    public List<Pair<String, String>> countHashSums(HashFunction hashFunction) throws ServerException {
         checkExistence();
         if (isFile()) {
             return newArrayList();
         }
 
-        return new HashSumsCounter(this, Hashing.md5()).countHashSums();
+        return new HashSumsCounter(this, hashFunction).countHashSums();
     }
 
     @Override
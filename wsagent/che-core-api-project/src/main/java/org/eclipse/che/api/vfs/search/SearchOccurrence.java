@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.vfs.search;
+
+/**
+ * Occurrence of searched text in a file.
+ */
+public class SearchOccurrence {
+    private final float  score;
+    private final String phrase;
+    private final int    startOffset;
+    private final int    endOffset;
+    private final int    lineNumber;
+    private final String lineContent;
+
+    public SearchOccurrence(float score, String phrase, int startOffset, int endOffset, int lineNumber, String lineContent) {
+        this.score = score;
+        this.phrase = phrase;
+        this.startOffset = startOffset;
+        this.endOffset = endOffset;
+        this.lineNumber = lineNumber;
+        this.lineContent = lineContent;
+    }
+
+    /** Score of the file that contains this occurrence. */
+    public float getScore() {
+        return score;
+    }
+
+    /** Text that matches the search criteria. */
+    public String getPhrase() {
+        return phrase;
+    }
+
+    /** Offset of first character of the phrase in the file. */
+    public int getStartOffset() {
+        return startOffset;
+    }
+
+    /** Offset of character after the last character of the phrase in the file. */
+    public int getEndOffset() {
+        return endOffset;
+    }
+
+    /** Number of line that contains the phrase, first line has number 1. */
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    /** Content of line that contains the phrase, if the line is too long only its part around the phrase is returned. */
+    public String getLineContent() {
+        return lineContent;
+    }
+
+    @Override
+    public String toString() {
+        return "SearchOccurrence{" +
+               "score=" + score +
+               ", phrase='" + phrase + '\'' +
+               ", startOffset=" + startOffset +
+               ", endOffset=" + endOffset +
+               ", lineNumber=" + lineNumber +
+               ", lineContent='" + lineContent + '\'' +
+               '}';
+    }
+}
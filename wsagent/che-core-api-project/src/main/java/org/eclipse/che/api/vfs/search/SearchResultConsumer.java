@@ -0,0 +1,30 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.vfs.search;
+
+import org.eclipse.che.api.core.ServerException;
+
+/**
+ * Receives results of search one by one as they are collected.
+ *
+ * @see Searcher#search(QueryExpression, SearchResultConsumer)
+ */
+public interface SearchResultConsumer {
+    /**
+     * Accepts next result of search.
+     *
+     * @param entry
+     *         file that matches the search criteria
+     * @throws ServerException
+     *         if result can't be accepted, in this case search is stopped
+     */
+    void accept(SearchResultEntry entry) throws ServerException;
+}
@@ -26,6 +26,20 @@ public interface Searcher {
      */
     SearchResult search(QueryExpression query) throws ServerException;
 
+    /**
+     * Passes matched items on virtual filesystem to the {@code consumer} as they are collected. Returned result doesn't contain any
+     * items, it contains only total number of hits and query for retrieving next page.
+     *
+     * @param query
+     *         query expression
+     * @param consumer
+     *         consumer of results
+     * @return results of search without items
+     * @throws ServerException
+     *         if an error occurs or if consumer fails
+     */
+    SearchResult search(QueryExpression query, SearchResultConsumer consumer) throws ServerException;
+
     /**
      * Add VirtualFile to index.
      *
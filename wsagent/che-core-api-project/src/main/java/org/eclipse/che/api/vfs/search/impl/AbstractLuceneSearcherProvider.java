@@ -18,6 +18,7 @@ import org.eclipse.che.api.vfs.search.MediaTypeFilter;
 import org.eclipse.che.api.vfs.search.Searcher;
 import org.eclipse.che.api.vfs.search.SearcherProvider;
 
+import javax.inject.Named;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
@@ -28,6 +29,11 @@ public abstract class AbstractLuceneSearcherProvider implements SearcherProvider
     protected final VirtualFileFilter fileIndexFilter;
     protected final AtomicReference<Searcher> searcherReference = new AtomicReference<>();
 
+    /** Content of files which are bigger than this size isn't indexed. */
+    @com.google.inject.Inject(optional = true)
+    @Named("vfs.index.max_file_size_bytes")
+    private long maxIndexedFileSize = LuceneSearcher.DEFAULT_MAX_INDEXED_FILE_SIZE;
+
     /**
      * @param fileIndexFilters
      *         set filter for files that should not be indexed
@@ -53,6 +59,7 @@ public abstract class AbstractLuceneSearcherProvider implements SearcherProvider
         Searcher cachedSearcher = searcherReference.get();
         if (cachedSearcher == null && create) {
             LuceneSearcher searcher = createLuceneSearcher(() -> searcherReference.set(null));
+            searcher.setMaxIndexedFileSize(maxIndexedFileSize);
             if (searcherReference.compareAndSet(null, searcher)) {
                 searcher.init(virtualFileSystem);
             }
@@ -26,21 +26,67 @@ import static org.eclipse.che.commons.lang.IoUtil.deleteRecursive;
 
 /**
  * Filesystem based LuceneSearcher which cleans index directory after call method {@link #close()}.
+ * <p>
+ * Persistent searcher keeps index directory after closing and saves manifest of indexed files in it. Next time when searcher is
+ * initialized only files which are added, changed or deleted since closing are indexed. Manifest is removed when it is loaded, so if
+ * searcher isn't closed properly, e.g. process is killed, then index is rebuilt from scratch.
  *
  * @author andrew00x
  */
 public class FSLuceneSearcher extends LuceneSearcher {
     private static final Logger LOG = LoggerFactory.getLogger(FSLuceneSearcher.class);
 
-    private final File indexDirectory;
+    static final String MANIFEST_FILE_NAME = "che-index.manifest";
+
+    private final File    indexDirectory;
+    private final boolean persistent;
 
     FSLuceneSearcher(File indexDirectory, VirtualFileFilter filter) {
         this(indexDirectory, filter, null);
     }
 
     FSLuceneSearcher(File indexDirectory, VirtualFileFilter filter, AbstractLuceneSearcherProvider.CloseCallback closeCallback) {
+        this(indexDirectory, filter, closeCallback, false);
+    }
+
+    FSLuceneSearcher(File indexDirectory,
+                     VirtualFileFilter filter,
+                     AbstractLuceneSearcherProvider.CloseCallback closeCallback,
+                     boolean persistent) {
         super(filter, closeCallback);
         this.indexDirectory = indexDirectory;
+        this.persistent = persistent;
+    }
+
+    @Override
+    protected IndexManifest loadManifest() throws ServerException {
+        if (persistent) {
+            final File manifestFile = new File(indexDirectory, MANIFEST_FILE_NAME);
+            if (manifestFile.exists()) {
+                try {
+                    return IndexManifest.read(manifestFile);
+                } catch (IOException e) {
+                    LOG.warn("Unable read index manifest '{}', index will be rebuilt. {}", manifestFile, e.getMessage());
+                } finally {
+                    if (!manifestFile.delete()) {
+                        LOG.warn("Unable delete index manifest '{}'", manifestFile);
+                    }
+                }
+            }
+        }
+        cleanIndexDirectory();
+        return new IndexManifest();
+    }
+
+    private void cleanIndexDirectory() throws ServerException {
+        final File[] files = indexDirectory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                if (!deleteRecursive(file)) {
+                    throw new ServerException(String.format("Unable clean index directory '%s'", indexDirectory));
+                }
+            }
+        }
     }
 
     @Override
@@ -54,7 +100,9 @@ public class FSLuceneSearcher extends LuceneSearcher {
 
     @Override
     protected void afterClose() throws IOException {
-        if (!deleteRecursive(indexDirectory)) {
+        if (persistent) {
+            getManifest().write(new File(indexDirectory, MANIFEST_FILE_NAME));
+        } else if (!deleteRecursive(indexDirectory)) {
             LOG.warn("Unable delete index directory '{}', add it in FileCleaner", indexDirectory);
             FileCleaner.addFile(indexDirectory);
         }
@@ -10,8 +10,12 @@
  *******************************************************************************/
 package org.eclipse.che.api.vfs.search.impl;
 
+import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.vfs.VirtualFileFilters;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import javax.annotation.PreDestroy;
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Singleton;
@@ -26,8 +30,15 @@ import static com.google.common.collect.Sets.newHashSet;
 
 @Singleton
 public class FSLuceneSearcherProvider extends AbstractLuceneSearcherProvider {
+    private static final Logger LOG = LoggerFactory.getLogger(FSLuceneSearcherProvider.class);
+
     private final File indexRootDirectory;
 
+    /** Keeps index between restarts of the application, see {@link FSLuceneSearcher}. */
+    @com.google.inject.Inject(optional = true)
+    @Named("vfs.local.fs_index_persistent")
+    private boolean persistentIndex;
+
     /**
      * @param indexRootDirectory
      *         root directory for creation index
@@ -43,8 +54,17 @@ public class FSLuceneSearcherProvider extends AbstractLuceneSearcherProvider {
         Files.createDirectories(indexRootDirectory.toPath());
     }
 
+    @PreDestroy
+    void stop() {
+        try {
+            close();
+        } catch (ServerException e) {
+            LOG.error(e.getMessage(), e);
+        }
+    }
+
     @Override
     protected LuceneSearcher createLuceneSearcher(CloseCallback closeCallback) {
-        return new FSLuceneSearcher(indexRootDirectory, fileIndexFilter, closeCallback);
+        return new FSLuceneSearcher(indexRootDirectory, fileIndexFilter, closeCallback, persistentIndex);
     }
 }
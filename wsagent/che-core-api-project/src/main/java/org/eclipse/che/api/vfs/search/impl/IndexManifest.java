@@ -0,0 +1,148 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.vfs.search.impl;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * State of files at the moment when they were added in the index. Manifest is used to find files which are added, changed or deleted
+ * since last indexing.
+ */
+public class IndexManifest {
+    private static final int FORMAT_VERSION = 1;
+
+    /** Length, modification date and hash of content of indexed file. Hash is {@code null} if content of file is not indexed. */
+    public static class Entry {
+        private final long   length;
+        private final long   lastModified;
+        private final String hash;
+
+        public Entry(long length, long lastModified, String hash) {
+            this.length = length;
+            this.lastModified = lastModified;
+            this.hash = hash;
+        }
+
+        public long getLength() {
+            return length;
+        }
+
+        public long getLastModified() {
+            return lastModified;
+        }
+
+        public String getHash() {
+            return hash;
+        }
+    }
+
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public Entry get(String path) {
+        return entries.get(path);
+    }
+
+    public void put(String path, Entry entry) {
+        entries.put(path, entry);
+    }
+
+    public void remove(String path) {
+        entries.remove(path);
+    }
+
+    /** Removes all entries with paths that starts with {@code pathPrefix}. */
+    public void removeTree(String pathPrefix) {
+        entries.keySet().removeIf(path -> path.startsWith(pathPrefix));
+    }
+
+    /** Paths of all files in this manifest. Returned set is backed by manifest. */
+    public Set<String> getPaths() {
+        return entries.keySet();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Saves manifest to the file. Manifest is written to temporary file and then moved to the {@code file}, so the {@code file} is never
+     * left half-written. Entries are copied before writing, so number of written entries matches the header even if manifest is
+     * modified concurrently.
+     *
+     * @throws IOException
+     *         if an i/o error occurs
+     */
+    public void write(File file) throws IOException {
+        final File tmp = new File(file.getParentFile(), file.getName() + ".tmp");
+        final List<Map.Entry<String, Entry>> snapshot = new ArrayList<>(entries.entrySet());
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)))) {
+            output.writeInt(FORMAT_VERSION);
+            output.writeInt(snapshot.size());
+            for (Map.Entry<String, Entry> e : snapshot) {
+                final Entry entry = e.getValue();
+                output.writeUTF(e.getKey());
+                output.writeLong(entry.length);
+                output.writeLong(entry.lastModified);
+                output.writeBoolean(entry.hash != null);
+                if (entry.hash != null) {
+                    output.writeUTF(entry.hash);
+                }
+            }
+        }
+        Files.move(tmp.toPath(), file.toPath(), REPLACE_EXISTING, ATOMIC_MOVE);
+    }
+
+    /**
+     * Reads manifest from the file.
+     *
+     * @throws IOException
+     *         if an i/o error occurs or file has unsupported format
+     */
+    public static IndexManifest read(File file) throws IOException {
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            final int version = input.readInt();
+            if (version != FORMAT_VERSION) {
+                throw new IOException(String.format("Unsupported format version %d of index manifest %s", version, file));
+            }
+            final IndexManifest manifest = new IndexManifest();
+            final int size = input.readInt();
+            for (int i = 0; i < size; i++) {
+                final String path = input.readUTF();
+                final long length = input.readLong();
+                final long lastModified = input.readLong();
+                final String hash = input.readBoolean() ? input.readUTF() : null;
+                manifest.entries.put(path, new Entry(length, lastModified, hash));
+            }
+            return manifest;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.vfs.search.impl;
+
+/**
+ * Snapshot of counters of {@link LuceneIndexingPipeline}.
+ *
+ * @see LuceneSearcher#getIndexingProgress()
+ */
+public class IndexingProgress {
+    private final boolean indexing;
+    private final long    filesDiscovered;
+    private final long    filesIndexed;
+    private final long    filesSkipped;
+    private final long    filesFailed;
+    private final long    bytesIndexed;
+    private final long    elapsedTimeMillis;
+
+    IndexingProgress(boolean indexing,
+                     long filesDiscovered,
+                     long filesIndexed,
+                     long filesSkipped,
+                     long filesFailed,
+                     long bytesIndexed,
+                     long elapsedTimeMillis) {
+        this.indexing = indexing;
+        this.filesDiscovered = filesDiscovered;
+        this.filesIndexed = filesIndexed;
+        this.filesSkipped = filesSkipped;
+        this.filesFailed = filesFailed;
+        this.bytesIndexed = bytesIndexed;
+        this.elapsedTimeMillis = elapsedTimeMillis;
+    }
+
+    /** Returns {@code true} if at least one file tree is being indexed at the moment. */
+    public boolean isIndexing() {
+        return indexing;
+    }
+
+    /** Number of files found while walking file trees. */
+    public long getFilesDiscovered() {
+        return filesDiscovered;
+    }
+
+    /** Number of files written to the index. */
+    public long getFilesIndexed() {
+        return filesIndexed;
+    }
+
+    /** Number of files skipped because they were not changed since last indexing. */
+    public long getFilesSkipped() {
+        return filesSkipped;
+    }
+
+    /** Number of files that could not be read. */
+    public long getFilesFailed() {
+        return filesFailed;
+    }
+
+    /** Number of bytes of file content written to the index. */
+    public long getBytesIndexed() {
+        return bytesIndexed;
+    }
+
+    /** Time spent on indexing of file trees. */
+    public long getElapsedTimeMillis() {
+        return elapsedTimeMillis;
+    }
+
+    /** Number of processed (indexed or skipped) files per second. */
+    public double getFilesPerSecond() {
+        return elapsedTimeMillis == 0 ? 0 : (filesIndexed + filesSkipped) * 1000.0 / elapsedTimeMillis;
+    }
+
+    /** Number of indexed bytes per second. */
+    public double getBytesPerSecond() {
+        return elapsedTimeMillis == 0 ? 0 : bytesIndexed * 1000.0 / elapsedTimeMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "IndexingProgress{" +
+               "indexing=" + indexing +
+               ", filesDiscovered=" + filesDiscovered +
+               ", filesIndexed=" + filesIndexed +
+               ", filesSkipped=" + filesSkipped +
+               ", filesFailed=" + filesFailed +
+               ", bytesIndexed=" + bytesIndexed +
+               ", elapsedTimeMillis=" + elapsedTimeMillis +
+               '}';
+    }
+}
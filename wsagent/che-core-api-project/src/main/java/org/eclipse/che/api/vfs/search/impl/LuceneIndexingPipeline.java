@@ -0,0 +1,261 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.vfs.search.impl;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import org.apache.lucene.document.Document;
+import org.eclipse.che.api.core.ForbiddenException;
+import org.eclipse.che.api.core.ServerException;
+import org.eclipse.che.api.vfs.VirtualFile;
+import org.eclipse.che.api.vfs.VirtualFileFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Indexes file trees for {@link LuceneSearcher}. Files are read by pool of reader threads while the thread that walks the tree writes
+ * already read documents to the index in batches. Number and total size of files which are read but not written yet are bounded.
+ * Files which are not changed since last indexing are not read at all.
+ */
+class LuceneIndexingPipeline {
+    private static final Logger LOG = LoggerFactory.getLogger(LuceneIndexingPipeline.class);
+
+    /** Reads file and creates lucene document for it. */
+    interface DocumentReader {
+        /** Returns {@code null} if file doesn't exist anymore. */
+        IndexedDocument read(VirtualFile virtualFile) throws ServerException, ForbiddenException, IOException;
+    }
+
+    /** Writes batch of documents to the index. */
+    interface DocumentWriter {
+        void write(List<IndexedDocument> batch) throws ServerException;
+    }
+
+    /**
+     * Lucene document together with state of file at the moment when it was read. Document is {@code null} if content of file is the
+     * same as already indexed and only state of file needs to be updated.
+     */
+    static class IndexedDocument {
+        final String   path;
+        final Document document;
+        final long     length;
+        final long     lastModified;
+        final String   hash;
+
+        IndexedDocument(String path, Document document, long length, long lastModified, String hash) {
+            this.path = path;
+            this.document = document;
+            this.length = length;
+            this.lastModified = lastModified;
+            this.hash = hash;
+        }
+    }
+
+    /** File which is submitted for reading together with its size at the moment of submission. */
+    private static class PendingDocument {
+        final Future<IndexedDocument> future;
+        final long                    length;
+
+        PendingDocument(Future<IndexedDocument> future, long length) {
+            this.future = future;
+            this.length = length;
+        }
+    }
+
+    private final DocumentReader  documentReader;
+    private final DocumentWriter  documentWriter;
+    private final ExecutorService readers;
+    private final int             queueCapacity;
+    private final long            queueCapacityBytes;
+    private final int             batchSize;
+
+    private final AtomicLong filesDiscovered = new AtomicLong();
+    private final AtomicLong filesIndexed    = new AtomicLong();
+    private final AtomicLong filesSkipped    = new AtomicLong();
+    private final AtomicLong filesFailed     = new AtomicLong();
+    private final AtomicLong bytesIndexed    = new AtomicLong();
+
+    private int  activeTrees;
+    private long activeSince;
+    private long elapsedTimeMillis;
+
+    LuceneIndexingPipeline(DocumentReader documentReader,
+                           DocumentWriter documentWriter,
+                           int readerThreads,
+                           int queueCapacity,
+                           long queueCapacityBytes,
+                           int batchSize) {
+        this.documentReader = documentReader;
+        this.documentWriter = documentWriter;
+        this.queueCapacity = queueCapacity;
+        this.queueCapacityBytes = queueCapacityBytes;
+        this.batchSize = batchSize;
+        readers = Executors.newFixedThreadPool(readerThreads, new ThreadFactoryBuilder().setNameFormat("LuceneIndexingPipeline-%d")
+                                                                                        .setDaemon(true)
+                                                                                        .build());
+    }
+
+    /**
+     * Indexes all files in the {@code tree}. Method returns when all files are written to the index. Documents are written in the same
+     * order as files are found in the tree.
+     *
+     * @param tree
+     *         root of file tree
+     * @param changedFilter
+     *         filter that accepts files which must be re-indexed, all other files are skipped
+     * @throws ServerException
+     *         if any virtual filesystem error occurs or if writing to the index fails
+     */
+    void indexTree(VirtualFile tree, VirtualFileFilter changedFilter) throws ServerException {
+        final Deque<PendingDocument> pending = new ArrayDeque<>(queueCapacity);
+        final List<IndexedDocument> batch = new ArrayList<>(batchSize);
+        long pendingBytes = 0;
+        treeStarted();
+        try {
+            final Deque<VirtualFile> folders = new ArrayDeque<>();
+            folders.push(tree);
+            while (!folders.isEmpty()) {
+                final VirtualFile folder = folders.pop();
+                if (folder.exists()) {
+                    for (VirtualFile child : folder.getChildren()) {
+                        if (child.isFolder()) {
+                            folders.push(child);
+                        } else {
+                            filesDiscovered.incrementAndGet();
+                            if (changedFilter.accept(child)) {
+                                final PendingDocument document = new PendingDocument(submit(child), child.getLength());
+                                pending.add(document);
+                                pendingBytes += document.length;
+                                while (!pending.isEmpty() && (pending.size() >= queueCapacity || pendingBytes >= queueCapacityBytes)) {
+                                    pendingBytes -= writeBatch(pending, batch);
+                                }
+                            } else {
+                                filesSkipped.incrementAndGet();
+                            }
+                        }
+                    }
+                }
+            }
+            while (!pending.isEmpty()) {
+                writeBatch(pending, batch);
+            }
+        } finally {
+            for (PendingDocument document : pending) {
+                document.future.cancel(true);
+            }
+            treeFinished();
+        }
+    }
+
+    /** Returns snapshot of indexing counters. */
+    synchronized IndexingProgress getProgress() {
+        final long elapsed = activeTrees > 0 ? elapsedTimeMillis + (System.currentTimeMillis() - activeSince) : elapsedTimeMillis;
+        return new IndexingProgress(activeTrees > 0,
+                                    filesDiscovered.get(),
+                                    filesIndexed.get(),
+                                    filesSkipped.get(),
+                                    filesFailed.get(),
+                                    bytesIndexed.get(),
+                                    elapsed);
+    }
+
+    void shutdown() {
+        readers.shutdownNow();
+    }
+
+    private Future<IndexedDocument> submit(VirtualFile file) throws ServerException {
+        try {
+            return readers.submit(() -> read(file));
+        } catch (RejectedExecutionException e) {
+            throw new ServerException("Indexing pipeline is shut down");
+        }
+    }
+
+    private IndexedDocument read(VirtualFile file) {
+        try {
+            return documentReader.read(file);
+        } catch (ServerException | ForbiddenException | IOException e) {
+            filesFailed.incrementAndGet();
+            LOG.warn("Unable index file {}: {}", file.getPath(), e.getMessage());
+            return null;
+        }
+    }
+
+    /** Writes next batch of pending documents and returns estimated size of files which are removed from the queue. */
+    private long writeBatch(Deque<PendingDocument> pending, List<IndexedDocument> batch) throws ServerException {
+        long removedBytes = 0;
+        while (batch.size() < batchSize && !pending.isEmpty()) {
+            final IndexedDocument document = await(pending.peek().future);
+            removedBytes += pending.poll().length;
+            if (document != null) {
+                batch.add(document);
+            }
+        }
+        if (!batch.isEmpty()) {
+            try {
+                documentWriter.write(batch);
+                for (IndexedDocument document : batch) {
+                    if (document.document == null) {
+                        filesSkipped.incrementAndGet();
+                    } else {
+                        filesIndexed.incrementAndGet();
+                        bytesIndexed.addAndGet(document.length);
+                    }
+                }
+            } finally {
+                batch.clear();
+            }
+        }
+        return removedBytes;
+    }
+
+    private IndexedDocument await(Future<IndexedDocument> future) throws ServerException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServerException("Indexing interrupted");
+        } catch (CancellationException e) {
+            throw new ServerException("Indexing pipeline is shut down");
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof Error) {
+                throw (Error)cause;
+            }
+            throw new ServerException(cause.getMessage(), cause);
+        }
+    }
+
+    private synchronized void treeStarted() {
+        if (activeTrees++ == 0) {
+            activeSince = System.currentTimeMillis();
+        }
+    }
+
+    private synchronized void treeFinished() {
+        if (--activeTrees == 0) {
+            elapsedTimeMillis += System.currentTimeMillis() - activeSince;
+        }
+    }
+}
@@ -10,6 +10,11 @@
  *******************************************************************************/
 package org.eclipse.che.api.vfs.search.impl;
 
+import com.google.common.collect.ImmutableSet;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
+import com.google.common.io.CharStreams;
+
 import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.analysis.TokenStream;
 import org.apache.lucene.analysis.Tokenizer;
@@ -17,15 +22,23 @@ import org.apache.lucene.analysis.core.LowerCaseFilter;
 import org.apache.lucene.analysis.core.WhitespaceTokenizer;
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.Field;
+import org.apache.lucene.document.FieldType;
 import org.apache.lucene.document.StringField;
 import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DocsAndPositionsEnum;
+import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.Term;
+import org.apache.lucene.index.Terms;
+import org.apache.lucene.index.TermsEnum;
+import org.apache.lucene.index.TrackingIndexWriter;
 import org.apache.lucene.queryparser.classic.ParseException;
 import org.apache.lucene.queryparser.classic.QueryParser;
 import org.apache.lucene.search.BooleanClause;
 import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.ControlledRealTimeReopenThread;
+import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.PrefixQuery;
 import org.apache.lucene.search.Query;
@@ -35,31 +48,46 @@ import org.apache.lucene.search.SearcherManager;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.WildcardQuery;
 import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.IOUtils;
 import org.eclipse.che.api.core.ForbiddenException;
 import org.eclipse.che.api.core.ServerException;
+import org.eclipse.che.api.vfs.Path;
 import org.eclipse.che.api.vfs.VirtualFile;
 import org.eclipse.che.api.vfs.VirtualFileFilter;
 import org.eclipse.che.api.vfs.VirtualFileFilters;
 import org.eclipse.che.api.vfs.VirtualFileSystem;
 import org.eclipse.che.api.vfs.search.MediaTypeFilter;
 import org.eclipse.che.api.vfs.search.QueryExpression;
+import org.eclipse.che.api.vfs.search.SearchOccurrence;
 import org.eclipse.che.api.vfs.search.SearchResult;
+import org.eclipse.che.api.vfs.search.SearchResultConsumer;
 import org.eclipse.che.api.vfs.search.SearchResultEntry;
 import org.eclipse.che.api.vfs.search.Searcher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
 
 import static com.google.common.collect.Lists.newArrayList;
+import static com.google.common.collect.Sets.newConcurrentHashSet;
+import static java.util.Collections.emptyList;
+import static java.util.Comparator.comparingInt;
+import static java.util.stream.Collectors.toList;
 
 /**
  * Lucene based searcher.
@@ -69,15 +97,51 @@ import static com.google.common.collect.Lists.newArrayList;
 public abstract class LuceneSearcher implements Searcher {
     private static final Logger LOG = LoggerFactory.getLogger(LuceneSearcher.class);
 
-    private static final int RESULT_LIMIT = 1000;
+    private static final int RESULT_LIMIT       = 1000;
+    private static final int OCCURRENCES_LIMIT  = 100;
+    private static final int LINE_CONTENT_LIMIT = 256;
+
+    /** Content of bigger files isn't indexed, such files may be found by name only. */
+    public static final long DEFAULT_MAX_INDEXED_FILE_SIZE = 4 * 1024 * 1024;
+
+    private static final Set<String> QUERY_OPERATORS = ImmutableSet.of("AND", "OR", "NOT", "&&", "||");
+
+    /**
+     * Content of files isn't stored in the index, only offsets of terms are stored, that is needed for finding positions of searched
+     * text. Lines which contain searched text are read from files when results are returned.
+     */
+    private static final FieldType TEXT_FIELD_TYPE = new FieldType(TextField.TYPE_NOT_STORED);
+
+    static {
+        TEXT_FIELD_TYPE.setStoreTermVectors(true);
+        TEXT_FIELD_TYPE.setStoreTermVectorPositions(true);
+        TEXT_FIELD_TYPE.setStoreTermVectorOffsets(true);
+        TEXT_FIELD_TYPE.freeze();
+    }
+
+    private static final int    INDEXING_READER_THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+    private static final int    INDEXING_QUEUE_CAPACITY = 256;
+    private static final long   INDEXING_QUEUE_BYTES    = 64 * 1024 * 1024;
+    private static final int    INDEXING_BATCH_SIZE     = 64;
+    private static final double REFRESH_MAX_STALE_SEC   = 1.0;
+    private static final double REFRESH_MIN_STALE_SEC   = 0.025;
 
     private final List<VirtualFileFilter>                      indexFilters;
     private final AbstractLuceneSearcherProvider.CloseCallback closeCallback;
+    private final AtomicLong                                   lastWriteGeneration;
+
+    private IndexWriter                                   luceneIndexWriter;
+    private TrackingIndexWriter                           trackingIndexWriter;
+    private SearcherManager                               searcherManager;
+    private ControlledRealTimeReopenThread<IndexSearcher> reopenThread;
+    private LuceneIndexingPipeline                        indexingPipeline;
+    private IndexManifest                                 manifest;
 
-    private IndexWriter     luceneIndexWriter;
-    private SearcherManager searcherManager;
+    /** Virtual filesystem which is indexed, content of found files is read from it. */
+    private volatile VirtualFileSystem virtualFileSystem;
 
     private boolean closed = true;
+    private long    maxIndexedFileSize = DEFAULT_MAX_INDEXED_FILE_SIZE;
 
     protected LuceneSearcher() {
         this(new MediaTypeFilter(), null);
@@ -96,6 +160,7 @@ public abstract class LuceneSearcher implements Searcher {
         this.closeCallback = closeCallback;
         indexFilters = new CopyOnWriteArrayList<>();
         indexFilters.add(indexFilter);
+        lastWriteGeneration = new AtomicLong();
     }
 
     @Override
@@ -108,6 +173,11 @@ public abstract class LuceneSearcher implements Searcher {
         return indexFilters.remove(indexFilter);
     }
 
+    /** Sets max size of file which content is indexed. Must be set before initialization of searcher. */
+    void setMaxIndexedFileSize(long maxIndexedFileSize) {
+        this.maxIndexedFileSize = maxIndexedFileSize;
+    }
+
     protected Analyzer makeAnalyzer() {
         return new Analyzer() {
             @Override
@@ -121,6 +191,23 @@ public abstract class LuceneSearcher implements Searcher {
 
     protected abstract Directory makeDirectory() throws ServerException;
 
+    /**
+     * Provides state of files which are already in the index. It is called before {@link #makeDirectory()}. Implementation which keeps
+     * index between restarts loads manifest saved on closing of the index. Files which are not changed since then are not indexed again
+     * by {@link #init(VirtualFileSystem)}. By default returns an empty manifest.
+     *
+     * @throws ServerException
+     *         if manifest can't be loaded
+     */
+    protected IndexManifest loadManifest() throws ServerException {
+        return new IndexManifest();
+    }
+
+    /** State of files which are in the index at the moment. */
+    protected synchronized IndexManifest getManifest() {
+        return manifest;
+    }
+
     /**
      * Init lucene index. Need call this method if index directory is clean. Scan all files in virtual filesystem and add to index.
      *
@@ -130,11 +217,13 @@ public abstract class LuceneSearcher implements Searcher {
      *         if any virtual filesystem error occurs
      */
     public void init(VirtualFileSystem virtualFileSystem) throws ServerException {
+        this.virtualFileSystem = virtualFileSystem;
         doInit();
         addTree(virtualFileSystem.getRoot());
     }
 
     public void initAsynchronously(ExecutorService executor, VirtualFileSystem virtualFileSystem) throws ServerException {
+        this.virtualFileSystem = virtualFileSystem;
         doInit();
         if (!executor.isShutdown()) {
             executor.execute(() -> {
@@ -149,8 +238,24 @@ public abstract class LuceneSearcher implements Searcher {
 
     protected final synchronized void doInit() throws ServerException {
         try {
+            manifest = loadManifest();
             luceneIndexWriter = new IndexWriter(makeDirectory(), new IndexWriterConfig(makeAnalyzer()));
+            trackingIndexWriter = new TrackingIndexWriter(luceneIndexWriter);
             searcherManager = new SearcherManager(luceneIndexWriter, true, new SearcherFactory());
+            reopenThread = new ControlledRealTimeReopenThread<>(trackingIndexWriter,
+                                                                searcherManager,
+                                                                REFRESH_MAX_STALE_SEC,
+                                                                REFRESH_MIN_STALE_SEC);
+            reopenThread.setName("LuceneSearcher-RefreshThread");
+            reopenThread.setDaemon(true);
+            reopenThread.start();
+            indexingPipeline = new LuceneIndexingPipeline(this::readDocument,
+                                                          this::writeDocuments,
+                                                          INDEXING_READER_THREADS,
+                                                          INDEXING_QUEUE_CAPACITY,
+                                                          INDEXING_QUEUE_BYTES,
+                                                          INDEXING_BATCH_SIZE);
+            lastWriteGeneration.set(0);
             closed = false;
         } catch (IOException e) {
             throw new ServerException(e);
@@ -160,7 +265,8 @@ public abstract class LuceneSearcher implements Searcher {
     public final synchronized void close() {
         if (!closed) {
             try {
-                IOUtils.close(getIndexWriter(), getIndexWriter().getDirectory(), searcherManager);
+                indexingPipeline.shutdown();
+                IOUtils.close(reopenThread, getIndexWriter(), getIndexWriter().getDirectory(), searcherManager);
                 afterClose();
             } catch (IOException e) {
                 LOG.error(e.getMessage(), e);
@@ -184,12 +290,33 @@ public abstract class LuceneSearcher implements Searcher {
         return luceneIndexWriter;
     }
 
+    private synchronized TrackingIndexWriter getTrackingIndexWriter() {
+        return trackingIndexWriter;
+    }
+
+    /** Returns counters of indexing of file trees, e.g. number of indexed files and indexing throughput. */
+    public synchronized IndexingProgress getIndexingProgress() {
+        return indexingPipeline == null ? new IndexingProgress(false, 0, 0, 0, 0, 0, 0) : indexingPipeline.getProgress();
+    }
+
     @Override
     public SearchResult search(QueryExpression query) throws ServerException {
+        final List<SearchResultEntry> results = newArrayList();
+        final SearchResult result = search(query, results::add);
+        return SearchResult.aSearchResult()
+                           .withResults(results)
+                           .withTotalHits(result.getTotalHits())
+                           .withNextPageQueryExpression(result.getNextPageQueryExpression().orNull())
+                           .withElapsedTimeMillis(result.getElapsedTimeMillis())
+                           .build();
+    }
+
+    @Override
+    public SearchResult search(QueryExpression query, SearchResultConsumer consumer) throws ServerException {
         IndexSearcher luceneSearcher = null;
         try {
             final long startTime = System.currentTimeMillis();
-            searcherManager.maybeRefresh();
+            waitForLastWrite();
             luceneSearcher = searcherManager.acquire();
 
             Query luceneQuery = createLuceneQuery(query);
@@ -204,11 +331,19 @@ public abstract class LuceneSearcher implements Searcher {
             TopDocs topDocs = luceneSearcher.searchAfter(after, luceneQuery, numDocs);
             final int totalHitsNum = topDocs.totalHits;
 
-            List<SearchResultEntry> results = newArrayList();
+            final Predicate<String> termMatcher = query.isIncludePositions() && query.getText() != null
+                                                  ? createTermMatcher(query.getText())
+                                                  : null;
             for (int i = 0; i < topDocs.scoreDocs.length; i++) {
                 ScoreDoc scoreDoc = topDocs.scoreDocs[i];
-                String filePath = luceneSearcher.doc(scoreDoc.doc).getField("path").stringValue();
-                results.add(new SearchResultEntry(filePath));
+                Document document = luceneSearcher.doc(scoreDoc.doc);
+                String filePath = document.getField("path").stringValue();
+                if (termMatcher == null) {
+                    consumer.accept(new SearchResultEntry(filePath));
+                } else {
+                    List<SearchOccurrence> occurrences = findOccurrences(luceneSearcher.getIndexReader(), scoreDoc, filePath, termMatcher);
+                    consumer.accept(new SearchResultEntry(filePath, occurrences));
+                }
             }
 
             final long elapsedTimeMillis = System.currentTimeMillis() - startTime;
@@ -220,7 +355,6 @@ public abstract class LuceneSearcher implements Searcher {
             }
 
             return SearchResult.aSearchResult()
-                               .withResults(results)
                                .withTotalHits(totalHitsNum)
                                .withNextPageQueryExpression(nextPageQueryExpression)
                                .withElapsedTimeMillis(elapsedTimeMillis)
@@ -229,13 +363,35 @@ public abstract class LuceneSearcher implements Searcher {
             throw new ServerException(e.getMessage(), e);
         } finally {
             try {
-                searcherManager.release(luceneSearcher);
+                if (luceneSearcher != null) {
+                    searcherManager.release(luceneSearcher);
+                }
             } catch (IOException e) {
                 LOG.error(e.getMessage());
             }
         }
     }
 
+    /**
+     * Index is reopened by background thread. Wait until changes made before this call become visible for searching, thread which
+     * refreshes index speeds up when somebody is waiting for it.
+     */
+    private void waitForLastWrite() throws ServerException {
+        final long generation = lastWriteGeneration.get();
+        if (generation > 0) {
+            try {
+                reopenThread.waitForGeneration(generation);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ServerException("Search interrupted");
+            }
+        }
+    }
+
+    private void writeGeneration(long generation) {
+        lastWriteGeneration.accumulateAndGet(generation, Math::max);
+    }
+
     private Query createLuceneQuery(QueryExpression query) throws ServerException {
         final BooleanQuery luceneQuery = new BooleanQuery();
         final String name = query.getName();
@@ -258,6 +414,126 @@ public abstract class LuceneSearcher implements Searcher {
         return luceneQuery;
     }
 
+    /**
+     * Creates matcher for terms in the index which are searched with query {@code text}. Query text is split in the same way as
+     * analyzer splits content of files, query syntax, e.g. boolean operators, boosts, excluded terms, is ignored.
+     */
+    private Predicate<String> createTermMatcher(String text) {
+        final List<Pattern> patterns = newArrayList();
+        for (String token : text.split("\\s+")) {
+            if (token.isEmpty() || QUERY_OPERATORS.contains(token) || token.startsWith("-") || token.startsWith("!")) {
+                continue;
+            }
+            String term = token.replaceAll("^[+(\"]+|[)\"]+$", "").replaceAll("[~^][0-9.]*$", "");
+            if (term.isEmpty()) {
+                continue;
+            }
+            final StringBuilder regex = new StringBuilder();
+            for (char c : term.toLowerCase(Locale.ENGLISH).toCharArray()) {
+                if (c == '*') {
+                    regex.append(".*");
+                } else if (c == '?') {
+                    regex.append('.');
+                } else if (c != '\\') {
+                    regex.append(Pattern.quote(String.valueOf(c)));
+                }
+            }
+            patterns.add(Pattern.compile(regex.toString()));
+        }
+        return term -> patterns.stream().anyMatch(pattern -> pattern.matcher(term).matches());
+    }
+
+    /**
+     * Finds occurrences of matched terms in the document with offsets stored in term vector of the document. Lines which contain
+     * occurrences are read from the file, offsets which are out of the file, e.g. if file was truncated after indexing, are skipped.
+     */
+    private List<SearchOccurrence> findOccurrences(IndexReader indexReader,
+                                                   ScoreDoc scoreDoc,
+                                                   String filePath,
+                                                   Predicate<String> termMatcher) throws IOException, ServerException {
+        final Terms termVector = indexReader.getTermVector(scoreDoc.doc, "text");
+        if (termVector == null) {
+            return emptyList();
+        }
+        final List<int[]> offsets = newArrayList();
+        final TermsEnum termsEnum = termVector.iterator(null);
+        DocsAndPositionsEnum positions = null;
+        BytesRef term;
+        while ((term = termsEnum.next()) != null) {
+            if (termMatcher.test(term.utf8ToString())) {
+                positions = termsEnum.docsAndPositions(null, positions, DocsAndPositionsEnum.FLAG_OFFSETS);
+                if (positions != null && positions.nextDoc() != DocIdSetIterator.NO_MORE_DOCS) {
+                    for (int i = 0, freq = positions.freq(); i < freq; i++) {
+                        positions.nextPosition();
+                        offsets.add(new int[]{positions.startOffset(), positions.endOffset()});
+                    }
+                }
+            }
+        }
+        if (offsets.isEmpty()) {
+            return emptyList();
+        }
+        final String content = readContent(filePath);
+        if (content == null) {
+            return emptyList();
+        }
+        offsets.sort(comparingInt(offset -> offset[0]));
+
+        final List<SearchOccurrence> occurrences = new ArrayList<>(Math.min(offsets.size(), OCCURRENCES_LIMIT));
+        int lineNumber = 1;
+        int lineStart = 0;
+        int position = 0;
+        for (int i = 0; i < offsets.size() && occurrences.size() < OCCURRENCES_LIMIT; i++) {
+            final int startOffset = offsets.get(i)[0];
+            final int endOffset = offsets.get(i)[1];
+            if (startOffset < 0 || endOffset < startOffset || endOffset > content.length()) {
+                continue;
+            }
+            for (; position < startOffset; position++) {
+                if (content.charAt(position) == '\n') {
+                    lineNumber++;
+                    lineStart = position + 1;
+                }
+            }
+            int lineEnd = content.indexOf('\n', startOffset);
+            if (lineEnd < 0) {
+                lineEnd = content.length();
+            }
+            if (lineEnd > lineStart && content.charAt(lineEnd - 1) == '\r') {
+                lineEnd--;
+            }
+            // part of too long line is taken around the phrase
+            final int contextLength = Math.max(0, LINE_CONTENT_LIMIT - (endOffset - startOffset)) / 2;
+            final int snippetStart = Math.max(lineStart, Math.min(startOffset - contextLength, lineEnd - LINE_CONTENT_LIMIT));
+            final int snippetEnd = Math.min(lineEnd, snippetStart + LINE_CONTENT_LIMIT);
+            occurrences.add(new SearchOccurrence(scoreDoc.score,
+                                                 content.substring(startOffset, endOffset),
+                                                 startOffset,
+                                                 endOffset,
+                                                 lineNumber,
+                                                 content.substring(snippetStart, snippetEnd)));
+        }
+        return occurrences;
+    }
+
+    /**
+     * Reads content of found file in the same way as it is read for indexing, so offsets of terms point to the same characters.
+     *
+     * @return content of file or {@code null} if file doesn't exist anymore
+     */
+    private String readContent(String filePath) throws IOException, ServerException {
+        final VirtualFileSystem fileSystem = virtualFileSystem;
+        final VirtualFile file = fileSystem == null ? null : fileSystem.getRoot().getChild(Path.of(filePath));
+        if (file == null || !file.isFile()) {
+            return null;
+        }
+        try (Reader reader = new InputStreamReader(ByteStreams.limit(file.getContent(), maxIndexedFileSize))) {
+            return CharStreams.toString(reader);
+        } catch (ForbiddenException e) {
+            throw new ServerException(e.getServiceError());
+        }
+    }
+
     private ScoreDoc skipScoreDocs(IndexSearcher luceneSearcher, Query luceneQuery, int numSkipDocs) throws IOException {
         final int readFrameSize = Math.min(numSkipDocs, RESULT_LIMIT);
         ScoreDoc scoreDoc = null;
@@ -284,7 +560,8 @@ public abstract class LuceneSearcher implements Searcher {
                                     .setName(originalQuery.getName())
                                     .setPath(originalQuery.getPath())
                                     .setSkipCount(newSkipCount)
-                                    .setMaxItems(originalQuery.getMaxItems());
+                                    .setMaxItems(originalQuery.getMaxItems())
+                                    .setIncludePositions(originalQuery.isIncludePositions());
     }
 
     @Override
@@ -302,24 +579,96 @@ public abstract class LuceneSearcher implements Searcher {
 
     protected void addTree(VirtualFile tree) throws ServerException {
         final long start = System.currentTimeMillis();
-        final LinkedList<VirtualFile> q = new LinkedList<>();
-        q.add(tree);
-        int indexedFiles = 0;
-        while (!q.isEmpty()) {
-            final VirtualFile folder = q.pop();
-            if (folder.exists()) {
-                for (VirtualFile child : folder.getChildren()) {
-                    if (child.isFolder()) {
-                        q.push(child);
-                    } else {
-                        addFile(child);
-                        indexedFiles++;
-                    }
+        final IndexingProgress before = indexingPipeline.getProgress();
+        final Set<String> existedFiles = newConcurrentHashSet();
+        indexingPipeline.indexTree(tree, virtualFile -> {
+            existedFiles.add(virtualFile.getPath().toString());
+            return isChangedSinceIndexing(virtualFile);
+        });
+        final int deletedFiles = deleteMissedFiles(tree, existedFiles);
+        final IndexingProgress after = indexingPipeline.getProgress();
+        final long end = System.currentTimeMillis();
+        LOG.debug("Indexed {} files, skipped {} unchanged files, removed {} deleted files from {}, time: {} ms",
+                  after.getFilesIndexed() - before.getFilesIndexed(),
+                  after.getFilesSkipped() - before.getFilesSkipped(),
+                  deletedFiles,
+                  tree.getPath(),
+                  (end - start));
+    }
+
+    private boolean isChangedSinceIndexing(VirtualFile virtualFile) {
+        final IndexManifest.Entry entry = getManifest().get(virtualFile.getPath().toString());
+        if (entry == null) {
+            return true;
+        }
+        try {
+            return entry.getLength() != virtualFile.getLength() || entry.getLastModified() != virtualFile.getLastModificationDate();
+        } catch (ServerException e) {
+            return true;
+        }
+    }
+
+    /** Removes from the index files which are in manifest but were not found in the {@code tree}. */
+    private int deleteMissedFiles(VirtualFile tree, Set<String> existedFiles) throws ServerException {
+        final String treePath = tree.getPath().toString();
+        final String pathPrefix = treePath.endsWith("/") ? treePath : treePath + "/";
+        final List<String> missedFiles = getManifest().getPaths()
+                                                      .stream()
+                                                      .filter(path -> path.startsWith(pathPrefix) && !existedFiles.contains(path))
+                                                      .collect(toList());
+        for (String path : missedFiles) {
+            delete(path, true);
+        }
+        return missedFiles.size();
+    }
+
+    /**
+     * Reads file on one of the threads of indexing pipeline. Content is read into memory since document is written by another thread,
+     * not more than max indexed file size is read even if file grows after its size is checked. If hash of content is the same as in the
+     * manifest then document is not created, only manifest needs to be updated.
+     */
+    private LuceneIndexingPipeline.IndexedDocument readDocument(VirtualFile virtualFile)
+            throws ServerException, ForbiddenException, IOException {
+        if (!virtualFile.exists()) {
+            return null;
+        }
+        final String path = virtualFile.getPath().toString();
+        final long length = virtualFile.getLength();
+        final long lastModified = virtualFile.getLastModificationDate();
+        if (!shouldIndexContent(virtualFile)) {
+            return new LuceneIndexingPipeline.IndexedDocument(path, createDocument(virtualFile, null), length, lastModified, null);
+        }
+        final byte[] content;
+        try (InputStream contentStream = virtualFile.getContent()) {
+            content = ByteStreams.toByteArray(ByteStreams.limit(contentStream, maxIndexedFileSize));
+        }
+        final String hash = Hashing.murmur3_128().hashBytes(content).toString();
+        final IndexManifest.Entry entry = getManifest().get(path);
+        if (entry != null && hash.equals(entry.getHash())) {
+            return new LuceneIndexingPipeline.IndexedDocument(path, null, length, lastModified, hash);
+        }
+        final Document document = createDocument(virtualFile, new InputStreamReader(new ByteArrayInputStream(content)));
+        return new LuceneIndexingPipeline.IndexedDocument(path, document, length, lastModified, hash);
+    }
+
+    private void writeDocuments(List<LuceneIndexingPipeline.IndexedDocument> batch) throws ServerException {
+        final TrackingIndexWriter writer = getTrackingIndexWriter();
+        long generation = 0;
+        try {
+            for (LuceneIndexingPipeline.IndexedDocument document : batch) {
+                if (document.document != null) {
+                    generation = writer.updateDocument(new Term("path", document.path), document.document);
                 }
+                getManifest().put(document.path, new IndexManifest.Entry(document.length, document.lastModified, document.hash));
             }
+        } catch (OutOfMemoryError oome) {
+            close();
+            throw oome;
+        } catch (IOException e) {
+            throw new ServerException(e.getMessage(), e);
+        } finally {
+            writeGeneration(generation);
         }
-        final long end = System.currentTimeMillis();
-        LOG.debug("Indexed {} files from {}, time: {} ms", indexedFiles, tree.getPath(), (end - start));
     }
 
     protected void addFile(VirtualFile virtualFile) throws ServerException {
@@ -327,8 +676,12 @@ public abstract class LuceneSearcher implements Searcher {
             try (Reader fContentReader = shouldIndexContent(virtualFile)
                                          ? new BufferedReader(new InputStreamReader(virtualFile.getContent()))
                                          : null) {
-                getIndexWriter()
-                        .updateDocument(new Term("path", virtualFile.getPath().toString()), createDocument(virtualFile, fContentReader));
+                final String path = virtualFile.getPath().toString();
+                final IndexManifest.Entry entry = new IndexManifest.Entry(virtualFile.getLength(),
+                                                                          virtualFile.getLastModificationDate(),
+                                                                          null);
+                writeGeneration(getTrackingIndexWriter().updateDocument(new Term("path", path), createDocument(virtualFile, fContentReader)));
+                getManifest().put(path, entry);
             } catch (OutOfMemoryError oome) {
                 close();
                 throw oome;
@@ -345,10 +698,12 @@ public abstract class LuceneSearcher implements Searcher {
         try {
             if (isFile) {
                 Term term = new Term("path", path);
-                getIndexWriter().deleteDocuments(term);
+                writeGeneration(getTrackingIndexWriter().deleteDocuments(term));
+                getManifest().remove(path);
             } else {
                 Term term = new Term("path", path + "/");
-                getIndexWriter().deleteDocuments(new PrefixQuery(term));
+                writeGeneration(getTrackingIndexWriter().deleteDocuments(new PrefixQuery(term)));
+                getManifest().removeTree(path + "/");
             }
         } catch (OutOfMemoryError oome) {
             close();
@@ -367,7 +722,11 @@ public abstract class LuceneSearcher implements Searcher {
         try (Reader fContentReader = shouldIndexContent(virtualFile)
                                      ? new BufferedReader(new InputStreamReader(virtualFile.getContent()))
                                      : null) {
-            getIndexWriter().updateDocument(deleteTerm, createDocument(virtualFile, fContentReader));
+            final IndexManifest.Entry entry = new IndexManifest.Entry(virtualFile.getLength(),
+                                                                      virtualFile.getLastModificationDate(),
+                                                                      null);
+            writeGeneration(getTrackingIndexWriter().updateDocument(deleteTerm, createDocument(virtualFile, fContentReader)));
+            getManifest().put(virtualFile.getPath().toString(), entry);
         } catch (OutOfMemoryError oome) {
             close();
             throw oome;
@@ -383,12 +742,15 @@ public abstract class LuceneSearcher implements Searcher {
         doc.add(new StringField("path", virtualFile.getPath().toString(), Field.Store.YES));
         doc.add(new StringField("name", virtualFile.getName(), Field.Store.YES));
         if (reader != null) {
-            doc.add(new TextField("text", reader));
+            doc.add(new Field("text", reader, TEXT_FIELD_TYPE));
         }
         return doc;
     }
 
-    private boolean shouldIndexContent(VirtualFile virtualFile) {
+    private boolean shouldIndexContent(VirtualFile virtualFile) throws ServerException {
+        if (virtualFile.getLength() > maxIndexedFileSize) {
+            return false;
+        }
         for (VirtualFileFilter indexFilter : indexFilters) {
             if (!indexFilter.accept(virtualFile)) {
                 return false;
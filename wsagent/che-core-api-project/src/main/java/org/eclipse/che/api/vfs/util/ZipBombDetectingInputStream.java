@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.vfs.util;
+
+import org.apache.commons.io.input.CountingInputStream;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Counts uncompressed bytes read from {@link java.util.zip.ZipInputStream} and compares them with number of compressed bytes read
+ * from underlying stream. Ratio is checked while data is read, so archive may be checked and extracted in one pass.
+ * Stream is not closed by {@link #close()} since entries of the same archive are read through it one by one.
+ */
+public class ZipBombDetectingInputStream extends FilterInputStream {
+    /** The threshold after that checking of ZIP ratio started. */
+    static final long ZIP_THRESHOLD = 1000000;
+    /**
+     * Max compression ratio. If the number of bytes uncompressed data is exceed the number
+     * of bytes of compressed stream more than this ratio (and number of uncompressed data
+     * is more than threshold) then IOException is thrown.
+     */
+    static final int  ZIP_RATIO     = 100;
+
+    private final CountingInputStream compressed;
+
+    private long uncompressedBytes;
+
+    /**
+     * @param uncompressed
+     *         stream of uncompressed data, e.g. {@link java.util.zip.ZipInputStream}
+     * @param compressed
+     *         counter of bytes that are read from compressed stream
+     */
+    public ZipBombDetectingInputStream(InputStream uncompressed, CountingInputStream compressed) {
+        super(uncompressed);
+        this.compressed = compressed;
+    }
+
+    @Override
+    public int read() throws IOException {
+        final int b = super.read();
+        if (b != -1) {
+            count(1);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        final int bytes = super.read(b, off, len);
+        if (bytes > 0) {
+            count(bytes);
+        }
+        return bytes;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        final long skipped = super.skip(n);
+        if (skipped > 0) {
+            count(skipped);
+        }
+        return skipped;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    /** Returns number of uncompressed bytes read through this stream. */
+    public long getUncompressedBytes() {
+        return uncompressedBytes;
+    }
+
+    /**
+     * Checks ratio of data read so far. Useful when stream is read by code that wraps {@code IOException}, e.g. when content of
+     * file is written with virtual file system.
+     *
+     * @throws IOException
+     *         if ratio of uncompressed and compressed data is exceeded
+     */
+    public void checkRatio() throws IOException {
+        if (uncompressedBytes > ZIP_THRESHOLD && uncompressedBytes > (ZIP_RATIO * compressed.getByteCount())) {
+            throw new IOException("Zip bomb detected");
+        }
+    }
+
+    private void count(long bytes) throws IOException {
+        uncompressedBytes += bytes;
+        checkRatio();
+    }
+}
@@ -0,0 +1,186 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.project.server;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+
+import org.eclipse.che.api.core.rest.shared.dto.Link;
+import org.eclipse.che.api.project.shared.dto.ItemReference;
+import org.eclipse.che.api.project.shared.dto.TreeElement;
+import org.eclipse.che.dto.server.DtoFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Arrays.asList;
+import static org.eclipse.che.dto.server.DtoFactory.newDto;
+
+/**
+ * Compares serialization of payloads of {@code /children} and {@code /tree} project service methods through JSON tree with streaming
+ * serialization that is used by {@code CheJsonProvider}. Children payload is list of {@code items} files, tree payload is the same
+ * number of files in folders of depth 3.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ItemReferenceJsonBenchmark {
+    private static final Gson GSON  = new GsonBuilder().disableHtmlEscaping().create();
+    private static final int  DEPTH = 3;
+
+    @Param({"100", "1000", "10000"})
+    public int items;
+
+    private List<ItemReference> children;
+    private TreeElement         tree;
+    private String              childrenJson;
+    private Method              fromJsonElement;
+
+    @Setup
+    public void setUp() throws Exception {
+        children = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            children.add(createItem("/project/src/file" + i + ".java", "file"));
+        }
+        final int filesPerFolder = Math.max(1, (int)Math.round(Math.pow(items, 1.0 / DEPTH)));
+        tree = createTree("/project", DEPTH, filesPerFolder);
+        final StringWriter json = new StringWriter();
+        DtoFactory.getInstance().toJsonArray(children, json);
+        childrenJson = json.toString();
+        fromJsonElement = children.get(0).getClass().getMethod("fromJsonElement", JsonElement.class);
+    }
+
+    @Benchmark
+    public Writer writeChildrenJsonTree() {
+        final Writer writer = new NullWriter();
+        final JsonArray array = new JsonArray();
+        for (ItemReference item : children) {
+            array.add(DtoFactory.getInstance().toJsonElement(item));
+        }
+        GSON.toJson(array, writer);
+        return writer;
+    }
+
+    @Benchmark
+    public Writer writeChildrenJsonStream() throws IOException {
+        final Writer writer = new NullWriter();
+        DtoFactory.getInstance().toJsonArray(children, writer);
+        return writer;
+    }
+
+    @Benchmark
+    public Writer writeTreeJsonTree() {
+        final Writer writer = new NullWriter();
+        GSON.toJson(DtoFactory.getInstance().toJsonElement(tree), writer);
+        return writer;
+    }
+
+    @Benchmark
+    public Writer writeTreeJsonStream() throws IOException {
+        final Writer writer = new NullWriter();
+        DtoFactory.getInstance().toJson(tree, writer);
+        return writer;
+    }
+
+    @Benchmark
+    public List<Object> readChildrenJsonTree() throws Exception {
+        final JsonArray array = new JsonParser().parse(childrenJson).getAsJsonArray();
+        final List<Object> result = new ArrayList<>(array.size());
+        for (JsonElement element : array) {
+            result.add(fromJsonElement.invoke(null, element));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<ItemReference> readChildrenJsonStream() throws IOException {
+        return DtoFactory.getInstance().createListDtoFromJson(new StringReader(childrenJson), ItemReference.class);
+    }
+
+    private static TreeElement createTree(String path, int depth, int width) {
+        final TreeElement element = newDto(TreeElement.class).withNode(createItem(path, "folder"));
+        final List<TreeElement> elements = new ArrayList<>(width);
+        for (int i = 0; i < width; i++) {
+            if (depth > 1) {
+                elements.add(createTree(path + "/folder" + i, depth - 1, width));
+            } else {
+                elements.add(newDto(TreeElement.class).withNode(createItem(path + "/file" + i + ".java", "file")));
+            }
+        }
+        return element.withChildren(elements);
+    }
+
+    private static ItemReference createItem(String path, String type) {
+        final String href = "http://localhost:8080/api/project/file" + path;
+        return newDto(ItemReference.class).withName(path.substring(path.lastIndexOf('/') + 1))
+                                          .withPath(path)
+                                          .withProject("/project")
+                                          .withType(type)
+                                          .withModified(1458046800000L)
+                                          .withContentLength(4096)
+                                          .withAttributes(Collections.singletonMap("vcs.status", "unmodified"))
+                                          .withLinks(asList(newDto(Link.class).withRel("get content").withMethod("GET").withHref(href),
+                                                            newDto(Link.class).withRel("update content").withMethod("PUT")
+                                                                              .withHref(href).withConsumes("*/*"),
+                                                            newDto(Link.class).withRel("delete").withMethod("DELETE")
+                                                                              .withHref(href)));
+    }
+
+    /** Discards everything, so benchmarks measure serialization only. */
+    private static class NullWriter extends Writer {
+        @Override
+        public void write(char[] buffer, int offset, int length) {
+        }
+
+        @Override
+        public void write(String str, int offset, int length) {
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ItemReferenceJsonBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -37,6 +37,8 @@ import org.eclipse.che.api.project.server.type.ValueStorageException;
 import org.eclipse.che.api.project.shared.dto.CopyOptions;
 import org.eclipse.che.api.project.shared.dto.ItemReference;
 import org.eclipse.che.api.project.shared.dto.MoveOptions;
+import org.eclipse.che.api.project.shared.dto.SearchOccurrenceDto;
+import org.eclipse.che.api.project.shared.dto.SearchResultDto;
 import org.eclipse.che.api.project.shared.dto.SourceEstimation;
 import org.eclipse.che.api.project.shared.dto.TreeElement;
 import org.eclipse.che.api.user.server.dao.UserDao;
@@ -1598,6 +1600,40 @@ public class ProjectServiceTest {
         assertEquals(response.getContentType().toString(), ExtMediaType.APPLICATION_ZIP);
     }
 
+    @Test
+    public void testExportZipRange() throws Exception {
+        RegisteredProject myProject = pm.getProject("my_project");
+        myProject.getBaseFolder().createFolder("a/b").createFile("test.txt", "hello".getBytes());
+        String exportUrl = String.format("http://localhost:8080/api/project/%s/export/my_project?compressionLevel=0", workspace);
+        ByteArrayContainerResponseWriter writer = new ByteArrayContainerResponseWriter();
+        ContainerResponse response = launcher.service(GET, exportUrl, "http://localhost:8080/api", null, null, writer, null);
+        assertEquals(response.getStatus(), 200, "Error: " + response.getEntity());
+        byte[] archive = writer.getBody();
+
+        Map<String, List<String>> headers = new HashMap<>();
+        headers.put("Range", singletonList("bytes=10-19"));
+        writer = new ByteArrayContainerResponseWriter();
+        response = launcher.service(GET, exportUrl, "http://localhost:8080/api", headers, null, writer, null);
+        assertEquals(response.getStatus(), 206, "Error: " + response.getEntity());
+        assertEquals(response.getHttpHeaders().getFirst("Content-Range"), "bytes 10-19/" + archive.length);
+        assertEquals(writer.getBody(), Arrays.copyOfRange(archive, 10, 20));
+
+        headers.put("Range", singletonList("bytes=" + archive.length + "-"));
+        response = launcher.service(GET, exportUrl, "http://localhost:8080/api", headers, null, null);
+        assertEquals(response.getStatus(), 416);
+    }
+
+    @Test
+    public void testParseRange() throws Exception {
+        assertEquals(ProjectService.parseRange("bytes=0-99", 1000), new long[]{0, 99});
+        assertEquals(ProjectService.parseRange("bytes=900-", 1000), new long[]{900, 999});
+        assertEquals(ProjectService.parseRange("bytes=-100", 1000), new long[]{900, 999});
+        assertEquals(ProjectService.parseRange("bytes=900-2000", 1000), new long[]{900, 999});
+        assertEquals(ProjectService.parseRange("bytes=1000-", 1000), new long[0]);
+        assertEquals(ProjectService.parseRange("bytes=0-1,5-6", 1000), null);
+        assertEquals(ProjectService.parseRange("items=0-1", 1000), null);
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     public void testGetChildren() throws Exception {
@@ -1618,6 +1654,40 @@ public class ProjectServiceTest {
         Assert.assertTrue(names.contains("test.txt"));
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testGetChildrenPage() throws Exception {
+        RegisteredProject myProject = pm.getProject("my_project");
+        FolderEntry a = myProject.getBaseFolder().createFolder("a");
+        a.createFolder("b");
+        a.createFile("test1.txt", "test".getBytes());
+        a.createFile("test2.txt", "test".getBytes());
+        ContainerResponse response = launcher.service(GET,
+                                                      String.format("http://localhost:8080/api/project/%s/children/my_project/a" +
+                                                                    "?skipCount=1&maxItems=1&includeLinks=false", workspace),
+                                                      "http://localhost:8080/api", null, null, null);
+        assertEquals(response.getStatus(), 200, "Error: " + response.getEntity());
+        List<ItemReference> result = (List<ItemReference>)response.getEntity();
+        assertEquals(result.size(), 1);
+        assertEquals(result.get(0).getName(), "test1.txt");
+        Assert.assertTrue(result.get(0).getLinks().isEmpty());
+        assertEquals(response.getHttpHeaders().getFirst(ProjectService.NEXT_SKIP_COUNT_HEADER), "2");
+
+        response = launcher.service(GET,
+                                    String.format("http://localhost:8080/api/project/%s/children/my_project/a?skipCount=2", workspace),
+                                    "http://localhost:8080/api", null, null, null);
+        assertEquals(response.getStatus(), 200, "Error: " + response.getEntity());
+        assertEquals(((List<ItemReference>)response.getEntity()).size(), 1);
+        Assert.assertNull(response.getHttpHeaders().getFirst(ProjectService.NEXT_SKIP_COUNT_HEADER));
+
+        response = launcher.service(GET,
+                                    String.format("http://localhost:8080/api/project/%s/children/my_project/a?skipCount=3", workspace),
+                                    "http://localhost:8080/api", null, null, null);
+        assertEquals(response.getStatus(), 200, "Error: " + response.getEntity());
+        Assert.assertTrue(((List<ItemReference>)response.getEntity()).isEmpty());
+        Assert.assertNull(response.getHttpHeaders().getFirst(ProjectService.NEXT_SKIP_COUNT_HEADER));
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     public void testGetItem() throws Exception {
@@ -1710,6 +1780,37 @@ public class ProjectServiceTest {
 //        assertEquals(result.getAttributeEntries().size(), 2);
 //    }
 
+    @Test
+    public void testGetTreePage() throws Exception {
+        RegisteredProject myProject = pm.getProject("my_project");
+        FolderEntry a = myProject.getBaseFolder().createFolder("a");
+        a.createFolder("b/c");
+        a.createFolder("b/d");
+        a.createFolder("x/y");
+        ContainerResponse response = launcher.service(GET,
+                                                      String.format("http://localhost:8080/api/project/%s/tree/my_project/a" +
+                                                                    "?depth=2&maxItems=1&includeLinks=false", workspace),
+                                                      "http://localhost:8080/api", null, null, null);
+        assertEquals(response.getStatus(), 200, "Error: " + response.getEntity());
+        TreeElement tree = (TreeElement)response.getEntity();
+        Assert.assertTrue(tree.getNode().getLinks().isEmpty());
+        List<TreeElement> children = tree.getChildren();
+        assertEquals(children.size(), 1);
+        assertEquals(children.get(0).getNode().getName(), "b");
+        assertEquals(children.get(0).getChildren().size(), 1);
+        assertEquals(children.get(0).getChildren().get(0).getNode().getName(), "c");
+        assertEquals(response.getHttpHeaders().getFirst(ProjectService.NEXT_SKIP_COUNT_HEADER), "1");
+
+        response = launcher.service(GET,
+                                    String.format("http://localhost:8080/api/project/%s/tree/my_project/a?skipCount=1", workspace),
+                                    "http://localhost:8080/api", null, null, null);
+        assertEquals(response.getStatus(), 200, "Error: " + response.getEntity());
+        children = ((TreeElement)response.getEntity()).getChildren();
+        assertEquals(children.size(), 1);
+        assertEquals(children.get(0).getNode().getName(), "x");
+        Assert.assertNull(response.getHttpHeaders().getFirst(ProjectService.NEXT_SKIP_COUNT_HEADER));
+    }
+
     @Test
     public void testGetTree() throws Exception {
         RegisteredProject myProject = pm.getProject("my_project");
@@ -1932,6 +2033,32 @@ public class ProjectServiceTest {
     }
 
 
+    @Test
+    public void testSearchOccurrences() throws Exception {
+        RegisteredProject myProject = pm.getProject("my_project");
+        myProject.getBaseFolder().createFolder("a/b").createFile("test.txt", "hello\nto be or not to be".getBytes());
+        myProject.getBaseFolder().createFolder("x/y").createFile("test.txt", "hello".getBytes());
+
+        ByteArrayContainerResponseWriter writer = new ByteArrayContainerResponseWriter();
+        ContainerResponse response = launcher.service(GET,
+                                                      String.format("http://localhost:8080/api/project/%s/occurrences/my_project?text=be",
+                                                                    workspace),
+                                                      "http://localhost:8080/api", null, null, writer, null);
+        assertEquals(response.getStatus(), 200, "Error: " + response.getEntity());
+        List<SearchResultDto> result = DtoFactory.getInstance().createListDtoFromJson(new String(writer.getBody()), SearchResultDto.class);
+        assertEquals(result.size(), 1);
+        assertEquals(result.get(0).getItemReference().getPath(), "/my_project/a/b/test.txt");
+        List<SearchOccurrenceDto> occurrences = result.get(0).getSearchOccurrences();
+        assertEquals(occurrences.size(), 2);
+        assertEquals(occurrences.get(0).getPhrase(), "be");
+        assertEquals(occurrences.get(0).getStartOffset(), 9);
+        assertEquals(occurrences.get(0).getEndOffset(), 11);
+        assertEquals(occurrences.get(0).getLineNumber(), 2);
+        assertEquals(occurrences.get(0).getLineContent(), "to be or not to be");
+        assertEquals(occurrences.get(1).getStartOffset(), 22);
+    }
+
+
 
 /* ---- To think --- */
 
@@ -0,0 +1,147 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.project.server.notification;
+
+import org.eclipse.che.api.core.notification.EventService;
+import org.eclipse.che.api.project.shared.dto.event.VfsWatchEvent;
+import org.eclipse.che.api.vfs.impl.file.FileWatcherEventType;
+import org.eclipse.che.dto.server.DtoFactory;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.eclipse.che.api.vfs.impl.file.FileWatcherEventType.CREATED;
+import static org.eclipse.che.api.vfs.impl.file.FileWatcherEventType.DELETED;
+import static org.eclipse.che.api.vfs.impl.file.FileWatcherEventType.MODIFIED;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+
+public class VfsWatchBroadcasterTest {
+    private BlockingQueue<String> messages;
+    private VfsWatchBroadcaster   broadcaster;
+
+    @BeforeMethod
+    public void setUp() {
+        messages = new LinkedBlockingQueue<>();
+        broadcaster = new VfsWatchBroadcaster(new EventService(), 200) {
+            @Override
+            protected void send(String channel, String body) {
+                assertEquals(channel, VfsWatchEvent.VFS_CHANNEL);
+                messages.add(body);
+            }
+        };
+    }
+
+    @Test
+    public void sendsMergedEventsCollectedDuringBatchWindow() throws Exception {
+        broadcaster.onEvent(event("/a/created.txt", CREATED));
+        broadcaster.onEvent(event("/a/created.txt", MODIFIED));
+        broadcaster.onEvent(event("/a/modified.txt", MODIFIED));
+        broadcaster.onEvent(event("/a/modified.txt", MODIFIED));
+        broadcaster.onEvent(event("/a/temp.txt", CREATED));
+        broadcaster.onEvent(event("/a/temp.txt", DELETED));
+        broadcaster.onEvent(event("/a/deleted.txt", DELETED));
+
+        List<VfsWatchEvent> events = receiveBatch();
+        assertEquals(events.size(), 3);
+        assertEquals(events.get(0).getPath(), "/a/created.txt");
+        assertEquals(events.get(0).getType(), CREATED);
+        assertEquals(events.get(1).getPath(), "/a/modified.txt");
+        assertEquals(events.get(1).getType(), MODIFIED);
+        assertEquals(events.get(2).getPath(), "/a/deleted.txt");
+        assertEquals(events.get(2).getType(), DELETED);
+        assertNull(messages.poll(500, MILLISECONDS));
+    }
+
+    @Test
+    public void sendsEventsAfterPreviousBatchInNewMessage() throws Exception {
+        broadcaster.onEvent(event("/a/file.txt", CREATED));
+        assertNotNull(messages.poll(5, SECONDS));
+
+        broadcaster.onEvent(event("/a/file.txt", DELETED));
+        List<VfsWatchEvent> events = receiveBatch();
+        assertEquals(events.size(), 1);
+        assertEquals(events.get(0).getType(), DELETED);
+    }
+
+    @Test
+    public void sendsEventsOfDistinctPathsInSingleMessage() throws Exception {
+        for (int i = 0; i < 1000; i++) {
+            broadcaster.onEvent(event("/a/file" + i + ".txt", CREATED));
+        }
+
+        List<VfsWatchEvent> events = receiveBatch();
+        assertEquals(events.size(), 1000);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(events.get(i).getPath(), "/a/file" + i + ".txt");
+        }
+        assertNull(messages.poll(500, MILLISECONDS));
+    }
+
+    @Test
+    public void replacesDeleteAndCreateOfFileWithModify() throws Exception {
+        List<VfsWatchEvent> merged = VfsWatchBroadcaster.merge(event("/a/file.txt", DELETED), event("/a/file.txt", CREATED));
+        assertEquals(merged.size(), 1);
+        assertEquals(merged.get(0).getType(), MODIFIED);
+        assertEquals(merged.get(0).getPath(), "/a/file.txt");
+    }
+
+    @Test
+    public void sendsBothDeleteAndCreateOfFolder() throws Exception {
+        broadcaster.onEvent(folderEvent("/a/folder", DELETED));
+        broadcaster.onEvent(folderEvent("/a/folder", CREATED));
+        broadcaster.onEvent(event("/a/file.txt", MODIFIED));
+
+        List<VfsWatchEvent> events = receiveBatch();
+        assertEquals(events.size(), 3);
+        assertEquals(events.get(0).getPath(), "/a/folder");
+        assertEquals(events.get(0).getType(), DELETED);
+        assertEquals(events.get(1).getPath(), "/a/folder");
+        assertEquals(events.get(1).getType(), CREATED);
+        assertEquals(events.get(2).getPath(), "/a/file.txt");
+        assertNull(messages.poll(500, MILLISECONDS));
+    }
+
+    @Test
+    public void sendsEachEventImmediatelyWhenBatchWindowIsZero() throws Exception {
+        broadcaster = new VfsWatchBroadcaster(new EventService(), 0) {
+            @Override
+            protected void send(String channel, String body) {
+                messages.add(body);
+            }
+        };
+        broadcaster.onEvent(event("/a/file.txt", CREATED));
+
+        String message = messages.poll(1, SECONDS);
+        assertNotNull(message);
+        assertEquals(DtoFactory.getInstance().createDtoFromJson(message, VfsWatchEvent.class).getPath(), "/a/file.txt");
+    }
+
+    private List<VfsWatchEvent> receiveBatch() throws InterruptedException {
+        String message = messages.poll(5, SECONDS);
+        assertNotNull(message);
+        return DtoFactory.getInstance().createListDtoFromJson(message, VfsWatchEvent.class);
+    }
+
+    private VfsWatchEvent event(String path, FileWatcherEventType type) {
+        return DtoFactory.newDto(VfsWatchEvent.class).withPath(path).withType(type).withFile(true);
+    }
+
+    private VfsWatchEvent folderEvent(String path, FileWatcherEventType type) {
+        return DtoFactory.newDto(VfsWatchEvent.class).withPath(path).withType(type).withFile(false);
+    }
+}
@@ -0,0 +1,326 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.vfs;
+
+import junit.framework.TestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ConcurrentPathLockFactoryTest extends TestCase {
+    private final int  maxThreads = 3;
+    private final Path path       = Path.of("/a/b/c"); // Path not need to be real path on file system
+
+    private ConcurrentPathLockFactory pathLockFactory;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        pathLockFactory = new ConcurrentPathLockFactory(maxThreads);
+    }
+
+    public void testLock() throws Exception {
+        final AtomicBoolean acquired = new AtomicBoolean(false);
+        final CountDownLatch waiter = new CountDownLatch(1);
+        Thread t = new Thread() {
+            @Override
+            public void run() {
+                try {
+                    pathLockFactory.getLock(path, true).acquire();
+                    acquired.set(true);
+                } finally {
+                    waiter.countDown();
+                }
+            }
+        };
+        t.start();
+        waiter.await();
+        assertTrue(acquired.get());
+    }
+
+    public void testConcurrentExclusiveLocks() throws Throwable {
+        final AtomicInteger acquired = new AtomicInteger(0);
+        final CountDownLatch waiter = new CountDownLatch(3);
+        final List<Throwable> errors = new ArrayList<>(3);
+        Runnable task = new Runnable() {
+            @Override
+            public void run() {
+                ConcurrentPathLockFactory.PathLock exclusiveLock = pathLockFactory.getLock(path, true);
+                try {
+                    exclusiveLock.acquire();
+                    // Only one thread has exclusive access
+                    assertEquals(0, acquired.getAndIncrement());
+                    Thread.sleep(100);
+                } catch (Throwable e) {
+                    errors.add(e);
+                } finally {
+                    acquired.getAndDecrement();
+                    exclusiveLock.release();
+                    waiter.countDown();
+                }
+            }
+        };
+        new Thread(task).start();
+        new Thread(task).start();
+        new Thread(task).start();
+        waiter.await();
+        assertEquals(0, acquired.get()); // all locks must be released
+        if (!errors.isEmpty()) {
+            throw errors.get(0);
+        }
+    }
+
+    public void testLockTimeout() throws Exception {
+        final CountDownLatch starter = new CountDownLatch(1);
+        Runnable task = new Runnable() {
+            @Override
+            public void run() {
+                ConcurrentPathLockFactory.PathLock exclusiveLock = pathLockFactory.getLock(path, true);
+                try {
+                    exclusiveLock.acquire();
+                    starter.countDown();
+                    Thread.sleep(2000); // get lock and sleep
+                } catch (InterruptedException ignored) {
+                } finally {
+                    exclusiveLock.release();
+                }
+            }
+        };
+        new Thread(task).start();
+        starter.await(); // wait while child thread acquire exclusive lock
+        ConcurrentPathLockFactory.PathLock timeoutExclusiveLock = pathLockFactory.getLock(path, true);
+        try {
+            // Wait lock timeout is much less then sleep time of child thread.
+            // Here we must be failed to get exclusive permit.
+            timeoutExclusiveLock.acquire(100);
+            fail();
+        } catch (RuntimeException e) {
+            // OK
+        }
+    }
+
+    public void testConcurrentLocks() throws Throwable {
+        final AtomicInteger acquired = new AtomicInteger(0);
+        final CountDownLatch starter = new CountDownLatch(1);
+        final CountDownLatch waiter = new CountDownLatch(2);
+        Runnable task1 = new Runnable() {
+            @Override
+            public void run() {
+                ConcurrentPathLockFactory.PathLock lock = pathLockFactory.getLock(path, false);
+                lock.acquire();
+                acquired.incrementAndGet();
+                starter.countDown();
+                try {
+                    Thread.sleep(1000);
+                } catch (InterruptedException ignored) {
+                } finally {
+                    acquired.getAndDecrement();
+                    lock.release();
+                    waiter.countDown();
+                }
+            }
+        };
+        final List<Throwable> errors = new ArrayList<>(1);
+        Runnable task2 = new Runnable() {
+            @Override
+            public void run() {
+                ConcurrentPathLockFactory.PathLock exclusiveLock = pathLockFactory.getLock(path, true);
+                try {
+                    exclusiveLock.acquire();
+                    // This thread must be blocked while another thread keeps lock.
+                    assertEquals(0, acquired.getAndIncrement());
+                } catch (Throwable e) {
+                    errors.add(e);
+                } finally {
+                    acquired.getAndDecrement();
+                    exclusiveLock.release();
+                    waiter.countDown();
+                }
+            }
+        };
+        new Thread(task1).start();
+        starter.await();
+        new Thread(task2).start();
+        waiter.await();
+        assertEquals(0, acquired.get()); // all locks must be released
+
+        if (!errors.isEmpty()) {
+            throw errors.get(0);
+        }
+    }
+
+    public void testHierarchyLock() throws Throwable {
+        final AtomicInteger acquired = new AtomicInteger(0);
+        final Path parent = path.getParent();
+        final CountDownLatch starter = new CountDownLatch(1);
+        final CountDownLatch waiter = new CountDownLatch(2);
+        Runnable parentTask = new Runnable() {
+            @Override
+            public void run() {
+                ConcurrentPathLockFactory.PathLock lock = pathLockFactory.getLock(parent, true);
+                lock.acquire();
+                acquired.incrementAndGet();
+                starter.countDown();
+                try {
+                    Thread.sleep(100);
+                } catch (InterruptedException ignored) {
+                } finally {
+                    acquired.getAndDecrement();
+                    lock.release();
+                    waiter.countDown();
+                }
+            }
+        };
+        final List<Throwable> errors = new ArrayList<>(1);
+        Runnable childTask = new Runnable() {
+            @Override
+            public void run() {
+                ConcurrentPathLockFactory.PathLock lock = pathLockFactory.getLock(path, false);
+                try {
+                    lock.acquire();
+                    // This thread must be blocked while another thread keeps lock.
+                    assertEquals(0, acquired.getAndIncrement());
+                } catch (Throwable e) {
+                    errors.add(e);
+                } finally {
+                    lock.release();
+                    acquired.getAndDecrement();
+                    waiter.countDown();
+                }
+            }
+        };
+        new Thread(parentTask).start();
+        starter.await();
+        new Thread(childTask).start();
+        waiter.await();
+        assertEquals(0, acquired.get()); // all locks must be released
+
+        if (!errors.isEmpty()) {
+            throw errors.get(0);
+        }
+    }
+
+    public void testLockSameThread() throws Exception {
+        final AtomicInteger acquired = new AtomicInteger(0);
+        final CountDownLatch waiter = new CountDownLatch(1);
+        Runnable task = new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    ConcurrentPathLockFactory.PathLock lock1 = pathLockFactory.getLock(path, true);
+                    ConcurrentPathLockFactory.PathLock lock2 = pathLockFactory.getLock(path, true);
+                    lock1.acquire();
+                    acquired.incrementAndGet();
+                    lock2.acquire(1000); // try with timeout.
+                    acquired.incrementAndGet();
+                } finally {
+                    waiter.countDown();
+                }
+            }
+        };
+        new Thread(task).start();
+        waiter.await();
+        assertEquals(2, acquired.get());
+    }
+
+    public void testChildLockBlocksExclusiveParentLock() throws Exception {
+        final Path parent = path.getParent();
+        final CountDownLatch starter = new CountDownLatch(1);
+        final CountDownLatch finisher = new CountDownLatch(1);
+        Thread t = new Thread() {
+            @Override
+            public void run() {
+                ConcurrentPathLockFactory.PathLock lock = pathLockFactory.getLock(path, false);
+                lock.acquire();
+                starter.countDown();
+                try {
+                    finisher.await();
+                } catch (InterruptedException ignored) {
+                } finally {
+                    lock.release();
+                }
+            }
+        };
+        t.start();
+        starter.await();
+        try {
+            pathLockFactory.getLock(parent, true).acquire(100);
+            fail();
+        } catch (RuntimeException e) {
+            // OK
+        }
+        // Shared lock for parent is compatible with shared lock for child.
+        ConcurrentPathLockFactory.PathLock sharedParentLock = pathLockFactory.getLock(parent, false).acquire(100);
+        sharedParentLock.release();
+        finisher.countDown();
+        t.join();
+        ConcurrentPathLockFactory.PathLock exclusiveParentLock = pathLockFactory.getLock(parent, true).acquire(100);
+        exclusiveParentLock.release();
+        pathLockFactory.checkClean();
+    }
+
+    public void testSiblingExclusiveLocksDoNotBlockEachOther() throws Exception {
+        final Path sibling = path.getParent().newPath("d");
+        final CountDownLatch starter = new CountDownLatch(1);
+        final CountDownLatch finisher = new CountDownLatch(1);
+        Thread t = new Thread() {
+            @Override
+            public void run() {
+                ConcurrentPathLockFactory.PathLock lock = pathLockFactory.getLock(path, true);
+                lock.acquire();
+                starter.countDown();
+                try {
+                    finisher.await();
+                } catch (InterruptedException ignored) {
+                } finally {
+                    lock.release();
+                }
+            }
+        };
+        t.start();
+        starter.await();
+        ConcurrentPathLockFactory.PathLock siblingLock = pathLockFactory.getLock(sibling, true).acquire(100);
+        siblingLock.release();
+        finisher.countDown();
+        t.join();
+        pathLockFactory.checkClean();
+    }
+
+    public void testWaitingChildLockDoesNotBlockParentLockOfThreadWhichHoldsPath() throws Exception {
+        final Path folder = Path.of("/a");
+        final Path child = folder.newPath("b");
+        final AtomicBoolean childLocked = new AtomicBoolean();
+        // Current thread holds shared lock for folder.
+        final ConcurrentPathLockFactory.PathLock folderLock = pathLockFactory.getLock(folder, false).acquire(100);
+        Thread t = new Thread() {
+            @Override
+            public void run() {
+                // Waits for folder while it tries to get intention locks for root and folder.
+                ConcurrentPathLockFactory.PathLock lock = pathLockFactory.getLock(child, true).acquire(10000);
+                childLocked.set(true);
+                lock.release();
+            }
+        };
+        t.start();
+        Thread.sleep(200);
+        assertFalse(childLocked.get());
+        // Waiting thread must not keep intention lock for root, otherwise we never get shared lock for root.
+        ConcurrentPathLockFactory.PathLock rootLock = pathLockFactory.getLock(Path.ROOT, false).acquire(5000);
+        rootLock.release();
+        folderLock.release();
+        t.join();
+        assertTrue(childLocked.get());
+        pathLockFactory.checkClean();
+    }
+}
@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.vfs;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares throughput of {@link PathLockFactory} and {@link ConcurrentPathLockFactory} with mostly shared locks for random files of
+ * small project tree. Run {@link #main(String[])} to get results for 1, 2, 4, 8, 16, 32 and 64 threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PathLockFactoryBenchmark {
+    private static final int MAX_THREADS = 1024;
+    private static final int FOLDERS     = 16;
+    private static final int FILES       = 32;
+
+    @Param({"global", "concurrent"})
+    public String implementation;
+
+    /** Percent of exclusive locks, all other locks are shared. */
+    @Param({"10"})
+    public int exclusivePercent;
+
+    private Path[]                    paths;
+    private PathLockFactory           globalLockFactory;
+    private ConcurrentPathLockFactory concurrentLockFactory;
+
+    @Setup
+    public void setUp() {
+        paths = new Path[FOLDERS * FILES];
+        for (int i = 0; i < FOLDERS; i++) {
+            for (int j = 0; j < FILES; j++) {
+                paths[i * FILES + j] = Path.of(String.format("/project/src/folder%d/file%d", i, j));
+            }
+        }
+        globalLockFactory = new PathLockFactory(MAX_THREADS);
+        concurrentLockFactory = new ConcurrentPathLockFactory(MAX_THREADS);
+    }
+
+    @Benchmark
+    public void lockRandomFile(Blackhole blackhole) {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final Path path = paths[random.nextInt(paths.length)];
+        final boolean exclusive = random.nextInt(100) < exclusivePercent;
+        if ("global".equals(implementation)) {
+            final PathLockFactory.PathLock lock = globalLockFactory.getLock(path, exclusive).acquire();
+            try {
+                blackhole.consume(path);
+            } finally {
+                lock.release();
+            }
+        } else {
+            final ConcurrentPathLockFactory.PathLock lock = concurrentLockFactory.getLock(path, exclusive).acquire();
+            try {
+                blackhole.consume(path);
+            } finally {
+                lock.release();
+            }
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        for (int threads : new int[]{1, 2, 4, 8, 16, 32, 64}) {
+            final Options options = new OptionsBuilder().include(PathLockFactoryBenchmark.class.getSimpleName())
+                                                        .threads(threads)
+                                                        .build();
+            new Runner(options).run();
+        }
+    }
+}
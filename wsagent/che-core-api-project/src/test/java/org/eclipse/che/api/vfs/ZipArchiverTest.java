@@ -34,12 +34,15 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 import java.util.zip.ZipOutputStream;
 
 import static com.google.common.collect.Lists.newArrayList;
 import static com.google.common.collect.Maps.newHashMap;
+import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
@@ -185,6 +188,82 @@ public class ZipArchiverTest {
         }
     }
 
+    @Test
+    public void extractsArchiveToFolderWithExecutor() throws Exception {
+        byte[] archive = createTestZipArchive();
+        VirtualFile folder = vfsRoot.createFolder("folder");
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            new ZipArchiver(folder, executor).extract(new ByteArrayInputStream(archive), false, 0);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Map<String, String> entries = getFileTreeAsList(folder).stream()
+                                                               .collect(toMap(f -> getZipEntryName(folder, f),
+                                                                              this::readContentUnchecked));
+
+        assertEquals(readArchiveEntries(new ByteArrayInputStream(archive)), entries);
+    }
+
+    @Test
+    public void failsExtractArchiveWhenZipBombDetected() throws Exception {
+        ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
+        try (ZipOutputStream zipOut = new ZipOutputStream(byteOut)) {
+            zipOut.putNextEntry(new ZipEntry("bomb.txt"));
+            zipOut.write(new byte[10 * 1024 * 1024]);
+        }
+        VirtualFile folder = vfsRoot.createFolder("folder");
+
+        thrown.expect(IOException.class);
+        thrown.expectMessage("Zip bomb detected");
+
+        new ZipArchiver(folder).extract(new ByteArrayInputStream(byteOut.toByteArray()), false, 0);
+    }
+
+    @Test
+    public void extractsHighlyCompressedFileWhichIsSmallerThanZipBombThreshold() throws Exception {
+        ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
+        try (ZipOutputStream zipOut = new ZipOutputStream(byteOut)) {
+            zipOut.putNextEntry(new ZipEntry("zeros.txt"));
+            zipOut.write(new byte[512 * 1024]);
+        }
+        VirtualFile folder = vfsRoot.createFolder("folder");
+
+        new ZipArchiver(folder).extract(new ByteArrayInputStream(byteOut.toByteArray()), false, 0);
+
+        assertEquals(512 * 1024, folder.getChild(Path.of("zeros.txt")).getLength());
+    }
+
+    @Test
+    public void removesExtractedItemsWhenZipBombDetected() throws Exception {
+        ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
+        try (ZipOutputStream zipOut = new ZipOutputStream(byteOut)) {
+            zipOut.putNextEntry(new ZipEntry("arc/a/_a.txt"));
+            zipOut.write(TEST_CONTENT_BYTES);
+            zipOut.putNextEntry(new ZipEntry("existed/_b.txt"));
+            zipOut.write(TEST_CONTENT_BYTES);
+            zipOut.putNextEntry(new ZipEntry("existed/bomb/bomb.txt"));
+            zipOut.write(new byte[10 * 1024 * 1024]);
+        }
+        VirtualFile folder = vfsRoot.createFolder("folder");
+        VirtualFile existedFile = folder.createFolder("existed").createFile("_e.txt", "xxx");
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            new ZipArchiver(folder, executor).extract(new ByteArrayInputStream(byteOut.toByteArray()), false, 0);
+            thrown.expect(IOException.class);
+        } catch (IOException expected) {
+            assertEquals("Zip bomb detected", expected.getMessage());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<String> items = getFileTreeAsList(folder).stream().map(f -> getZipEntryName(folder, f)).collect(toList());
+        assertEquals(newArrayList("existed/", "existed/_e.txt"), items);
+        assertEquals("xxx", existedFile.getContentAsString());
+    }
+
     private Map<String, String> readArchiveEntries(InputStream archive) throws Exception {
         Map<String, String> entries = newHashMap();
         try (ZipInputStream zip = new ZipInputStream(archive)) {
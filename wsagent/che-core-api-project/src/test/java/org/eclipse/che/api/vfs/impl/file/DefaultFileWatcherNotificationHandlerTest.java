@@ -22,9 +22,11 @@ import java.io.File;
 import static org.eclipse.che.api.vfs.impl.file.FileWatcherEventType.CREATED;
 import static org.eclipse.che.api.vfs.impl.file.FileWatcherEventType.DELETED;
 import static org.eclipse.che.api.vfs.impl.file.FileWatcherEventType.MODIFIED;
+import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -91,4 +93,18 @@ public class DefaultFileWatcherNotificationHandlerTest {
         verify(notificationListener).shouldBeNotifiedFor(virtualFile);
         verify(notificationListener).onFileWatcherEvent(virtualFile, MODIFIED);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void invalidatesCachedListingsWhenPathIsCreated() throws Exception {
+        notificationHandler.handleFileWatcherEvent(CREATED, testDirectory, "/a/b/c", false);
+
+        verify(virtualFileSystem).invalidateChildrenCache(virtualFilePath);
+    }
+
+    @Test
+    public void doesNotInvalidateCachedListingsWhenFileIsModified() throws Exception {
+        notificationHandler.handleFileWatcherEvent(MODIFIED, testDirectory, "/a/b/c", false);
+
+        verify(virtualFileSystem, never()).invalidateChildrenCache(any(Path.class));
+    }
+}
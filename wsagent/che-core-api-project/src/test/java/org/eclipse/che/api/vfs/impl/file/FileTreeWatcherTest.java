@@ -268,6 +268,84 @@ public class FileTreeWatcherTest {
         verify(notificationHandler, timeout(10000)).errorOccurred(eq(testDirectory), eq(error));
     }
 
+    @Test
+    public void coalescesEventsAndNotifiesWithSingleBatchInEventBasedMode() throws Exception {
+        fileWatcherTestTree.createDirectory("", "watched");
+        String deletedFile = fileWatcherTestTree.createFile("watched");
+        String updatedFile = fileWatcherTestTree.createFile("watched");
+
+        FileWatcherNotificationHandler notificationHandler = aNotificationHandler();
+        fileWatcher = new FileTreeWatcher(testDirectory, newHashSet(), notificationHandler, true, 500);
+        fileWatcher.startup();
+
+        Thread.sleep(1000);
+
+        String createdFile = fileWatcherTestTree.createFile("watched");
+        fileWatcherTestTree.updateFile(createdFile);
+        String temporaryFile = fileWatcherTestTree.createFile("watched");
+        fileWatcherTestTree.delete(temporaryFile);
+        fileWatcherTestTree.updateFile(updatedFile);
+        fileWatcherTestTree.updateFile(updatedFile);
+        fileWatcherTestTree.delete(deletedFile);
+
+        Thread.sleep(5000);
+
+        verify(notificationHandler, never()).errorOccurred(eq(testDirectory), any(Throwable.class));
+        verify(notificationHandler, never()).handleFileWatcherEvent(any(FileWatcherEventType.class), eq(testDirectory), anyString(), anyBoolean());
+
+        ArgumentCaptor<List<FileWatcherEvent>> events = anEventsCaptor();
+        verify(notificationHandler, times(1)).handleFileWatcherEvents(eq(testDirectory), events.capture());
+        assertEquals(newHashSet(new FileWatcherEvent(CREATED, createdFile, false),
+                                new FileWatcherEvent(MODIFIED, updatedFile, false),
+                                new FileWatcherEvent(DELETED, deletedFile, false)),
+                     newHashSet(events.getValue()));
+    }
+
+    @Test
+    public void watchesCreateAndDeleteOfDirectoryStructureInEventBasedMode() throws Exception {
+        FileWatcherNotificationHandler notificationHandler = aNotificationHandler();
+        fileWatcher = new FileTreeWatcher(testDirectory, newHashSet(), notificationHandler, true, 500);
+        fileWatcher.startup();
+
+        Thread.sleep(500);
+
+        List<String> created = fileWatcherTestTree.createTree("", 2, 2);
+
+        Thread.sleep(5000);
+
+        ArgumentCaptor<List<FileWatcherEvent>> events = anEventsCaptor();
+        verify(notificationHandler, times(1)).handleFileWatcherEvents(eq(testDirectory), events.capture());
+        Set<String> createdEvents = newHashSet();
+        for (FileWatcherEvent event : events.getValue()) {
+            assertEquals(CREATED, event.getType());
+            createdEvents.add(event.getSubPath());
+        }
+        assertEquals(newHashSet(created), createdEvents);
+
+        Set<String> deleted = newHashSet(fileWatcherTestTree.findAllFilesInTree(""));
+        deleted.addAll(fileWatcherTestTree.findAllDirectoriesInTree(""));
+        deleted.remove("");
+        for (String item : fileWatcherTestTree.listDirectories("")) {
+            fileWatcherTestTree.delete(item);
+        }
+
+        Thread.sleep(5000);
+
+        verify(notificationHandler, never()).errorOccurred(eq(testDirectory), any(Throwable.class));
+        verify(notificationHandler, times(2)).handleFileWatcherEvents(eq(testDirectory), events.capture());
+        Set<String> deletedEvents = newHashSet();
+        for (FileWatcherEvent event : events.getValue()) {
+            assertEquals(DELETED, event.getType());
+            deletedEvents.add(event.getSubPath());
+        }
+        assertEquals(deleted, deletedEvents);
+    }
+
+    @SuppressWarnings("unchecked")
+    private ArgumentCaptor<List<FileWatcherEvent>> anEventsCaptor() {
+        return ArgumentCaptor.forClass((Class)List.class);
+    }
+
     private FileWatcherNotificationHandler aNotificationHandler() {
         return mock(FileWatcherNotificationHandler.class);
     }
@@ -45,6 +45,7 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.file.Files;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -305,6 +306,54 @@ public class LocalVirtualFileTest {
         assertEquals(expected, newHashSet(folder.countMd5Sums()));
     }
 
+    @Test
+    public void countsHashSumsWithGivenHashFunction() throws Exception {
+        VirtualFile root = getRoot();
+        VirtualFile folder = root.createFolder(generateFolderName());
+        VirtualFile file = folder.createFolder(generateFolderName()).createFile(generateFileName(), DEFAULT_CONTENT);
+        Set<Pair<String, String>> expected = newHashSet(Pair.of(ByteSource.wrap(file.getContentAsBytes()).hash(Hashing.murmur3_128()).toString(),
+                                                                file.getPath().subPath(folder.getPath()).toString()));
+
+        assertEquals(expected, newHashSet(folder.countHashSums(Hashing.murmur3_128())));
+    }
+
+    @Test
+    public void recountsCachedMd5SumWhenFileIsModifiedOutsideOfVirtualFileSystem() throws Exception {
+        VirtualFile root = getRoot();
+        VirtualFile folder = root.createFolder(generateFolderName());
+        VirtualFile file = folder.createFile(generateFileName(), "aaa");
+        File ioFile = file.toIoFile();
+        ioFile.setLastModified(System.currentTimeMillis() - 60000);
+        String relativePath = file.getPath().subPath(folder.getPath()).toString();
+
+        assertEquals(newArrayList(Pair.of(countMd5Sum(file), relativePath)), folder.countMd5Sums());
+
+        Files.write(ioFile.toPath(), "bbb".getBytes());
+        ioFile.setLastModified(System.currentTimeMillis() - 30000);
+
+        assertEquals(newArrayList(Pair.of(countMd5Sum(file), relativePath)), folder.countMd5Sums());
+    }
+
+    @Test
+    public void returnsCachedAndCountedMd5SumsInOrderOfFiles() throws Exception {
+        VirtualFile root = getRoot();
+        VirtualFile folder = root.createFolder(generateFolderName());
+        List<VirtualFile> files = newArrayList();
+        for (int i = 0; i < 8; i++) {
+            files.add(folder.createFile("file" + i, "content" + i));
+        }
+        for (int i = 0; i < files.size(); i += 2) {
+            files.get(i).toIoFile().setLastModified(System.currentTimeMillis() - 60000);
+        }
+        List<Pair<String, String>> expected = newArrayList();
+        for (VirtualFile file : files) {
+            expected.add(Pair.of(countMd5Sum(file), file.getName()));
+        }
+
+        assertEquals(expected, folder.countMd5Sums());
+        assertEquals(expected, folder.countMd5Sums());
+    }
+
     @Test
     public void returnsEmptyListWhenCountMd5SumsOnFile() throws Exception {
         VirtualFile root = getRoot();
@@ -356,6 +405,41 @@ public class LocalVirtualFileTest {
         assertEquals(expectedResult, children);
     }
 
+    @Test
+    public void getsChildrenOfFolderModifiedOutsideOfVirtualFileSystem() throws Exception {
+        VirtualFile folder = getRoot().createFolder(generateFolderName());
+        VirtualFile file1 = folder.createFile(generateFileName(), DEFAULT_CONTENT);
+        assertTrue(folder.toIoFile().setLastModified(System.currentTimeMillis() - 60000));
+        assertEquals(newArrayList(file1), folder.getChildren());
+
+        String name = generateFileName();
+        assertTrue(new File(folder.toIoFile(), name).createNewFile());
+
+        List<VirtualFile> expectedResult = newArrayList(file1, folder.getChild(Path.of(name)));
+        Collections.sort(expectedResult);
+        assertEquals(expectedResult, folder.getChildren());
+    }
+
+    @Test
+    public void getsChildrenOfFolderAfterInvalidationOfCachedListing() throws Exception {
+        VirtualFile folder = getRoot().createFolder(generateFolderName());
+        VirtualFile file1 = folder.createFile(generateFileName(), DEFAULT_CONTENT);
+        long lastModified = System.currentTimeMillis() - 60000;
+        assertTrue(folder.toIoFile().setLastModified(lastModified));
+        assertEquals(newArrayList(file1), folder.getChildren());
+
+        String name = generateFileName();
+        assertTrue(new File(folder.toIoFile(), name).createNewFile());
+        assertTrue(folder.toIoFile().setLastModified(lastModified));
+        assertEquals(newArrayList(file1), folder.getChildren());
+
+        fileSystem.invalidateChildrenCache(folder.getPath().newPath(name));
+
+        List<VirtualFile> expectedResult = newArrayList(file1, folder.getChild(Path.of(name)));
+        Collections.sort(expectedResult);
+        assertEquals(expectedResult, folder.getChildren());
+    }
+
     @Test
     public void getsChild() throws Exception {
         VirtualFile root = getRoot();
@@ -204,6 +204,36 @@ public class FSLuceneSearcherTest {
         assertEquals(newArrayList("/folder1/a/b/xxx.txt"), paths);
     }
 
+    @Test
+    public void indexesOnlyChangedFilesWhenPersistentIndexIsReopened() throws Exception {
+        VirtualFileSystem virtualFileSystem = virtualFileSystem();
+        VirtualFile folder = virtualFileSystem.getRoot().createFolder("folder");
+        folder.createFile("xxx.txt", TEST_CONTENT[2]);
+        VirtualFile changedFile = folder.createFile("yyy.txt", TEST_CONTENT[2]);
+        VirtualFile deletedFile = folder.createFile("zzz.txt", TEST_CONTENT[2]);
+        FSLuceneSearcher persistentSearcher = new FSLuceneSearcher(indexDirectory, filter, closeCallback, true);
+        persistentSearcher.init(virtualFileSystem);
+        persistentSearcher.close();
+        assertTrue(new File(indexDirectory, FSLuceneSearcher.MANIFEST_FILE_NAME).exists());
+
+        changedFile.updateContent(TEST_CONTENT[1]);
+        deletedFile.delete();
+        persistentSearcher = new FSLuceneSearcher(indexDirectory, filter, closeCallback, true);
+        try {
+            persistentSearcher.init(virtualFileSystem);
+
+            IndexingProgress progress = persistentSearcher.getIndexingProgress();
+            assertEquals(1, progress.getFilesIndexed());
+            assertEquals(1, progress.getFilesSkipped());
+            List<String> paths = persistentSearcher.search(new QueryExpression().setText("be")).getFilePaths();
+            assertEquals(newArrayList("/folder/xxx.txt"), paths);
+            paths = persistentSearcher.search(new QueryExpression().setText("should")).getFilePaths();
+            assertEquals(newArrayList("/folder/yyy.txt"), paths);
+        } finally {
+            persistentSearcher.close();
+        }
+    }
+
     @Test
     public void closesLuceneIndexWriterWhenSearcherClosed() throws Exception {
         VirtualFileSystem virtualFileSystem = virtualFileSystem();
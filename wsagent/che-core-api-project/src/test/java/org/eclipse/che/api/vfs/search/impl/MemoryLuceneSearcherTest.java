@@ -18,7 +18,9 @@ import org.eclipse.che.api.vfs.VirtualFileFilter;
 import org.eclipse.che.api.vfs.VirtualFileSystem;
 import org.eclipse.che.api.vfs.impl.memory.MemoryVirtualFileSystem;
 import org.eclipse.che.api.vfs.search.QueryExpression;
+import org.eclipse.che.api.vfs.search.SearchOccurrence;
 import org.eclipse.che.api.vfs.search.SearchResult;
+import org.eclipse.che.api.vfs.search.SearchResultEntry;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -102,6 +104,20 @@ public class MemoryLuceneSearcherTest {
         assertEquals(newArrayList("/folder/zzz.txt"), paths);
     }
 
+    @Test
+    public void doesNotIndexContentOfFilesWhichAreBiggerThanLimit() throws Exception {
+        VirtualFileSystem virtualFileSystem = virtualFileSystem();
+        VirtualFile folder = virtualFileSystem.getRoot().createFolder("folder");
+        folder.createFile("xxx.txt", TEST_CONTENT[2]);
+        folder.createFile("zzz.txt", TEST_CONTENT[1]);
+        searcher.setMaxIndexedFileSize(TEST_CONTENT[2].length());
+        searcher.init(virtualFileSystem);
+
+        assertEquals(newArrayList("/folder/xxx.txt"), searcher.search(new QueryExpression().setText("be")).getFilePaths());
+        assertTrue(searcher.search(new QueryExpression().setText("should")).getFilePaths().isEmpty());
+        assertEquals(newArrayList("/folder/zzz.txt"), searcher.search(new QueryExpression().setName("zzz.txt")).getFilePaths());
+    }
+
     @Test
     public void updatesSingleFileInIndex() throws Exception {
         VirtualFileSystem virtualFileSystem = virtualFileSystem();
@@ -194,6 +210,87 @@ public class MemoryLuceneSearcherTest {
         assertEquals(newArrayList("/folder1/a/b/xxx.txt"), paths);
     }
 
+    @Test
+    public void skipsUnchangedFilesWhenFileTreeIsIndexedAgain() throws Exception {
+        VirtualFileSystem virtualFileSystem = virtualFileSystem();
+        VirtualFile folder = virtualFileSystem.getRoot().createFolder("folder");
+        folder.createFile("xxx.txt", TEST_CONTENT[2]);
+        VirtualFile file = folder.createFile("zzz.txt", TEST_CONTENT[2]);
+        searcher.init(virtualFileSystem);
+
+        file.updateContent(TEST_CONTENT[1]);
+        searcher.add(virtualFileSystem.getRoot());
+
+        IndexingProgress progress = searcher.getIndexingProgress();
+        assertEquals(4, progress.getFilesDiscovered());
+        assertEquals(3, progress.getFilesIndexed());
+        assertEquals(1, progress.getFilesSkipped());
+        assertFalse(progress.isIndexing());
+        List<String> paths = searcher.search(new QueryExpression().setText("should")).getFilePaths();
+        assertEquals(newArrayList("/folder/zzz.txt"), paths);
+    }
+
+    @Test
+    public void findsPositionsOfSearchedTextInFile() throws Exception {
+        VirtualFileSystem virtualFileSystem = virtualFileSystem();
+        VirtualFile folder = virtualFileSystem.getRoot().createFolder("folder");
+        folder.createFile("xxx.txt", TEST_CONTENT[0] + "\n" + TEST_CONTENT[2] + "\n" + TEST_CONTENT[1]);
+        searcher.init(virtualFileSystem);
+
+        List<SearchResultEntry> results = searcher.search(new QueryExpression().setText("be").setIncludePositions(true)).getResults();
+
+        assertEquals(1, results.size());
+        List<SearchOccurrence> occurrences = results.get(0).getOccurrences();
+        assertEquals(2, occurrences.size());
+        int lineStart = TEST_CONTENT[0].length() + 1;
+        assertEquals(2, occurrences.get(0).getLineNumber());
+        assertEquals(lineStart + 3, occurrences.get(0).getStartOffset());
+        assertEquals(lineStart + 5, occurrences.get(0).getEndOffset());
+        assertEquals("be", occurrences.get(0).getPhrase());
+        assertEquals(TEST_CONTENT[2], occurrences.get(0).getLineContent());
+        assertEquals(2, occurrences.get(1).getLineNumber());
+        assertEquals(lineStart + 16, occurrences.get(1).getStartOffset());
+    }
+
+    @Test
+    public void returnsPartOfLongLineAroundSearchedText() throws Exception {
+        VirtualFileSystem virtualFileSystem = virtualFileSystem();
+        VirtualFile folder = virtualFileSystem.getRoot().createFolder("folder");
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            line.append("word").append(i).append(' ');
+        }
+        folder.createFile("xxx.txt", TEST_CONTENT[0] + "\n" + line);
+        searcher.init(virtualFileSystem);
+
+        List<SearchResultEntry> results = searcher.search(new QueryExpression().setText("word80").setIncludePositions(true)).getResults();
+
+        assertEquals(1, results.size());
+        List<SearchOccurrence> occurrences = results.get(0).getOccurrences();
+        assertEquals(1, occurrences.size());
+        String lineContent = occurrences.get(0).getLineContent();
+        assertEquals(256, lineContent.length());
+        int phraseStart = lineContent.indexOf("word80 ");
+        assertTrue(phraseStart > 100 && phraseStart < 156);
+        assertTrue(line.toString().contains(lineContent));
+    }
+
+    @Test
+    public void passesSearchResultsToConsumer() throws Exception {
+        VirtualFileSystem virtualFileSystem = virtualFileSystem();
+        VirtualFile folder = virtualFileSystem.getRoot().createFolder("folder");
+        folder.createFile("xxx.txt", TEST_CONTENT[2]);
+        folder.createFile("zzz.txt", TEST_CONTENT[2]);
+        searcher.init(virtualFileSystem);
+
+        List<String> paths = newArrayList();
+        SearchResult result = searcher.search(new QueryExpression().setText("be"), entry -> paths.add(entry.getFilePath()));
+
+        assertEquals(newArrayList("/folder/xxx.txt", "/folder/zzz.txt"), paths);
+        assertEquals(2, result.getTotalHits());
+        assertTrue(result.getResults().isEmpty());
+    }
+
     @Test
     public void closesLuceneIndexWriterWhenSearcherClosed() throws Exception {
         VirtualFileSystem virtualFileSystem = virtualFileSystem();
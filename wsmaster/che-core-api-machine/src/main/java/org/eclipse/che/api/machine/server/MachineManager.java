@@ -25,9 +25,9 @@ import org.eclipse.che.api.core.model.machine.MachineStatus;
 import org.eclipse.che.api.core.model.machine.Recipe;
 import org.eclipse.che.api.core.notification.EventService;
 import org.eclipse.che.api.core.notification.EventSubscriber;
+import org.eclipse.che.api.core.util.AsyncLineConsumer;
 import org.eclipse.che.api.core.util.CompositeLineConsumer;
 import org.eclipse.che.api.core.util.FileCleaner;
-import org.eclipse.che.api.core.util.FileLineConsumer;
 import org.eclipse.che.api.core.util.LineConsumer;
 import org.eclipse.che.api.core.util.WebsocketLineConsumer;
 import org.eclipse.che.api.machine.server.dao.SnapshotDao;
@@ -36,6 +36,7 @@ import org.eclipse.che.api.machine.server.exception.MachineException;
 import org.eclipse.che.api.machine.server.exception.SnapshotException;
 import org.eclipse.che.api.machine.server.exception.UnsupportedRecipeException;
 import org.eclipse.che.api.machine.server.impl.SnapshotImpl;
+import org.eclipse.che.api.machine.server.logs.RotatingLogFile;
 import org.eclipse.che.api.machine.server.model.impl.LimitsImpl;
 import org.eclipse.che.api.machine.server.model.impl.MachineConfigImpl;
 import org.eclipse.che.api.machine.server.model.impl.MachineImpl;
@@ -66,12 +67,13 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.Reader;
 import java.net.URL;
-import java.nio.charset.Charset;
-import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -93,16 +95,46 @@ public class MachineManager {
     /* machine name must contain only {a-zA-Z0-9_-} characters and it's needed for validation machine names */
     private static final Pattern MACHINE_DISPLAY_NAME_PATTERN = Pattern.compile("^/?[a-zA-Z0-9_-]+$");
 
-    private final SnapshotDao              snapshotDao;
-    private final File                     machineLogsDir;
-    private final MachineInstanceProviders machineInstanceProviders;
-    private final ExecutorService          executor;
-    private final MachineRegistry          machineRegistry;
-    private final EventService             eventService;
-    private final String                   apiEndpoint;
-    private final int                      defaultMachineMemorySizeMB;
-    private final MachineCleaner           machineCleaner;
-    private final WsAgentLauncher          wsAgentLauncher;
+    public static final String LOGS_BUFFER_SIZE_PROPERTY    = "machine.logs.buffer_size";
+    public static final String LOGS_BATCH_SIZE_PROPERTY     = "machine.logs.batch_size";
+    public static final String LOGS_FLUSH_DELAY_MS_PROPERTY = "machine.logs.flush_delay_ms";
+    public static final String LOGS_MAX_BLOCK_MS_PROPERTY   = "machine.logs.max_block_ms";
+    public static final String LOGS_SEGMENT_SIZE_PROPERTY   = "machine.logs.segment_size_bytes";
+
+    private final SnapshotDao                          snapshotDao;
+    private final File                                 machineLogsDir;
+    private final MachineInstanceProviders             machineInstanceProviders;
+    private final ExecutorService                      executor;
+    private final MachineRegistry                      machineRegistry;
+    private final EventService                         eventService;
+    private final String                               apiEndpoint;
+    private final int                                  defaultMachineMemorySizeMB;
+    private final MachineCleaner                       machineCleaner;
+    private final WsAgentLauncher                      wsAgentLauncher;
+    private final ScheduledExecutorService             logsExecutor;
+    private final ScheduledExecutorService             logsSenderExecutor;
+    /** Logs of running machines and their processes, logs of destroyed machines are read from disk. */
+    private final ConcurrentMap<File, RotatingLogFile> logFiles;
+
+    @com.google.inject.Inject(optional = true)
+    @Named(LOGS_BUFFER_SIZE_PROPERTY)
+    private int logsBufferSize = 4096;
+
+    @com.google.inject.Inject(optional = true)
+    @Named(LOGS_BATCH_SIZE_PROPERTY)
+    private int logsBatchSize = 512;
+
+    @com.google.inject.Inject(optional = true)
+    @Named(LOGS_FLUSH_DELAY_MS_PROPERTY)
+    private long logsFlushDelayMs = 200;
+
+    @com.google.inject.Inject(optional = true)
+    @Named(LOGS_MAX_BLOCK_MS_PROPERTY)
+    private long logsMaxBlockMs = 100;
+
+    @com.google.inject.Inject(optional = true)
+    @Named(LOGS_SEGMENT_SIZE_PROPERTY)
+    private long logsSegmentSize = 8 * 1024 * 1024;
 
     @Inject
     public MachineManager(SnapshotDao snapshotDao,
@@ -125,6 +157,13 @@ public class MachineManager {
         executor = Executors.newCachedThreadPool(new ThreadFactoryBuilder().setNameFormat("MachineManager-%d")
                                                                            .setDaemon(false)
                                                                            .build());
+        logsExecutor = Executors.newScheduledThreadPool(2, new ThreadFactoryBuilder().setNameFormat("MachineLogsWriter-%d")
+                                                                                     .setDaemon(true)
+                                                                                     .build());
+        logsSenderExecutor = Executors.newScheduledThreadPool(2, new ThreadFactoryBuilder().setNameFormat("MachineLogsSender-%d")
+                                                                                           .setDaemon(true)
+                                                                                           .build());
+        this.logFiles = new ConcurrentHashMap<>();
         this.machineCleaner = new MachineCleaner();
     }
 
@@ -645,22 +684,25 @@ public class MachineManager {
                                              .withProcessId(pid));
 
                 instanceProcess.start(processLogger);
+                // output is written asynchronously, it must be written completely before process is reported as stopped
+                closeProcessLogger(processLogger);
 
                 eventService.publish(newDto(MachineProcessEvent.class)
                                              .withEventType(MachineProcessEvent.EventType.STOPPED)
                                              .withMachineId(machineId)
                                              .withProcessId(pid));
             } catch (ConflictException | MachineException error) {
+                try {
+                    processLogger.writeLine(String.format("[ERROR] %s", error.getMessage()));
+                } catch (IOException ignored) {
+                }
+                closeProcessLogger(processLogger);
+
                 eventService.publish(newDto(MachineProcessEvent.class)
                                              .withEventType(MachineProcessEvent.EventType.ERROR)
                                              .withMachineId(machineId)
                                              .withProcessId(pid)
                                              .withError(error.getLocalizedMessage()));
-
-                try {
-                    processLogger.writeLine(String.format("[ERROR] %s", error.getMessage()));
-                } catch (IOException ignored) {
-                }
             }
         }));
         return instanceProcess;
@@ -758,15 +800,29 @@ public class MachineManager {
      *         if other error occur
      */
     public Reader getMachineLogReader(String machineId) throws NotFoundException, MachineException {
-        final File machineLogsFile = getMachineLogsFile(machineId);
-        if (machineLogsFile.isFile()) {
-            try {
-                return Files.newBufferedReader(machineLogsFile.toPath(), Charset.defaultCharset());
-            } catch (IOException e) {
-                throw new MachineException(String.format("Unable read log file for machine '%s'. %s", machineId, e.getMessage()));
-            }
+        try {
+            return getMachineLog(machineId).openReader();
+        } catch (IOException e) {
+            throw new MachineException(String.format("Unable read log file for machine '%s'. %s", machineId, e.getMessage()));
         }
-        throw new NotFoundException(String.format("Logs for machine '%s' are not available", machineId));
+    }
+
+    /**
+     * Gets logs of machine by specified id, the log allows reading of lines from any position and waiting for new lines.
+     *
+     * @param machineId
+     *         machine id whose logs will be returned
+     * @throws NotFoundException
+     *         if logs of machine with specified id not found
+     * @throws MachineException
+     *         if other error occur
+     */
+    public RotatingLogFile getMachineLog(String machineId) throws NotFoundException, MachineException {
+        final RotatingLogFile log = getLogFile(getMachineLogsFile(machineId));
+        if (log == null) {
+            throw new NotFoundException(String.format("Logs for machine '%s' are not available", machineId));
+        }
+        return log;
     }
 
     /**
@@ -783,16 +839,54 @@ public class MachineManager {
      *         if other error occur
      */
     public Reader getProcessLogReader(String machineId, int pid) throws NotFoundException, MachineException {
-        final File processLogsFile = getProcessLogsFile(machineId, pid);
-        if (processLogsFile.isFile()) {
-            try {
-                return Files.newBufferedReader(processLogsFile.toPath(), Charset.defaultCharset());
-            } catch (IOException e) {
-                throw new MachineException(
-                        String.format("Unable read log file for process '%s' of machine '%s'. %s", pid, machineId, e.getMessage()));
-            }
+        try {
+            return getProcessLog(machineId, pid).openReader();
+        } catch (IOException e) {
+            throw new MachineException(
+                    String.format("Unable read log file for process '%s' of machine '%s'. %s", pid, machineId, e.getMessage()));
         }
-        throw new NotFoundException(String.format("Logs for process '%s' of machine '%s' are not available", pid, machineId));
+    }
+
+    /**
+     * Gets logs of process by specified id, the log allows reading of lines from any position and waiting for new lines.
+     *
+     * @param machineId
+     *         machine id whose process logs will be returned
+     * @param pid
+     *         process id
+     * @throws NotFoundException
+     *         if logs of process with specified id not found
+     * @throws MachineException
+     *         if other error occur
+     */
+    public RotatingLogFile getProcessLog(String machineId, int pid) throws NotFoundException, MachineException {
+        final RotatingLogFile log = getLogFile(getProcessLogsFile(machineId, pid));
+        if (log == null) {
+            throw new NotFoundException(String.format("Logs for process '%s' of machine '%s' are not available", pid, machineId));
+        }
+        return log;
+    }
+
+    /** Returns log of running machine or opens log from disk, {@code null} if there is no such log. */
+    private RotatingLogFile getLogFile(File file) throws MachineException {
+        final RotatingLogFile log = logFiles.get(file);
+        if (log != null) {
+            return log;
+        }
+        if (!file.isFile()) {
+            return null;
+        }
+        try {
+            return RotatingLogFile.open(file);
+        } catch (IOException e) {
+            throw new MachineException(String.format("Unable read log file %s. %s", file.getName(), e.getMessage()));
+        }
+    }
+
+    private RotatingLogFile createLogFile(File file) throws IOException {
+        final RotatingLogFile log = RotatingLogFile.create(file, logsSegmentSize, executor);
+        logFiles.put(file, log);
+        return log;
     }
 
     private SnapshotImpl doSaveMachine(SnapshotImpl snapshot, Instance machine) throws SnapshotException, MachineException {
@@ -862,6 +956,8 @@ public class MachineManager {
             machine.getLogger().close();
         } catch (IOException ignore) {
         }
+        final File logsDir = getMachineLogsFile(machine.getId()).getParentFile();
+        logFiles.keySet().removeIf(file -> logsDir.equals(file.getParentFile()));
 
         machineRegistry.remove(machine.getId());
 
@@ -879,9 +975,9 @@ public class MachineManager {
         }
     }
 
-    private FileLineConsumer getMachineFileLogger(String machineId) throws MachineException {
+    private RotatingLogFile getMachineFileLogger(String machineId) throws MachineException {
         try {
-            return new FileLineConsumer(getMachineLogsFile(machineId));
+            return createLogFile(getMachineLogsFile(machineId));
         } catch (IOException e) {
             throw new MachineException(String.format("Unable create log file for machine '%s'. %s", machineId, e.getMessage()));
         }
@@ -895,15 +991,23 @@ public class MachineManager {
         return new File(new File(machineLogsDir, machineId), Integer.toString(pid));
     }
 
-    private FileLineConsumer getProcessFileLogger(String machineId, int pid) throws MachineException {
+    private RotatingLogFile getProcessFileLogger(String machineId, int pid) throws MachineException {
         try {
-            return new FileLineConsumer(getProcessLogsFile(machineId, pid));
+            return createLogFile(getProcessLogsFile(machineId, pid));
         } catch (IOException e) {
             throw new MachineException(
                     String.format("Unable create log file for process '%s' of machine '%s'. %s", pid, machineId, e.getMessage()));
         }
     }
 
+    private void closeProcessLogger(LineConsumer processLogger) {
+        try {
+            processLogger.close();
+        } catch (IOException e) {
+            LOG.error(e.getLocalizedMessage(), e);
+        }
+    }
+
     String generateMachineId() {
         return NameGenerator.generate("machine", 16);
     }
@@ -916,11 +1020,30 @@ public class MachineManager {
         return getLogger(getProcessFileLogger(machineId, pid), outputChannel);
     }
 
+    /**
+     * Output of machines and processes is written to file and websocket asynchronously, so process which produces
+     * a lot of output isn't slowed down by flush of file and sending of websocket message per line.
+     * <p/>
+     * File and websocket have separate buffers. Lines are never dropped from file, process waits if file can't keep up
+     * with it, while lines which can't be sent to websocket in {@code machine.logs.max_block_ms} are dropped from websocket
+     * output only.
+     */
     private LineConsumer getLogger(LineConsumer fileLogger, String outputChannel) throws MachineException {
-        if (outputChannel != null) {
-            return new CompositeLineConsumer(fileLogger, new WebsocketLineConsumer(outputChannel));
+        final LineConsumer fileConsumer = new AsyncLineConsumer(fileLogger,
+                                                                logsExecutor,
+                                                                logsBufferSize,
+                                                                logsBatchSize,
+                                                                logsFlushDelayMs,
+                                                                Long.MAX_VALUE);
+        if (outputChannel == null) {
+            return fileConsumer;
         }
-        return fileLogger;
+        return new CompositeLineConsumer(fileConsumer, new AsyncLineConsumer(new WebsocketLineConsumer(outputChannel),
+                                                                             logsSenderExecutor,
+                                                                             logsBufferSize,
+                                                                             logsBatchSize,
+                                                                             logsFlushDelayMs,
+                                                                             logsMaxBlockMs));
     }
 
     static ChannelsImpl getMachineChannels(String machineName, String workspaceId, String envName) {
@@ -1036,6 +1159,9 @@ public class MachineManager {
         } catch (MachineException e) {
             LOG.error(e.getLocalizedMessage(), e);
         }
+        // loggers of destroyed machines are closed and written already
+        logsExecutor.shutdownNow();
+        logsSenderExecutor.shutdownNow();
 
         final java.io.File[] files = machineLogsDir.listFiles();
         if (files != null && files.length > 0) {
@@ -17,7 +17,6 @@ import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
 
 import com.google.common.collect.Lists;
-import com.google.common.io.CharStreams;
 
 import org.eclipse.che.api.core.BadRequestException;
 import org.eclipse.che.api.core.ForbiddenException;
@@ -30,6 +29,7 @@ import org.eclipse.che.api.core.rest.shared.dto.Link;
 import org.eclipse.che.api.core.rest.shared.dto.LinkParameter;
 import org.eclipse.che.api.machine.server.exception.MachineException;
 import org.eclipse.che.api.machine.server.impl.SnapshotImpl;
+import org.eclipse.che.api.machine.server.logs.RotatingLogFile;
 import org.eclipse.che.api.machine.server.spi.Instance;
 import org.eclipse.che.api.machine.shared.Constants;
 import org.eclipse.che.api.machine.shared.dto.CommandDto;
@@ -55,9 +55,11 @@ import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
 import javax.ws.rs.core.UriBuilder;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
-import java.io.Reader;
+import java.io.OutputStream;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.List;
@@ -80,6 +82,10 @@ import static org.eclipse.che.dto.server.DtoFactory.newDto;
 @Api(value = "/machine", description = "Machine REST API")
 @Path("/machine")
 public class MachineService extends Service {
+    /** Header which contains number of the line next to the last line of log returned in response. */
+    public static final String NEXT_LINE_HEADER  = "X-Next-Line";
+    public static final long   FOLLOW_TIMEOUT_MS = 30_000;
+
     private MachineManager machineManager;
 
     @Inject
@@ -312,20 +318,34 @@ public class MachineService extends Service {
     @ApiOperation(value = "Get logs of machine")
     @ApiResponses({@ApiResponse(code = 200, message = "The response contains logs"),
                    @ApiResponse(code = 404, message = "Machine with specified ID does not exist"),
+                   @ApiResponse(code = 400, message = "Number of the first line is negative"),
                    @ApiResponse(code = 500, message = "Internal server error occurred")})
     public void getMachineLogs(@ApiParam(value = "Machine ID")
                                @PathParam("machineId")
                                String machineId,
+                               @ApiParam(value = "Number of the first line to return, lines are numbered from 0")
+                               @DefaultValue("0")
+                               @QueryParam("from")
+                               long from,
+                               @ApiParam(value = "Number of the last lines to return, overrides 'from' parameter")
+                               @DefaultValue("-1")
+                               @QueryParam("tail")
+                               int tail,
+                               @ApiParam(value = "Wait for new lines if there are no lines after the first requested one")
+                               @DefaultValue("false")
+                               @QueryParam("follow")
+                               boolean follow,
                                @Context
                                HttpServletResponse httpServletResponse)
             throws NotFoundException,
                    ForbiddenException,
                    ServerException,
+                   BadRequestException,
                    IOException {
 
         checkCurrentUserPermissions(machineManager.getMachine(machineId));
 
-        addLogsToResponse(machineManager.getMachineLogReader(machineId), httpServletResponse);
+        addLogsToResponse(machineManager.getMachineLog(machineId), from, tail, follow, httpServletResponse);
     }
 
     @GET
@@ -335,6 +355,7 @@ public class MachineService extends Service {
     @ApiOperation(value = "Get logs of machine process")
     @ApiResponses({@ApiResponse(code = 200, message = "The response contains logs"),
                    @ApiResponse(code = 404, message = "Machine or process with specified ID does not exist"),
+                   @ApiResponse(code = 400, message = "Number of the first line is negative"),
                    @ApiResponse(code = 500, message = "Internal server error occurred")})
     public void getProcessLogs(@ApiParam(value = "Machine ID")
                                @PathParam("machineId")
@@ -342,16 +363,29 @@ public class MachineService extends Service {
                                @ApiParam(value = "Process ID")
                                @PathParam("pid")
                                int pid,
+                               @ApiParam(value = "Number of the first line to return, lines are numbered from 0")
+                               @DefaultValue("0")
+                               @QueryParam("from")
+                               long from,
+                               @ApiParam(value = "Number of the last lines to return, overrides 'from' parameter")
+                               @DefaultValue("-1")
+                               @QueryParam("tail")
+                               int tail,
+                               @ApiParam(value = "Wait for new lines if there are no lines after the first requested one")
+                               @DefaultValue("false")
+                               @QueryParam("follow")
+                               boolean follow,
                                @Context
                                HttpServletResponse httpServletResponse)
             throws NotFoundException,
                    ForbiddenException,
                    ServerException,
+                   BadRequestException,
                    IOException {
 
         checkCurrentUserPermissions(machineManager.getMachine(machineId));
 
-        addLogsToResponse(machineManager.getProcessLogReader(machineId, pid), httpServletResponse);
+        addLogsToResponse(machineManager.getProcessLog(machineId, pid), from, tail, follow, httpServletResponse);
     }
 
     /**
@@ -369,35 +403,51 @@ public class MachineService extends Service {
      */
     @GET
     @Path("/{machineId}/filepath/{path:.*}")
-    @Produces(MediaType.TEXT_PLAIN)
+    @Produces({MediaType.TEXT_PLAIN, MediaType.APPLICATION_OCTET_STREAM})
     @RolesAllowed("user")
-    @ApiOperation(value = "Get content of file in machine")
+    @ApiOperation(value = "Get content of file in machine",
+                  notes = "Lines of file are returned as text. If offset is specified range of bytes of file is returned instead")
     @ApiResponses({@ApiResponse(code = 200, message = "The response contains file content"),
+                   @ApiResponse(code = 400, message = "Offset or length is negative"),
                    @ApiResponse(code = 404, message = "Machine with specified ID does not exist"),
                    @ApiResponse(code = 500, message = "Internal server error occurred")})
-    public String getFileContent(@ApiParam(value = "Machine ID")
-                                 @PathParam("machineId")
-                                 String machineId,
-                                 @ApiParam(value = "Path of file")
-                                 @PathParam("path")
-                                 String path,
-                                 @ApiParam(value = "From line")
-                                 @QueryParam("startFrom")
-                                 @DefaultValue("1")
-                                 Integer startFrom,
-                                 @ApiParam(value = "Number of lines")
-                                 @QueryParam("limit")
-                                 @DefaultValue("2000")
-                                 Integer limit)
+    public Response getFileContent(@ApiParam(value = "Machine ID")
+                                   @PathParam("machineId")
+                                   String machineId,
+                                   @ApiParam(value = "Path of file")
+                                   @PathParam("path")
+                                   String path,
+                                   @ApiParam(value = "From line")
+                                   @QueryParam("startFrom")
+                                   @DefaultValue("1")
+                                   Integer startFrom,
+                                   @ApiParam(value = "Number of lines")
+                                   @QueryParam("limit")
+                                   @DefaultValue("2000")
+                                   Integer limit,
+                                   @ApiParam(value = "Offset of the first byte to read")
+                                   @QueryParam("offset")
+                                   Long offset,
+                                   @ApiParam(value = "Max number of bytes to read")
+                                   @QueryParam("length")
+                                   @DefaultValue("65536")
+                                   Integer length)
             throws NotFoundException,
                    ForbiddenException,
+                   BadRequestException,
                    ServerException {
 
         final Instance machine = machineManager.getInstance(machineId);
 
         checkCurrentUserPermissions(machine);
 
-        return machine.readFileContent(path, startFrom, limit);
+        if (offset == null) {
+            return Response.ok(machine.readFileContent(path, startFrom, limit), MediaType.TEXT_PLAIN).build();
+        }
+        if (offset < 0 || length < 0) {
+            throw new BadRequestException("Offset and length must not be negative");
+        }
+        return Response.ok(machine.readFileBytes(path, offset, length), MediaType.APPLICATION_OCTET_STREAM).build();
     }
 
     /**
@@ -615,11 +665,36 @@ public class MachineService extends Service {
                                                            Constants.LINK_REL_REMOVE_SNAPSHOT)));
     }
 
-    private void addLogsToResponse(Reader logsReader, HttpServletResponse httpServletResponse) throws IOException {
+    /**
+     * Writes lines of log starting from {@code from} line or last {@code tail} lines. If there are no such lines and
+     * {@code follow} is {@code true} waits for new lines up to {@value #FOLLOW_TIMEOUT_MS} ms. Number of the line
+     * next to the last returned one is sent in {@value #NEXT_LINE_HEADER} header, so client may continue from it.
+     */
+    private void addLogsToResponse(RotatingLogFile log,
+                                   long from,
+                                   int tail,
+                                   boolean follow,
+                                   HttpServletResponse httpServletResponse) throws IOException, BadRequestException {
+        if (from < 0) {
+            throw new BadRequestException("Number of the first line must not be negative");
+        }
+        if (tail >= 0) {
+            from = Math.max(0, log.getLineCount() - tail);
+        }
+        if (follow) {
+            try {
+                log.awaitLines(from, FOLLOW_TIMEOUT_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        final long end = Math.max(from, log.getLineCount());
         // Response is written directly to the servlet request stream
-        httpServletResponse.setContentType("text/plain");
-        CharStreams.copy(logsReader, httpServletResponse.getWriter());
-        httpServletResponse.getWriter().flush();
+        httpServletResponse.setContentType("text/plain;charset=UTF-8");
+        httpServletResponse.setHeader(NEXT_LINE_HEADER, Long.toString(end));
+        final OutputStream output = new BufferedOutputStream(httpServletResponse.getOutputStream());
+        log.copyLines(from, end, output);
+        output.flush();
     }
 
     private void checkCurrentUserPermissions(SnapshotImpl snapshot) throws ForbiddenException, ServerException {
@@ -0,0 +1,478 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.machine.server.logs;
+
+import com.google.common.io.ByteStreams;
+
+import org.eclipse.che.api.core.util.LineConsumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.singletonList;
+
+/**
+ * Log file which is split into segments, lines of log are addressed by their number from the start of log.
+ * <p/>
+ * Lines are appended to active segment which is plain text file. When size of active segment exceeds limit it is renamed
+ * to {@code <file>.<n>}, new active segment is started and the old one is compressed into {@code <file>.<n>.gz} with given
+ * executor, so writers aren't blocked while segment is compressed. Number of the first line and number of lines of each
+ * rotated segment are kept in {@code <file>.index}. Offset of every {@value #INDEX_INTERVAL}th line of active segment is kept in memory.
+ * So to read lines from the end of log at most one compressed segment and a part of active segment are read regardless of the
+ * size of log.
+ * <p/>
+ * Lines are separated with {@code '\n'} and may contain carriage returns. Line which is written with embedded {@code '\n'}
+ * is stored and counted as several lines.
+ */
+public class RotatingLogFile implements LineConsumer {
+    private static final Logger LOG = LoggerFactory.getLogger(RotatingLogFile.class);
+
+    static final int INDEX_INTERVAL = 1024;
+
+    private final File          file;
+    private final File          indexFile;
+    private final long          maxSegmentSize;
+    private final Executor      compressor;
+    private final List<Segment> segments    = new ArrayList<>();
+    private final List<Long>    activeIndex = new ArrayList<>();
+    private final ReadWriteLock lock        = new ReentrantReadWriteLock();
+    private final Object        linesLock   = new Object();
+
+    private long         activeFirstLine;
+    private long         activeLines;
+    private long         activeSize;
+    private OutputStream output;
+
+    private volatile long    lineCount;
+    private volatile boolean closed;
+
+    /**
+     * Opens log for writing, lines are appended to existing log if any. Rotated segments are compressed by the thread which
+     * writes lines after write lock is released.
+     *
+     * @param file
+     *         file of active segment
+     * @param maxSegmentSize
+     *         size in bytes after which active segment is rotated
+     */
+    public static RotatingLogFile create(File file, long maxSegmentSize) throws IOException {
+        return create(file, maxSegmentSize, Runnable::run);
+    }
+
+    /**
+     * Opens log for writing, lines are appended to existing log if any.
+     *
+     * @param file
+     *         file of active segment
+     * @param maxSegmentSize
+     *         size in bytes after which active segment is rotated
+     * @param compressor
+     *         executor which compresses rotated segments
+     */
+    public static RotatingLogFile create(File file, long maxSegmentSize, Executor compressor) throws IOException {
+        final RotatingLogFile log = new RotatingLogFile(file, maxSegmentSize, compressor);
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            // drop incomplete last line, so offsets in index point to the start of lines
+            channel.truncate(log.activeSize);
+        }
+        log.output = new BufferedOutputStream(new FileOutputStream(file, true));
+        // segments which were rotated but not compressed before log was closed
+        for (Segment segment : log.segments) {
+            if (!log.getSegmentFile(segment).isFile()) {
+                log.compressLater(segment);
+            }
+        }
+        return log;
+    }
+
+    /** Opens existing log for reading. */
+    public static RotatingLogFile open(File file) throws IOException {
+        final RotatingLogFile log = new RotatingLogFile(file, Long.MAX_VALUE, Runnable::run);
+        log.closed = true;
+        return log;
+    }
+
+    private RotatingLogFile(File file, long maxSegmentSize, Executor compressor) throws IOException {
+        this.file = file;
+        this.indexFile = new File(file.getParentFile(), file.getName() + ".index");
+        this.maxSegmentSize = maxSegmentSize;
+        this.compressor = compressor;
+        load();
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    /** Returns number of lines in log. */
+    public long getLineCount() {
+        return lineCount;
+    }
+
+    /**
+     * Waits until log has more than {@code fromLine} lines.
+     *
+     * @return {@code true} if log has more than {@code fromLine} lines, {@code false} if timeout is reached or log is closed
+     */
+    public boolean awaitLines(long fromLine, long timeoutMs) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + timeoutMs;
+        synchronized (linesLock) {
+            long remaining = timeoutMs;
+            while (lineCount <= fromLine && !closed && remaining > 0) {
+                linesLock.wait(remaining);
+                remaining = deadline - System.currentTimeMillis();
+            }
+        }
+        return lineCount > fromLine;
+    }
+
+    /**
+     * Copies lines from {@code fromLine} inclusive to {@code toLine} exclusive to the given output.
+     * Lines are copied in UTF-8 encoding and are terminated with {@code '\n'}.
+     *
+     * @return number of the line next to the last copied one
+     */
+    public long copyLines(long fromLine, long toLine, OutputStream out) throws IOException {
+        final List<Segment> toRead = new ArrayList<>();
+        final long end;
+        long activeOffset = 0;
+        long activeSkip = 0;
+        long activeLimit = 0;
+        FileChannel channel = null;
+        lock.readLock().lock();
+        try {
+            end = Math.min(toLine, activeFirstLine + activeLines);
+            if (fromLine >= end) {
+                return fromLine;
+            }
+            for (Segment segment : segments) {
+                if (segment.firstLine + segment.lines > fromLine && segment.firstLine < end) {
+                    toRead.add(segment);
+                }
+            }
+            if (end > activeFirstLine) {
+                final long line = Math.max(fromLine, activeFirstLine) - activeFirstLine;
+                final int index = (int)(line / INDEX_INTERVAL);
+                activeOffset = activeIndex.get(index);
+                activeSkip = line - (long)index * INDEX_INTERVAL;
+                activeLimit = activeSize;
+                // channel stays readable even if segment is rotated while lines are copied
+                channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        long line = fromLine;
+        try {
+            for (Segment segment : toRead) {
+                try (InputStream in = openSegment(segment)) {
+                    skipLines(in, Math.max(0, line - segment.firstLine));
+                    line += copyLines(in, out, Math.min(end, segment.firstLine + segment.lines) - line);
+                }
+            }
+            if (channel != null) {
+                channel.position(activeOffset);
+                final InputStream in = new BufferedInputStream(ByteStreams.limit(Channels.newInputStream(channel),
+                                                                                 activeLimit - activeOffset));
+                skipLines(in, activeSkip);
+                line += copyLines(in, out, end - line);
+            }
+        } finally {
+            if (channel != null) {
+                channel.close();
+            }
+        }
+        return line;
+    }
+
+    /** Returns reader of the whole log. */
+    public Reader openReader() throws IOException {
+        final List<Segment> toRead;
+        final long activeLimit;
+        final FileChannel channel;
+        lock.readLock().lock();
+        try {
+            toRead = new ArrayList<>(segments);
+            activeLimit = activeSize;
+            channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        } finally {
+            lock.readLock().unlock();
+        }
+        final Iterator<Segment> it = toRead.iterator();
+        final Enumeration<InputStream> streams = new Enumeration<InputStream>() {
+            boolean activeOpened;
+
+            @Override
+            public boolean hasMoreElements() {
+                return it.hasNext() || !activeOpened;
+            }
+
+            @Override
+            public InputStream nextElement() {
+                if (it.hasNext()) {
+                    try {
+                        return openSegment(it.next());
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+                activeOpened = true;
+                return ByteStreams.limit(Channels.newInputStream(channel), activeLimit);
+            }
+        };
+        return new BufferedReader(new InputStreamReader(new SequenceInputStream(streams), UTF_8));
+    }
+
+    @Override
+    public void writeLine(String line) throws IOException {
+        writeLines(singletonList(line));
+    }
+
+    @Override
+    public void writeLines(List<String> lines) throws IOException {
+        final List<Segment> rotated = new ArrayList<>();
+        lock.writeLock().lock();
+        try {
+            if (output == null) {
+                throw new IOException(String.format("Log file %s is closed", file));
+            }
+            for (String line : lines) {
+                if (line == null) {
+                    appendLine("", rotated);
+                    continue;
+                }
+                // embedded line separators start new lines, otherwise line numbers in index don't match content of file
+                int start = 0;
+                int end;
+                while ((end = line.indexOf('\n', start)) != -1) {
+                    appendLine(line.substring(start, end), rotated);
+                    start = end + 1;
+                }
+                appendLine(line.substring(start), rotated);
+            }
+            output.flush();
+        } finally {
+            lineCount = activeFirstLine + activeLines;
+            lock.writeLock().unlock();
+            for (Segment segment : rotated) {
+                compressLater(segment);
+            }
+        }
+        synchronized (linesLock) {
+            linesLock.notifyAll();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.writeLock().lock();
+        try {
+            if (output != null) {
+                output.close();
+                output = null;
+            }
+        } finally {
+            closed = true;
+            lock.writeLock().unlock();
+        }
+        synchronized (linesLock) {
+            linesLock.notifyAll();
+        }
+    }
+
+    /** Appends line which doesn't contain {@code '\n'} to active segment. Must be called under write lock. */
+    private void appendLine(String line, List<Segment> rotated) throws IOException {
+        if (activeLines % INDEX_INTERVAL == 0) {
+            activeIndex.add(activeSize);
+        }
+        final byte[] bytes = line.getBytes(UTF_8);
+        output.write(bytes);
+        output.write('\n');
+        activeSize += bytes.length + 1;
+        activeLines++;
+        if (activeSize >= maxSegmentSize) {
+            rotated.add(rotate());
+        }
+    }
+
+    /**
+     * Renames active segment to {@code <file>.<n>} and starts new one. Rotated segment is readable as plain text file
+     * until it is compressed with {@link #compress(Segment)}. Must be called under write lock.
+     */
+    private Segment rotate() throws IOException {
+        output.close();
+        try {
+            final Segment segment = new Segment(segments.size(), activeFirstLine, activeLines);
+            Files.move(file.toPath(), getRawSegmentFile(segment).toPath());
+            try (Writer indexWriter = new OutputStreamWriter(new FileOutputStream(indexFile, true), UTF_8)) {
+                indexWriter.write(segment.number + " " + segment.firstLine + ' ' + segment.lines + '\n');
+            }
+            segments.add(segment);
+            activeFirstLine += activeLines;
+            activeLines = 0;
+            activeSize = 0;
+            activeIndex.clear();
+            return segment;
+        } finally {
+            output = new BufferedOutputStream(new FileOutputStream(file, true));
+        }
+    }
+
+    private void compressLater(Segment segment) {
+        try {
+            compressor.execute(() -> compress(segment));
+        } catch (RejectedExecutionException e) {
+            compress(segment);
+        }
+    }
+
+    /**
+     * Compresses rotated segment. Compressed file appears atomically before plain one is removed, so readers which don't
+     * find compressed file may safely fall back to plain one and vice versa, see {@link #openSegment(Segment)}.
+     * If segment can't be compressed it is kept uncompressed.
+     */
+    private void compress(Segment segment) {
+        final File raw = getRawSegmentFile(segment);
+        final File compressed = getSegmentFile(segment);
+        final File tmp = new File(compressed.getPath() + ".tmp");
+        try {
+            try (InputStream in = new FileInputStream(raw);
+                 OutputStream out = new GZIPOutputStream(new FileOutputStream(tmp))) {
+                ByteStreams.copy(in, out);
+            }
+            Files.move(tmp.toPath(), compressed.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            Files.delete(raw.toPath());
+        } catch (IOException e) {
+            LOG.warn("Unable compress segment {} of log file {}. {}", segment.number, file, e.getMessage());
+            tmp.delete();
+        }
+    }
+
+    /** Reads description of compressed segments and builds index of active segment. */
+    private void load() throws IOException {
+        if (indexFile.isFile()) {
+            for (String line : Files.readAllLines(indexFile.toPath(), UTF_8)) {
+                final String[] parts = line.trim().split(" ");
+                if (parts.length == 3) {
+                    segments.add(new Segment(Integer.parseInt(parts[0]), Long.parseLong(parts[1]), Long.parseLong(parts[2])));
+                }
+            }
+        }
+        if (!segments.isEmpty()) {
+            final Segment last = segments.get(segments.size() - 1);
+            activeFirstLine = last.firstLine + last.lines;
+        }
+        if (file.isFile()) {
+            // incomplete last line, if any, isn't counted
+            try (InputStream in = new BufferedInputStream(new FileInputStream(file))) {
+                long offset = 0;
+                int b;
+                while ((b = in.read()) != -1) {
+                    offset++;
+                    if (b == '\n') {
+                        if (activeLines % INDEX_INTERVAL == 0) {
+                            activeIndex.add(activeSize);
+                        }
+                        activeLines++;
+                        activeSize = offset;
+                    }
+                }
+            }
+        }
+        lineCount = activeFirstLine + activeLines;
+    }
+
+    private File getSegmentFile(Segment segment) {
+        return new File(file.getParentFile(), file.getName() + '.' + segment.number + ".gz");
+    }
+
+    private File getRawSegmentFile(Segment segment) {
+        return new File(file.getParentFile(), file.getName() + '.' + segment.number);
+    }
+
+    private InputStream openSegment(Segment segment) throws IOException {
+        final File compressed = getSegmentFile(segment);
+        if (!compressed.isFile()) {
+            try {
+                return new BufferedInputStream(new FileInputStream(getRawSegmentFile(segment)));
+            } catch (FileNotFoundException e) {
+                // segment is compressed just now
+            }
+        }
+        return new BufferedInputStream(new GZIPInputStream(new FileInputStream(compressed)));
+    }
+
+    private static void skipLines(InputStream in, long count) throws IOException {
+        int b;
+        while (count > 0 && (b = in.read()) != -1) {
+            if (b == '\n') {
+                count--;
+            }
+        }
+    }
+
+    private static long copyLines(InputStream in, OutputStream out, long count) throws IOException {
+        long copied = 0;
+        int b;
+        while (copied < count && (b = in.read()) != -1) {
+            out.write(b);
+            if (b == '\n') {
+                copied++;
+            }
+        }
+        return copied;
+    }
+
+    private static class Segment {
+        final int  number;
+        final long firstLine;
+        final long lines;
+
+        Segment(int number, long firstLine, long lines) {
+            this.number = number;
+            this.firstLine = firstLine;
+            this.lines = lines;
+        }
+    }
+}
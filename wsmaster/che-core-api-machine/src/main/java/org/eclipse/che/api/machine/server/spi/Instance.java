@@ -101,10 +101,29 @@ public interface Instance extends Machine {
      * @param limit
      *         limitation on line
      * @return file content
+     * @throws NotFoundException
+     *         if file doesn't exist
+     * @throws MachineException
+     *         if any error occurs with file reading
+     */
+    String readFileContent(String filePath, int startFrom, int limit) throws NotFoundException, MachineException;
+
+    /**
+     * Reads range of bytes of file from machine by specified path.
+     *
+     * @param filePath
+     *         path to file on machine instance
+     * @param offset
+     *         offset of the first byte to read
+     * @param length
+     *         max number of bytes to read
+     * @return bytes of file, array is shorter than {@code length} if end of file is reached
+     * @throws NotFoundException
+     *         if file doesn't exist
      * @throws MachineException
      *         if any error occurs with file reading
      */
-    String readFileContent(String filePath, int startFrom, int limit) throws MachineException;
+    byte[] readFileBytes(String filePath, long offset, int length) throws NotFoundException, MachineException;
 
 
     /**
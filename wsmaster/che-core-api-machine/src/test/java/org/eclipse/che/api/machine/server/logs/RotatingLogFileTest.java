@@ -0,0 +1,179 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.machine.server.logs;
+
+import com.google.common.io.CharStreams;
+
+import org.eclipse.che.commons.lang.IoUtil;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class RotatingLogFileTest {
+    private File dir;
+    private File file;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        dir = Files.createTempDirectory("logs").toFile();
+        file = new File(dir, "machineId.logs");
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        IoUtil.deleteRecursive(dir);
+    }
+
+    @Test
+    public void shouldReadLinesFromTheMiddleOfActiveSegment() throws Exception {
+        final RotatingLogFile log = RotatingLogFile.create(file, Long.MAX_VALUE);
+        log.writeLines(lines(0, 3000));
+
+        assertEquals(log.getLineCount(), 3000);
+        assertEquals(copy(log, 2990, 3000), join(lines(2990, 3000)));
+        assertEquals(copy(log, 1024, 1026), join(lines(1024, 1026)));
+    }
+
+    @Test
+    public void shouldCompressSegmentsWhenSizeLimitIsReached() throws Exception {
+        final RotatingLogFile log = RotatingLogFile.create(file, 100);
+        log.writeLines(lines(0, 100));
+
+        assertTrue(new File(dir, "machineId.logs.0.gz").isFile());
+        assertTrue(new File(dir, "machineId.logs.index").isFile());
+        assertTrue(file.length() < 100);
+        assertEquals(log.getLineCount(), 100);
+        assertEquals(copy(log, 0, 100), join(lines(0, 100)));
+        assertEquals(copy(log, 15, 85), join(lines(15, 85)));
+        assertEquals(copy(log, 97, 1000), join(lines(97, 100)));
+        try (Reader reader = log.openReader()) {
+            assertEquals(CharStreams.toString(reader), join(lines(0, 100)));
+        }
+    }
+
+    @Test
+    public void shouldReadClosedLogFromDisk() throws Exception {
+        final RotatingLogFile log = RotatingLogFile.create(file, 100);
+        log.writeLines(lines(0, 50));
+        log.close();
+
+        final RotatingLogFile reopened = RotatingLogFile.open(file);
+
+        assertEquals(reopened.getLineCount(), 50);
+        assertEquals(copy(reopened, 40, 50), join(lines(40, 50)));
+    }
+
+    @Test
+    public void shouldContinueNumberingOfLinesWhenExistingLogIsAppended() throws Exception {
+        final RotatingLogFile log = RotatingLogFile.create(file, 100);
+        log.writeLines(lines(0, 50));
+        log.close();
+
+        final RotatingLogFile appended = RotatingLogFile.create(file, 100);
+        appended.writeLines(lines(50, 60));
+
+        assertEquals(appended.getLineCount(), 60);
+        assertEquals(copy(appended, 0, 60), join(lines(0, 60)));
+    }
+
+    @Test
+    public void shouldKeepCarriageReturnsInLines() throws Exception {
+        final RotatingLogFile log = RotatingLogFile.create(file, Long.MAX_VALUE);
+        log.writeLine("10%\r");
+        log.writeLine("a\rb");
+
+        assertEquals(log.getLineCount(), 2);
+        assertEquals(copy(log, 1, 2), "a\rb\n");
+    }
+
+    @Test
+    public void shouldCountEachLineOfMultilineString() throws Exception {
+        final RotatingLogFile log = RotatingLogFile.create(file, Long.MAX_VALUE);
+        log.writeLine("first\nsecond\r\n");
+        log.writeLine("third");
+
+        assertEquals(log.getLineCount(), 4);
+        assertEquals(copy(log, 1, 2), "second\r\n");
+        assertEquals(copy(log, 2, 4), "\nthird\n");
+        assertEquals(RotatingLogFile.open(file).getLineCount(), 4);
+    }
+
+    @Test
+    public void shouldReadRotatedSegmentWhichIsNotCompressedYet() throws Exception {
+        final List<Runnable> compressions = new ArrayList<>();
+        final RotatingLogFile log = RotatingLogFile.create(file, 100, compressions::add);
+        log.writeLines(lines(0, 30));
+
+        assertFalse(compressions.isEmpty());
+        assertEquals(copy(log, 0, 30), join(lines(0, 30)));
+
+        compressions.forEach(Runnable::run);
+
+        assertEquals(copy(log, 0, 30), join(lines(0, 30)));
+        try (Reader reader = log.openReader()) {
+            assertEquals(CharStreams.toString(reader), join(lines(0, 30)));
+        }
+    }
+
+    @Test
+    public void shouldWaitForNewLines() throws Exception {
+        final RotatingLogFile log = RotatingLogFile.create(file, Long.MAX_VALUE);
+        log.writeLine("first");
+
+        final Thread writer = new Thread(() -> {
+            try {
+                Thread.sleep(100);
+                log.writeLine("second");
+            } catch (Exception ignored) {
+            }
+        });
+        writer.start();
+
+        assertTrue(log.awaitLines(1, 10_000));
+        assertEquals(copy(log, 1, 2), "second\n");
+        assertFalse(log.awaitLines(2, 10));
+    }
+
+    private static String copy(RotatingLogFile log, long from, long to) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        log.copyLines(from, to, out);
+        return new String(out.toByteArray(), UTF_8);
+    }
+
+    private static List<String> lines(int from, int to) {
+        final List<String> lines = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            lines.add("line " + i);
+        }
+        return lines;
+    }
+
+    private static String join(List<String> lines) {
+        final StringBuilder sb = new StringBuilder();
+        for (String line : lines) {
+            sb.append(line).append('\n');
+        }
+        return sb.toString();
+    }
+}
@@ -12,6 +12,9 @@ package org.eclipse.che.api.workspace.server;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Predicate;
+import com.google.common.base.Throwables;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.common.util.concurrent.Uninterruptibles;
 
 import org.eclipse.che.api.core.BadRequestException;
 import org.eclipse.che.api.core.ConflictException;
@@ -29,6 +32,7 @@ import org.eclipse.che.api.machine.server.model.impl.MachineImpl;
 import org.eclipse.che.api.workspace.server.model.impl.EnvironmentImpl;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceImpl;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceRuntimeImpl;
+import org.eclipse.che.api.workspace.shared.dto.event.MachineStartTimeEvent;
 import org.eclipse.che.api.workspace.shared.dto.event.WorkspaceStatusEvent;
 import org.eclipse.che.api.workspace.shared.dto.event.WorkspaceStatusEvent.EventType;
 import org.slf4j.Logger;
@@ -36,6 +40,7 @@ import org.slf4j.LoggerFactory;
 
 import javax.annotation.PreDestroy;
 import javax.inject.Inject;
+import javax.inject.Named;
 import javax.inject.Singleton;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
@@ -45,6 +50,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -57,6 +67,9 @@ import static org.eclipse.che.dto.server.DtoFactory.newDto;
  * <p>This component implements {@link WorkspaceStatus} spec.
  *
  * <p>All the operations performed by this component are synchronous.
+ * Machines of the workspace are started concurrently, the number of machines
+ * which are started at the same time on this node is limited by
+ * {@value #MACHINE_START_PARALLELISM_PROPERTY} property.
  *
  * <p>The implementation is thread-safe and guarded by {@link ReentrantReadWriteLock rwLock}.
  *
@@ -71,21 +84,35 @@ public class WorkspaceRuntimes {
 
     private static final Logger LOG = LoggerFactory.getLogger(WorkspaceRuntimes.class);
 
+    public static final String MACHINE_START_PARALLELISM_PROPERTY = "workspace.runtime.machine_start_parallelism";
+
     private final ReadWriteLock                         rwLock;
     private final Map<String, RuntimeDescriptor>        descriptors;
     private final Map<String, Queue<MachineConfigImpl>> startQueues;
     private final MachineManager                        machineManager;
     private final EventService                          eventService;
+    private final ExecutorService                       startExecutor;
 
     private volatile boolean isPreDestroyInvoked;
 
+    /**
+     * @param machineStartParallelism
+     *         max number of machines which are started at the same time on this node,
+     *         machines of all the workspaces share this limit
+     */
     @Inject
-    public WorkspaceRuntimes(MachineManager machineManager, EventService eventService) {
+    public WorkspaceRuntimes(MachineManager machineManager,
+                             EventService eventService,
+                             @Named(MACHINE_START_PARALLELISM_PROPERTY) int machineStartParallelism) {
         this.machineManager = machineManager;
         this.eventService = eventService;
         this.descriptors = new HashMap<>();
         this.startQueues = new HashMap<>();
         this.rwLock = new ReentrantReadWriteLock();
+        this.startExecutor = Executors.newFixedThreadPool(Math.max(1, machineStartParallelism),
+                                                          new ThreadFactoryBuilder().setNameFormat("WorkspaceMachineStarter-%d")
+                                                                                    .setDaemon(true)
+                                                                                    .build());
     }
 
     /**
@@ -122,17 +149,20 @@ public class WorkspaceRuntimes {
      * Starts all machines from specified workspace environment,
      * creates workspace runtime instance based on that environment.
      *
-     * <p>Dev-machine always starts before the other machines.
-     * If dev-machine start failed then method will throw appropriate
-     * {@link ServerException}. During the start of the workspace its
-     * runtime is visible with {@link WorkspaceStatus#STARTING} status.
+     * <p>Dev-machine and the other machines are started concurrently,
+     * dev-machine is scheduled first. The method returns when the start
+     * of all the machines is finished. If dev-machine start failed then
+     * method will throw appropriate {@link ServerException}. During the
+     * start of the workspace its runtime is visible with
+     * {@link WorkspaceStatus#STARTING} status until dev-machine is started.
      *
      * <p>If {@link #stop} method executed after dev machine is started but
      * another machines haven't been started yet then {@link ConflictException}
-     * will be thrown and start process will be interrupted.
+     * will be thrown and start process will be interrupted, machines which
+     * are created after the stop are destroyed.
      *
-     * <p>Note that it doesn't provide any events for
-     * machines start, Machine API is responsible for it.
+     * <p>Note that it doesn't provide any events for machines start except
+     * of {@link MachineStartTimeEvent}, Machine API is responsible for it.
      *
      * @param workspace
      *         workspace which environment should be started
@@ -294,6 +324,7 @@ public class WorkspaceRuntimes {
         } finally {
             rwLock.writeLock().unlock();
         }
+        startExecutor.shutdown();
     }
 
     @VisibleForTesting
@@ -304,6 +335,17 @@ public class WorkspaceRuntimes {
                                      .withError(error));
     }
 
+    @VisibleForTesting
+    void publishMachineStartTime(String workspaceId, MachineConfig config, long queueTime, long startTime, String error) {
+        eventService.publish(newDto(MachineStartTimeEvent.class)
+                                     .withWorkspaceId(workspaceId)
+                                     .withMachineName(config.getName())
+                                     .withDev(config.isDev())
+                                     .withQueueTime(queueTime)
+                                     .withStartTime(startTime)
+                                     .withError(error));
+    }
+
     @VisibleForTesting
     void cleanupStartResources(String workspaceId) {
         rwLock.writeLock().lock();
@@ -359,10 +401,54 @@ public class WorkspaceRuntimes {
                                                                                  NotFoundException,
                                                                                  ConflictException {
         publishEvent(EventType.STARTING, wsId, null);
-        MachineConfigImpl config = getPeekConfig(wsId);
-        while (config != null) {
-            startMachine(config, wsId, envName, recover);
-            config = getPeekConfig(wsId);
+        final List<MachineConfigImpl> configs = getStartQueue(wsId);
+
+        // Dev machine goes first in the start queue so it is scheduled before
+        // the other machines, all of them are started concurrently
+        final List<Future<?>> starts = new ArrayList<>(configs.size());
+        boolean rejected = false;
+        for (MachineConfigImpl config : configs) {
+            final long scheduled = System.currentTimeMillis();
+            try {
+                starts.add(startExecutor.submit(() -> {
+                    startMachine(config, wsId, envName, recover, scheduled);
+                    return null;
+                }));
+            } catch (RejectedExecutionException ex) {
+                // executor is shut down by the cleanup, machines which are
+                // already scheduled are not added to the runtime
+                rejected = true;
+                break;
+            }
+        }
+
+        // Waiting for all the scheduled machines even if the dev machine failed,
+        // so the machines created after the failure are destroyed before the method returns.
+        // Dev machine is the first one, so its error takes precedence
+        Throwable error = null;
+        for (Future<?> start : starts) {
+            try {
+                Uninterruptibles.getUninterruptibly(start);
+            } catch (ExecutionException ex) {
+                if (error == null) {
+                    error = ex.getCause();
+                }
+            }
+        }
+        if (error == null && rejected) {
+            error = new ServerException("Could not perform operation because application server is stopping");
+        }
+        if (error instanceof ServerException) {
+            throw (ServerException)error;
+        }
+        if (error instanceof NotFoundException) {
+            throw (NotFoundException)error;
+        }
+        if (error instanceof ConflictException) {
+            throw (ConflictException)error;
+        }
+        if (error != null) {
+            throw Throwables.propagate(error);
         }
 
         // Clean up the start queue when all the machines successfully started
@@ -377,9 +463,9 @@ public class WorkspaceRuntimes {
         }
     }
 
-    private MachineConfigImpl getPeekConfig(String wsId) throws ConflictException, ServerException {
-        // Trying to get machine to start. If queue doesn't exist then workspace
-        // start was interrupted either by the stop method, or by the cleanup
+    private List<MachineConfigImpl> getStartQueue(String wsId) throws ConflictException, ServerException {
+        // If queue doesn't exist then workspace start was interrupted
+        // either by the stop method, or by the cleanup, or by the dev machine failure
         rwLock.readLock().lock();
         try {
             ensurePreDestroyIsNotExecuted();
@@ -389,7 +475,7 @@ public class WorkspaceRuntimes {
                                                    "Workspace was stopped before all its machines were started",
                                                    wsId));
             }
-            return queue.peek();
+            return new ArrayList<>(queue);
         } finally {
             rwLock.readLock().unlock();
         }
@@ -398,14 +484,21 @@ public class WorkspaceRuntimes {
     private void startMachine(MachineConfigImpl config,
                               String wsId,
                               String envName,
-                              boolean recover) throws ServerException,
-                                                      NotFoundException,
-                                                      ConflictException {
+                              boolean recover,
+                              long scheduled) throws ServerException,
+                                                     NotFoundException,
+                                                     ConflictException {
+        // Workspace might be stopped while the machine was waiting for a free start slot
+        getStartQueue(wsId);
+
         // Trying to start machine from the given configuration
+        final long started = System.currentTimeMillis();
         MachineImpl machine = null;
+        String startError = null;
         try {
             machine = createMachine(config, wsId, envName, recover);
         } catch (RuntimeException | MachineException | NotFoundException | SnapshotException | ConflictException ex) {
+            startError = ex.getLocalizedMessage() != null ? ex.getLocalizedMessage() : ex.toString();
             if (config.isDev()) {
                 publishEvent(EventType.ERROR, wsId, ex.getLocalizedMessage());
                 cleanupStartResources(wsId);
@@ -416,20 +509,29 @@ public class WorkspaceRuntimes {
                              wsId,
                              envName),
                       ex);
+        } finally {
+            final long startTime = System.currentTimeMillis() - started;
+            LOG.info("Start of machine '{}' in workspace '{}' took {}ms, machine waited for start {}ms",
+                     config.getName(),
+                     wsId,
+                     startTime,
+                     started - scheduled);
+            publishMachineStartTime(wsId, config, started - scheduled, startTime, startError);
         }
 
         // Machine destroying is an expensive operation which must be
         // performed outside of the lock, this section checks if
         // the workspace wasn't stopped while it is starting and sets
         // polled flag to true if the workspace wasn't stopped plus
-        // polls the proceeded machine configuration from the queue
+        // removes the proceeded machine configuration from the queue.
+        // Write lock is used as machines of the same workspace are started concurrently
         boolean queuePolled = false;
-        rwLock.readLock().lock();
+        rwLock.writeLock().lock();
         try {
             ensurePreDestroyIsNotExecuted();
             final Queue<MachineConfigImpl> queue = startQueues.get(wsId);
             if (queue != null) {
-                queue.poll();
+                queue.remove(config);
                 queuePolled = true;
                 if (machine != null) {
                     final WorkspaceRuntimeImpl runtime = descriptors.get(wsId).getRuntime();
@@ -441,7 +543,7 @@ public class WorkspaceRuntimes {
                 }
             }
         } finally {
-            rwLock.readLock().unlock();
+            rwLock.writeLock().unlock();
         }
 
         // If machine config is not polled from the queue
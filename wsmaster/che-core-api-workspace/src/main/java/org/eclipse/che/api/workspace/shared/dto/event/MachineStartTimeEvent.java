@@ -0,0 +1,60 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.workspace.shared.dto.event;
+
+import org.eclipse.che.api.core.notification.EventOrigin;
+import org.eclipse.che.dto.shared.DTO;
+
+/**
+ * Describes how long it took to start a machine of a workspace.
+ * Published once per machine when its start is finished either successfully or with an error.
+ */
+@EventOrigin("machine")
+@DTO
+public interface MachineStartTimeEvent {
+    String getWorkspaceId();
+
+    void setWorkspaceId(String workspaceId);
+
+    MachineStartTimeEvent withWorkspaceId(String workspaceId);
+
+    String getMachineName();
+
+    void setMachineName(String machineName);
+
+    MachineStartTimeEvent withMachineName(String machineName);
+
+    boolean isDev();
+
+    void setDev(boolean dev);
+
+    MachineStartTimeEvent withDev(boolean dev);
+
+    /** Time in milliseconds the machine waited for a free start slot. */
+    long getQueueTime();
+
+    void setQueueTime(long queueTime);
+
+    MachineStartTimeEvent withQueueTime(long queueTime);
+
+    /** Time in milliseconds the machine creation took. */
+    long getStartTime();
+
+    void setStartTime(long startTime);
+
+    MachineStartTimeEvent withStartTime(long startTime);
+
+    String getError();
+
+    void setError(String error);
+
+    MachineStartTimeEvent withError(String error);
+}
@@ -0,0 +1,196 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.workspace.server;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+
+import org.eclipse.che.api.core.rest.shared.dto.Link;
+import org.eclipse.che.api.machine.shared.dto.CommandDto;
+import org.eclipse.che.api.machine.shared.dto.LimitsDto;
+import org.eclipse.che.api.machine.shared.dto.MachineConfigDto;
+import org.eclipse.che.api.machine.shared.dto.MachineSourceDto;
+import org.eclipse.che.api.machine.shared.dto.ServerConfDto;
+import org.eclipse.che.api.workspace.shared.dto.EnvironmentDto;
+import org.eclipse.che.api.workspace.shared.dto.ProjectConfigDto;
+import org.eclipse.che.api.workspace.shared.dto.RecipeDto;
+import org.eclipse.che.api.workspace.shared.dto.SourceStorageDto;
+import org.eclipse.che.api.workspace.shared.dto.WorkspaceConfigDto;
+import org.eclipse.che.api.workspace.shared.dto.WorkspaceDto;
+import org.eclipse.che.dto.server.DtoFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.Writer;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Arrays.asList;
+import static org.eclipse.che.api.core.model.workspace.WorkspaceStatus.RUNNING;
+import static org.eclipse.che.dto.server.DtoFactory.newDto;
+
+/**
+ * Compares serialization of {@link WorkspaceDto} through JSON tree ({@code toJsonElement()} and {@code fromJsonElement()}) with
+ * streaming serialization ({@code writeTo(JsonWriter)} and {@code fromJsonReader(JsonReader)}) that is used by {@code CheJsonProvider}.
+ * Size of workspace is defined by number of projects, each project has own command.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorkspaceDtoJsonBenchmark {
+    private static final Gson GSON = new GsonBuilder().disableHtmlEscaping().create();
+
+    @Param({"10", "100", "1000"})
+    public int projects;
+
+    private WorkspaceDto workspace;
+    private String       json;
+    private Method       fromJsonElement;
+
+    @Setup
+    public void setUp() throws Exception {
+        workspace = createWorkspace(projects);
+        json = DtoFactory.getInstance().toJson(workspace);
+        fromJsonElement = workspace.getClass().getMethod("fromJsonElement", JsonElement.class);
+    }
+
+    @Benchmark
+    public Writer writeJsonTree() {
+        final Writer writer = new NullWriter();
+        GSON.toJson(DtoFactory.getInstance().toJsonElement(workspace), writer);
+        return writer;
+    }
+
+    @Benchmark
+    public Writer writeJsonStream() throws IOException {
+        final Writer writer = new NullWriter();
+        DtoFactory.getInstance().toJson(workspace, writer);
+        return writer;
+    }
+
+    @Benchmark
+    public Object readJsonTree() throws Exception {
+        return fromJsonElement.invoke(null, new JsonParser().parse(json));
+    }
+
+    @Benchmark
+    public WorkspaceDto readJsonStream() throws IOException {
+        return DtoFactory.getInstance().createDtoFromJson(new StringReader(json), WorkspaceDto.class);
+    }
+
+    private static WorkspaceDto createWorkspace(int projects) {
+        final List<ProjectConfigDto> projectConfigs = new ArrayList<>(projects);
+        final List<CommandDto> commands = new ArrayList<>(projects);
+        for (int i = 0; i < projects; i++) {
+            final Map<String, List<String>> attributes = new HashMap<>();
+            attributes.put("language", Collections.singletonList("java"));
+            attributes.put("maven.artifactId", Collections.singletonList("project-" + i));
+            attributes.put("maven.source.folder", asList("src/main/java", "src/main/resources"));
+            projectConfigs.add(newDto(ProjectConfigDto.class).withName("project-" + i)
+                                                             .withPath("/project-" + i)
+                                                             .withDescription("Project number " + i)
+                                                             .withType("maven")
+                                                             .withMixins(Collections.singletonList("git"))
+                                                             .withAttributes(attributes)
+                                                             .withSource(newDto(SourceStorageDto.class)
+                                                                                 .withType("git")
+                                                                                 .withLocation("https://github.com/codenvy/project-" + i))
+                                                             .withLinks(createLinks("/project/project-" + i)));
+            commands.add(newDto(CommandDto.class).withName("build-" + i)
+                                                 .withType("mvn")
+                                                 .withCommandLine("mvn -f ${current.project.path}/project-" + i + " clean install")
+                                                 .withAttributes(Collections.singletonMap("previewUrl", "http://localhost:8080")));
+        }
+        final MachineConfigDto machine = newDto(MachineConfigDto.class).withName("dev-machine")
+                                                                       .withDev(true)
+                                                                       .withType("docker")
+                                                                       .withSource(newDto(MachineSourceDto.class)
+                                                                                           .withType("recipe")
+                                                                                           .withLocation("http://localhost/recipe"))
+                                                                       .withLimits(newDto(LimitsDto.class).withRam(2048))
+                                                                       .withServers(asList(newDto(ServerConfDto.class).withRef("tomcat")
+                                                                                                                      .withPort("8080/tcp")
+                                                                                                                      .withProtocol("http"),
+                                                                                           newDto(ServerConfDto.class).withRef("debug")
+                                                                                                                      .withPort("8000/tcp")))
+                                                                       .withEnvVariables(Collections.singletonMap("JAVA_OPTS", "-Xmx1g"));
+        final EnvironmentDto environment = newDto(EnvironmentDto.class).withName("default")
+                                                                       .withRecipe(newDto(RecipeDto.class).withType("dockerfile")
+                                                                                                          .withScript("FROM codenvy/ubuntu_jdk8"))
+                                                                       .withMachineConfigs(Collections.singletonList(machine));
+        final WorkspaceConfigDto config = newDto(WorkspaceConfigDto.class).withName("benchmark")
+                                                                          .withDescription("Workspace for benchmark")
+                                                                          .withDefaultEnv("default")
+                                                                          .withEnvironments(Collections.singletonList(environment))
+                                                                          .withProjects(projectConfigs)
+                                                                          .withCommands(commands);
+        return newDto(WorkspaceDto.class).withId("workspace123")
+                                         .withNamespace("user123")
+                                         .withStatus(RUNNING)
+                                         .withConfig(config)
+                                         .withAttributes(Collections.singletonMap("stackId", "java-default"))
+                                         .withLinks(createLinks("/workspace/workspace123"));
+    }
+
+    private static List<Link> createLinks(String path) {
+        return asList(newDto(Link.class).withRel("self").withMethod("GET").withHref("http://localhost:8080/api" + path),
+                      newDto(Link.class).withRel("update").withMethod("PUT").withHref("http://localhost:8080/api" + path)
+                                        .withConsumes("application/json").withProduces("application/json"),
+                      newDto(Link.class).withRel("delete").withMethod("DELETE").withHref("http://localhost:8080/api" + path));
+    }
+
+    /** Discards everything, so benchmarks measure serialization only. */
+    private static class NullWriter extends Writer {
+        @Override
+        public void write(char[] buffer, int offset, int length) {
+        }
+
+        @Override
+        public void write(String str, int offset, int length) {
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(WorkspaceDtoJsonBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -17,6 +17,7 @@ import org.eclipse.che.api.core.notification.EventService;
 import org.eclipse.che.api.machine.server.MachineManager;
 
 import org.eclipse.che.api.core.model.machine.MachineConfig;
+import org.eclipse.che.api.core.model.workspace.WorkspaceStatus;
 import org.eclipse.che.api.machine.server.exception.MachineException;
 import org.eclipse.che.api.machine.server.model.impl.LimitsImpl;
 import org.eclipse.che.api.machine.server.model.impl.MachineConfigImpl;
@@ -27,6 +28,7 @@ import org.eclipse.che.api.workspace.server.WorkspaceRuntimes.RuntimeDescriptor;
 import org.eclipse.che.api.workspace.server.model.impl.EnvironmentImpl;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceConfigImpl;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceImpl;
+import org.eclipse.che.api.workspace.shared.dto.event.MachineStartTimeEvent;
 import org.eclipse.che.api.workspace.shared.dto.event.WorkspaceStatusEvent;
 import org.eclipse.che.api.workspace.shared.dto.event.WorkspaceStatusEvent.EventType;
 import org.eclipse.che.commons.lang.NameGenerator;
@@ -36,15 +38,22 @@ import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Listeners;
 import org.testng.annotations.Test;
 
+import java.util.concurrent.CountDownLatch;
+
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static org.eclipse.che.api.core.model.workspace.WorkspaceStatus.RUNNING;
 import static org.eclipse.che.api.core.model.workspace.WorkspaceStatus.STARTING;
 import static org.eclipse.che.api.core.model.workspace.WorkspaceStatus.STOPPING;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Matchers.anyLong;
 import static org.mockito.Matchers.anyObject;
 import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Matchers.isA;
+import static org.mockito.Matchers.isNull;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
@@ -56,6 +65,7 @@ import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
 
 /**
  * @author Yevhenii Voevodin
@@ -63,7 +73,8 @@ import static org.testng.Assert.assertNotNull;
 @Listeners(value = {MockitoTestNGListener.class})
 public class WorkspaceRuntimesTest {
 
-    private static final String WORKSPACE_ID = "workspace123";
+    private static final String WORKSPACE_ID      = "workspace123";
+    private static final int    START_PARALLELISM = 4;
 
     @Mock
     private MachineManager machineManagerMock;
@@ -77,7 +88,7 @@ public class WorkspaceRuntimesTest {
     public void setUp() throws Exception {
         when(machineManagerMock.createMachineSync(any(), any(), any()))
                 .thenAnswer(invocation -> createMachine((MachineConfig)invocation.getArguments()[0]));
-        runtimes = new WorkspaceRuntimes(machineManagerMock, eventService);
+        runtimes = new WorkspaceRuntimes(machineManagerMock, eventService, START_PARALLELISM);
     }
 
     @Test(expectedExceptions = NotFoundException.class,
@@ -98,7 +109,7 @@ public class WorkspaceRuntimesTest {
     @Test
     public void workspaceShouldBeInStartingStatusUntilDevMachineIsNotStarted() throws Exception {
         final MachineManager machineManagerMock = mock(MachineManager.class);
-        final WorkspaceRuntimes runtimes = new WorkspaceRuntimes(machineManagerMock, eventService);
+        final WorkspaceRuntimes runtimes = new WorkspaceRuntimes(machineManagerMock, eventService, START_PARALLELISM);
         final WorkspaceImpl workspace = createWorkspace();
 
         // check if workspace in starting status before dev machine is started
@@ -119,7 +130,7 @@ public class WorkspaceRuntimesTest {
     @Test
     public void workspaceShouldNotHaveRuntimeIfDevMachineCreationFailed() throws Exception {
         final MachineManager machineManagerMock = mock(MachineManager.class);
-        final WorkspaceRuntimes runtimes = new WorkspaceRuntimes(machineManagerMock, eventService);
+        final WorkspaceRuntimes runtimes = new WorkspaceRuntimes(machineManagerMock, eventService, START_PARALLELISM);
         final WorkspaceImpl workspaceMock = createWorkspace();
         when(machineManagerMock.createMachineSync(any(), any(), any())).thenThrow(new MachineException("Creation error"));
 
@@ -154,7 +165,7 @@ public class WorkspaceRuntimesTest {
           expectedExceptionsMessageRegExp = "Couldn't stop '.*' workspace because its status is 'STARTING'")
     public void shouldNotStopWorkspaceIfItIsStarting() throws Exception {
         final MachineManager machineManagerMock = mock(MachineManager.class);
-        final WorkspaceRuntimes registry = new WorkspaceRuntimes(machineManagerMock, eventService);
+        final WorkspaceRuntimes registry = new WorkspaceRuntimes(machineManagerMock, eventService, START_PARALLELISM);
         final WorkspaceImpl workspace = createWorkspace();
 
         when(machineManagerMock.createMachineSync(any(), any(), any())).thenAnswer(invocationOnMock -> {
@@ -172,6 +183,7 @@ public class WorkspaceRuntimesTest {
         doAnswer(invocation -> {
             final MachineConfig machineCfg = (MachineConfig)invocation.getArguments()[0];
             if (!machineCfg.isDev()) {
+                waitForStatus(workspace.getId(), RUNNING);
                 runtimes.stop(workspace.getId());
             }
             return createMachine((MachineConfig)invocation.getArguments()[0]);
@@ -299,7 +311,7 @@ public class WorkspaceRuntimesTest {
     @Test
     public void startingEventShouldBePublishedBeforeStart() throws Exception {
         final WorkspaceImpl workspace = createWorkspace();
-        runtimes = spy(new WorkspaceRuntimes(machineManagerMock, eventService));
+        runtimes = spy(new WorkspaceRuntimes(machineManagerMock, eventService, START_PARALLELISM));
         doNothing().when(runtimes).publishEvent(any(), any(), any());
 
         doAnswer(invocation -> {
@@ -313,7 +325,43 @@ public class WorkspaceRuntimesTest {
     @Test
     public void runningEventShouldBePublishedAfterDevMachineStarted() throws Exception {
         final WorkspaceImpl workspace = createWorkspace();
-        runtimes = spy(new WorkspaceRuntimes(machineManagerMock, eventService));
+        runtimes = spy(new WorkspaceRuntimes(machineManagerMock, eventService, START_PARALLELISM));
+        doNothing().when(runtimes).publishEvent(any(), any(), any());
+
+        doAnswer(invocation -> {
+            final MachineConfig cfg = (MachineConfig)invocation.getArguments()[0];
+            if (cfg.isDev()) {
+                verify(runtimes, never()).publishEvent(EventType.RUNNING, workspace.getId(), null);
+            }
+            return createMachine(cfg);
+        }).when(machineManagerMock).createMachineSync(any(), any(), any());
+
+        runtimes.start(workspace, workspace.getConfig().getDefaultEnv());
+
+        verify(runtimes).publishEvent(EventType.RUNNING, workspace.getId(), null);
+    }
+
+    @Test
+    public void devAndNonDevMachinesShouldBeStartedConcurrently() throws Exception {
+        final WorkspaceImpl workspace = createWorkspace();
+        final CountDownLatch bothStarting = new CountDownLatch(2);
+
+        doAnswer(invocation -> {
+            bothStarting.countDown();
+            assertTrue(bothStarting.await(10, SECONDS), "Machines are not started concurrently");
+            return createMachine((MachineConfig)invocation.getArguments()[0]);
+        }).when(machineManagerMock).createMachineSync(any(), any(), any());
+
+        final RuntimeDescriptor descriptor = runtimes.start(workspace, workspace.getConfig().getDefaultEnv());
+
+        assertEquals(descriptor.getRuntimeStatus(), RUNNING);
+        assertEquals(descriptor.getRuntime().getMachines().size(), 2);
+    }
+
+    @Test
+    public void devMachineShouldBeStartedFirstIfOnlyOneMachineMayBeStartedAtTheSameTime() throws Exception {
+        final WorkspaceImpl workspace = createWorkspace();
+        runtimes = spy(new WorkspaceRuntimes(machineManagerMock, eventService, 1));
         doNothing().when(runtimes).publishEvent(any(), any(), any());
 
         doAnswer(invocation -> {
@@ -325,12 +373,42 @@ public class WorkspaceRuntimesTest {
         }).when(machineManagerMock).createMachineSync(any(), any(), any());
 
         runtimes.start(workspace, workspace.getConfig().getDefaultEnv());
+
+        assertEquals(runtimes.get(workspace.getId()).getRuntime().getMachines().size(), 2);
+    }
+
+    @Test
+    public void startTimeEventShouldBePublishedForEachMachine() throws Exception {
+        final WorkspaceImpl workspace = createWorkspace();
+        runtimes = spy(new WorkspaceRuntimes(machineManagerMock, eventService, START_PARALLELISM));
+
+        doAnswer(invocation -> {
+            final MachineConfig cfg = (MachineConfig)invocation.getArguments()[0];
+            if (!cfg.isDev()) {
+                throw new MachineException("Start error");
+            }
+            return createMachine(cfg);
+        }).when(machineManagerMock).createMachineSync(any(), any(), any());
+
+        runtimes.start(workspace, workspace.getConfig().getDefaultEnv());
+
+        verify(runtimes).publishMachineStartTime(eq(workspace.getId()),
+                                                 eq(workspace.getConfig().getEnvironments().get(0).getMachineConfigs().get(1)),
+                                                 anyLong(),
+                                                 anyLong(),
+                                                 isNull(String.class));
+        verify(runtimes).publishMachineStartTime(eq(workspace.getId()),
+                                                 eq(workspace.getConfig().getEnvironments().get(0).getMachineConfigs().get(0)),
+                                                 anyLong(),
+                                                 anyLong(),
+                                                 eq("Start error"));
+        verify(eventService, times(2)).publish(isA(MachineStartTimeEvent.class));
     }
 
     @Test
     public void errorEventShouldBePublishedIfDevMachineFailedToStart() throws Exception {
         final WorkspaceImpl workspace = createWorkspace();
-        runtimes = spy(new WorkspaceRuntimes(machineManagerMock, eventService));
+        runtimes = spy(new WorkspaceRuntimes(machineManagerMock, eventService, START_PARALLELISM));
         doNothing().when(runtimes).publishEvent(any(), any(), any());
         doNothing().when(runtimes).cleanupStartResources(any());
 
@@ -352,7 +430,7 @@ public class WorkspaceRuntimesTest {
     @Test
     public void stoppingEventShouldBePublishedBeforeStop() throws Exception {
         final WorkspaceImpl workspace = createWorkspace();
-        runtimes = spy(new WorkspaceRuntimes(machineManagerMock, eventService));
+        runtimes = spy(new WorkspaceRuntimes(machineManagerMock, eventService, START_PARALLELISM));
         doNothing().when(runtimes).publishEvent(any(), any(), any());
 
         doAnswer(invocation -> {
@@ -373,7 +451,7 @@ public class WorkspaceRuntimesTest {
     @Test
     public void stoppedEventShouldBePublishedAfterDevMachineStopped() throws Exception {
         final WorkspaceImpl workspace = createWorkspace();
-        runtimes = spy(new WorkspaceRuntimes(machineManagerMock, eventService));
+        runtimes = spy(new WorkspaceRuntimes(machineManagerMock, eventService, START_PARALLELISM));
         doNothing().when(runtimes).publishEvent(any(), any(), any());
 
         runtimes.start(workspace, workspace.getConfig().getDefaultEnv());
@@ -385,7 +463,7 @@ public class WorkspaceRuntimesTest {
     @Test
     public void errorEventShouldBePublishedIfDevMachineFailedToStop() throws Exception {
         final WorkspaceImpl workspace = createWorkspace();
-        runtimes = spy(new WorkspaceRuntimes(machineManagerMock, eventService));
+        runtimes = spy(new WorkspaceRuntimes(machineManagerMock, eventService, START_PARALLELISM));
         doNothing().when(runtimes).publishEvent(any(), any(), any());
 
         doAnswer(invocation -> {
@@ -408,6 +486,13 @@ public class WorkspaceRuntimesTest {
         }
     }
 
+    private void waitForStatus(String workspaceId, WorkspaceStatus status) throws Exception {
+        for (int i = 0; i < 100 && runtimes.get(workspaceId).getRuntimeStatus() != status; i++) {
+            Thread.sleep(100);
+        }
+        assertEquals(runtimes.get(workspaceId).getRuntimeStatus(), status);
+    }
+
     private static MachineImpl createMachine(MachineConfig cfg) {
         return MachineImpl.builder()
                           .setId(NameGenerator.generate("machine", 10))